@@ -11,6 +11,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -28,6 +29,12 @@ public class AccountController {
                 .body(accountService.createAccount(request));
     }
 
+    @GetMapping
+    @Operation(summary = "List a customer's accounts, oldest first")
+    public ResponseEntity<List<AccountResponse>> getAccounts(@RequestParam UUID customerId) {
+        return ResponseEntity.ok(accountService.getAccountsByCustomer(customerId));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get account details")
     public ResponseEntity<AccountResponse> getAccount(@PathVariable UUID id) {
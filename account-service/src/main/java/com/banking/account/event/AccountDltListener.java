@@ -2,6 +2,9 @@ package com.banking.account.event;
 
 import com.banking.common.constant.ServiceGroups;
 import com.banking.common.constant.Topics;
+import com.banking.common.event.codec.EventCodec;
+import com.banking.common.event.codec.WireFormat;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.KafkaHeaders;
@@ -9,15 +12,21 @@ import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class AccountDltListener {
 
-    @KafkaListener(topics = Topics.TRANSACTIONS_COMMANDS + ".DLT", groupId = ServiceGroups.ACCOUNT_DLT_GROUP)
-    public void handleDlt(String message,
+    private final EventCodec eventCodec;
+
+    @KafkaListener(topics = Topics.TRANSACTIONS_COMMANDS + ".DLT", groupId = ServiceGroups.ACCOUNT_DLT_GROUP,
+            properties = "value.deserializer=org.apache.kafka.common.serialization.ByteArrayDeserializer")
+    public void handleDlt(byte[] value,
             @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
+            @Header(name = WireFormat.HEADER, required = false) byte[] format,
             @Header(value = "x-exception-message", required = false) byte[] exceptionMessage,
             @Header(value = "x-exception-stacktrace", required = false) byte[] stackTrace) {
 
+        String message = eventCodec.toDisplayString(value, format);
         String error = exceptionMessage != null ? new String(exceptionMessage) : "Unknown error";
 
         log.error("🛑 RECEIVED FAILED MESSAGE IN DLT Topic: {} | Original Message: {}", topic, message);
@@ -1,24 +1,34 @@
 package com.banking.account.event;
 
 import com.banking.account.model.ProcessedEvent;
+import com.banking.account.repository.OutboxRepository;
 import com.banking.account.repository.ProcessedEventRepository;
 import com.banking.account.service.AccountService;
+import com.banking.account.service.OperationResult;
 import com.banking.common.constant.EventTypes;
 import com.banking.common.constant.ServiceGroups;
 import com.banking.common.constant.Topics;
 import com.banking.common.event.BaseEvent;
+import com.banking.common.event.CreditRequested;
 import com.banking.common.event.DepositRequested;
 import com.banking.common.event.RefundRequested;
 import com.banking.common.event.TransferRequested;
 import com.banking.common.event.WithdrawRequested;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.banking.common.event.codec.EventCodec;
+import com.banking.common.event.codec.EventHeaders;
+import com.banking.common.event.codec.IncomingEvent;
+import com.banking.common.event.codec.WireFormat;
+import com.banking.common.tracing.SagaStage;
+import com.banking.common.tracing.StageTimeline;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Set;
 import java.util.UUID;
 
 @Component
@@ -26,55 +36,116 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class AccountEventListener {
 
+    // Everything else on the topic is dropped before it is decoded
+    private static final Set<String> HANDLED_TYPES = Set.of(EventTypes.DEPOSIT_REQUESTED,
+            EventTypes.WITHDRAW_REQUESTED, EventTypes.TRANSFER_REQUESTED, EventTypes.CREDIT_REQUESTED,
+            EventTypes.REFUND_REQUESTED);
+
     private final AccountService accountService;
-    private final ObjectMapper objectMapper;
+    private final EventCodec eventCodec;
     private final ProcessedEventRepository processedEventRepository;
+    private final OutboxRepository outboxRepository;
 
-    @KafkaListener(topics = Topics.TRANSACTIONS_COMMANDS, groupId = ServiceGroups.ACCOUNT_SERVICE_GROUP)
+    // Raw bytes: the x-event-format header says whether the value is JSON or binary
+    @KafkaListener(topics = Topics.TRANSACTIONS_COMMANDS, groupId = ServiceGroups.ACCOUNT_SERVICE_GROUP,
+            properties = "value.deserializer=org.apache.kafka.common.serialization.ByteArrayDeserializer")
     @Transactional
-    public void handleTransactionCommands(String message) throws Exception {
-        log.info("Received transaction command message: {}", message);
-
-        TypeReference<BaseEvent<Object>> typeRef = new TypeReference<>() {
-        };
-        BaseEvent<Object> event = objectMapper.readValue(message, typeRef);
+    public void handleTransactionCommands(byte[] message,
+            @Header(name = WireFormat.HEADER, required = false) byte[] format,
+            @Header(name = EventHeaders.EVENT_ID, required = false) byte[] eventIdHeader,
+            @Header(name = EventHeaders.EVENT_TYPE, required = false) byte[] eventTypeHeader,
+            @Header(name = StageTimeline.HEADER, required = false) byte[] stages) throws Exception {
+        Instant receivedAt = Instant.now();
+        // Id and type only; the command is decoded once it is known to need handling
+        IncomingEvent command = eventCodec.open(message, format, eventIdHeader, eventTypeHeader);
+        log.atDebug().setMessage("Received transaction command")
+                .addKeyValue("eventId", command::getEventId)
+                .addKeyValue("eventType", command::getEventType)
+                .log();
 
-        UUID eventId = event.getEventId();
+        if (!HANDLED_TYPES.contains(command.getEventType())) {
+            log.warn("Unhandled event type: {}", command.getEventType());
+            return;
+        }
+        UUID eventId = command.getEventId();
         if (eventId != null && processedEventRepository.existsById(eventId)) {
-            log.info("Event {} already processed. Skipping.", eventId);
+            // The sender retries when it missed our answer; the balances are not touched again
+            int replayed = outboxRepository.requeueCausedBy(eventId);
+            log.atInfo().setMessage("Command already processed, replaying its replies")
+                    .addKeyValue("eventId", eventId)
+                    .addKeyValue("replies", replayed)
+                    .log();
             return;
         }
 
-        log.info("Processing event type: {} for transaction: {}",
-                event.getEventType(), event.getTransactionId());
+        // Events written to the outbox while handling this command carry its stamps forward
+        StageTimeline timeline = StageTimeline.fromHeader(stages);
+        if (timeline != null) {
+            StageTimeline.bind(timeline.with(SagaStage.COMMAND_CONSUMED, receivedAt));
+        }
+        HandledCommand.bind(eventId);
+        OperationResult result;
+        try {
+            result = switch (command.getEventType()) {
+                case EventTypes.DEPOSIT_REQUESTED -> {
+                    BaseEvent<DepositRequested> event = command.as(DepositRequested.class);
+                    logProcessing(event);
+                    DepositRequested payload = event.getPayload();
+                    yield accountService.deposit(payload.getAccountId(), payload.getAmount(), event.getTransactionId());
+                }
+                case EventTypes.WITHDRAW_REQUESTED -> {
+                    BaseEvent<WithdrawRequested> event = command.as(WithdrawRequested.class);
+                    logProcessing(event);
+                    WithdrawRequested payload = event.getPayload();
+                    yield accountService.withdraw(payload.getAccountId(), payload.getAmount(),
+                            event.getTransactionId());
+                }
+                case EventTypes.TRANSFER_REQUESTED -> {
+                    BaseEvent<TransferRequested> event = command.as(TransferRequested.class);
+                    logProcessing(event);
+                    TransferRequested payload = event.getPayload();
+                    yield accountService.reserveMoney(payload.getFromAccountId(), payload.getAmount(),
+                            event.getTransactionId());
+                }
+                case EventTypes.CREDIT_REQUESTED -> {
+                    BaseEvent<CreditRequested> event = command.as(CreditRequested.class);
+                    logProcessing(event);
+                    CreditRequested payload = event.getPayload();
+                    yield accountService.creditMoney(payload.getAccountId(), payload.getAmount(),
+                            event.getTransactionId());
+                }
+                case EventTypes.REFUND_REQUESTED -> {
+                    BaseEvent<RefundRequested> event = command.as(RefundRequested.class);
+                    logProcessing(event);
+                    RefundRequested payload = event.getPayload();
+                    yield accountService.refund(payload.getAccountId(), payload.getAmount(), event.getTransactionId());
+                }
+                default -> throw new IllegalStateException("Handled type without a case: " + command.getEventType());
+            };
+        } finally {
+            StageTimeline.unbind();
+            HandledCommand.unbind();
+        }
 
-        switch (event.getEventType()) {
-            case EventTypes.DEPOSIT_REQUESTED -> {
-                String json = objectMapper.writeValueAsString(event.getPayload());
-                DepositRequested payload = objectMapper.readValue(json, DepositRequested.class);
-                accountService.deposit(payload.getAccountId(), payload.getAmount(), event.getTransactionId());
-            }
-            case EventTypes.WITHDRAW_REQUESTED -> {
-                String json = objectMapper.writeValueAsString(event.getPayload());
-                WithdrawRequested payload = objectMapper.readValue(json, WithdrawRequested.class);
-                accountService.withdraw(payload.getAccountId(), payload.getAmount(), event.getTransactionId());
-            }
-            case EventTypes.TRANSFER_REQUESTED -> {
-                String json = objectMapper.writeValueAsString(event.getPayload());
-                TransferRequested payload = objectMapper.readValue(json, TransferRequested.class);
-                accountService.reserveMoney(payload.getFromAccountId(), payload.getAmount(),
-                        event.getTransactionId());
-            }
-            case EventTypes.REFUND_REQUESTED -> {
-                String json = objectMapper.writeValueAsString(event.getPayload());
-                RefundRequested payload = objectMapper.readValue(json, RefundRequested.class);
-                accountService.refund(payload.getAccountId(), payload.getAmount(), event.getTransactionId());
-            }
-            default -> log.warn("Unhandled event type: {}", event.getEventType());
+        // A decline is a final answer, already in the outbox as ReservationFailed: the command
+        // is complete and commits like any other, with no retry or dead-lettering
+        if (result.isRejected()) {
+            log.atInfo().setMessage("Command declined")
+                    .addKeyValue("eventId", eventId)
+                    .addKeyValue("eventType", command::getEventType)
+                    .addKeyValue("errorCode", result::errorCode)
+                    .log();
         }
 
         if (eventId != null) {
             processedEventRepository.save(new ProcessedEvent(eventId, null));
         }
     }
+
+    private static void logProcessing(BaseEvent<?> event) {
+        log.atInfo().setMessage("Processing command")
+                .addKeyValue("eventType", event.getEventType())
+                .addKeyValue("transactionId", event.getTransactionId())
+                .log();
+    }
 }
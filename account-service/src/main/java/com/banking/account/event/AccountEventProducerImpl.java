@@ -4,16 +4,21 @@ import com.banking.account.model.OutboxEvent;
 import com.banking.account.repository.OutboxRepository;
 import com.banking.common.constant.AggregateTypes;
 import com.banking.common.constant.EventTypes;
+import com.banking.common.constant.Topics;
 import com.banking.common.event.*;
+import com.banking.common.event.codec.EventCodec;
+import com.banking.common.event.codec.EventFormatProperties;
+import com.banking.common.event.codec.WireFormat;
+import com.banking.common.tracing.StageTimeline;
 import com.banking.common.tracing.TracingService;
 import com.banking.common.constant.ErrorCodes;
 import com.banking.common.exception.BusinessException;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.banking.common.util.IdGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -23,7 +28,8 @@ import java.util.UUID;
 public class AccountEventProducerImpl implements AccountEventProducer {
 
     private final OutboxRepository outboxRepository;
-    private final ObjectMapper objectMapper;
+    private final EventCodec eventCodec;
+    private final EventFormatProperties eventFormats;
     private final TracingService tracingService;
 
     @Override
@@ -59,7 +65,7 @@ public class AccountEventProducerImpl implements AccountEventProducer {
     private void saveEvent(String eventType, UUID aggregateId, Object payload, UUID transactionId) {
         try {
             BaseEvent<Object> event = BaseEvent.<Object>builder()
-                    .eventId(UUID.randomUUID())
+                    .eventId(IdGenerator.nextId())
                     .eventType(eventType)
                     .eventVersion(1)
                     .aggregateType(AggregateTypes.ACCOUNT)
@@ -68,22 +74,31 @@ public class AccountEventProducerImpl implements AccountEventProducer {
                     .traceId(tracingService.getCurrentTraceId())
                     .payload(payload)
                     .timestamp(LocalDateTime.now())
-                    .correlationId(UUID.randomUUID())
+                    .correlationId(IdGenerator.nextId())
                     .build();
 
-            String payloadJson = objectMapper.writeValueAsString(event);
+            WireFormat format = eventFormats.formatFor(Topics.ACCOUNTS_EVENTS);
+            StageTimeline timeline = StageTimeline.current();
 
             OutboxEvent outboxEvent = OutboxEvent.builder()
                     .aggregateType(AggregateTypes.ACCOUNT)
                     .aggregateId(aggregateId)
                     .eventType(eventType)
-                    .payload(payloadJson)
+                    .eventId(event.getEventId())
+                    .causationId(HandledCommand.current())
+                    .payload(eventCodec.encode(event, format))
+                    .format(format)
+                    .traceparent(tracingService.getCurrentTraceparent())
+                    .stageTimeline(timeline != null ? timeline.encode() : null)
                     .status(OutboxEvent.OutboxStatus.PENDING)
                     .build();
 
             outboxRepository.save(outboxEvent);
-            log.info("Saved {} event to outbox for account: {}", eventType, aggregateId);
-        } catch (JsonProcessingException e) {
+            log.atDebug().setMessage("Saved event to outbox")
+                    .addKeyValue("eventType", eventType)
+                    .addKeyValue("accountId", aggregateId)
+                    .log();
+        } catch (IOException e) {
             log.error("Error serializing outbox event for account: {}", aggregateId, e);
             throw new BusinessException("Error serializing outbox event", ErrorCodes.SERIALIZATION_ERROR);
         }
@@ -0,0 +1,28 @@
+package com.banking.account.event;
+
+import java.util.UUID;
+
+/**
+ * Event id of the command the listener is handling on this thread. Outbox rows written
+ * meanwhile store it as their {@code causation_id}, which lets a redelivered command
+ * resend the replies of its first run instead of going unanswered.
+ */
+public final class HandledCommand {
+
+    private static final ThreadLocal<UUID> CURRENT = new ThreadLocal<>();
+
+    private HandledCommand() {
+    }
+
+    public static void bind(UUID eventId) {
+        CURRENT.set(eventId);
+    }
+
+    public static UUID current() {
+        return CURRENT.get();
+    }
+
+    public static void unbind() {
+        CURRENT.remove();
+    }
+}
@@ -1,5 +1,9 @@
 package com.banking.account.model;
 
+import com.banking.common.constant.ErrorCodes;
+import com.banking.common.exception.BusinessException;
+import com.banking.common.money.Money;
+import com.banking.common.persistence.UuidV7;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -9,12 +13,11 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
-import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.UUID;
 
 @Entity
-@Table(name = "accounts")
+@Table(name = "accounts", indexes = @Index(name = "idx_accounts_customer_id", columnList = "customer_id"))
 @Data
 @Builder
 @NoArgsConstructor
@@ -23,14 +26,18 @@ import java.util.UUID;
 public class Account {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @Column(nullable = false)
     private UUID customerId;
 
+    // Stored as minor units (cents) so balance checks and updates are plain long arithmetic
     @Column(nullable = false)
-    private BigDecimal balance;
+    private long balanceMinor;
+
+    @Column(nullable = false, length = 3)
+    private String currency;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
@@ -47,6 +54,35 @@ public class Account {
     @Column(nullable = false)
     private Instant updatedAt;
 
+    public Money getBalance() {
+        return Money.ofMinor(balanceMinor, currency);
+    }
+
+    public boolean canDebit(Money amount) {
+        return balanceMinor >= minorUnitsOf(amount);
+    }
+
+    public void credit(Money amount) {
+        balanceMinor = Math.addExact(balanceMinor, minorUnitsOf(amount));
+    }
+
+    public void debit(Money amount) {
+        balanceMinor = Math.subtractExact(balanceMinor, minorUnitsOf(amount));
+    }
+
+    public boolean holds(String otherCurrency) {
+        return currency.equals(otherCurrency);
+    }
+
+    // Minor units are only comparable within one currency: 100 JPY is not $1.00
+    private long minorUnitsOf(Money amount) {
+        if (!holds(amount.getCurrency())) {
+            throw new BusinessException("Currency mismatch: account in " + currency + ", amount in "
+                    + amount.getCurrency(), ErrorCodes.CURRENCY_MISMATCH);
+        }
+        return amount.getMinorUnits();
+    }
+
     public enum AccountStatus {
         ACTIVE, FROZEN
     }
@@ -1,5 +1,7 @@
 package com.banking.account.model;
 
+import com.banking.common.event.codec.WireFormat;
+import com.banking.common.persistence.UuidV7;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -12,7 +14,12 @@ import java.time.Instant;
 import java.util.UUID;
 
 @Entity
-@Table(name = "outbox_events")
+// ddl-auto cannot create partial indexes: idx_outbox_events_unsent also covers PROCESSED rows
+// here, unlike transaction-service's Flyway V7, but still serves the PENDING poll and backlog query
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_events_unsent", columnList = "status, created_at"),
+        @Index(name = "idx_outbox_events_causation_id", columnList = "causation_id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -21,7 +28,7 @@ import java.util.UUID;
 public class OutboxEvent {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @Column(nullable = false)
@@ -33,13 +40,32 @@ public class OutboxEvent {
     @Column(nullable = false)
     private String eventType;
 
-    @Column(nullable = false, columnDefinition = "text")
-    private String payload;
+    // Envelope event id, sent by the relay as the x-event-id header for consumer dedupe
+    private UUID eventId;
+
+    // Event id of the command whose handling wrote this row, see HandledCommand
+    private UUID causationId;
+
+    // Encoded record value, sent to Kafka as is
+    @Column(nullable = false, columnDefinition = "bytea")
+    private byte[] payload;
+
+    @Column(nullable = false, length = 16)
+    @Enumerated(EnumType.STRING)
+    private WireFormat format;
 
     @Column(nullable = false)
     @Enumerated(EnumType.STRING)
     private OutboxStatus status;
 
+    // W3C trace context of the writer, sent by the relay as the traceparent header
+    @Column(length = 55)
+    private String traceparent;
+
+    // Saga stage stamps of the command being handled when this event was written, see StageTimeline
+    @Column(columnDefinition = "text")
+    private String stageTimeline;
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private Instant createdAt;
@@ -4,8 +4,11 @@ import com.banking.account.model.Account;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface AccountRepository extends JpaRepository<Account, UUID> {
+
+    List<Account> findByCustomerIdOrderByCreatedAtAsc(UUID customerId);
 }
@@ -2,6 +2,9 @@ package com.banking.account.repository;
 
 import com.banking.account.model.OutboxEvent;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,4 +13,15 @@ import java.util.UUID;
 @Repository
 public interface OutboxRepository extends JpaRepository<OutboxEvent, UUID> {
     List<OutboxEvent> findByStatusOrderByCreatedAtAsc(OutboxEvent.OutboxStatus status);
+
+    /**
+     * Queues the replies written while handling a command again. The relay resends them
+     * with their original {@code event_id}, so the consumer drops any it already applied.
+     *
+     * @return the number of rows queued
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent o SET o.status = com.banking.account.model.OutboxEvent.OutboxStatus.PENDING, "
+            + "o.processedAt = null WHERE o.causationId = :causationId")
+    int requeueCausedBy(@Param("causationId") UUID causationId);
 }
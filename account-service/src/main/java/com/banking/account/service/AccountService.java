@@ -2,23 +2,32 @@ package com.banking.account.service;
 
 import com.banking.account.dto.AccountResponse;
 import com.banking.account.dto.CreateAccountRequest;
-import java.math.BigDecimal;
+import com.banking.common.money.Money;
+
+import java.util.List;
 import java.util.UUID;
 
+/**
+ * Balance operations return an {@link OperationResult}: declines (insufficient funds, frozen
+ * or unknown account) are results, with {@code ReservationFailed} already written to the
+ * outbox when the operation belongs to a transaction.
+ */
 public interface AccountService {
     AccountResponse createAccount(CreateAccountRequest request);
 
     AccountResponse getAccount(UUID id);
 
-    void deposit(UUID id, BigDecimal amount, UUID transactionId);
+    List<AccountResponse> getAccountsByCustomer(UUID customerId);
+
+    OperationResult deposit(UUID id, Money amount, UUID transactionId);
 
-    void withdraw(UUID id, BigDecimal amount, UUID transactionId);
+    OperationResult withdraw(UUID id, Money amount, UUID transactionId);
 
-    void reserveMoney(UUID id, BigDecimal amount, UUID transactionId);
+    OperationResult reserveMoney(UUID id, Money amount, UUID transactionId);
 
-    void debitMoney(UUID id, java.math.BigDecimal amount, UUID transactionId);
+    OperationResult debitMoney(UUID id, Money amount, UUID transactionId);
 
-    void creditMoney(UUID id, java.math.BigDecimal amount, UUID transactionId);
+    OperationResult creditMoney(UUID id, Money amount, UUID transactionId);
 
-    void refund(UUID id, java.math.BigDecimal amount, UUID transactionId);
+    OperationResult refund(UUID id, Money amount, UUID transactionId);
 }
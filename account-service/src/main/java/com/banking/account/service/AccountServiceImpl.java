@@ -13,12 +13,13 @@ import com.banking.common.event.RefundCompleted;
 import com.banking.common.event.ReservationFailed;
 import com.banking.common.constant.ErrorCodes;
 import com.banking.common.exception.BusinessException;
+import com.banking.common.money.Money;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -26,8 +27,6 @@ import java.util.UUID;
 @Slf4j
 public class AccountServiceImpl implements AccountService {
 
-    private static final String INSUFFICIENT_FUNDS = "Insufficient funds";
-    private static final String ACCOUNT_FROZEN = "Account is frozen";
     private static final String DEFAULT_CURRENCY = "USD";
 
     private final AccountRepository accountRepository;
@@ -36,9 +35,12 @@ public class AccountServiceImpl implements AccountService {
     @Override
     @Transactional
     public AccountResponse createAccount(CreateAccountRequest request) {
+        Money initialBalance = Money.of(request.getInitialBalance(), DEFAULT_CURRENCY);
+
         Account account = Account.builder()
                 .customerId(request.getCustomerId())
-                .balance(request.getInitialBalance())
+                .balanceMinor(initialBalance.getMinorUnits())
+                .currency(initialBalance.getCurrency())
                 .status(Account.AccountStatus.ACTIVE)
                 .build();
 
@@ -62,145 +64,168 @@ public class AccountServiceImpl implements AccountService {
     }
 
     @Override
-    @Transactional
-    public void deposit(UUID id, BigDecimal amount, UUID transactionId) {
-        processDeposit(id, amount, transactionId);
+    @Transactional(readOnly = true)
+    public List<AccountResponse> getAccountsByCustomer(UUID customerId) {
+        return accountRepository.findByCustomerIdOrderByCreatedAtAsc(customerId).stream()
+                .map(this::mapToResponse)
+                .toList();
     }
 
     @Override
     @Transactional
-    public void withdraw(UUID id, BigDecimal amount, UUID transactionId) {
-        processWithdraw(id, amount, transactionId);
+    public OperationResult deposit(UUID id, Money amount, UUID transactionId) {
+        return processDeposit(id, amount, transactionId);
     }
 
     @Override
     @Transactional
-    public void reserveMoney(UUID id, BigDecimal amount, UUID transactionId) {
-        Account account = getAccountEntity(id);
-
-        checkAccountStatus(account, transactionId);
+    public OperationResult withdraw(UUID id, Money amount, UUID transactionId) {
+        return processWithdraw(id, amount, transactionId);
+    }
 
-        if (account.getBalance().compareTo(amount) < 0) {
-            log.warn("Insufficient funds for account: {} in transaction: {}", id, transactionId);
-            eventProducer.sendReservationFailed(ReservationFailed.builder()
-                    .accountId(id)
-                    .reason(INSUFFICIENT_FUNDS)
-                    .build(), transactionId);
-            throw new BusinessException(INSUFFICIENT_FUNDS, ErrorCodes.INSUFFICIENT_FUNDS);
+    @Override
+    @Transactional
+    public OperationResult reserveMoney(UUID id, Money amount, UUID transactionId) {
+        Account account = accountRepository.findById(id).orElse(null);
+        OperationResult rejection = checkAccount(account, amount);
+        if (rejection == null && !account.canDebit(amount)) {
+            rejection = OperationResult.INSUFFICIENT_FUNDS;
+        }
+        if (rejection != null) {
+            return reject(id, transactionId, rejection);
         }
 
-        account.setBalance(account.getBalance().subtract(amount));
+        account.debit(amount);
         accountRepository.save(account);
 
         eventProducer.sendMoneyReserved(MoneyReserved.builder()
                 .accountId(id)
                 .amount(amount)
-                .currency(DEFAULT_CURRENCY)
                 .build(), transactionId);
+        return OperationResult.APPLIED;
     }
 
     @Override
     @Transactional
-    public void debitMoney(UUID id, BigDecimal amount, UUID transactionId) {
-        processWithdraw(id, amount, transactionId);
+    public OperationResult debitMoney(UUID id, Money amount, UUID transactionId) {
+        return processWithdraw(id, amount, transactionId);
     }
 
     @Override
     @Transactional
-    public void creditMoney(UUID id, BigDecimal amount, UUID transactionId) {
-        processDeposit(id, amount, transactionId);
+    public OperationResult creditMoney(UUID id, Money amount, UUID transactionId) {
+        return processDeposit(id, amount, transactionId);
     }
 
     @Override
     @Transactional
-    public void refund(UUID id, BigDecimal amount, UUID transactionId) {
-        Account account = getAccountEntity(id);
-        checkAccountStatus(account, transactionId);
+    public OperationResult refund(UUID id, Money amount, UUID transactionId) {
+        Account account = accountRepository.findById(id).orElse(null);
+        OperationResult rejection = checkAccount(account, amount);
+        if (rejection != null) {
+            return reject(id, transactionId, rejection);
+        }
 
-        account.setBalance(account.getBalance().add(amount));
+        account.credit(amount);
         accountRepository.save(account);
 
         eventProducer.sendRefundCompleted(RefundCompleted.builder()
                 .accountId(id)
                 .amount(amount)
-                .currency(DEFAULT_CURRENCY)
                 .build(), transactionId);
 
-        log.info("Successfully refunded {} to account: {}", amount, id);
+        logApplied("Refunded", id, amount, transactionId);
+        return OperationResult.APPLIED;
     }
 
-    private void processDeposit(UUID id, BigDecimal amount, UUID transactionId) {
-        Account account = getAccountEntity(id);
-
-        checkAccountStatus(account, transactionId);
+    private OperationResult processDeposit(UUID id, Money amount, UUID transactionId) {
+        Account account = accountRepository.findById(id).orElse(null);
+        OperationResult rejection = checkAccount(account, amount);
+        if (rejection != null) {
+            return reject(id, transactionId, rejection);
+        }
 
-        account.setBalance(account.getBalance().add(amount));
+        account.credit(amount);
         accountRepository.save(account);
 
         eventProducer.sendMoneyCredited(MoneyCredited.builder()
                 .accountId(id)
                 .amount(amount)
-                .currency(DEFAULT_CURRENCY)
                 .build(), transactionId);
 
-        log.info("Successfully deposited {} to account: {}", amount, id);
+        logApplied("Deposited", id, amount, transactionId);
+        return OperationResult.APPLIED;
     }
 
-    private void processWithdraw(UUID id, BigDecimal amount, UUID transactionId) {
-        Account account = getAccountEntity(id);
-
-        checkAccountStatus(account, transactionId);
-
-        if (account.getBalance().compareTo(amount) < 0) {
-            log.warn("Insufficient funds for account: {} in transaction: {}", id, transactionId);
-            if (transactionId != null) {
-                eventProducer.sendReservationFailed(ReservationFailed.builder()
-                        .accountId(id)
-                        .reason(INSUFFICIENT_FUNDS)
-                        .build(), transactionId);
-            }
-            throw new BusinessException(INSUFFICIENT_FUNDS, ErrorCodes.INSUFFICIENT_FUNDS);
+    private OperationResult processWithdraw(UUID id, Money amount, UUID transactionId) {
+        Account account = accountRepository.findById(id).orElse(null);
+        OperationResult rejection = checkAccount(account, amount);
+        if (rejection == null && !account.canDebit(amount)) {
+            rejection = OperationResult.INSUFFICIENT_FUNDS;
+        }
+        if (rejection != null) {
+            return reject(id, transactionId, rejection);
         }
 
-        account.setBalance(account.getBalance().subtract(amount));
+        account.debit(amount);
         accountRepository.save(account);
 
         if (transactionId != null) {
             eventProducer.sendMoneyDebited(MoneyDebited.builder()
                     .accountId(id)
                     .amount(amount)
-                    .currency(DEFAULT_CURRENCY)
                     .build(), transactionId);
         }
 
-        log.info("Successfully withdrew {} from account: {}", amount, id);
+        logApplied("Withdrew", id, amount, transactionId);
+        return OperationResult.APPLIED;
     }
 
-    private void checkAccountStatus(Account account, UUID transactionId) {
+    private static void logApplied(String operation, UUID id, Money amount, UUID transactionId) {
+        log.atDebug().setMessage(operation)
+                .addKeyValue("accountId", id)
+                .addKeyValue("amountMinor", amount::getMinorUnits)
+                .addKeyValue("currency", amount::getCurrency)
+                .addKeyValue("transactionId", transactionId)
+                .log();
+    }
+
+    /**
+     * @return the rejection for a missing or frozen account or an amount in another
+     * currency, or {@code null} if it may be used
+     */
+    private static OperationResult checkAccount(Account account, Money amount) {
+        if (account == null) {
+            return OperationResult.ACCOUNT_NOT_FOUND;
+        }
         if (account.getStatus() == Account.AccountStatus.FROZEN) {
-            log.error("Attempted operation on frozen account: {} in transaction: {}", account.getId(), transactionId);
-            // Even if frozen, we might want to emit a failure event if this is part of a
-            // transaction
-            if (transactionId != null) {
-                eventProducer.sendReservationFailed(ReservationFailed.builder()
-                        .accountId(account.getId())
-                        .reason(ACCOUNT_FROZEN)
-                        .build(), transactionId);
-            }
-            throw new BusinessException(ACCOUNT_FROZEN, ErrorCodes.ACCOUNT_FROZEN);
+            return OperationResult.ACCOUNT_FROZEN;
+        }
+        if (!account.holds(amount.getCurrency())) {
+            return OperationResult.CURRENCY_MISMATCH;
         }
+        return null;
     }
 
-    private Account getAccountEntity(UUID id) {
-        return accountRepository.findById(id)
-                .orElseThrow(() -> new BusinessException("Account not found", ErrorCodes.ACCOUNT_NOT_FOUND));
+    /**
+     * Records a decline as {@code ReservationFailed} when it belongs to a transaction. The
+     * event commits with the caller's transaction; nothing is thrown.
+     */
+    private OperationResult reject(UUID id, UUID transactionId, OperationResult rejection) {
+        if (transactionId != null) {
+            eventProducer.sendReservationFailed(ReservationFailed.builder()
+                    .accountId(id)
+                    .reason(rejection.reason())
+                    .build(), transactionId);
+        }
+        return rejection;
     }
 
     private AccountResponse mapToResponse(Account account) {
         return AccountResponse.builder()
                 .id(account.getId())
                 .customerId(account.getCustomerId())
-                .balance(account.getBalance())
+                .balance(account.getBalance().toBigDecimal())
                 .status(account.getStatus().name())
                 .build();
     }
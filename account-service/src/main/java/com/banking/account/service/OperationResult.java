@@ -0,0 +1,32 @@
+package com.banking.account.service;
+
+import com.banking.common.constant.ErrorCodes;
+
+/**
+ * Outcome of a balance operation. Business rejections are final answers, not failures: they
+ * are returned instead of thrown, so the command's {@code ReservationFailed} event commits
+ * with the listener transaction and the record is not retried or dead-lettered. Exceptions
+ * are left to infrastructure faults.
+ * <p>
+ * The instances are shared constants, so a rejection allocates nothing.
+ */
+public record OperationResult(String errorCode, String reason) {
+
+    public static final OperationResult APPLIED = new OperationResult(null, null);
+    public static final OperationResult INSUFFICIENT_FUNDS =
+            new OperationResult(ErrorCodes.INSUFFICIENT_FUNDS, "Insufficient funds");
+    public static final OperationResult ACCOUNT_FROZEN =
+            new OperationResult(ErrorCodes.ACCOUNT_FROZEN, "Account is frozen");
+    public static final OperationResult ACCOUNT_NOT_FOUND =
+            new OperationResult(ErrorCodes.ACCOUNT_NOT_FOUND, "Account not found");
+    public static final OperationResult CURRENCY_MISMATCH =
+            new OperationResult(ErrorCodes.CURRENCY_MISMATCH, "Amount is not in the account's currency");
+
+    public boolean isApplied() {
+        return errorCode == null;
+    }
+
+    public boolean isRejected() {
+        return errorCode != null;
+    }
+}
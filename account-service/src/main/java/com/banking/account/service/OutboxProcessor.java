@@ -2,55 +2,101 @@ package com.banking.account.service;
 
 import com.banking.account.model.OutboxEvent;
 import com.banking.common.constant.Topics;
+import com.banking.common.event.codec.EventHeaders;
+import com.banking.common.event.codec.WireFormat;
+import com.banking.common.outbox.OutboxMetrics;
+import com.banking.common.tracing.SagaStage;
+import com.banking.common.tracing.StageTimeline;
+import com.banking.common.tracing.TracingService;
 import com.banking.account.repository.OutboxRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class OutboxProcessor {
 
     private final OutboxRepository outboxRepository;
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final KafkaTemplate<String, byte[]> eventKafkaTemplate;
+    // Null when banking.outbox.metrics.enabled is false
+    private final OutboxMetrics outboxMetrics;
+
+    public OutboxProcessor(OutboxRepository outboxRepository, KafkaTemplate<String, byte[]> eventKafkaTemplate,
+            ObjectProvider<OutboxMetrics> outboxMetrics) {
+        this.outboxRepository = outboxRepository;
+        this.eventKafkaTemplate = eventKafkaTemplate;
+        this.outboxMetrics = outboxMetrics.getIfAvailable();
+    }
 
     @Scheduled(fixedDelay = 5000)
     @Transactional
     public void processOutboxEvents() {
+        long batchStart = System.nanoTime();
         List<OutboxEvent> events = outboxRepository.findByStatusOrderByCreatedAtAsc(OutboxEvent.OutboxStatus.PENDING);
 
         if (events.isEmpty()) {
             return;
         }
 
-        log.info("Processing {} outbox events in account-service", events.size());
+        log.atDebug().setMessage("Processing outbox batch").addKeyValue("size", events.size()).log();
 
         for (OutboxEvent event : events) {
             try {
                 String topic = Topics.ACCOUNTS_EVENTS;
 
-                // The Kafka Interceptor in common-lib will automatically catch this send,
-                // see the trace_id in the JSON, and restore the Jaeger chain!
-                kafkaTemplate.send(topic, event.getAggregateId().toString(), event.getPayload());
+                ProducerRecord<String, byte[]> record =
+                        new ProducerRecord<>(topic, event.getAggregateId().toString(), event.getPayload());
+                record.headers().add(WireFormat.HEADER, event.getFormat().headerValue());
+                record.headers().add(EventHeaders.EVENT_TYPE, EventHeaders.eventType(event.getEventType()));
+                if (event.getEventId() != null) {
+                    record.headers().add(EventHeaders.EVENT_ID, EventHeaders.eventId(event.getEventId()));
+                }
+                // Continues the trace of the request that wrote the row, see TracingProducerInterceptor
+                if (event.getTraceparent() != null) {
+                    record.headers().add(TracingService.TRACEPARENT_HEADER,
+                            event.getTraceparent().getBytes(StandardCharsets.US_ASCII));
+                }
+                StageTimeline timeline = StageTimeline.decode(event.getStageTimeline());
+                if (timeline != null) {
+                    record.headers().add(StageTimeline.HEADER,
+                            timeline.with(SagaStage.EVENT_PUBLISHED, Instant.now()).toHeader());
+                }
+                long sendStart = System.nanoTime();
+                CompletableFuture<?> sent = eventKafkaTemplate.send(record);
+                if (outboxMetrics != null) {
+                    sent.whenComplete((result, error) -> outboxMetrics.recordSend(topic, sendStart, error));
+                }
 
                 event.setStatus(OutboxEvent.OutboxStatus.PROCESSED);
                 event.setProcessedAt(Instant.now());
                 outboxRepository.save(event);
 
-                log.info("Successfully processed outbox event: {} for account: {}", event.getId(),
-                        event.getAggregateId());
+                log.atDebug().setMessage("Relayed outbox event")
+                        .addKeyValue("outboxId", event.getId())
+                        .addKeyValue("accountId", event.getAggregateId())
+                        .log();
             } catch (Exception e) {
-                log.error("Error processing outbox event: {}", event.getId(), e);
+                log.atError().setMessage("Error processing outbox event")
+                        .addKeyValue("outboxId", event.getId())
+                        .addKeyValue("eventType", event.getEventType())
+                        .setCause(e)
+                        .log();
                 event.setStatus(OutboxEvent.OutboxStatus.FAILED);
                 outboxRepository.save(event);
             }
         }
+        if (outboxMetrics != null) {
+            outboxMetrics.recordBatch(batchStart, events.size());
+        }
     }
 }
@@ -0,0 +1,43 @@
+-- Schema changes that ddl-auto: update cannot make on an existing database. Runs on every
+-- start before Hibernate (spring.sql.init) and only acts on the old layout, so it is safe
+-- to re-run and a no-op on a fresh schema.
+
+-- Balances moved from a decimal "balance" to minor units plus currency. Adding the NOT NULL
+-- columns to a filled table and dropping the old NOT NULL column is left to this script.
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1
+                 FROM information_schema.columns
+                WHERE table_schema = current_schema()
+                  AND table_name = 'accounts'
+                  AND column_name = 'balance') THEN
+        ALTER TABLE accounts ADD COLUMN IF NOT EXISTS balance_minor bigint;
+        ALTER TABLE accounts ADD COLUMN IF NOT EXISTS currency varchar(3);
+        -- Every account was opened in USD before currencies were stored
+        UPDATE accounts
+           SET currency = COALESCE(currency, 'USD'),
+               balance_minor = COALESCE(balance_minor, round(balance * 100)::bigint);
+        ALTER TABLE accounts
+            ALTER COLUMN balance_minor SET NOT NULL,
+            ALTER COLUMN currency SET NOT NULL;
+        ALTER TABLE accounts DROP COLUMN balance;
+    END IF;
+END
+$$;
+
+-- Outbox payloads became bytes (JSON or binary) with a format column. ddl-auto keeps the
+-- old text column, which rejects byte[] writes, and cannot add NOT NULL format to a filled
+-- outbox. Same statements as transaction-service's Flyway V5.
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1
+                 FROM information_schema.columns
+                WHERE table_schema = current_schema()
+                  AND table_name = 'outbox_events'
+                  AND column_name = 'payload'
+                  AND data_type = 'text') THEN
+        ALTER TABLE outbox_events ALTER COLUMN payload TYPE bytea USING convert_to(payload, 'UTF8');
+        ALTER TABLE outbox_events ADD COLUMN IF NOT EXISTS format varchar(16) NOT NULL DEFAULT 'JSON';
+    END IF;
+END
+$$
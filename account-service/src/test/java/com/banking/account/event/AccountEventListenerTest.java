@@ -1,10 +1,19 @@
 package com.banking.account.event;
 
+import com.banking.account.repository.OutboxRepository;
 import com.banking.account.repository.ProcessedEventRepository;
 import com.banking.account.service.AccountService;
+import com.banking.account.service.OperationResult;
 import com.banking.common.constant.EventTypes;
 import com.banking.common.event.BaseEvent;
 import com.banking.common.event.DepositRequested;
+import com.banking.common.event.WithdrawRequested;
+import com.banking.common.event.codec.EventCodec;
+import com.banking.common.event.codec.EventHeaders;
+import com.banking.common.event.codec.EventSchemas;
+import com.banking.common.money.Money;
+import com.banking.common.tracing.SagaStage;
+import com.banking.common.tracing.StageTimeline;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,10 +23,18 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +46,9 @@ class AccountEventListenerTest {
     @Mock
     private ProcessedEventRepository processedEventRepository;
 
+    @Mock
+    private OutboxRepository outboxRepository;
+
     private ObjectMapper objectMapper;
 
     private AccountEventListener accountEventListener;
@@ -37,21 +57,21 @@ class AccountEventListenerTest {
     void setUp() {
         objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
-        accountEventListener = new AccountEventListener(accountService, objectMapper, processedEventRepository);
+        accountEventListener = new AccountEventListener(accountService,
+                new EventCodec(objectMapper, EventSchemas.registry()), processedEventRepository, outboxRepository);
     }
 
     @Test
     void shouldProcessDepositRequested() throws Exception {
         // Arrange
         UUID accountId = UUID.randomUUID();
-        BigDecimal amount = BigDecimal.valueOf(50.00);
+        Money amount = Money.of(BigDecimal.valueOf(50.00), "USD");
         UUID transactionId = UUID.randomUUID();
         UUID eventId = UUID.randomUUID();
 
         DepositRequested payload = DepositRequested.builder()
                 .accountId(accountId)
                 .amount(amount)
-                .currency("USD")
                 .build();
 
         BaseEvent<Object> event = BaseEvent.builder()
@@ -61,15 +81,119 @@ class AccountEventListenerTest {
                 .payload(payload)
                 .build();
 
-        String message = objectMapper.writeValueAsString(event);
+        byte[] message = objectMapper.writeValueAsBytes(event);
 
         when(processedEventRepository.existsById(eventId)).thenReturn(false);
+        AtomicReference<UUID> causation = new AtomicReference<>();
+        doAnswer(invocation -> {
+            causation.set(HandledCommand.current());
+            return OperationResult.APPLIED;
+        }).when(accountService).deposit(accountId, amount, transactionId);
 
         // Act
-        accountEventListener.handleTransactionCommands(message);
+        accountEventListener.handleTransactionCommands(message, null, null, null, null);
 
-        // Assert
+        // Assert: replies written meanwhile are linked to the command
         verify(accountService).deposit(accountId, amount, transactionId);
         verify(processedEventRepository).save(any());
+        assertThat(causation.get()).isEqualTo(eventId);
+        assertThat(HandledCommand.current()).isNull();
+    }
+
+    @Test
+    void shouldCompleteDeclinedCommand_WithoutThrowing() throws Exception {
+        // Arrange
+        UUID accountId = UUID.randomUUID();
+        Money amount = Money.of(BigDecimal.valueOf(500.00), "USD");
+        UUID transactionId = UUID.randomUUID();
+        UUID eventId = UUID.randomUUID();
+
+        BaseEvent<Object> event = BaseEvent.builder()
+                .eventId(eventId)
+                .eventType(EventTypes.WITHDRAW_REQUESTED)
+                .transactionId(transactionId)
+                .payload(WithdrawRequested.builder().accountId(accountId).amount(amount).build())
+                .build();
+
+        when(processedEventRepository.existsById(eventId)).thenReturn(false);
+        when(accountService.withdraw(accountId, amount, transactionId))
+                .thenReturn(OperationResult.INSUFFICIENT_FUNDS);
+
+        // Act
+        accountEventListener.handleTransactionCommands(objectMapper.writeValueAsBytes(event), null, null, null,
+                null);
+
+        // Assert: marked processed, so a redelivery is skipped rather than declined again
+        verify(processedEventRepository).save(any());
+    }
+
+    @Test
+    void shouldReplayRepliesOfDuplicate_FromHeadersWithoutDecoding() throws Exception {
+        // Arrange
+        UUID eventId = UUID.randomUUID();
+        // Not a decodable event: a duplicate must be dropped before the value is read
+        byte[] message = "{\"payload\":".getBytes(StandardCharsets.UTF_8);
+
+        when(processedEventRepository.existsById(eventId)).thenReturn(true);
+
+        // Act
+        accountEventListener.handleTransactionCommands(message, null, EventHeaders.eventId(eventId),
+                EventHeaders.eventType(EventTypes.DEPOSIT_REQUESTED), null);
+
+        // Assert: answered again from the outbox, the balance is not touched twice
+        verifyNoInteractions(accountService);
+        verify(processedEventRepository, never()).save(any());
+        verify(outboxRepository).requeueCausedBy(eventId);
+    }
+
+    @Test
+    void shouldIgnoreUnhandledType_WithoutDedupeLookup() throws Exception {
+        // Arrange
+        BaseEvent<Object> event = BaseEvent.builder()
+                .eventId(UUID.randomUUID())
+                .eventType(EventTypes.TRANSACTION_COMPLETED)
+                .payload(Map.of("unexpected", true))
+                .build();
+
+        // Act
+        accountEventListener.handleTransactionCommands(objectMapper.writeValueAsBytes(event), null, null, null,
+                null);
+
+        // Assert
+        verifyNoInteractions(accountService, processedEventRepository);
+    }
+
+    @Test
+    void shouldExposeStageTimelineToOutboxWrites_WhenHeaderPresent() throws Exception {
+        // Arrange
+        UUID accountId = UUID.randomUUID();
+        Money amount = Money.of(BigDecimal.valueOf(50.00), "USD");
+        UUID transactionId = UUID.randomUUID();
+        Instant created = Instant.parse("2026-10-19T08:00:00Z");
+
+        BaseEvent<Object> event = BaseEvent.builder()
+                .eventId(UUID.randomUUID())
+                .eventType(EventTypes.DEPOSIT_REQUESTED)
+                .transactionId(transactionId)
+                .payload(DepositRequested.builder().accountId(accountId).amount(amount).build())
+                .build();
+        byte[] stages = StageTimeline.startedAt(created)
+                .with(SagaStage.COMMAND_PUBLISHED, created.plusMillis(5))
+                .toHeader();
+
+        AtomicReference<StageTimeline> seen = new AtomicReference<>();
+        doAnswer(invocation -> {
+            seen.set(StageTimeline.current());
+            return OperationResult.APPLIED;
+        }).when(accountService).deposit(accountId, amount, transactionId);
+
+        // Act
+        accountEventListener.handleTransactionCommands(objectMapper.writeValueAsBytes(event), null, null, null,
+                stages);
+
+        // Assert
+        assertThat(seen.get().at(SagaStage.CREATED)).isEqualTo(created);
+        assertThat(seen.get().at(SagaStage.COMMAND_CONSUMED)).isNotNull();
+        assertThat(StageTimeline.current()).isNull();
     }
 }
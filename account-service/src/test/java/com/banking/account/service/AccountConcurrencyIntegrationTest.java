@@ -7,6 +7,7 @@ import com.banking.account.repository.AccountRepository;
 import com.banking.account.repository.OutboxRepository;
 import com.banking.account.repository.ProcessedEventRepository;
 import com.banking.account.event.AccountEventListener;
+import com.banking.common.money.Money;
 import org.springframework.transaction.annotation.Transactional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,6 +17,7 @@ import org.springframework.kafka.test.context.EmbeddedKafka;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
@@ -59,7 +61,7 @@ public class AccountConcurrencyIntegrationTest {
         UUID accountId = accountResponse.getId();
 
         int threadCount = 10;
-        BigDecimal depositAmount = BigDecimal.valueOf(10.0);
+        Money depositAmount = Money.of(BigDecimal.valueOf(10.0), "USD");
         ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
         CountDownLatch latch = new CountDownLatch(threadCount);
         AtomicInteger successCount = new AtomicInteger(0);
@@ -93,8 +95,8 @@ public class AccountConcurrencyIntegrationTest {
         // With @Version (Optimistic Locking), we expect some failures unless we
         // implement retries.
         // But the balance must be EXACTLY (successCount * depositAmount)
-        BigDecimal expectedBalance = depositAmount.multiply(BigDecimal.valueOf(successCount.get()));
-        assertThat(finalAccount.getBalance().stripTrailingZeros())
+        BigDecimal expectedBalance = depositAmount.toBigDecimal().multiply(BigDecimal.valueOf(successCount.get()));
+        assertThat(finalAccount.getBalance().toBigDecimal().stripTrailingZeros())
                 .isEqualTo(expectedBalance.stripTrailingZeros());
     }
 
@@ -111,15 +113,15 @@ public class AccountConcurrencyIntegrationTest {
         UUID transactionId = UUID.randomUUID();
 
         // Act: Call deposit 3 times in the SAME transaction
-        accountService.deposit(accountId, BigDecimal.valueOf(100.0), transactionId);
-        accountService.deposit(accountId, BigDecimal.valueOf(50.0), transactionId);
-        accountService.deposit(accountId, BigDecimal.valueOf(25.0), transactionId);
+        accountService.deposit(accountId, Money.of(BigDecimal.valueOf(100.0), "USD"), transactionId);
+        accountService.deposit(accountId, Money.of(BigDecimal.valueOf(50.0), "USD"), transactionId);
+        accountService.deposit(accountId, Money.of(BigDecimal.valueOf(25.0), "USD"), transactionId);
 
         // Assert
         Account finalAccount = accountRepository.findById(accountId).orElseThrow();
 
         // Balance should be exactly 100 + 50 + 25 = 175
-        assertThat(finalAccount.getBalance().stripTrailingZeros())
+        assertThat(finalAccount.getBalance().toBigDecimal().stripTrailingZeros())
                 .isEqualTo(BigDecimal.valueOf(175.0).stripTrailingZeros());
 
         // We should have exactly 1 AccountCreated + 3 MoneyCredited = 4 outbox events
@@ -145,16 +147,16 @@ public class AccountConcurrencyIntegrationTest {
         account.setStatus(Account.AccountStatus.FROZEN);
         accountRepository.save(account);
 
-        // Act & Assert
-        try {
-            accountService.deposit(accountId, BigDecimal.valueOf(10.0), UUID.randomUUID());
-        } catch (com.banking.common.exception.BusinessException e) {
-            assertThat(e.getErrorCode()).isEqualTo("ACCOUNT_FROZEN");
-        }
+        // Act
+        OperationResult result = accountService.deposit(accountId, Money.of(BigDecimal.valueOf(10.0), "USD"),
+                UUID.randomUUID());
+
+        // Assert
+        assertThat(result).isEqualTo(OperationResult.ACCOUNT_FROZEN);
 
         // Verify balance didn't change
         Account finalAccount = accountRepository.findById(accountId).orElseThrow();
-        assertThat(finalAccount.getBalance().stripTrailingZeros())
+        assertThat(finalAccount.getBalance().toBigDecimal().stripTrailingZeros())
                 .isEqualTo(BigDecimal.valueOf(100.0).stripTrailingZeros());
     }
 
@@ -174,18 +176,18 @@ public class AccountConcurrencyIntegrationTest {
         UUID transactionId = UUID.randomUUID();
 
         String message = String.format(
-                "{\"event_id\":\"%s\",\"event_type\":\"DepositRequested\",\"transaction_id\":\"%s\",\"payload\":{\"account_id\":\"%s\",\"amount\":50.0}}",
+                "{\"event_id\":\"%s\",\"event_type\":\"DepositRequested\",\"transaction_id\":\"%s\",\"payload\":{\"account_id\":\"%s\",\"amount\":{\"minor_units\":5000,\"currency\":\"USD\"}}}",
                 eventId, transactionId, accountId);
 
         // Act: Process same message twice
-        accountEventListener.handleTransactionCommands(message);
-        accountEventListener.handleTransactionCommands(message);
+        accountEventListener.handleTransactionCommands(message.getBytes(StandardCharsets.UTF_8), null, null, null, null);
+        accountEventListener.handleTransactionCommands(message.getBytes(StandardCharsets.UTF_8), null, null, null, null);
 
         // Assert
         Account finalAccount = accountRepository.findById(accountId).orElseThrow();
 
         // Balance should have increased ONLY ONCE (100 + 50 = 150)
-        assertThat(finalAccount.getBalance().stripTrailingZeros())
+        assertThat(finalAccount.getBalance().toBigDecimal().stripTrailingZeros())
                 .isEqualTo(BigDecimal.valueOf(150.0).stripTrailingZeros());
 
         // ProcessedEvent should exist
@@ -205,17 +207,17 @@ public class AccountConcurrencyIntegrationTest {
         UUID transactionId = UUID.randomUUID();
 
         String message = String.format(
-                "{\"event_id\":\"%s\",\"event_type\":\"RefundRequested\",\"transaction_id\":\"%s\",\"payload\":{\"account_id\":\"%s\",\"amount\":25.0}}",
+                "{\"event_id\":\"%s\",\"event_type\":\"RefundRequested\",\"transaction_id\":\"%s\",\"payload\":{\"account_id\":\"%s\",\"amount\":{\"minor_units\":2500,\"currency\":\"USD\"}}}",
                 eventId, transactionId, accountId);
 
         // Act
-        accountEventListener.handleTransactionCommands(message);
+        accountEventListener.handleTransactionCommands(message.getBytes(StandardCharsets.UTF_8), null, null, null, null);
 
         // Assert
         Account finalAccount = accountRepository.findById(accountId).orElseThrow();
 
         // Balance should be 100 + 25 = 125
-        assertThat(finalAccount.getBalance().stripTrailingZeros())
+        assertThat(finalAccount.getBalance().toBigDecimal().stripTrailingZeros())
                 .isEqualTo(BigDecimal.valueOf(125.0).stripTrailingZeros());
 
         // Check outbox for RefundCompleted
@@ -6,6 +6,9 @@ import com.banking.account.event.AccountEventProducer;
 import com.banking.account.model.Account;
 import com.banking.account.repository.AccountRepository;
 import com.banking.common.event.AccountCreated;
+import com.banking.common.event.MoneyDebited;
+import com.banking.common.event.ReservationFailed;
+import com.banking.common.money.Money;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,10 +17,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -52,7 +59,8 @@ class AccountServiceImplTest {
         Account savedAccount = Account.builder()
                 .id(accountId)
                 .customerId(customerId)
-                .balance(BigDecimal.valueOf(100.00))
+                .balanceMinor(10_000L)
+                .currency("USD")
                 .status(Account.AccountStatus.ACTIVE)
                 .build();
 
@@ -69,4 +77,87 @@ class AccountServiceImplTest {
         verify(accountRepository).save(any(Account.class));
         verify(eventProducer).sendAccountCreated(any(AccountCreated.class));
     }
+
+    @Test
+    void shouldListCustomerAccounts() {
+        // Arrange
+        Account first = account(Account.AccountStatus.ACTIVE, 1_000L);
+        Account second = account(Account.AccountStatus.FROZEN, 0L);
+        when(accountRepository.findByCustomerIdOrderByCreatedAtAsc(customerId)).thenReturn(List.of(first, second));
+
+        // Act
+        List<AccountResponse> accounts = accountService.getAccountsByCustomer(customerId);
+
+        // Assert
+        assertThat(accounts).extracting(AccountResponse::getId).containsExactly(first.getId(), second.getId());
+        assertThat(accounts).extracting(AccountResponse::getStatus).containsExactly("ACTIVE", "FROZEN");
+    }
+
+    @Test
+    void shouldReturnRejection_WhenFundsAreInsufficient() {
+        // Arrange
+        UUID transactionId = UUID.randomUUID();
+        Account account = account(Account.AccountStatus.ACTIVE, 1_000L);
+        when(accountRepository.findById(account.getId())).thenReturn(Optional.of(account));
+
+        // Act
+        OperationResult result = accountService.withdraw(account.getId(), Money.ofMinor(5_000L, "USD"),
+                transactionId);
+
+        // Assert
+        assertThat(result).isEqualTo(OperationResult.INSUFFICIENT_FUNDS);
+        assertThat(account.getBalanceMinor()).isEqualTo(1_000L);
+        verify(eventProducer).sendReservationFailed(any(ReservationFailed.class), eq(transactionId));
+        verify(eventProducer, never()).sendMoneyDebited(any(MoneyDebited.class), any());
+        verify(accountRepository, never()).save(any(Account.class));
+    }
+
+    @Test
+    void shouldReturnRejection_WhenAccountIsFrozenOrMissing() {
+        // Arrange
+        UUID transactionId = UUID.randomUUID();
+        UUID missingId = UUID.randomUUID();
+        Account frozen = account(Account.AccountStatus.FROZEN, 10_000L);
+        when(accountRepository.findById(frozen.getId())).thenReturn(Optional.of(frozen));
+        when(accountRepository.findById(missingId)).thenReturn(Optional.empty());
+
+        // Act
+        OperationResult frozenResult = accountService.reserveMoney(frozen.getId(), Money.ofMinor(100L, "USD"),
+                transactionId);
+        OperationResult missingResult = accountService.deposit(missingId, Money.ofMinor(100L, "USD"), null);
+
+        // Assert
+        assertThat(frozenResult).isEqualTo(OperationResult.ACCOUNT_FROZEN);
+        assertThat(missingResult).isEqualTo(OperationResult.ACCOUNT_NOT_FOUND);
+        // Only the rejection that belongs to a transaction is reported
+        verify(eventProducer).sendReservationFailed(any(ReservationFailed.class), eq(transactionId));
+    }
+
+    @Test
+    void shouldReturnRejection_WhenAmountIsInAnotherCurrency() {
+        // Arrange
+        UUID transactionId = UUID.randomUUID();
+        Account account = account(Account.AccountStatus.ACTIVE, 10_000L);
+        when(accountRepository.findById(account.getId())).thenReturn(Optional.of(account));
+
+        // Act
+        OperationResult result = accountService.creditMoney(account.getId(), Money.ofMinor(100L, "JPY"),
+                transactionId);
+
+        // Assert
+        assertThat(result).isEqualTo(OperationResult.CURRENCY_MISMATCH);
+        assertThat(account.getBalanceMinor()).isEqualTo(10_000L);
+        verify(eventProducer).sendReservationFailed(any(ReservationFailed.class), eq(transactionId));
+        verify(accountRepository, never()).save(any(Account.class));
+    }
+
+    private Account account(Account.AccountStatus status, long balanceMinor) {
+        return Account.builder()
+                .id(UUID.randomUUID())
+                .customerId(customerId)
+                .balanceMinor(balanceMinor)
+                .currency("USD")
+                .status(status)
+                .build();
+    }
 }
@@ -0,0 +1,167 @@
+package com.banking.gateway.coalesce;
+
+import com.banking.gateway.ratelimit.RateLimitFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Single-flight for hot reads: while a GET is on its way to the backend, identical GETs
+ * from the same caller wait for its response instead of sending their own. With the cache
+ * on, a 200 response also serves identical GETs for one TTL after it arrived.
+ * <p>
+ * {@value #METRIC} counts these reads by {@code outcome}: {@code upstream} went to the
+ * backend, {@code coalesced} shared an in-flight call and {@code cached} was served from
+ * the cache.
+ * <p>
+ * Followers never depend on the leader finishing well: if its call fails, is cancelled or
+ * streams its body, they fall back to a call of their own.
+ */
+public class CoalescingFilter implements GlobalFilter, Ordered {
+
+    // After rate limiting, so shared and cached reads still take a token
+    public static final int ORDER = RateLimitFilter.ORDER + 10;
+
+    static final String METRIC = "banking.gateway.reads";
+
+    private final List<PathPattern> paths;
+    private final List<String> principalHeaders;
+    private final ResponseCache cache;
+    private final Map<String, Flight> inFlight = new ConcurrentHashMap<>();
+    private final Counter upstream;
+    private final Counter coalesced;
+    private final Counter cached;
+
+    public CoalescingFilter(CoalescingProperties properties, MeterRegistry registry) {
+        this.paths = properties.getPaths().stream().map(PathPatternParser.defaultInstance::parse).toList();
+        this.principalHeaders = properties.getPrincipalHeaders();
+        this.cache = properties.getCache().isEnabled()
+                ? new ResponseCache(properties.getCache(), System::nanoTime)
+                : null;
+        this.upstream = counter(registry, "upstream");
+        this.coalesced = counter(registry, "coalesced");
+        this.cached = counter(registry, "cached");
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (request.getMethod() != HttpMethod.GET || !matches(request.getPath().pathWithinApplication())) {
+            return chain.filter(exchange);
+        }
+        String key = keyOf(request);
+        if (cache != null) {
+            SharedResponse hit = cache.get(key);
+            if (hit != null) {
+                cached.increment();
+                return replay(exchange.getResponse(), hit);
+            }
+        }
+
+        Flight flight = new Flight();
+        Flight leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            coalesced.increment();
+            return leader.response()
+                    .flatMap(shared -> shared.isPresent()
+                            ? replay(exchange.getResponse(), shared.get())
+                            : chain.filter(exchange));
+        }
+
+        upstream.increment();
+        exchange.getAttributes().put(ResponseCaptureFilter.CAPTURE_ATTR, (Consumer<SharedResponse>) response -> {
+            if (cache != null && HttpStatus.OK.equals(response.status())) {
+                cache.put(key, response);
+            }
+            // Later arrivals go to the cache or start a new call
+            inFlight.remove(key, flight);
+            flight.complete(response);
+        });
+        return chain.filter(exchange)
+                .doFinally(signal -> {
+                    inFlight.remove(key, flight);
+                    flight.abandon();
+                });
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    private boolean matches(PathContainer path) {
+        for (PathPattern pattern : paths) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String keyOf(ServerHttpRequest request) {
+        StringBuilder key = new StringBuilder();
+        for (String header : principalHeaders) {
+            key.append(request.getHeaders().getFirst(header)).append('\n');
+        }
+        key.append(request.getPath().value());
+        String query = request.getURI().getRawQuery();
+        if (query != null) {
+            key.append('?').append(query);
+        }
+        return key.toString();
+    }
+
+    private static Mono<Void> replay(ServerHttpResponse response, SharedResponse shared) {
+        response.setStatusCode(shared.status());
+        // Headers this request already has, e.g. its own RateLimit-*, are kept
+        shared.headers().forEach((name, values) -> {
+            if (!response.getHeaders().containsKey(name)) {
+                response.getHeaders().addAll(name, values);
+            }
+        });
+        response.getHeaders().setContentLength(shared.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(shared.body())));
+    }
+
+    private static Counter counter(MeterRegistry registry, String outcome) {
+        return Counter.builder(METRIC)
+                .description("Coalescable gateway reads by how they were served")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    private static final class Flight {
+
+        private final Sinks.One<SharedResponse> sink = Sinks.one();
+
+        void complete(SharedResponse response) {
+            sink.tryEmitValue(response);
+        }
+
+        void abandon() {
+            sink.tryEmitEmpty();
+        }
+
+        Mono<Optional<SharedResponse>> response() {
+            return sink.asMono().map(Optional::of).defaultIfEmpty(Optional.empty());
+        }
+    }
+}
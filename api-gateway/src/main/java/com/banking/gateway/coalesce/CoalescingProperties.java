@@ -0,0 +1,37 @@
+package com.banking.gateway.coalesce;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Which GETs the gateway coalesces and, optionally, caches for a moment.
+ */
+@Data
+@ConfigurationProperties(prefix = "banking.gateway.coalescing")
+public class CoalescingProperties {
+
+    private boolean enabled = true;
+
+    // Path patterns of reads whose response depends only on the path, query and caller
+    private List<String> paths = List.of("/accounts/{id}", "/customers/{id}");
+
+    // Identify the caller; requests from different callers never share a response
+    private List<String> principalHeaders = List.of("Authorization", "X-API-Key");
+
+    private Cache cache = new Cache();
+
+    /**
+     * Keeps 200 responses for a short TTL after they arrive, so a burst that just misses an
+     * in-flight call still skips the backend. Off by default: readers may see a balance up
+     * to one TTL old.
+     */
+    @Data
+    public static class Cache {
+        private boolean enabled = false;
+        private Duration ttl = Duration.ofMillis(250);
+        private int maxEntries = 10_000;
+    }
+}
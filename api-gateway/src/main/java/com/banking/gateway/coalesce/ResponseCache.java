@@ -0,0 +1,49 @@
+package com.banking.gateway.coalesce;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Micro-TTL cache of shared responses. Entries expire on read; when the cache is full,
+ * expired entries are purged and a new entry is dropped if that frees nothing.
+ */
+class ResponseCache {
+
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final LongSupplier clock;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    ResponseCache(CoalescingProperties.Cache properties, LongSupplier clock) {
+        this.ttlNanos = properties.getTtl().toNanos();
+        this.maxEntries = properties.getMaxEntries();
+        this.clock = clock;
+    }
+
+    SharedResponse get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() - clock.getAsLong() <= 0) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.response();
+    }
+
+    void put(String key, SharedResponse response) {
+        long now = clock.getAsLong();
+        if (entries.size() >= maxEntries) {
+            entries.values().removeIf(entry -> entry.expiresAt() - now <= 0);
+            if (entries.size() >= maxEntries) {
+                return;
+            }
+        }
+        entries.put(key, new Entry(response, now + ttlNanos));
+    }
+
+    private record Entry(SharedResponse response, long expiresAt) {
+    }
+}
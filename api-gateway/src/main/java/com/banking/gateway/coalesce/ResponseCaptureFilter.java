@@ -0,0 +1,73 @@
+package com.banking.gateway.coalesce;
+
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Consumer;
+
+/**
+ * Lets {@link CoalescingFilter} see the backend response of a call it leads.
+ * <p>
+ * The proxied body is written by {@link NettyWriteResponseFilter}, which holds the exchange
+ * it was given, so the response has to be decorated ahead of it. Decoration is cheap and
+ * passes everything through unless the exchange carries {@link #CAPTURE_ATTR}.
+ */
+public class ResponseCaptureFilter implements GlobalFilter, Ordered {
+
+    static final String CAPTURE_ATTR = ResponseCaptureFilter.class.getName() + ".capture";
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (exchange.getRequest().getMethod() != HttpMethod.GET) {
+            return chain.filter(exchange);
+        }
+        return chain.filter(exchange.mutate().response(new CapturingResponse(exchange)).build());
+    }
+
+    @Override
+    public int getOrder() {
+        return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+    }
+
+    private static final class CapturingResponse extends ServerHttpResponseDecorator {
+
+        private final ServerWebExchange exchange;
+
+        CapturingResponse(ServerWebExchange exchange) {
+            super(exchange.getResponse());
+            this.exchange = exchange;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            Consumer<SharedResponse> capture = exchange.getAttribute(CAPTURE_ATTR);
+            if (capture == null) {
+                return super.writeWith(body);
+            }
+            return DataBufferUtils.join(body)
+                    .defaultIfEmpty(bufferFactory().wrap(new byte[0]))
+                    .map(joined -> {
+                        byte[] bytes = new byte[joined.readableByteCount()];
+                        joined.read(bytes);
+                        DataBufferUtils.release(joined);
+                        HttpHeaders headers = new HttpHeaders();
+                        headers.putAll(getHeaders());
+                        capture.accept(new SharedResponse(getStatusCode(), HttpHeaders.readOnlyHttpHeaders(headers),
+                                bytes));
+                        return bufferFactory().wrap(bytes);
+                    })
+                    .flatMap(buffer -> super.writeWith(Mono.just(buffer)));
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.banking.gateway.coalesce;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+
+/**
+ * A fully read backend response, replayed to every request that shares it.
+ */
+record SharedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+}
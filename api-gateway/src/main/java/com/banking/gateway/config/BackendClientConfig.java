@@ -0,0 +1,21 @@
+package com.banking.gateway.config;
+
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.netty.http.HttpProtocol;
+
+@Configuration
+public class BackendClientConfig {
+
+    /**
+     * Applies the backend protocols to the gateway's pooled Netty client. HTTP/2 multiplexes
+     * concurrent requests over a few long-lived connections per backend instead of one
+     * connection per in-flight request.
+     */
+    @Bean
+    public HttpClientCustomizer backendProtocolCustomizer(BackendClientProperties properties) {
+        HttpProtocol[] protocols = properties.getProtocols().toArray(HttpProtocol[]::new);
+        return httpClient -> httpClient.protocol(protocols).keepAlive(true);
+    }
+}
@@ -0,0 +1,20 @@
+package com.banking.gateway.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import reactor.netty.http.HttpProtocol;
+
+import java.util.List;
+
+/**
+ * How the gateway talks to the backend services. Pool sizes and timeouts are the standard
+ * {@code spring.cloud.gateway.httpclient.*} settings.
+ */
+@Data
+@ConfigurationProperties(prefix = "banking.gateway.backend")
+public class BackendClientProperties {
+
+    // H2C with HTTP11 upgrades each pooled connection to cleartext HTTP/2 when the backend
+    // accepts it (server.http2.enabled) and stays on keep-alive HTTP/1.1 otherwise
+    private List<HttpProtocol> protocols = List.of(HttpProtocol.H2C, HttpProtocol.HTTP11);
+}
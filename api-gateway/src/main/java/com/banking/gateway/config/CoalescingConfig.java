@@ -0,0 +1,24 @@
+package com.banking.gateway.config;
+
+import com.banking.gateway.coalesce.CoalescingFilter;
+import com.banking.gateway.coalesce.CoalescingProperties;
+import com.banking.gateway.coalesce.ResponseCaptureFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "banking.gateway.coalescing", name = "enabled", matchIfMissing = true)
+public class CoalescingConfig {
+
+    @Bean
+    public ResponseCaptureFilter responseCaptureFilter() {
+        return new ResponseCaptureFilter();
+    }
+
+    @Bean
+    public CoalescingFilter coalescingFilter(CoalescingProperties properties, MeterRegistry meterRegistry) {
+        return new CoalescingFilter(properties, meterRegistry);
+    }
+}
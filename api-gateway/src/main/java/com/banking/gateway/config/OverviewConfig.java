@@ -0,0 +1,43 @@
+package com.banking.gateway.config;
+
+import com.banking.gateway.overview.OverviewAggregator;
+import com.banking.gateway.overview.OverviewFilter;
+import com.banking.gateway.overview.OverviewProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.cloud.gateway.route.RouteLocator;
+import org.springframework.cloud.gateway.route.builder.RouteLocatorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+
+@Configuration
+public class OverviewConfig {
+
+    /**
+     * The legs share the gateway's backend client, and with it the connection pools and
+     * HTTP/2 settings the proxied routes use.
+     */
+    @Bean
+    public OverviewAggregator overviewAggregator(WebClient.Builder webClientBuilder, HttpClient gatewayHttpClient,
+                                                 OverviewProperties properties) {
+        WebClient webClient = webClientBuilder
+                .clientConnector(new ReactorClientHttpConnector(gatewayHttpClient))
+                .build();
+        return new OverviewAggregator(webClient, properties);
+    }
+
+    @Bean
+    public RouteLocator overviewRoute(RouteLocatorBuilder routes, OverviewAggregator aggregator,
+                                      ObjectMapper objectMapper, OverviewProperties properties) {
+        OverviewFilter overview = new OverviewFilter(aggregator, objectMapper, properties.getForwardedHeaders());
+        return routes.routes()
+                .route("overview", route -> route.method(HttpMethod.GET)
+                        .and().path("/overview/{customerId}")
+                        .filters(filters -> filters.filter(overview, OverviewFilter.ORDER))
+                        .uri("no://op"))
+                .build();
+    }
+}
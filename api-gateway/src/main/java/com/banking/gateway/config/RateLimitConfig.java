@@ -0,0 +1,32 @@
+package com.banking.gateway.config;
+
+import com.banking.gateway.ratelimit.RateLimitFilter;
+import com.banking.gateway.ratelimit.RateLimitProperties;
+import com.banking.gateway.ratelimit.RateLimiterRegistry;
+import com.banking.gateway.ratelimit.RedisRateLimitSync;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+
+@Configuration
+@ConditionalOnProperty(prefix = "banking.gateway.rate-limit", name = "enabled", matchIfMissing = true)
+public class RateLimitConfig {
+
+    @Bean
+    public RateLimiterRegistry rateLimiterRegistry(RateLimitProperties properties) {
+        return new RateLimiterRegistry(properties);
+    }
+
+    @Bean
+    public RateLimitFilter rateLimitFilter(RateLimiterRegistry registry, RateLimitProperties properties) {
+        return new RateLimitFilter(registry, properties);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "banking.gateway.rate-limit.redis", name = "enabled")
+    public RedisRateLimitSync redisRateLimitSync(RateLimiterRegistry registry, ReactiveStringRedisTemplate redis,
+                                                 RateLimitProperties properties) {
+        return new RedisRateLimitSync(registry, redis, properties.getRedis());
+    }
+}
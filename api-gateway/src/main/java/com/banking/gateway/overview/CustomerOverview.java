@@ -0,0 +1,37 @@
+package com.banking.gateway.overview;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Body of {@code GET /overview/{customerId}}. Backend payloads are passed through as they
+ * came; a leg that failed or timed out is {@code null} and listed in {@code failures}.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CustomerOverview(UUID customerId, JsonNode customer, List<AccountOverview> accounts,
+                               boolean partial, List<LegFailure> failures) {
+
+    boolean customerNotFound() {
+        return failures.stream()
+                .anyMatch(f -> LegFailure.CUSTOMER.equals(f.leg()) && LegFailure.NOT_FOUND.equals(f.reason()));
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record AccountOverview(JsonNode account, JsonNode history) {
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record LegFailure(String leg, String accountId, String reason) {
+
+        static final String CUSTOMER = "customer";
+        static final String ACCOUNTS = "accounts";
+        static final String HISTORY = "history";
+
+        static final String TIMEOUT = "TIMEOUT";
+        static final String NOT_FOUND = "NOT_FOUND";
+        static final String UNAVAILABLE = "UNAVAILABLE";
+    }
+}
@@ -0,0 +1,100 @@
+package com.banking.gateway.overview;
+
+import com.banking.gateway.overview.CustomerOverview.AccountOverview;
+import com.banking.gateway.overview.CustomerOverview.LegFailure;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Fans {@code GET /overview/{customerId}} out to the services.
+ * <p>
+ * The customer and the customer's accounts are fetched side by side; as soon as the accounts
+ * are in, the history of every account is fetched side by side as well. The overview takes
+ * as long as the slower of the customer leg and the accounts leg plus the slowest history
+ * leg, each bounded by its own timeout. A leg that fails or times out is recorded as a
+ * {@link LegFailure} and the rest is returned.
+ */
+@RequiredArgsConstructor
+public class OverviewAggregator {
+
+    private final WebClient webClient;
+    private final OverviewProperties properties;
+
+    public Mono<CustomerOverview> overview(UUID customerId, HttpHeaders forwarded) {
+        return Mono.defer(() -> new Aggregation(forwarded).run(customerId));
+    }
+
+    private final class Aggregation {
+
+        private final HttpHeaders forwarded;
+        private final Queue<LegFailure> failures = new ConcurrentLinkedQueue<>();
+
+        Aggregation(HttpHeaders forwarded) {
+            this.forwarded = forwarded;
+        }
+
+        Mono<CustomerOverview> run(UUID customerId) {
+            Mono<Optional<JsonNode>> customer = leg(LegFailure.CUSTOMER, null, properties.getCustomerTimeout(),
+                    properties.getCustomerService() + "/customers/{id}", customerId)
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty());
+            Mono<List<AccountOverview>> accounts = leg(LegFailure.ACCOUNTS, null, properties.getAccountsTimeout(),
+                    properties.getAccountService() + "/accounts?customerId={id}", customerId)
+                    .flatMap(list -> Flux.fromIterable(list)
+                            .flatMapSequential(this::withHistory, Math.max(1, properties.getHistoryConcurrency()))
+                            .collectList())
+                    .defaultIfEmpty(List.of());
+            return Mono.zip(customer, accounts, (c, a) -> {
+                List<LegFailure> failed = List.copyOf(failures);
+                return new CustomerOverview(customerId, c.orElse(null), a, !failed.isEmpty(), failed);
+            });
+        }
+
+        private Mono<AccountOverview> withHistory(JsonNode account) {
+            String accountId = account.path("id").asText();
+            return leg(LegFailure.HISTORY, accountId, properties.getHistoryTimeout(),
+                    properties.getHistoryService() + "/history/accounts/{id}", accountId)
+                    .map(history -> new AccountOverview(account, history))
+                    .defaultIfEmpty(new AccountOverview(account, null));
+        }
+
+        private Mono<JsonNode> leg(String leg, String accountId, Duration timeout, String uri, Object id) {
+            return webClient.get()
+                    .uri(uri, id)
+                    .headers(headers -> headers.addAll(forwarded))
+                    .retrieve()
+                    .bodyToMono(JsonNode.class)
+                    .timeout(timeout)
+                    .onErrorResume(error -> {
+                        failures.add(new LegFailure(leg, accountId, reasonOf(error)));
+                        return Mono.empty();
+                    });
+        }
+    }
+
+    private static String reasonOf(Throwable error) {
+        if (error instanceof TimeoutException) {
+            return LegFailure.TIMEOUT;
+        }
+        if (error instanceof WebClientResponseException.NotFound) {
+            return LegFailure.NOT_FOUND;
+        }
+        if (error instanceof WebClientResponseException response) {
+            return "HTTP_" + response.getStatusCode().value();
+        }
+        return LegFailure.UNAVAILABLE;
+    }
+}
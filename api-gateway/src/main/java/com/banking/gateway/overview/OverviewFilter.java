@@ -0,0 +1,81 @@
+package com.banking.gateway.overview;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.RouteToRequestUrlFilter;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Serves the {@code overview} route from {@link OverviewAggregator} instead of a backend.
+ * As a route filter it sits behind the global ones, so the route is rate limited and shows
+ * up in {@code spring.cloud.gateway.requests} like any other.
+ */
+@RequiredArgsConstructor
+public class OverviewFilter implements GatewayFilter {
+
+    // Ahead of routing; the route has no backend URI of its own
+    public static final int ORDER = RouteToRequestUrlFilter.ROUTE_TO_URL_FILTER_ORDER - 1;
+
+    private final OverviewAggregator aggregator;
+    private final ObjectMapper objectMapper;
+    private final List<String> forwardedHeaders;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpResponse response = exchange.getResponse();
+        UUID customerId;
+        try {
+            customerId = UUID.fromString(ServerWebExchangeUtils.getUriTemplateVariables(exchange).get("customerId"));
+        } catch (IllegalArgumentException e) {
+            return write(response, HttpStatus.BAD_REQUEST, error("VALIDATION_ERROR", "Invalid customer id"));
+        }
+
+        HttpHeaders forwarded = new HttpHeaders();
+        for (String header : forwardedHeaders) {
+            List<String> values = exchange.getRequest().getHeaders().get(header);
+            if (values != null) {
+                forwarded.addAll(header, values);
+            }
+        }
+        return aggregator.overview(customerId, forwarded)
+                .flatMap(overview -> overview.customerNotFound()
+                        ? write(response, HttpStatus.NOT_FOUND, error("CUSTOMER_NOT_FOUND", "Customer not found"))
+                        : write(response, HttpStatus.OK, overview));
+    }
+
+    private Mono<Void> write(ServerHttpResponse response, HttpStatus status, Object body) {
+        byte[] bytes;
+        try {
+            bytes = objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            return Mono.error(e);
+        }
+        response.setStatusCode(status);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(bytes)));
+    }
+
+    // Same fields as the services' ErrorResponse
+    private static Map<String, Object> error(String code, String message) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("code", code);
+        body.put("message", message);
+        body.put("timestamp", LocalDateTime.now().toString());
+        return body;
+    }
+}
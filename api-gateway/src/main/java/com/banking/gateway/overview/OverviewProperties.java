@@ -0,0 +1,30 @@
+package com.banking.gateway.overview;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Backends and per-leg timeouts of {@code GET /overview/{customerId}}. A leg that misses
+ * its timeout is left out of the overview instead of holding up the others.
+ */
+@Data
+@ConfigurationProperties(prefix = "banking.gateway.overview")
+public class OverviewProperties {
+
+    private String customerService = "http://localhost:8081";
+    private String accountService = "http://localhost:8082";
+    private String historyService = "http://localhost:8085";
+
+    private Duration customerTimeout = Duration.ofMillis(500);
+    private Duration accountsTimeout = Duration.ofMillis(500);
+    // Per account; all accounts' history legs run side by side
+    private Duration historyTimeout = Duration.ofMillis(800);
+
+    private int historyConcurrency = 16;
+
+    // Passed on to every leg
+    private List<String> forwardedHeaders = List.of("Authorization", "X-API-Key");
+}
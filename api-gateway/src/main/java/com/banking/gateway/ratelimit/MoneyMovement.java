@@ -0,0 +1,122 @@
+package com.banking.gateway.ratelimit;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * The accounts a money movement request debits, read from its whole body with a streaming
+ * parser so that no field order, padding or nesting hides one.
+ * <p>
+ * Fields resolve the way transaction-service binds them: the last of two duplicate fields
+ * wins and an id may be spelt in any form Jackson reads as a UUID. A batch item is charged
+ * to both {@code accountId} and {@code fromAccountId} when it sets both, since the one
+ * used depends on its type. A body that does not parse or names no account is left
+ * with no account: the service refuses it before any money moves.
+ *
+ * @param items            operations in the request, one unless it is a batch
+ * @param itemsPerAccount  operations per affected account id, canonical lower case
+ */
+record MoneyMovement(int items, Map<String, Integer> itemsPerAccount) {
+
+    private static final JsonFactory JSON = new JsonFactory();
+    private static final MoneyMovement NONE = new MoneyMovement(1, Map.of());
+
+    static MoneyMovement single(byte[] body, String accountField) {
+        try (JsonParser parser = JSON.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return NONE;
+            }
+            String account = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if (field.equals(accountField)) {
+                    account = account(parser);
+                }
+                parser.skipChildren();
+            }
+            return account != null ? new MoneyMovement(1, Map.of(account, 1)) : NONE;
+        } catch (IOException e) {
+            return NONE;
+        }
+    }
+
+    static MoneyMovement batch(byte[] body) {
+        try (JsonParser parser = JSON.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return NONE;
+            }
+            MoneyMovement movement = NONE;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                if (parser.nextToken() == JsonToken.START_ARRAY && field.equals("items")) {
+                    movement = items(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return movement;
+        } catch (IOException e) {
+            return NONE;
+        }
+    }
+
+    private static MoneyMovement items(JsonParser parser) throws IOException {
+        int items = 0;
+        Map<String, Integer> perAccount = new LinkedHashMap<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            items++;
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            String accountId = null;
+            String fromAccountId = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if (field.equals("accountId")) {
+                    accountId = account(parser);
+                } else if (field.equals("fromAccountId")) {
+                    fromAccountId = account(parser);
+                }
+                parser.skipChildren();
+            }
+            if (accountId != null) {
+                perAccount.merge(accountId, 1, Integer::sum);
+            }
+            if (fromAccountId != null && !fromAccountId.equals(accountId)) {
+                perAccount.merge(fromAccountId, 1, Integer::sum);
+            }
+        }
+        return new MoneyMovement(Math.max(items, 1), perAccount);
+    }
+
+    // Any spelling Jackson binds to a UUID maps to the same bucket
+    private static String account(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.VALUE_STRING) {
+            return null;
+        }
+        String text = parser.getText();
+        try {
+            if (text.length() == 36) {
+                return UUID.fromString(text).toString();
+            }
+            if (text.length() == 24) {
+                ByteBuffer bytes = ByteBuffer.wrap(Base64.getDecoder().decode(text));
+                return bytes.remaining() == 16 ? new UUID(bytes.getLong(), bytes.getLong()).toString() : null;
+            }
+        } catch (IllegalArgumentException e) {
+            // Not a UUID, so the service cannot bind it either
+        }
+        return null;
+    }
+}
@@ -0,0 +1,182 @@
+package com.banking.gateway.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admits a request only with a token from its caller's bucket and, for money movements,
+ * from the debited account's bucket. A batch costs one token per item, from the caller and
+ * from each account it debits. Both checks are in-memory; nothing on the request
+ * path waits for Redis.
+ * <p>
+ * Responses carry {@code RateLimit-Limit}, {@code RateLimit-Remaining} and
+ * {@code RateLimit-Reset} for the tightest bucket; rejections are a 429 with
+ * {@code Retry-After} and the services' error body. A request larger than a whole bucket
+ * gets no {@code Retry-After}, as waiting would not help.
+ */
+@RequiredArgsConstructor
+public class RateLimitFilter implements GlobalFilter, Ordered {
+
+    // After GatewayMetricsFilter (0), so rejections show up in spring.cloud.gateway.requests
+    public static final int ORDER = 10;
+
+    static final String LIMIT_HEADER = "RateLimit-Limit";
+    static final String REMAINING_HEADER = "RateLimit-Remaining";
+    static final String RESET_HEADER = "RateLimit-Reset";
+
+    private static final Set<String> MONEY_MOVEMENTS = Set.of("deposit", "withdraw", "transfer", "batch");
+
+    private final RateLimiterRegistry registry;
+    private final RateLimitProperties properties;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        TokenBucket caller = registry.callerBucket(request.getHeaders().getFirst(properties.getApiKeyHeader()),
+                remoteHost(request));
+        // One token up front, so a caller already over its limit is turned away before its body is read
+        TokenBucket.Decision callerDecision = caller.tryAcquire(registry.now());
+        if (!callerDecision.allowed()) {
+            return reject(exchange.getResponse(), callerDecision, "Too many requests for this caller");
+        }
+        String movement = request.getMethod() == HttpMethod.POST ? moneyMovement(request) : null;
+        if (movement == null) {
+            return admit(exchange, chain, callerDecision);
+        }
+        return ServerWebExchangeUtils.cacheRequestBody(exchange, cached -> {
+            ServerWebExchange forwarded = exchange.mutate().request(cached).build();
+            byte[] body = bytes(exchange.getAttribute(ServerWebExchangeUtils.CACHED_REQUEST_BODY_ATTR));
+            MoneyMovement parsed = switch (movement) {
+                case "batch" -> MoneyMovement.batch(body);
+                case "transfer" -> MoneyMovement.single(body, "fromAccountId");
+                default -> MoneyMovement.single(body, "accountId");
+            };
+            return admitMovement(forwarded, chain, caller, callerDecision, parsed);
+        });
+    }
+
+    /**
+     * Charges the caller and every debited account one token per operation, all or nothing.
+     */
+    private Mono<Void> admitMovement(ServerWebExchange exchange, GatewayFilterChain chain, TokenBucket caller,
+                                     TokenBucket.Decision callerDecision, MoneyMovement movement) {
+        long now = registry.now();
+        TokenBucket.Decision tightest = callerDecision;
+        if (movement.items() > 1) {
+            // Taken again as one charge, so a batch larger than the bucket is told it never fits
+            caller.refund(1);
+            TokenBucket.Decision all = caller.tryAcquire(movement.items(), now);
+            if (!all.allowed()) {
+                return reject(exchange.getResponse(), all, tooMany(movement.items(), "caller"));
+            }
+            tightest = all;
+        }
+        List<Map.Entry<TokenBucket, Integer>> charged = new ArrayList<>();
+        for (Map.Entry<String, Integer> account : movement.itemsPerAccount().entrySet()) {
+            TokenBucket bucket = registry.accountBucket(account.getKey());
+            TokenBucket.Decision decision = bucket.tryAcquire(account.getValue(), now);
+            if (!decision.allowed()) {
+                caller.refund(movement.items());
+                charged.forEach(entry -> entry.getKey().refund(entry.getValue()));
+                return reject(exchange.getResponse(), decision, tooMany(account.getValue(), "account"));
+            }
+            charged.add(Map.entry(bucket, account.getValue()));
+            if (decision.remaining() < tightest.remaining()) {
+                tightest = decision;
+            }
+        }
+        return admit(exchange, chain, tightest);
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    private Mono<Void> admit(ServerWebExchange exchange, GatewayFilterChain chain, TokenBucket.Decision decision) {
+        writeHeaders(exchange.getResponse().getHeaders(), decision);
+        return chain.filter(exchange);
+    }
+
+    private Mono<Void> reject(ServerHttpResponse response, TokenBucket.Decision decision, String message) {
+        writeHeaders(response.getHeaders(), decision);
+        if (decision.retryAfterNanos() > 0) {
+            response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(seconds(decision.retryAfterNanos())));
+        }
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        byte[] body = ("{\"code\":\"RATE_LIMITED\",\"message\":\"" + message
+                + "\",\"timestamp\":\"" + LocalDateTime.now() + "\"}").getBytes(StandardCharsets.UTF_8);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+    private static void writeHeaders(HttpHeaders headers, TokenBucket.Decision decision) {
+        headers.set(LIMIT_HEADER, String.valueOf(decision.limit()));
+        headers.set(REMAINING_HEADER, String.valueOf(decision.remaining()));
+        headers.set(RESET_HEADER, String.valueOf(seconds(decision.resetNanos())));
+    }
+
+    private static String tooMany(int operations, String bucket) {
+        return operations > 1
+                ? "Too many requests for this " + bucket + " (" + operations + " operations)"
+                : "Too many requests for this " + bucket;
+    }
+
+    /**
+     * The money movement a request path names, matched on decoded segments without matrix
+     * variables, the same way the route and the service resolve it.
+     */
+    private static String moneyMovement(ServerHttpRequest request) {
+        List<String> segments = request.getPath().pathWithinApplication().elements().stream()
+                .filter(PathContainer.PathSegment.class::isInstance)
+                .map(element -> ((PathContainer.PathSegment) element).valueToMatch())
+                .filter(segment -> !segment.isEmpty())
+                .toList();
+        boolean matches = segments.size() == 2 && segments.get(0).equals("transactions")
+                && MONEY_MOVEMENTS.contains(segments.get(1));
+        return matches ? segments.get(1) : null;
+    }
+
+    // A copy, so the cached body is still unread when it is forwarded
+    private static byte[] bytes(DataBuffer body) {
+        if (body == null) {
+            return new byte[0];
+        }
+        byte[] bytes = new byte[body.readableByteCount()];
+        body.toByteBuffer(body.readPosition(), ByteBuffer.wrap(bytes), 0, bytes.length);
+        return bytes;
+    }
+
+    private static String remoteHost(ServerHttpRequest request) {
+        InetSocketAddress address = request.getRemoteAddress();
+        return address != null ? address.getHostString() : "unknown";
+    }
+
+    // Whole seconds, rounded up so a client waiting that long finds a token
+    private static long seconds(long nanos) {
+        return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,61 @@
+package com.banking.gateway.ratelimit;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Token-bucket limits applied at the gateway, per API key and per account.
+ */
+@Data
+@ConfigurationProperties(prefix = "banking.gateway.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // Only keys listed in quotas get a bucket of their own; others are limited by remote address
+    private String apiKeyHeader = "X-API-Key";
+
+    // Per remote address, for callers without a configured API key
+    private Limit perApiKey = new Limit(200, 100);
+
+    // Tighter: every money movement on one account writes rows and an outbox event
+    private Limit perAccount = new Limit(20, 10);
+
+    // The known API keys and their quotas, e.g. for batch partners
+    private Map<String, Limit> quotas = new HashMap<>();
+
+    // Bound on tracked buckets; beyond it new keys share one overflow bucket per kind
+    private int maxKeys = 100_000;
+
+    // Buckets that are full again are dropped at this interval
+    private Duration idleSweepInterval = Duration.ofSeconds(30);
+
+    private Redis redis = new Redis();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+        private long capacity;
+        private double refillPerSecond;
+    }
+
+    /**
+     * Optional sharing of usage between gateway instances. Each instance adds what it
+     * admitted to a Redis counter in the background and drains its local buckets by what the
+     * others admitted, so the limit holds cluster-wide within one sync interval.
+     */
+    @Data
+    public static class Redis {
+        private boolean enabled = false;
+        private Duration syncInterval = Duration.ofSeconds(1);
+        private String keyPrefix = "gateway:rl:";
+        private Duration keyTtl = Duration.ofMinutes(5);
+    }
+}
@@ -0,0 +1,93 @@
+package com.banking.gateway.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * The gateway's token buckets, keyed by {@code key:<configured api key>},
+ * {@code ip:<address>} or {@code account:<id>}. Buckets are created on first use and dropped once full again, so
+ * the map only holds keys that sent traffic within the last sweep interval.
+ */
+@Slf4j
+public class RateLimiterRegistry implements InitializingBean, DisposableBean {
+
+    private static final String OVERFLOW = "overflow:";
+
+    private final RateLimitProperties properties;
+    private final LongSupplier clock;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private Disposable sweeper;
+
+    public RateLimiterRegistry(RateLimitProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    RateLimiterRegistry(RateLimitProperties properties, LongSupplier clock) {
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    /**
+     * The bucket of a caller: its own for an API key with a configured quota, otherwise the
+     * remote address's. Unknown keys cost nothing to make up, so they get no bucket of
+     * their own.
+     */
+    TokenBucket callerBucket(String apiKey, String remoteHost) {
+        RateLimitProperties.Limit quota = apiKey == null ? null : properties.getQuotas().get(apiKey);
+        return quota != null
+                ? bucket("key:" + apiKey, quota)
+                : bucket("ip:" + remoteHost, properties.getPerApiKey());
+    }
+
+    TokenBucket accountBucket(String accountId) {
+        return bucket("account:" + accountId, properties.getPerAccount());
+    }
+
+    Map<String, TokenBucket> buckets() {
+        return buckets;
+    }
+
+    long now() {
+        return clock.getAsLong();
+    }
+
+    private TokenBucket bucket(String key, RateLimitProperties.Limit limit) {
+        TokenBucket bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        long now = clock.getAsLong();
+        String target = buckets.size() < properties.getMaxKeys()
+                ? key
+                : OVERFLOW + key.substring(0, key.indexOf(':'));
+        return buckets.computeIfAbsent(target,
+                k -> new TokenBucket(limit.getCapacity(), limit.getRefillPerSecond(), now));
+    }
+
+    void evictIdle() {
+        long now = clock.getAsLong();
+        // A request racing the removal lands on a full bucket either way; tokens not yet
+        // synced to Redis by then are older than one refill of the bucket and not worth keeping
+        buckets.entrySet().removeIf(entry -> entry.getValue().isFull(now));
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        sweeper = Flux.interval(properties.getIdleSweepInterval())
+                .subscribe(tick -> evictIdle(), error -> log.warn("Rate limit bucket sweep stopped", error));
+    }
+
+    @Override
+    public void destroy() {
+        if (sweeper != null) {
+            sweeper.dispose();
+        }
+    }
+}
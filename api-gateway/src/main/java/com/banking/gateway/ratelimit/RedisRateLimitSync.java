@@ -0,0 +1,97 @@
+package com.banking.gateway.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+
+/**
+ * Shares bucket usage between gateway instances through one Redis counter per key.
+ * <p>
+ * Every sync interval each instance adds what its buckets admitted since the last run
+ * ({@code INCRBY}, zero included so it also learns the total) and drains each bucket by the
+ * part of the increase that came from other instances. This runs beside the request path:
+ * a slow or absent Redis only means the instances limit on their own until it is back.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RedisRateLimitSync implements InitializingBean, DisposableBean {
+
+    private static final int CONCURRENCY = 64;
+
+    private final RateLimiterRegistry registry;
+    private final ReactiveStringRedisTemplate redis;
+    private final RateLimitProperties.Redis properties;
+    private Disposable task;
+    private volatile boolean failing;
+
+    @Override
+    public void afterPropertiesSet() {
+        task = Flux.interval(properties.getSyncInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> sync(), 1)
+                .subscribe();
+    }
+
+    @Override
+    public void destroy() {
+        if (task != null) {
+            task.dispose();
+        }
+    }
+
+    Mono<Void> sync() {
+        return Flux.fromIterable(registry.buckets().entrySet())
+                .flatMap(this::sync, CONCURRENCY)
+                .then();
+    }
+
+    private Mono<Void> sync(Map.Entry<String, TokenBucket> entry) {
+        TokenBucket bucket = entry.getValue();
+        if (bucket.syncKey == null) {
+            // API keys are credentials; Redis only sees their digest
+            bucket.syncKey = properties.getKeyPrefix() + digest(entry.getKey());
+        }
+        String key = bucket.syncKey;
+        long admitted = bucket.takeAdmitted();
+        return redis.opsForValue().increment(key, admitted)
+                .flatMap(total -> redis.expire(key, properties.getKeyTtl()).thenReturn(total))
+                .doOnNext(total -> {
+                    long last = bucket.lastSyncedTotal;
+                    bucket.lastSyncedTotal = total;
+                    // First sight of the key, or it expired in between: nothing to attribute yet
+                    if (last >= 0 && total >= last + admitted) {
+                        bucket.drain(total - last - admitted, registry.now());
+                    }
+                    failing = false;
+                })
+                .onErrorResume(error -> {
+                    bucket.returnAdmitted(admitted);
+                    if (!failing) {
+                        failing = true;
+                        log.warn("Rate limit sync with Redis failed, limiting per instance: {}", error.toString());
+                    }
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private static String digest(String key) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(key.getBytes(StandardCharsets.UTF_8)), 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
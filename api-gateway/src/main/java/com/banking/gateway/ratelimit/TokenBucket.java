@@ -0,0 +1,106 @@
+package com.banking.gateway.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket of {@code capacity} tokens refilled at {@code refillPerSecond}.
+ * <p>
+ * Kept in the GCRA form: instead of a token count and a refill timestamp, the bucket stores
+ * one "theoretical arrival time", the instant at which it would be full again. Taking a
+ * token pushes that instant one refill interval further; the bucket is empty once it is a
+ * full {@code capacity} of intervals ahead of now. Acquiring is a single CAS on one long,
+ * with no lock and no refill task.
+ */
+final class TokenBucket {
+
+    private final long capacity;
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final AtomicLong fullAt;
+
+    // Tokens taken here since the last Redis sync, see RedisRateLimitSync
+    private final AtomicLong admittedSinceSync = new AtomicLong();
+    // Global counter value seen at the last sync; only touched by the sync
+    volatile long lastSyncedTotal = -1;
+    volatile String syncKey;
+
+    TokenBucket(long capacity, double refillPerSecond, long nowNanos) {
+        if (capacity <= 0 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Capacity and refill rate must be positive");
+        }
+        this.capacity = capacity;
+        this.intervalNanos = Math.max(1L, (long) (1_000_000_000L / refillPerSecond));
+        this.toleranceNanos = Math.multiplyExact(capacity, intervalNanos);
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    Decision tryAcquire(long nowNanos) {
+        return tryAcquire(1, nowNanos);
+    }
+
+    /**
+     * Takes {@code tokens} at once or none. More tokens than the capacity are never
+     * admitted; that rejection carries no retry time.
+     */
+    Decision tryAcquire(long tokens, long nowNanos) {
+        if (tokens > capacity) {
+            long ahead = Math.max(fullAt.get() - nowNanos, 0);
+            return new Decision(false, capacity, (toleranceNanos - ahead) / intervalNanos, ahead, 0);
+        }
+        long cost = tokens * intervalNanos;
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, nowNanos) + cost;
+            long ahead = next - nowNanos;
+            if (ahead > toleranceNanos) {
+                return new Decision(false, capacity, 0, ahead - cost, ahead - toleranceNanos);
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                admittedSinceSync.addAndGet(tokens);
+                return new Decision(true, capacity, (toleranceNanos - ahead) / intervalNanos, ahead, 0);
+            }
+        }
+    }
+
+    /**
+     * Gives back tokens taken by {@link #tryAcquire(long, long)} for a request that was then
+     * rejected by another bucket.
+     */
+    void refund(long tokens) {
+        fullAt.addAndGet(-tokens * intervalNanos);
+        admittedSinceSync.addAndGet(-tokens);
+    }
+
+    /**
+     * Removes tokens taken elsewhere, e.g. by other gateway instances. Never empties the
+     * bucket further than an ordinary burst would.
+     */
+    void drain(long tokens, long nowNanos) {
+        if (tokens <= 0) {
+            return;
+        }
+        long cost = tokens > capacity ? toleranceNanos : tokens * intervalNanos;
+        fullAt.getAndUpdate(current -> Math.min(Math.max(current, nowNanos) + cost, nowNanos + toleranceNanos));
+    }
+
+    boolean isFull(long nowNanos) {
+        return fullAt.get() <= nowNanos;
+    }
+
+    long takeAdmitted() {
+        return admittedSinceSync.getAndSet(0);
+    }
+
+    void returnAdmitted(long tokens) {
+        admittedSinceSync.addAndGet(tokens);
+    }
+
+    /**
+     * @param remaining      tokens left after this request
+     * @param resetNanos     until the bucket is full again
+     * @param retryAfterNanos until enough tokens are back, for a rejected request; 0 if
+     *                        the request is larger than the bucket
+     */
+    record Decision(boolean allowed, long limit, long remaining, long resetNanos, long retryAfterNanos) {
+    }
+}
@@ -0,0 +1,66 @@
+package com.banking.gateway;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.route.RouteLocator;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class GatewayRoutesTest {
+
+    @Autowired
+    private RouteLocator routeLocator;
+
+    @Test
+    void shouldRouteAccountTransactions_ToTransactionService() {
+        // Arrange
+        String path = "/accounts/" + UUID.randomUUID() + "/transactions";
+
+        // Act
+        Route route = routeFor(path);
+
+        // Assert
+        assertThat(route.getId()).isEqualTo("account-transactions");
+        assertThat(route.getUri().getPort()).isEqualTo(8083);
+    }
+
+    @Test
+    void shouldRouteEachServicePrefix() {
+        // Act & Assert
+        assertThat(routeFor("/accounts/" + UUID.randomUUID()).getUri().getPort()).isEqualTo(8082);
+        assertThat(routeFor("/customers/" + UUID.randomUUID()).getUri().getPort()).isEqualTo(8081);
+        assertThat(routeFor("/transactions/deposit").getUri().getPort()).isEqualTo(8083);
+        assertThat(routeFor("/history/accounts/" + UUID.randomUUID()).getUri().getPort()).isEqualTo(8085);
+    }
+
+    @Test
+    void shouldServeOverviewAtTheGateway() {
+        // Act
+        Route route = routeFor("/overview/" + UUID.randomUUID());
+
+        // Assert
+        assertThat(route.getId()).isEqualTo("overview");
+        assertThat(route.getUri().getScheme()).isEqualTo("no");
+    }
+
+    @Test
+    void shouldNotExposeUnroutedPaths() {
+        // Act & Assert
+        assertThat(routeFor("/admin/saga-latency/slowest")).isNull();
+    }
+
+    private Route routeFor(String path) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(path));
+        return routeLocator.getRoutes()
+                .filterWhen(route -> route.getPredicate().apply(exchange))
+                .next()
+                .block();
+    }
+}
@@ -0,0 +1,110 @@
+package com.banking.gateway.coalesce;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CoalescingFilterTest {
+
+    private static final String ACCOUNT = "/accounts/4b0c5a1e-8f7d-4c8e-9a3b-2d1e0f9c8b7a";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ResponseCaptureFilter captureFilter = new ResponseCaptureFilter();
+    private final AtomicInteger backendCalls = new AtomicInteger();
+
+    // Stands in for routing plus NettyWriteResponseFilter
+    private final GatewayFilterChain backend = exchange -> {
+        backendCalls.incrementAndGet();
+        return Mono.delay(Duration.ofMillis(50)).then(Mono.defer(() -> {
+            exchange.getResponse().setStatusCode(HttpStatus.OK);
+            exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            byte[] body = "{\"balance\":10.00}".getBytes(StandardCharsets.UTF_8);
+            return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory().wrap(body)));
+        }));
+    };
+
+    @Test
+    void shouldShareOneBackendCall_BetweenConcurrentIdenticalGets() {
+        // Arrange
+        CoalescingFilter filter = new CoalescingFilter(new CoalescingProperties(), meterRegistry);
+        MockServerWebExchange first = get(ACCOUNT, "key-1");
+        MockServerWebExchange second = get(ACCOUNT, "key-1");
+
+        // Act
+        Mono.when(run(filter, first), run(filter, second)).block();
+
+        // Assert
+        assertThat(backendCalls).hasValue(1);
+        assertThat(second.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(second.getResponse().getBodyAsString().block()).isEqualTo("{\"balance\":10.00}");
+        assertThat(count("coalesced")).isEqualTo(1);
+        assertThat(count("upstream")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotShareResponses_BetweenCallers() {
+        // Arrange
+        CoalescingFilter filter = new CoalescingFilter(new CoalescingProperties(), meterRegistry);
+
+        // Act
+        Mono.when(run(filter, get(ACCOUNT, "key-1")), run(filter, get(ACCOUNT, "key-2"))).block();
+
+        // Assert
+        assertThat(backendCalls).hasValue(2);
+    }
+
+    @Test
+    void shouldServeFromCache_WithinTtl() {
+        // Arrange
+        CoalescingProperties properties = new CoalescingProperties();
+        properties.getCache().setEnabled(true);
+        properties.getCache().setTtl(Duration.ofMinutes(1));
+        CoalescingFilter filter = new CoalescingFilter(properties, meterRegistry);
+        MockServerWebExchange later = get(ACCOUNT, "key-1");
+
+        // Act
+        run(filter, get(ACCOUNT, "key-1")).block();
+        run(filter, later).block();
+
+        // Assert
+        assertThat(backendCalls).hasValue(1);
+        assertThat(later.getResponse().getBodyAsString().block()).isEqualTo("{\"balance\":10.00}");
+        assertThat(count("cached")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldPassThroughUnlistedPaths() {
+        // Arrange
+        CoalescingFilter filter = new CoalescingFilter(new CoalescingProperties(), meterRegistry);
+
+        // Act
+        Mono.when(run(filter, get("/history/accounts/x", "key-1")), run(filter, get("/history/accounts/x", "key-1")))
+                .block();
+
+        // Assert
+        assertThat(backendCalls).hasValue(2);
+    }
+
+    private Mono<Void> run(CoalescingFilter filter, MockServerWebExchange exchange) {
+        return captureFilter.filter(exchange, captured -> filter.filter(captured, backend));
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.counter(CoalescingFilter.METRIC, "outcome", outcome).count();
+    }
+
+    private static MockServerWebExchange get(String path, String apiKey) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(path).header("X-API-Key", apiKey));
+    }
+}
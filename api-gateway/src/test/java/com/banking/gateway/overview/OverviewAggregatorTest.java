@@ -0,0 +1,97 @@
+package com.banking.gateway.overview;
+
+import com.banking.gateway.overview.CustomerOverview.LegFailure;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OverviewAggregatorTest {
+
+    private static final UUID CUSTOMER = UUID.fromString("0192a0c4-7d1e-7a2b-8c3d-4e5f60718293");
+    private static final String FAST = "0192a0c4-7d1e-7a2b-8c3d-000000000001";
+    private static final String SLOW = "0192a0c4-7d1e-7a2b-8c3d-000000000002";
+
+    private static final Map<String, String> BODIES = Map.of(
+            "/customers/" + CUSTOMER, "{\"id\":\"" + CUSTOMER + "\",\"name\":\"Ada\"}",
+            "/accounts", "[{\"id\":\"" + FAST + "\"},{\"id\":\"" + SLOW + "\"}]",
+            "/history/accounts/" + FAST, "{\"accountId\":\"" + FAST + "\",\"recentTransactions\":[]}",
+            "/history/accounts/" + SLOW, "{\"accountId\":\"" + SLOW + "\",\"recentTransactions\":[]}");
+
+    @Test
+    void shouldAssembleOverview_FromAllLegs() {
+        // Arrange
+        OverviewAggregator aggregator = aggregator(backend(Duration.ZERO, HttpStatus.OK));
+
+        // Act
+        CustomerOverview overview = aggregator.overview(CUSTOMER, new HttpHeaders()).block();
+
+        // Assert
+        assertThat(overview.partial()).isFalse();
+        assertThat(overview.customer().path("name").asText()).isEqualTo("Ada");
+        assertThat(overview.accounts()).hasSize(2);
+        assertThat(overview.accounts().get(1).history().path("accountId").asText()).isEqualTo(SLOW);
+    }
+
+    @Test
+    void shouldReturnPartialOverview_WhenHistoryLegTimesOut() {
+        // Arrange
+        OverviewAggregator aggregator = aggregator(backend(Duration.ofSeconds(5), HttpStatus.OK));
+
+        // Act
+        long start = System.nanoTime();
+        CustomerOverview overview = aggregator.overview(CUSTOMER, new HttpHeaders()).block();
+        Duration took = Duration.ofNanos(System.nanoTime() - start);
+
+        // Assert
+        assertThat(took).isLessThan(Duration.ofSeconds(2));
+        assertThat(overview.partial()).isTrue();
+        assertThat(overview.accounts()).hasSize(2);
+        assertThat(overview.accounts().get(0).history()).isNotNull();
+        assertThat(overview.accounts().get(1).history()).isNull();
+        assertThat(overview.failures())
+                .containsExactly(new LegFailure(LegFailure.HISTORY, SLOW, LegFailure.TIMEOUT));
+    }
+
+    @Test
+    void shouldReportMissingCustomer() {
+        // Arrange
+        OverviewAggregator aggregator = aggregator(backend(Duration.ZERO, HttpStatus.NOT_FOUND));
+
+        // Act
+        CustomerOverview overview = aggregator.overview(CUSTOMER, new HttpHeaders()).block();
+
+        // Assert
+        assertThat(overview.customerNotFound()).isTrue();
+        assertThat(overview.customer()).isNull();
+    }
+
+    private static OverviewAggregator aggregator(ExchangeFunction backend) {
+        OverviewProperties properties = new OverviewProperties();
+        properties.setHistoryTimeout(Duration.ofMillis(200));
+        return new OverviewAggregator(WebClient.builder().exchangeFunction(backend).build(), properties);
+    }
+
+    // Serves BODIES; the second account's history takes slowHistory, the customer answers customerStatus
+    private static ExchangeFunction backend(Duration slowHistory, HttpStatus customerStatus) {
+        return request -> {
+            String path = request.url().getPath();
+            HttpStatus status = path.startsWith("/customers/") ? customerStatus : HttpStatus.OK;
+            Mono<ClientResponse> response = Mono.just(ClientResponse.create(status)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .body(status == HttpStatus.OK ? BODIES.get(path) : "{\"code\":\"CUSTOMER_NOT_FOUND\"}")
+                    .build());
+            return path.endsWith(SLOW) ? response.delayElement(slowHistory) : response;
+        };
+    }
+}
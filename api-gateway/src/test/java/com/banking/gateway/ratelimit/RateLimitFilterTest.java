@@ -0,0 +1,167 @@
+package com.banking.gateway.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private final AtomicInteger forwarded = new AtomicInteger();
+    private final GatewayFilterChain chain = exchange -> {
+        forwarded.incrementAndGet();
+        return Mono.empty();
+    };
+
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setPerApiKey(new RateLimitProperties.Limit(2, 1));
+        properties.setPerAccount(new RateLimitProperties.Limit(1, 1));
+        properties.getQuotas().put("partner", new RateLimitProperties.Limit(5, 1));
+        // Frozen clock: no refill during the test
+        filter = new RateLimitFilter(new RateLimiterRegistry(properties, () -> 0L), properties);
+    }
+
+    @Test
+    void shouldRejectOverApiKeyLimit_WithRetryAfter() {
+        // Act
+        MockServerWebExchange first = get("/customers/" + UUID.randomUUID(), "client");
+        filter.filter(first, chain).block();
+        filter.filter(get("/customers/" + UUID.randomUUID(), "client"), chain).block();
+        MockServerWebExchange third = get("/customers/" + UUID.randomUUID(), "client");
+        filter.filter(third, chain).block();
+
+        // Assert
+        assertThat(forwarded).hasValue(2);
+        assertThat(first.getResponse().getHeaders().getFirst(RateLimitFilter.LIMIT_HEADER)).isEqualTo("2");
+        assertThat(first.getResponse().getHeaders().getFirst(RateLimitFilter.REMAINING_HEADER)).isEqualTo("1");
+        assertThat(third.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(third.getResponse().getHeaders().getFirst("Retry-After")).isEqualTo("1");
+        assertThat(third.getResponse().getBodyAsString().block()).contains("\"code\":\"RATE_LIMITED\"");
+    }
+
+    @Test
+    void shouldApplyQuotaOverride() {
+        // Act
+        for (int i = 0; i < 5; i++) {
+            filter.filter(get("/customers/" + UUID.randomUUID(), "partner"), chain).block();
+        }
+
+        // Assert
+        assertThat(forwarded).hasValue(5);
+    }
+
+    @Test
+    void shouldLimitMoneyMovementsPerAccount() {
+        // Arrange
+        UUID accountId = UUID.randomUUID();
+        String body = "{\"accountId\":\"" + accountId + "\",\"amount\":10.00,\"currency\":\"USD\"}";
+
+        // Act
+        filter.filter(post("/transactions/deposit", "a", body), chain).block();
+        MockServerWebExchange second = post("/transactions/deposit", "b", body);
+        filter.filter(second, chain).block();
+
+        // Assert
+        assertThat(forwarded).hasValue(1);
+        assertThat(second.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    @Test
+    void shouldLimitUnknownApiKeysByRemoteAddress() {
+        // Act
+        for (int i = 0; i < 3; i++) {
+            filter.filter(get("/customers/" + UUID.randomUUID(), UUID.randomUUID().toString()), chain).block();
+        }
+
+        // Assert
+        assertThat(forwarded).hasValue(2);
+    }
+
+    @Test
+    void shouldFindAccountAnywhereInBody_WhateverItsSpelling() {
+        // Arrange
+        UUID accountId = UUID.randomUUID();
+        String padding = "x".repeat(2048);
+        String body = "{\"note\":\"" + padding + "\",\"accountId\":\"" + UUID.randomUUID()
+                + "\",\"amount\":10.00,\"accountId\":\"" + accountId.toString().toUpperCase() + "\"}";
+
+        // Act
+        filter.filter(post("/transactions/deposit", "partner", "{\"accountId\":\"" + accountId + "\"}"), chain)
+                .block();
+        MockServerWebExchange second = post("/transactions/%64eposit", "partner", body);
+        filter.filter(second, chain).block();
+
+        // Assert
+        assertThat(forwarded).hasValue(1);
+        assertThat(second.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    @Test
+    void shouldChargeBatchPerItem_AndRefundWhenAnAccountIsOverLimit() {
+        // Arrange
+        UUID accountId = UUID.randomUUID();
+
+        // Act
+        MockServerWebExchange batch = post("/transactions/batch", "partner", batch(accountId, accountId));
+        filter.filter(batch, chain).block();
+        MockServerWebExchange next = get("/customers/" + UUID.randomUUID(), "partner");
+        filter.filter(next, chain).block();
+
+        // Assert
+        assertThat(batch.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(next.getResponse().getHeaders().getFirst(RateLimitFilter.REMAINING_HEADER)).isEqualTo("4");
+    }
+
+    @Test
+    void shouldRejectBatchLargerThanBucket_WithoutRetryAfter() {
+        // Arrange
+        UUID[] accounts = new UUID[6];
+        for (int i = 0; i < accounts.length; i++) {
+            accounts[i] = UUID.randomUUID();
+        }
+
+        // Act
+        MockServerWebExchange fits = post("/transactions/batch", "partner", batch(accounts[0], accounts[1]));
+        filter.filter(fits, chain).block();
+        MockServerWebExchange tooLarge = post("/transactions/batch", "partner", batch(accounts));
+        filter.filter(tooLarge, chain).block();
+
+        // Assert
+        assertThat(forwarded).hasValue(1);
+        assertThat(fits.getResponse().getHeaders().getFirst(RateLimitFilter.REMAINING_HEADER)).isEqualTo("0");
+        assertThat(tooLarge.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(tooLarge.getResponse().getHeaders().getFirst("Retry-After")).isNull();
+    }
+
+    private static String batch(UUID... accountIds) {
+        return Arrays.stream(accountIds)
+                .map(id -> "{\"type\":\"DEPOSIT\",\"accountId\":\"" + id + "\",\"amount\":1.00,\"currency\":\"USD\"}")
+                .collect(Collectors.joining(",", "{\"items\":[", "]}"));
+    }
+
+    private static MockServerWebExchange get(String path, String apiKey) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(path).header("X-API-Key", apiKey));
+    }
+
+    private static MockServerWebExchange post(String path, String apiKey, String body) {
+        return MockServerWebExchange.from(MockServerHttpRequest.method(HttpMethod.POST, URI.create(path))
+                .header("X-API-Key", apiKey)
+                .body(body));
+    }
+}
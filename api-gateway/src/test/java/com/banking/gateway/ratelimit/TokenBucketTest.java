@@ -0,0 +1,92 @@
+package com.banking.gateway.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    private static final long START = TimeUnit.HOURS.toNanos(1);
+    private static final long MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    void shouldAdmitBurstUpToCapacity_ThenReject() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(3, 10, START);
+
+        // Act
+        TokenBucket.Decision first = bucket.tryAcquire(START);
+        bucket.tryAcquire(START);
+        TokenBucket.Decision third = bucket.tryAcquire(START);
+        TokenBucket.Decision fourth = bucket.tryAcquire(START);
+
+        // Assert
+        assertThat(first.allowed()).isTrue();
+        assertThat(first.remaining()).isEqualTo(2);
+        assertThat(third.remaining()).isZero();
+        assertThat(fourth.allowed()).isFalse();
+        assertThat(fourth.retryAfterNanos()).isEqualTo(100 * MILLI);
+        assertThat(fourth.resetNanos()).isEqualTo(300 * MILLI);
+    }
+
+    @Test
+    void shouldRefillAtConfiguredRate() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(2, 10, START);
+        bucket.tryAcquire(START);
+        bucket.tryAcquire(START);
+
+        // Act & Assert
+        assertThat(bucket.tryAcquire(START + 50 * MILLI).allowed()).isFalse();
+        assertThat(bucket.tryAcquire(START + 100 * MILLI).allowed()).isTrue();
+        assertThat(bucket.isFull(START + 300 * MILLI)).isTrue();
+    }
+
+    @Test
+    void shouldTakeSeveralTokensAtOnce_AndGiveThemBack() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(5, 10, START);
+
+        // Act
+        TokenBucket.Decision three = bucket.tryAcquire(3, START);
+        TokenBucket.Decision tooMany = bucket.tryAcquire(3, START);
+        TokenBucket.Decision larger = bucket.tryAcquire(6, START);
+        bucket.refund(3);
+
+        // Assert
+        assertThat(three.remaining()).isEqualTo(2);
+        assertThat(tooMany.allowed()).isFalse();
+        assertThat(tooMany.retryAfterNanos()).isEqualTo(100 * MILLI);
+        assertThat(larger.allowed()).isFalse();
+        assertThat(larger.retryAfterNanos()).isZero();
+        assertThat(bucket.isFull(START)).isTrue();
+        assertThat(bucket.takeAdmitted()).isZero();
+    }
+
+    @Test
+    void shouldDrainTokensTakenElsewhere_NoFurtherThanEmpty() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(5, 10, START);
+
+        // Act
+        bucket.drain(1_000, START);
+
+        // Assert
+        assertThat(bucket.tryAcquire(START).allowed()).isFalse();
+        assertThat(bucket.tryAcquire(START + 100 * MILLI).allowed()).isTrue();
+    }
+
+    @Test
+    void shouldCountAdmittedTokensForSync() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(5, 10, START);
+        bucket.tryAcquire(START);
+        bucket.tryAcquire(START);
+
+        // Act & Assert
+        assertThat(bucket.takeAdmitted()).isEqualTo(2);
+        assertThat(bucket.takeAdmitted()).isZero();
+    }
+}
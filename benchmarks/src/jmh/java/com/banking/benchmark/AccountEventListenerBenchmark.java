@@ -0,0 +1,116 @@
+package com.banking.benchmark;
+
+import com.banking.account.event.AccountEventListener;
+import com.banking.account.repository.ProcessedEventRepository;
+import com.banking.account.service.AccountService;
+import com.banking.account.service.OperationResult;
+import com.banking.common.constant.EventTypes;
+import com.banking.common.event.BaseEvent;
+import com.banking.common.event.DepositRequested;
+import com.banking.common.event.codec.EventCodec;
+import com.banking.common.event.codec.EventHeaders;
+import com.banking.common.event.codec.EventSchemas;
+import com.banking.common.event.codec.WireFormat;
+import com.banking.common.money.Money;
+import com.banking.common.util.IdGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The decode side of {@link AccountEventListener#handleTransactionCommands}: a deposit command
+ * is opened, deduplicated and decoded, and handed to an {@link AccountService} that does
+ * nothing. {@code duplicate} replays an already processed event, which should cost no more
+ * than reading the id; {@code headers=false} models records from producers that do not set
+ * the routing headers, where the id and type are scanned from the value.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AccountEventListenerBenchmark {
+
+    @Param({ "JSON", "BINARY" })
+    private WireFormat format;
+
+    @Param({ "true", "false" })
+    private boolean headers;
+
+    private AccountEventListener listener;
+    private byte[] command;
+    private byte[] formatHeader;
+    private byte[] eventIdHeader;
+    private byte[] eventTypeHeader;
+    private byte[] duplicate;
+    private byte[] duplicateIdHeader;
+
+    @Setup
+    public void setUp() throws IOException {
+        EventCodec codec = new EventCodec(new ObjectMapper().registerModule(new JavaTimeModule()),
+                EventSchemas.registry());
+        BaseEvent<DepositRequested> fresh = deposit();
+        BaseEvent<DepositRequested> replayed = deposit();
+        listener = new AccountEventListener(noOpAccountService(), codec, processedEvents(replayed.getEventId()));
+
+        command = codec.encode(fresh, format);
+        duplicate = codec.encode(replayed, format);
+        formatHeader = format.headerValue();
+        eventTypeHeader = headers ? EventHeaders.eventType(EventTypes.DEPOSIT_REQUESTED) : null;
+        eventIdHeader = headers ? EventHeaders.eventId(fresh.getEventId()) : null;
+        duplicateIdHeader = headers ? EventHeaders.eventId(replayed.getEventId()) : null;
+    }
+
+    @Benchmark
+    public void fresh() throws Exception {
+        listener.handleTransactionCommands(command, formatHeader, eventIdHeader, eventTypeHeader, null);
+    }
+
+    @Benchmark
+    public void duplicate() throws Exception {
+        listener.handleTransactionCommands(duplicate, formatHeader, duplicateIdHeader, eventTypeHeader, null);
+    }
+
+    private static BaseEvent<DepositRequested> deposit() {
+        return BaseEvent.<DepositRequested>builder()
+                .eventId(IdGenerator.nextId())
+                .eventType(EventTypes.DEPOSIT_REQUESTED)
+                .eventVersion(1)
+                .transactionId(IdGenerator.nextId())
+                .timestamp(LocalDateTime.now())
+                .payload(DepositRequested.builder()
+                        .accountId(IdGenerator.nextId())
+                        .amount(Money.ofMinor(5_000L, "USD"))
+                        .build())
+                .build();
+    }
+
+    /**
+     * Knows only {@code processedId}; saves are dropped, so the fresh command stays fresh
+     * across invocations.
+     */
+    private static ProcessedEventRepository processedEvents(UUID processedId) {
+        return (ProcessedEventRepository) Proxy.newProxyInstance(ProcessedEventRepository.class.getClassLoader(),
+                new Class<?>[] { ProcessedEventRepository.class }, (self, method, args) -> switch (method.getName()) {
+                    case "existsById" -> processedId.equals(args[0]);
+                    case "save" -> args[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static AccountService noOpAccountService() {
+        return (AccountService) Proxy.newProxyInstance(AccountService.class.getClassLoader(),
+                new Class<?>[] { AccountService.class }, (self, method, args) -> OperationResult.APPLIED);
+    }
+}
@@ -0,0 +1,68 @@
+package com.banking.benchmark;
+
+import com.banking.account.model.Account;
+import com.banking.account.repository.AccountRepository;
+import com.banking.account.service.AccountServiceImpl;
+import com.banking.common.money.Money;
+import com.banking.common.util.IdGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link AccountServiceImpl} balance mutations against a map-backed {@link AccountRepository}
+ * and an event producer that drops events, i.e. lookup, status check, arithmetic and event
+ * construction without JPA or the outbox. Each benchmark credits back what it takes, so the
+ * balance never runs out.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AccountServiceBenchmark {
+
+    private static final Money AMOUNT = Money.ofMinor(1_234L, "USD");
+
+    private AccountServiceImpl accountService;
+    private UUID accountId;
+    private UUID transactionId;
+
+    @Setup
+    public void setUp() {
+        AccountRepository accounts = InMemoryRepository.of(AccountRepository.class, Account::getId);
+        accountService = new AccountServiceImpl(accounts, new NoOpAccountEventProducer());
+        accountId = IdGenerator.nextId();
+        transactionId = IdGenerator.nextId();
+        accounts.save(Account.builder()
+                .id(accountId)
+                .customerId(IdGenerator.nextId())
+                .balanceMinor(100_000_000L)
+                .currency("USD")
+                .status(Account.AccountStatus.ACTIVE)
+                .build());
+    }
+
+    @Benchmark
+    public void depositThenWithdraw() {
+        accountService.deposit(accountId, AMOUNT, transactionId);
+        accountService.withdraw(accountId, AMOUNT, transactionId);
+    }
+
+    @Benchmark
+    public void reserveThenRefund() {
+        accountService.reserveMoney(accountId, AMOUNT, transactionId);
+        accountService.refund(accountId, AMOUNT, transactionId);
+    }
+
+    @Benchmark
+    public void creditThenDebit() {
+        accountService.creditMoney(accountId, AMOUNT, transactionId);
+        accountService.debitMoney(accountId, AMOUNT, transactionId);
+    }
+}
@@ -0,0 +1,87 @@
+package com.banking.benchmark;
+
+import com.banking.common.constant.AggregateTypes;
+import com.banking.common.constant.EventTypes;
+import com.banking.common.event.BaseEvent;
+import com.banking.common.event.TransferRequested;
+import com.banking.common.event.codec.EventCodec;
+import com.banking.common.event.codec.EventSchemas;
+import com.banking.common.event.codec.WireFormat;
+import com.banking.common.money.Money;
+import com.banking.common.util.IdGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BaseEvent} round trips through {@link EventCodec} in both wire formats, with a
+ * transfer command as the payload. {@code decodeTyped} is what listeners do since events are
+ * bound straight to their payload class; {@code decodeGeneric} is the map-based decode still
+ * used for logging and dead letters.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventSerializationBenchmark {
+
+    @Param({ "JSON", "BINARY" })
+    private WireFormat format;
+
+    private EventCodec codec;
+    private BaseEvent<TransferRequested> event;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        codec = new EventCodec(new ObjectMapper().registerModule(new JavaTimeModule()), EventSchemas.registry());
+        event = BaseEvent.<TransferRequested>builder()
+                .eventId(IdGenerator.nextId())
+                .eventType(EventTypes.TRANSFER_REQUESTED)
+                .eventVersion(1)
+                .aggregateType(AggregateTypes.TRANSACTION)
+                .aggregateId(IdGenerator.nextId())
+                .transactionId(IdGenerator.nextId())
+                .requestId(IdGenerator.nextId())
+                .correlationId(IdGenerator.nextId())
+                .traceId("4bf92f3577b34da6a3ce929d0e0e4736")
+                .timestamp(LocalDateTime.now())
+                .payload(TransferRequested.builder()
+                        .fromAccountId(IdGenerator.nextId())
+                        .toAccountId(IdGenerator.nextId())
+                        .amount(Money.ofMinor(12_345L, "USD"))
+                        .build())
+                .build();
+        encoded = codec.encode(event, format);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return codec.encode(event, format);
+    }
+
+    @Benchmark
+    public BaseEvent<TransferRequested> decodeTyped() throws IOException {
+        return codec.decode(encoded, format, TransferRequested.class);
+    }
+
+    @Benchmark
+    public TransferRequested decodeGeneric() throws IOException {
+        return codec.payloadAs(codec.decode(encoded, format), TransferRequested.class);
+    }
+
+    @Benchmark
+    public BaseEvent<TransferRequested> roundTrip() throws IOException {
+        return codec.decode(codec.encode(event, format), format, TransferRequested.class);
+    }
+}
@@ -0,0 +1,40 @@
+package com.banking.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Map-backed stand-in for a Spring Data repository, so service code runs without a database
+ * and the numbers show the service's own cost. Implements {@code findById}, {@code existsById}
+ * and {@code save}; any other repository method fails. Not thread-safe; use from
+ * {@code Scope.Thread} state only.
+ */
+final class InMemoryRepository {
+
+    private InMemoryRepository() {
+    }
+
+    static <R, E, ID> R of(Class<R> repositoryType, Function<E, ID> idOf) {
+        Map<Object, Object> rows = new HashMap<>();
+        Object proxy = Proxy.newProxyInstance(repositoryType.getClassLoader(), new Class<?>[] { repositoryType },
+                (self, method, args) -> switch (method.getName()) {
+                    case "findById" -> Optional.ofNullable(rows.get(args[0]));
+                    case "existsById" -> rows.containsKey(args[0]);
+                    case "save" -> {
+                        @SuppressWarnings("unchecked")
+                        E entity = (E) args[0];
+                        rows.put(idOf.apply(entity), entity);
+                        yield entity;
+                    }
+                    case "count" -> (long) rows.size();
+                    case "hashCode" -> System.identityHashCode(self);
+                    case "equals" -> self == args[0];
+                    case "toString" -> repositoryType.getSimpleName() + rows.keySet();
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        return repositoryType.cast(proxy);
+    }
+}
@@ -0,0 +1,153 @@
+package com.banking.benchmark;
+
+import com.banking.common.constant.AggregateTypes;
+import com.banking.common.constant.EventTypes;
+import com.banking.common.event.BaseEvent;
+import com.banking.common.event.TransferRequested;
+import com.banking.common.event.codec.EventCodec;
+import com.banking.common.event.codec.EventHeaders;
+import com.banking.common.event.codec.EventSchemas;
+import com.banking.common.event.codec.WireFormat;
+import com.banking.common.kafka.KafkaThroughputProfile;
+import com.banking.common.money.Money;
+import com.banking.common.tracing.TracingService;
+import com.banking.common.util.IdGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.apache.kafka.common.record.CompressionType;
+import org.apache.kafka.common.record.MemoryRecords;
+import org.apache.kafka.common.record.MemoryRecordsBuilder;
+import org.apache.kafka.common.record.TimestampType;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The producer-side work of one outbox relay run under each {@link KafkaThroughputProfile}:
+ * a burst of encoded transfer commands with the relay's headers, packed into record batches
+ * of the profile's {@code batch.size} and compressed with its codec, as the producer's
+ * accumulator does when the backlog outruns {@code linger.ms}.
+ * <p>
+ * Besides bursts per second, {@link Wire} reports records and bytes on the wire per second;
+ * bytes per record is the compression gain the CPU time buys. Broker round trips are not
+ * part of this, so the linger and fetch settings show up only in end-to-end runs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class KafkaProfileBenchmark {
+
+    // Rows a relay run typically finds pending under load
+    private static final int BURST = 500;
+    private static final long TIMESTAMP = 1_760_860_800_000L;
+
+    @Param({ "LOW_LATENCY", "BALANCED", "HIGH_THROUGHPUT" })
+    private KafkaThroughputProfile profile;
+
+    @Param({ "JSON", "BINARY" })
+    private WireFormat format;
+
+    private CompressionType compression;
+    private ByteBuffer buffer;
+    private byte[][] keys;
+    private byte[][] values;
+    private Header[][] headers;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Wire {
+
+        public long records;
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            records = 0;
+            bytes = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        EventCodec codec = new EventCodec(new ObjectMapper().registerModule(new JavaTimeModule()),
+                EventSchemas.registry());
+        compression = CompressionType.forName(profile.getCompression());
+        buffer = ByteBuffer.allocate((int) profile.getBatchSize().toBytes());
+
+        keys = new byte[BURST][];
+        values = new byte[BURST][];
+        headers = new Header[BURST][];
+        for (int i = 0; i < BURST; i++) {
+            BaseEvent<TransferRequested> event = transferRequested(i);
+            // Keyed like the relay; the header set matches OutboxProcessor's
+            keys[i] = event.getAggregateId().toString().getBytes(StandardCharsets.UTF_8);
+            values[i] = codec.encode(event, format);
+            headers[i] = new Header[] {
+                    new RecordHeader(WireFormat.HEADER, format.headerValue()),
+                    new RecordHeader(EventHeaders.EVENT_TYPE, EventHeaders.eventType(event.getEventType())),
+                    new RecordHeader(EventHeaders.EVENT_ID, EventHeaders.eventId(event.getEventId())),
+                    new RecordHeader(TracingService.TRACEPARENT_HEADER,
+                            ("00-" + event.getTraceId() + "-00f067aa0ba902b7-01").getBytes(StandardCharsets.US_ASCII))
+            };
+        }
+    }
+
+    @Benchmark
+    public int relayBurst(Wire wire) {
+        int batches = 1;
+        MemoryRecordsBuilder batch = newBatch();
+        for (int i = 0; i < BURST; i++) {
+            if (!batch.hasRoomFor(TIMESTAMP, keys[i], values[i], headers[i])) {
+                wire.bytes += batch.build().sizeInBytes();
+                batch = newBatch();
+                batches++;
+            }
+            batch.append(TIMESTAMP, keys[i], values[i], headers[i]);
+        }
+        MemoryRecords last = batch.build();
+        wire.bytes += last.sizeInBytes();
+        wire.records += BURST;
+        return batches;
+    }
+
+    private MemoryRecordsBuilder newBatch() {
+        buffer.clear();
+        return MemoryRecords.builder(buffer, compression, TimestampType.CREATE_TIME, 0L);
+    }
+
+    private static BaseEvent<TransferRequested> transferRequested(int i) {
+        UUID transactionId = IdGenerator.nextId();
+        return BaseEvent.<TransferRequested>builder()
+                .eventId(IdGenerator.nextId())
+                .eventType(EventTypes.TRANSFER_REQUESTED)
+                .eventVersion(1)
+                .aggregateType(AggregateTypes.TRANSACTION)
+                .aggregateId(transactionId)
+                .transactionId(transactionId)
+                .correlationId(transactionId)
+                .traceId(String.format("%032x", i + 1))
+                .timestamp(LocalDateTime.of(2026, 10, 19, 8, 0).plusNanos(i * 1_000_000L))
+                .payload(TransferRequested.builder()
+                        .fromAccountId(IdGenerator.nextId())
+                        .toAccountId(IdGenerator.nextId())
+                        .amount(Money.ofMinor(1_000L + i, "USD"))
+                        .build())
+                .build();
+    }
+}
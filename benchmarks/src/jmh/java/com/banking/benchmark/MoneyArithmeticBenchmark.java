@@ -0,0 +1,69 @@
+package com.banking.benchmark;
+
+import com.banking.common.money.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the account balance mutation (check funds, debit, credit) on {@link BigDecimal}
+ * against the minor-unit {@code long} path used by {@code Account} since the switch to
+ * {@link Money}. Run with {@code ./gradlew :benchmarks:jmh}; the gc profiler reports
+ * {@code gc.alloc.rate.norm}, which should be ~0 B/op for the long path.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MoneyArithmeticBenchmark {
+
+    private BigDecimal decimalBalance;
+    private BigDecimal decimalAmount;
+
+    private long minorBalance;
+    private Money amount;
+
+    @Setup
+    public void setUp() {
+        decimalBalance = new BigDecimal("1000000.00");
+        decimalAmount = new BigDecimal("12.34");
+        minorBalance = 100_000_000L;
+        amount = Money.ofMinor(1234L, "USD");
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalMutation() {
+        if (decimalBalance.compareTo(decimalAmount) >= 0) {
+            decimalBalance = decimalBalance.subtract(decimalAmount);
+        }
+        decimalBalance = decimalBalance.add(decimalAmount);
+        return decimalBalance;
+    }
+
+    @Benchmark
+    public long minorUnitsMutation() {
+        long minorUnits = amount.getMinorUnits();
+        if (minorBalance >= minorUnits) {
+            minorBalance = Math.subtractExact(minorBalance, minorUnits);
+        }
+        minorBalance = Math.addExact(minorBalance, minorUnits);
+        return minorBalance;
+    }
+
+    @Benchmark
+    public Money moneyValueMutation() {
+        Money balance = Money.ofMinor(minorBalance, "USD");
+        if (!balance.isLessThan(amount)) {
+            balance = balance.minus(amount);
+        }
+        balance = balance.plus(amount);
+        minorBalance = balance.getMinorUnits();
+        return balance;
+    }
+}
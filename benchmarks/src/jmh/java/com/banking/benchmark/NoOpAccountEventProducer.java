@@ -0,0 +1,51 @@
+package com.banking.benchmark;
+
+import com.banking.account.event.AccountEventProducer;
+import com.banking.common.event.AccountCreated;
+import com.banking.common.event.MoneyCredited;
+import com.banking.common.event.MoneyDebited;
+import com.banking.common.event.MoneyReserved;
+import com.banking.common.event.RefundCompleted;
+import com.banking.common.event.ReservationFailed;
+
+import java.util.UUID;
+
+/**
+ * Keeps the last produced event instead of writing it to the outbox, so building events is
+ * measured but not encoding and storing them.
+ */
+final class NoOpAccountEventProducer implements AccountEventProducer {
+
+    // Escapes every event to the heap so building it cannot be optimized away
+    Object last;
+
+    @Override
+    public void sendAccountCreated(AccountCreated event) {
+        last = event;
+    }
+
+    @Override
+    public void sendMoneyCredited(MoneyCredited event, UUID transactionId) {
+        last = event;
+    }
+
+    @Override
+    public void sendMoneyDebited(MoneyDebited event, UUID transactionId) {
+        last = event;
+    }
+
+    @Override
+    public void sendMoneyReserved(MoneyReserved event, UUID transactionId) {
+        last = event;
+    }
+
+    @Override
+    public void sendReservationFailed(ReservationFailed event, UUID transactionId) {
+        last = event;
+    }
+
+    @Override
+    public void sendRefundCompleted(RefundCompleted event, UUID transactionId) {
+        last = event;
+    }
+}
@@ -0,0 +1,98 @@
+package com.banking.benchmark;
+
+import com.banking.account.model.Account;
+import com.banking.account.repository.AccountRepository;
+import com.banking.account.service.AccountServiceImpl;
+import com.banking.account.service.OperationResult;
+import com.banking.common.exception.BusinessException;
+import com.banking.common.money.Money;
+import com.banking.common.util.IdGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Withdrawals where {@code declinePercent} of requests are declined, two thirds for
+ * insufficient funds and one third on a frozen account. {@code resultValues} is the current
+ * path; {@code thrownRejections} adds what the old path paid on top for every decline, a
+ * {@link BusinessException} with its stack trace. The old path's rollback, three listener
+ * retries and dead-letter hop are not part of this in-process measurement.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RejectionPathBenchmark {
+
+    private static final Money AMOUNT = Money.ofMinor(1_234L, "USD");
+    private static final int MASK = 1023;
+
+    @Param({ "0", "30" })
+    public int declinePercent;
+
+    private AccountServiceImpl accountService;
+    private UUID[] workload;
+    private UUID transactionId;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        AccountRepository accounts = InMemoryRepository.of(AccountRepository.class, Account::getId);
+        accountService = new AccountServiceImpl(accounts, new NoOpAccountEventProducer());
+        transactionId = IdGenerator.nextId();
+
+        UUID funded = save(accounts, Long.MAX_VALUE / 2, Account.AccountStatus.ACTIVE);
+        UUID empty = save(accounts, 0L, Account.AccountStatus.ACTIVE);
+        UUID frozen = save(accounts, Long.MAX_VALUE / 2, Account.AccountStatus.FROZEN);
+
+        // Fixed seed: every run and both benchmarks see the same sequence
+        Random random = new Random(42);
+        workload = new UUID[MASK + 1];
+        for (int i = 0; i < workload.length; i++) {
+            int roll = random.nextInt(100);
+            if (roll >= declinePercent) {
+                workload[i] = funded;
+            } else {
+                workload[i] = roll % 3 == 2 ? frozen : empty;
+            }
+        }
+    }
+
+    @Benchmark
+    public OperationResult resultValues() {
+        return accountService.withdraw(workload[next++ & MASK], AMOUNT, transactionId);
+    }
+
+    @Benchmark
+    public Object thrownRejections() {
+        OperationResult result = accountService.withdraw(workload[next++ & MASK], AMOUNT, transactionId);
+        if (result.isApplied()) {
+            return result;
+        }
+        try {
+            throw new BusinessException(result.reason(), result.errorCode());
+        } catch (BusinessException e) {
+            return e;
+        }
+    }
+
+    private static UUID save(AccountRepository accounts, long balanceMinor, Account.AccountStatus status) {
+        UUID id = IdGenerator.nextId();
+        accounts.save(Account.builder()
+                .id(id)
+                .customerId(IdGenerator.nextId())
+                .balanceMinor(balanceMinor)
+                .currency("USD")
+                .status(status)
+                .build());
+        return id;
+    }
+}
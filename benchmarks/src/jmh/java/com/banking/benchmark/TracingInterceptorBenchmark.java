@@ -0,0 +1,67 @@
+package com.banking.benchmark;
+
+import com.banking.common.tracing.TracingProducerInterceptor;
+import com.banking.common.tracing.TracingService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TracingProducerInterceptor#onSend} as the outbox relays hit it: {@code restored}
+ * with the outbox and the relay context both present, {@code passThrough} with one. The
+ * interceptor rewrites headers in place, so every invocation builds a fresh record;
+ * {@code recordOnly} measures that part alone to subtract it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TracingInterceptorBenchmark {
+
+    private static final byte[] OUTBOX_CONTEXT =
+            "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] RELAY_CONTEXT =
+            "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01".getBytes(StandardCharsets.US_ASCII);
+
+    private TracingProducerInterceptor interceptor;
+    private byte[] value;
+
+    @Setup
+    public void setUp() {
+        interceptor = new TracingProducerInterceptor();
+        interceptor.configure(Map.of(TracingProducerInterceptor.METER_REGISTRY_CONFIG, new SimpleMeterRegistry()));
+        value = new byte[256];
+    }
+
+    @Benchmark
+    public ProducerRecord<Object, Object> restored() {
+        ProducerRecord<Object, Object> record = record();
+        record.headers().add(TracingService.TRACEPARENT_HEADER, RELAY_CONTEXT);
+        return interceptor.onSend(record);
+    }
+
+    @Benchmark
+    public ProducerRecord<Object, Object> passThrough() {
+        return interceptor.onSend(record());
+    }
+
+    @Benchmark
+    public ProducerRecord<Object, Object> recordOnly() {
+        return record();
+    }
+
+    private ProducerRecord<Object, Object> record() {
+        ProducerRecord<Object, Object> record = new ProducerRecord<>("accounts.events", "key", value);
+        record.headers().add(TracingService.TRACEPARENT_HEADER, OUTBOX_CONTEXT);
+        return record;
+    }
+}
@@ -0,0 +1,31 @@
+package com.banking.common.config;
+
+import com.banking.common.event.codec.EventCodec;
+import com.banking.common.event.codec.EventFormatProperties;
+import com.banking.common.event.codec.EventSchemas;
+import com.banking.common.event.codec.LocalSchemaRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+@AutoConfiguration(after = JacksonAutoConfiguration.class)
+@ConditionalOnClass(ObjectMapper.class)
+@EnableConfigurationProperties(EventFormatProperties.class)
+public class SharedEventCodecAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public LocalSchemaRegistry localSchemaRegistry() {
+        return EventSchemas.registry();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public EventCodec eventCodec(ObjectMapper objectMapper, LocalSchemaRegistry localSchemaRegistry) {
+        return new EventCodec(objectMapper, localSchemaRegistry);
+    }
+}
@@ -1,24 +1,101 @@
 package com.banking.common.config;
 
+import com.banking.common.exception.BusinessException;
+import com.banking.common.kafka.KafkaThroughputProperties;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.kafka.DefaultKafkaConsumerFactoryCustomizer;
+import org.springframework.boot.autoconfigure.kafka.DefaultKafkaProducerFactoryCustomizer;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.ssl.SslBundles;
 import org.springframework.context.annotation.Bean;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.listener.CommonErrorHandler;
 import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
 import org.springframework.kafka.listener.DefaultErrorHandler;
 import org.springframework.util.backoff.FixedBackOff;
 
-@AutoConfiguration
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+@AutoConfiguration(after = KafkaAutoConfiguration.class)
 @ConditionalOnClass(DefaultErrorHandler.class)
+@EnableConfigurationProperties(KafkaThroughputProperties.class)
 public class SharedKafkaAutoConfiguration {
 
+    public static final String EVENT_KAFKA_TEMPLATE = "eventKafkaTemplate";
+
+    /**
+     * Template for outbox relays, whose values are the already encoded bytes of the outbox
+     * row. Uses the Boot producer settings and customizers (tracing interceptor included).
+     */
+    @Bean(EVENT_KAFKA_TEMPLATE)
+    @ConditionalOnMissingBean(name = EVENT_KAFKA_TEMPLATE)
+    public KafkaTemplate<String, byte[]> eventKafkaTemplate(KafkaProperties kafkaProperties,
+            ObjectProvider<SslBundles> sslBundles,
+            ObjectProvider<DefaultKafkaProducerFactoryCustomizer> customizers) {
+        DefaultKafkaProducerFactory<String, byte[]> producerFactory = new DefaultKafkaProducerFactory<>(
+                kafkaProperties.buildProducerProperties(sslBundles.getIfAvailable()),
+                new StringSerializer(), new ByteArraySerializer());
+        customizers.orderedStream().forEach(customizer -> customizer.customize(producerFactory));
+
+        KafkaTemplate<String, byte[]> template = new KafkaTemplate<>(producerFactory);
+        template.setObservationEnabled(kafkaProperties.getTemplate().isObservationEnabled());
+        return template;
+    }
+
+    /**
+     * Applies the {@code banking.kafka} throughput profile to every producer factory built
+     * by Boot, the event template's included.
+     */
+    @Bean
+    public DefaultKafkaProducerFactoryCustomizer throughputProfileProducerCustomizer(
+            KafkaThroughputProperties properties) {
+        return producerFactory -> producerFactory.updateConfigs(
+                unlessSet(properties.producerConfigs(), producerFactory::getConfigurationProperties));
+    }
+
+    @Bean
+    public DefaultKafkaConsumerFactoryCustomizer throughputProfileConsumerCustomizer(
+            KafkaThroughputProperties properties) {
+        return consumerFactory -> consumerFactory.updateConfigs(
+                unlessSet(properties.consumerConfigs(), consumerFactory::getConfigurationProperties));
+    }
+
     @Bean
-    public CommonErrorHandler errorHandler(KafkaOperations<Object, Object> template) {
+    public CommonErrorHandler errorHandler(KafkaOperations<Object, Object> template,
+            @Qualifier(EVENT_KAFKA_TEMPLATE) KafkaOperations<String, byte[]> eventTemplate) {
+        // Binary-capable listeners consume byte[] values, which the String template
+        // cannot serialize; pick the dead-letter template by value type
+        Map<Class<?>, KafkaOperations<?, ?>> templates = new LinkedHashMap<>();
+        templates.put(byte[].class, eventTemplate);
+        templates.put(Object.class, template);
+
         // After 3 retries, the message will be sent to a topic named
         // {originalTopic}.DLT
-        return new DefaultErrorHandler(
-                new DeadLetterPublishingRecoverer(template),
+        DefaultErrorHandler handler = new DefaultErrorHandler(
+                new DeadLetterPublishingRecoverer(templates),
                 new FixedBackOff(1000L, 3));
+        // A business rule violation fails the same way on every attempt; dead-letter it at once
+        handler.addNotRetryableExceptions(BusinessException.class);
+        return handler;
+    }
+
+    // Keeps client properties configured explicitly under spring.kafka
+    private static Map<String, Object> unlessSet(Map<String, Object> profile, Supplier<Map<String, Object>> current) {
+        Map<String, Object> existing = current.get();
+        Map<String, Object> configs = new LinkedHashMap<>(profile);
+        configs.keySet().removeIf(existing::containsKey);
+        return configs;
     }
 }
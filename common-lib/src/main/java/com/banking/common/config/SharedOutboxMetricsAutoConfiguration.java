@@ -0,0 +1,31 @@
+package com.banking.common.config;
+
+import com.banking.common.outbox.OutboxMetrics;
+import com.banking.common.outbox.OutboxMetricsProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+/**
+ * Registers {@link OutboxMetrics} for services that run an outbox relay and set
+ * {@code banking.outbox.metrics.enabled=true}.
+ */
+@AutoConfiguration(after = { DataSourceAutoConfiguration.class, CompositeMeterRegistryAutoConfiguration.class })
+@ConditionalOnClass(MeterRegistry.class)
+@ConditionalOnProperty(prefix = "banking.outbox.metrics", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(OutboxMetricsProperties.class)
+public class SharedOutboxMetricsAutoConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public OutboxMetrics outboxMetrics(MeterRegistry meterRegistry, DataSource dataSource,
+            OutboxMetricsProperties properties) {
+        return new OutboxMetrics(meterRegistry, dataSource, properties);
+    }
+}
@@ -0,0 +1,77 @@
+package com.banking.common.config;
+
+import com.banking.common.persistence.routing.ReplicaDataSourceProperties;
+import com.banking.common.persistence.routing.ReplicaLagMonitor;
+import com.banking.common.persistence.routing.ReplicaRoutingDataSource;
+import com.banking.common.persistence.routing.WriteTokenResponseAdvice;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Replaces the Boot {@code DataSource} with a {@link ReplicaRoutingDataSource} when
+ * {@code banking.datasource.replica.url} is set. Without it, nothing changes.
+ * <p>
+ * Both pools take {@code spring.datasource.hikari.*}; the replica can override any of it
+ * under {@code banking.datasource.replica.hikari.*}.
+ */
+@AutoConfiguration(before = DataSourceAutoConfiguration.class)
+@ConditionalOnClass({ LazyConnectionDataSourceProxy.class, HikariDataSource.class })
+@ConditionalOnProperty(prefix = "banking.datasource.replica", name = "url")
+@EnableConfigurationProperties({ DataSourceProperties.class, ReplicaDataSourceProperties.class })
+public class SharedReplicaRoutingAutoConfiguration {
+
+    private static final String PRIMARY_HIKARI = "spring.datasource.hikari";
+    private static final String REPLICA_HIKARI = "banking.datasource.replica.hikari";
+
+    @Bean
+    public ReplicaRoutingDataSource dataSource(DataSourceProperties primaryProperties,
+            ReplicaDataSourceProperties replicaProperties, Environment environment) {
+        Binder binder = Binder.get(environment);
+        HikariDataSource primary = primaryPool(binder, primaryProperties);
+        HikariDataSource replica = replicaPool(binder, primaryProperties, replicaProperties);
+
+        ReplicaLagMonitor lagMonitor = new ReplicaLagMonitor(replica, replicaProperties.getLagCheckInterval());
+        return new ReplicaRoutingDataSource(primary, replica, lagMonitor, replicaProperties);
+    }
+
+    // spring.datasource.hikari.* applies as it would to the Boot-created pool
+    static HikariDataSource primaryPool(Binder binder, DataSourceProperties primaryProperties) {
+        HikariDataSource primary = primaryProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        binder.bind(PRIMARY_HIKARI, Bindable.ofInstance(primary));
+        primary.setPoolName("primary");
+        return primary;
+    }
+
+    // Starts from the primary's Hikari settings; banking.datasource.replica.hikari.* overrides them
+    static HikariDataSource replicaPool(Binder binder, DataSourceProperties primaryProperties,
+            ReplicaDataSourceProperties replicaProperties) {
+        HikariDataSource replica = new HikariDataSource();
+        binder.bind(PRIMARY_HIKARI, Bindable.ofInstance(replica));
+        replica.setMaximumPoolSize(replicaProperties.getMaximumPoolSize());
+        binder.bind(REPLICA_HIKARI, Bindable.ofInstance(replica));
+        replica.setPoolName("replica");
+        replica.setJdbcUrl(replicaProperties.getUrl());
+        replica.setUsername(replicaProperties.getUsername());
+        replica.setPassword(replicaProperties.getPassword());
+        replica.setDriverClassName(primaryProperties.getDriverClassName());
+        replica.setReadOnly(true);
+        return replica;
+    }
+
+    @Bean
+    public WriteTokenResponseAdvice writeTokenResponseAdvice() {
+        return new WriteTokenResponseAdvice();
+    }
+}
@@ -2,16 +2,19 @@ package com.banking.common.config;
 
 import com.banking.common.tracing.TracingProducerInterceptor;
 import com.banking.common.tracing.TracingService;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.tracing.Tracer;
 import io.micrometer.tracing.propagation.Propagator;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.kafka.DefaultKafkaProducerFactoryCustomizer;
 import org.springframework.context.annotation.Bean;
 
-import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 @AutoConfiguration
 @ConditionalOnClass({ Tracer.class, ProducerConfig.class })
@@ -24,10 +27,14 @@ public class SharedTracingAutoConfiguration {
     }
 
     @Bean
-    public DefaultKafkaProducerFactoryCustomizer tracingKafkaCustomizer() {
-        return producerFactory -> producerFactory.updateConfigs(
-                Collections.singletonMap(
-                        ProducerConfig.INTERCEPTOR_CLASSES_CONFIG,
-                        TracingProducerInterceptor.class.getName()));
+    public DefaultKafkaProducerFactoryCustomizer tracingKafkaCustomizer(ObjectProvider<MeterRegistry> meterRegistry) {
+        return producerFactory -> {
+            Map<String, Object> configs = new HashMap<>();
+            configs.put(ProducerConfig.INTERCEPTOR_CLASSES_CONFIG, TracingProducerInterceptor.class.getName());
+            // Handed to the interceptor's configure() to time trace propagation per send
+            meterRegistry.ifAvailable(registry -> configs.put(TracingProducerInterceptor.METER_REGISTRY_CONFIG,
+                    registry));
+            producerFactory.updateConfigs(configs);
+        };
     }
 }
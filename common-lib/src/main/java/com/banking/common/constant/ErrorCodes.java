@@ -10,4 +10,13 @@ public class ErrorCodes {
     public static final String TRANSACTION_NOT_FOUND = "TRANSACTION_NOT_FOUND";
     public static final String CUSTOMER_EXISTS = "CUSTOMER_EXISTS";
     public static final String SERIALIZATION_ERROR = "SERIALIZATION_ERROR";
+    public static final String INVALID_AMOUNT = "INVALID_AMOUNT";
+    public static final String CURRENCY_MISMATCH = "CURRENCY_MISMATCH";
+    public static final String INVALID_IDEMPOTENCY_KEY = "INVALID_IDEMPOTENCY_KEY";
+    public static final String IDEMPOTENCY_KEY_REUSED = "IDEMPOTENCY_KEY_REUSED";
+    public static final String INVALID_BATCH_ITEM = "INVALID_BATCH_ITEM";
+    public static final String BATCH_TOO_LARGE = "BATCH_TOO_LARGE";
+    public static final String BATCH_CHUNK_FAILED = "BATCH_CHUNK_FAILED";
+    public static final String INVALID_CURSOR = "INVALID_CURSOR";
+    public static final String INVALID_DATE_RANGE = "INVALID_DATE_RANGE";
 }
@@ -8,6 +8,7 @@ public class EventTypes {
     public static final String WITHDRAW_REQUESTED = "WithdrawRequested";
     public static final String TRANSFER_REQUESTED = "TransferRequested";
     public static final String REFUND_REQUESTED = "RefundRequested";
+    public static final String CREDIT_REQUESTED = "CreditRequested";
 
     // Account Events
     public static final String ACCOUNT_CREATED = "AccountCreated";
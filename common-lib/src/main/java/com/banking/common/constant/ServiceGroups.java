@@ -7,6 +7,9 @@ public class ServiceGroups {
     public static final String ACCOUNT_DLT_GROUP = "account-dlt-group";
     public static final String TRANSACTION_SERVICE_GROUP = "transaction-service-group";
     public static final String TRANSACTION_DLT_GROUP = "transaction-dlt-group";
+    // Suffixed with a random id per instance so every instance sees every outcome
+    public static final String TRANSACTION_OUTCOMES_GROUP_PREFIX = "transaction-outcomes-";
     public static final String CUSTOMER_SERVICE_GROUP = "customer-service-group";
     public static final String NOTIFICATION_SERVICE_GROUP = "notification-service-group";
+    public static final String HISTORY_PROJECTION_GROUP = "history-projection-group";
 }
@@ -7,4 +7,5 @@ public class Topics {
     public static final String ACCOUNTS_EVENTS = "accounts.events";
     public static final String TRANSACTIONS_EVENTS = "transactions.events";
     public static final String NOTIFICATIONS_EVENTS = "notifications.events";
+    public static final String TRANSACTIONS_OUTCOMES = "transactions.outcomes";
 }
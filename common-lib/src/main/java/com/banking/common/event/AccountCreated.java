@@ -1,11 +1,11 @@
 package com.banking.common.event;
 
+import com.banking.common.money.Money;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.util.UUID;
 
 @Data
@@ -15,5 +15,5 @@ import java.util.UUID;
 public class AccountCreated {
     private UUID accountId;
     private UUID customerId;
-    private BigDecimal initialBalance;
+    private Money initialBalance;
 }
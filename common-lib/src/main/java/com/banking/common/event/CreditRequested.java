@@ -0,0 +1,20 @@
+package com.banking.common.event;
+
+import com.banking.common.money.Money;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreditRequested {
+    @JsonProperty("account_id")
+    private UUID accountId;
+    private Money amount;
+}
@@ -1,12 +1,12 @@
 package com.banking.common.event;
 
+import com.banking.common.money.Money;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.util.UUID;
 
 @Data
@@ -16,6 +16,5 @@ import java.util.UUID;
 public class MoneyReserved {
     @JsonProperty("account_id")
     private UUID accountId;
-    private BigDecimal amount;
-    private String currency;
+    private Money amount;
 }
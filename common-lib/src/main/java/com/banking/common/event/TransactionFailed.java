@@ -1,5 +1,6 @@
 package com.banking.common.event;
 
+import com.banking.common.money.Money;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -16,4 +17,12 @@ public class TransactionFailed {
     @JsonProperty("transaction_id")
     private UUID transactionId;
     private String reason;
+    private String type;
+    @JsonProperty("account_id")
+    private UUID accountId;
+    @JsonProperty("from_account_id")
+    private UUID fromAccountId;
+    @JsonProperty("to_account_id")
+    private UUID toAccountId;
+    private Money amount;
 }
@@ -0,0 +1,101 @@
+package com.banking.common.event.codec;
+
+import com.banking.common.money.Money;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * Reads values written by {@link BinaryWriter}. Running past the end fails with
+ * {@link IllegalArgumentException}, which {@link EventCodec} reports as an unreadable event.
+ */
+public final class BinaryReader {
+
+    private final byte[] buffer;
+    private int position;
+
+    public BinaryReader(byte[] buffer) {
+        this.buffer = buffer;
+    }
+
+    public boolean hasRemaining() {
+        return position < buffer.length;
+    }
+
+    public int readByte() {
+        require(1);
+        return buffer[position++] & 0xFF;
+    }
+
+    public long readVarLong() {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint at " + position);
+    }
+
+    public long readZigZagLong() {
+        long raw = readVarLong();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    public Integer readNullableInt() {
+        long raw = readVarLong();
+        return raw == 0 ? null : (int) (raw - 1);
+    }
+
+    public long readLong() {
+        require(8);
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (buffer[position++] & 0xFF);
+        }
+        return value;
+    }
+
+    public UUID readUuid() {
+        if (readByte() == 0) {
+            return null;
+        }
+        return new UUID(readLong(), readLong());
+    }
+
+    public String readString() {
+        long raw = readVarLong();
+        if (raw == 0) {
+            return null;
+        }
+        int length = Math.toIntExact(raw - 1);
+        require(length);
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    public Money readMoney() {
+        String currency = readString();
+        return currency == null ? null : Money.ofMinor(readZigZagLong(), currency);
+    }
+
+    public LocalDateTime readTimestamp() {
+        if (readByte() == 0) {
+            return null;
+        }
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(readZigZagLong()), ZoneOffset.UTC);
+    }
+
+    private void require(int length) {
+        if (length < 0 || position + length > buffer.length) {
+            throw new IllegalArgumentException("Truncated binary event: needs " + length + " bytes at " + position
+                    + " of " + buffer.length);
+        }
+    }
+}
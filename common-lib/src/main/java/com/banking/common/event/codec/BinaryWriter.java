@@ -0,0 +1,159 @@
+package com.banking.common.event.codec;
+
+import com.banking.common.money.Money;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Growable output buffer for the binary event format. Writers are pooled per thread: take
+ * one with {@link #acquire()} and close it when done, and the backing array is reused by the
+ * next encode on that thread instead of being allocated again.
+ * <p>
+ * Nullable values carry their own presence marker: strings and versions are written as
+ * {@code length + 1} / {@code value + 1} varints with {@code 0} meaning null, UUIDs and
+ * timestamps with a leading {@code 0}/{@code 1} byte. Signed longs are zigzag varints.
+ */
+public final class BinaryWriter implements AutoCloseable {
+
+    private static final int INITIAL_CAPACITY = 256;
+    // Buffers grown past this by an unusually large event are not kept in the pool
+    private static final int MAX_POOLED_CAPACITY = 64 * 1024;
+    private static final ThreadLocal<BinaryWriter> POOL = ThreadLocal.withInitial(() -> new BinaryWriter(true));
+
+    private final boolean pooled;
+    private byte[] buffer = new byte[INITIAL_CAPACITY];
+    private int position;
+    private boolean inUse;
+
+    private BinaryWriter(boolean pooled) {
+        this.pooled = pooled;
+    }
+
+    public static BinaryWriter acquire() {
+        BinaryWriter writer = POOL.get();
+        if (writer.inUse) {
+            // Encoding from inside an encode on the same thread; don't hand out the busy one
+            return new BinaryWriter(false);
+        }
+        writer.inUse = true;
+        writer.position = 0;
+        return writer;
+    }
+
+    @Override
+    public void close() {
+        if (pooled) {
+            inUse = false;
+            if (buffer.length > MAX_POOLED_CAPACITY) {
+                buffer = new byte[INITIAL_CAPACITY];
+            }
+        }
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    public int size() {
+        return position;
+    }
+
+    public void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+    }
+
+    public void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    public void writeZigZagLong(long value) {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    public void writeNullableInt(Integer value) {
+        writeVarLong(value == null ? 0 : Integer.toUnsignedLong(value) + 1);
+    }
+
+    public void writeLong(long value) {
+        ensureCapacity(8);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[position++] = (byte) (value >>> shift);
+        }
+    }
+
+    public void writeUuid(UUID value) {
+        if (value == null) {
+            writeByte(0);
+            return;
+        }
+        writeByte(1);
+        writeLong(value.getMostSignificantBits());
+        writeLong(value.getLeastSignificantBits());
+    }
+
+    public void writeString(String value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        int length = value.length();
+        if (isAscii(value, length)) {
+            // Identifiers, codes and currencies: copy chars straight in without a temporary array
+            writeVarLong(length + 1L);
+            ensureCapacity(length);
+            for (int i = 0; i < length; i++) {
+                buffer[position++] = (byte) value.charAt(i);
+            }
+            return;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(utf8.length + 1L);
+        ensureCapacity(utf8.length);
+        System.arraycopy(utf8, 0, buffer, position, utf8.length);
+        position += utf8.length;
+    }
+
+    public void writeMoney(Money value) {
+        if (value == null) {
+            writeString(null);
+            return;
+        }
+        writeString(value.getCurrency());
+        writeZigZagLong(value.getMinorUnits());
+    }
+
+    // BaseEvent timestamps are UTC wall-clock times, as in their JSON form
+    public void writeTimestamp(LocalDateTime value) {
+        if (value == null) {
+            writeByte(0);
+            return;
+        }
+        writeByte(1);
+        writeZigZagLong(value.toInstant(ZoneOffset.UTC).toEpochMilli());
+    }
+
+    private static boolean isAscii(String value, int length) {
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (position + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + extra));
+        }
+    }
+}
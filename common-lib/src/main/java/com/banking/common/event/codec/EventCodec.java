@@ -0,0 +1,266 @@
+package com.banking.common.event.codec;
+
+import com.banking.common.event.BaseEvent;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Encodes {@link BaseEvent}s as JSON or in the compact binary format, and decodes either.
+ * <p>
+ * A binary frame is {@code 0xBE}, a frame version, the payload's schema id (0 when there is
+ * no payload, followed by the event type), the envelope fields in fixed order, and finally
+ * the payload fields as laid out by its {@link RecordSchema}. Binary payloads decode to
+ * their concrete class and JSON payloads to maps, so handlers read them through
+ * {@link #payloadAs}.
+ * <p>
+ * Listeners that filter records first {@link #open} them instead: the event id and type
+ * come from the {@link EventHeaders} or a scan of the envelope, and the payload is bound
+ * straight to its class only when a handler asks for it.
+ */
+public class EventCodec {
+
+    static final int MAGIC = 0xBE;
+    static final int FRAME_VERSION = 1;
+    private static final TypeReference<BaseEvent<Object>> JSON_EVENT = new TypeReference<>() {
+    };
+
+    // Envelope field names as mapped on BaseEvent
+    private static final String EVENT_ID = "event_id";
+    private static final String EVENT_TYPE = "event_type";
+
+    private final ObjectMapper objectMapper;
+    private final ObjectReader envelopeReader;
+    private final LocalSchemaRegistry schemaRegistry;
+
+    public EventCodec(ObjectMapper objectMapper, LocalSchemaRegistry schemaRegistry) {
+        this.objectMapper = objectMapper;
+        // Same mapping minus the payload, whose tokens are skipped instead of bound
+        this.envelopeReader = objectMapper.copy()
+                .addMixIn(BaseEvent.class, EnvelopeOnly.class)
+                .readerFor(JSON_EVENT);
+        this.schemaRegistry = schemaRegistry;
+    }
+
+    public byte[] encode(BaseEvent<?> event, WireFormat format) throws IOException {
+        if (format == WireFormat.JSON) {
+            return objectMapper.writeValueAsBytes(event);
+        }
+        Object payload = event.getPayload();
+        RecordSchema<?> schema = payload == null ? null : schemaRegistry.forType(payload.getClass());
+        if (payload != null && schema == null) {
+            throw new IOException("No binary schema registered for " + payload.getClass().getName());
+        }
+
+        try (BinaryWriter out = BinaryWriter.acquire()) {
+            out.writeByte(MAGIC);
+            out.writeByte(FRAME_VERSION);
+            out.writeVarLong(schema == null ? 0 : schema.getId());
+            if (schema == null) {
+                out.writeString(event.getEventType());
+            }
+            out.writeUuid(event.getEventId());
+            out.writeNullableInt(event.getEventVersion());
+            out.writeString(event.getAggregateType());
+            out.writeUuid(event.getAggregateId());
+            out.writeUuid(event.getTransactionId());
+            out.writeUuid(event.getRequestId());
+            out.writeUuid(event.getCorrelationId());
+            out.writeString(event.getTraceId());
+            out.writeTimestamp(event.getTimestamp());
+            if (schema != null) {
+                schema.write(payload, out);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    public BaseEvent<Object> decode(byte[] value, WireFormat format) throws IOException {
+        if (format == WireFormat.JSON) {
+            return objectMapper.readValue(value, JSON_EVENT);
+        }
+        return decodeBinary(value, true);
+    }
+
+    /**
+     * Decodes the event with its payload bound directly to {@code payloadType}, skipping
+     * the intermediate map of {@link #decode}.
+     *
+     * @throws IOException also when a binary payload is of another type
+     */
+    public <T> BaseEvent<T> decode(byte[] value, WireFormat format, Class<T> payloadType) throws IOException {
+        if (format == WireFormat.JSON) {
+            return objectMapper.readValue(value,
+                    objectMapper.getTypeFactory().constructParametricType(BaseEvent.class, payloadType));
+        }
+        BaseEvent<Object> event = decodeBinary(value, true);
+        Object payload = event.getPayload();
+        if (payload != null && !payloadType.isInstance(payload)) {
+            throw new IOException(event.getEventType() + " carries " + payload.getClass().getSimpleName()
+                    + ", not " + payloadType.getSimpleName());
+        }
+        @SuppressWarnings("unchecked")
+        BaseEvent<T> typed = (BaseEvent<T>) (BaseEvent<?>) event;
+        return typed;
+    }
+
+    /**
+     * Decodes the envelope only; the payload is skipped and left {@code null}.
+     */
+    public BaseEvent<Object> decodeEnvelope(byte[] value, WireFormat format) throws IOException {
+        return format == WireFormat.JSON ? envelopeReader.readValue(value) : decodeBinary(value, false);
+    }
+
+    /**
+     * Wraps a consumed record without decoding it. The event id and type are taken from the
+     * {@link EventHeaders} when the producer set them, and otherwise scanned from the start of
+     * the value, so duplicates and unwanted types can be dropped before any object mapping.
+     */
+    public IncomingEvent open(byte[] value, byte[] formatHeader, byte[] eventIdHeader, byte[] eventTypeHeader)
+            throws IOException {
+        if (value == null) {
+            throw new IOException("Record has no value");
+        }
+        WireFormat format;
+        try {
+            format = WireFormat.fromHeader(formatHeader);
+        } catch (IllegalArgumentException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+        UUID eventId = EventHeaders.eventId(eventIdHeader);
+        String eventType = EventHeaders.eventType(eventTypeHeader);
+        if (eventId == null || eventType == null) {
+            IncomingEvent scanned = format == WireFormat.JSON ? scanJson(value) : scanBinary(value);
+            eventId = eventId != null ? eventId : scanned.getEventId();
+            eventType = eventType != null ? eventType : scanned.getEventType();
+        }
+        return new IncomingEvent(this, value, format, eventId, eventType);
+    }
+
+    public IncomingEvent open(byte[] value, Headers headers) throws IOException {
+        return open(value, lastValue(headers, WireFormat.HEADER), lastValue(headers, EventHeaders.EVENT_ID),
+                lastValue(headers, EventHeaders.EVENT_TYPE));
+    }
+
+    private IncomingEvent scanJson(byte[] value) throws IOException {
+        UUID eventId = null;
+        String eventType = null;
+        try (JsonParser parser = objectMapper.getFactory().createParser(value)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Event is not a JSON object");
+            }
+            // Stops as soon as both are seen; the payload object is skipped, not parsed
+            while ((eventId == null || eventType == null) && parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken token = parser.nextToken();
+                if (token == JsonToken.VALUE_STRING && EVENT_ID.equals(field)) {
+                    eventId = UUID.fromString(parser.getText());
+                } else if (token == JsonToken.VALUE_STRING && EVENT_TYPE.equals(field)) {
+                    eventType = parser.getText();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Unreadable event id: " + e.getMessage(), e);
+        }
+        return new IncomingEvent(this, value, WireFormat.JSON, eventId, eventType);
+    }
+
+    private IncomingEvent scanBinary(byte[] value) throws IOException {
+        try {
+            BinaryReader in = new BinaryReader(value);
+            RecordSchema<?> schema = readFrameHeader(in);
+            String eventType = schema == null ? in.readString() : schema.getEventType();
+            return new IncomingEvent(this, value, WireFormat.BINARY, in.readUuid(), eventType);
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            throw new IOException("Unreadable binary event: " + e.getMessage(), e);
+        }
+    }
+
+    private BaseEvent<Object> decodeBinary(byte[] value, boolean withPayload) throws IOException {
+        try {
+            BinaryReader in = new BinaryReader(value);
+            RecordSchema<?> schema = readFrameHeader(in);
+
+            BaseEvent.BaseEventBuilder<Object> event = BaseEvent.builder()
+                    .eventType(schema == null ? in.readString() : schema.getEventType())
+                    .eventId(in.readUuid())
+                    .eventVersion(in.readNullableInt())
+                    .aggregateType(in.readString())
+                    .aggregateId(in.readUuid())
+                    .transactionId(in.readUuid())
+                    .requestId(in.readUuid())
+                    .correlationId(in.readUuid())
+                    .traceId(in.readString())
+                    .timestamp(in.readTimestamp());
+            if (schema != null && withPayload) {
+                event.payload(schema.read(in));
+            }
+            return event.build();
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            throw new IOException("Unreadable binary event: " + e.getMessage(), e);
+        }
+    }
+
+    private RecordSchema<?> readFrameHeader(BinaryReader in) throws IOException {
+        if (in.readByte() != MAGIC) {
+            throw new IOException("Not a binary event frame");
+        }
+        int frameVersion = in.readByte();
+        if (frameVersion != FRAME_VERSION) {
+            throw new IOException("Unsupported binary event frame version: " + frameVersion);
+        }
+        int schemaId = Math.toIntExact(in.readVarLong());
+        return schemaId == 0 ? null : schemaRegistry.byId(schemaId);
+    }
+
+    private static byte[] lastValue(Headers headers, String name) {
+        Header header = headers.lastHeader(name);
+        return header == null ? null : header.value();
+    }
+
+    /**
+     * The payload as {@code type}: returned as is when it was decoded from binary, converted
+     * from its map form when it came from JSON.
+     */
+    public <T> T payloadAs(BaseEvent<?> event, Class<T> type) {
+        Object payload = event.getPayload();
+        if (payload == null || type.isInstance(payload)) {
+            return type.cast(payload);
+        }
+        return objectMapper.convertValue(payload, type);
+    }
+
+    /**
+     * Renders a record value as JSON for logs and dead-letter inspection, whatever its format.
+     * Never fails: dead-lettered records are often the ones that could not be read.
+     */
+    public String toDisplayString(byte[] value, byte[] formatHeader) {
+        if (value == null) {
+            return "null";
+        }
+        try {
+            WireFormat format = WireFormat.fromHeader(formatHeader);
+            return format == WireFormat.JSON
+                    ? new String(value, StandardCharsets.UTF_8)
+                    : objectMapper.writeValueAsString(decode(value, format));
+        } catch (IOException | IllegalArgumentException e) {
+            return "<" + value.length + " unreadable bytes: " + e.getMessage() + ">";
+        }
+    }
+
+    private abstract static class EnvelopeOnly {
+        @JsonIgnore
+        private Object payload;
+    }
+}
@@ -0,0 +1,23 @@
+package com.banking.common.event.codec;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Wire format written per topic. Topics not listed stay JSON, so topics can be switched one
+ * at a time once every consumer reads the {@value WireFormat#HEADER} header. Topic names
+ * contain dots, so keys need brackets, e.g. {@code "[transactions.commands]": binary}.
+ */
+@Data
+@ConfigurationProperties(prefix = "banking.events")
+public class EventFormatProperties {
+
+    private Map<String, WireFormat> wireFormat = new HashMap<>();
+
+    public WireFormat formatFor(String topic) {
+        return wireFormat.getOrDefault(topic, WireFormat.JSON);
+    }
+}
@@ -0,0 +1,44 @@
+package com.banking.common.event.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Record headers repeating the envelope fields consumers filter on, so they can deduplicate
+ * and route without reading the value. Set by the outbox relays; records without them are
+ * scanned instead (see {@link EventCodec#open}).
+ */
+public final class EventHeaders {
+
+    public static final String EVENT_ID = "x-event-id";
+    public static final String EVENT_TYPE = "x-event-type";
+
+    private EventHeaders() {
+    }
+
+    public static byte[] eventId(UUID eventId) {
+        return eventId.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    public static byte[] eventType(String eventType) {
+        return eventType.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return the event id of the header, or {@code null} if it is absent or malformed
+     */
+    public static UUID eventId(byte[] header) {
+        if (header == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(new String(header, StandardCharsets.US_ASCII));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    public static String eventType(byte[] header) {
+        return header == null || header.length == 0 ? null : new String(header, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,110 @@
+package com.banking.common.event.codec;
+
+import com.banking.common.constant.EventTypes;
+import com.banking.common.event.AccountCreated;
+import com.banking.common.event.CreditRequested;
+import com.banking.common.event.DepositRequested;
+import com.banking.common.event.MoneyCredited;
+import com.banking.common.event.MoneyDebited;
+import com.banking.common.event.MoneyReserved;
+import com.banking.common.event.RefundCompleted;
+import com.banking.common.event.RefundRequested;
+import com.banking.common.event.ReservationFailed;
+import com.banking.common.event.TransactionCompleted;
+import com.banking.common.event.TransactionFailed;
+import com.banking.common.event.TransferRequested;
+import com.banking.common.event.WithdrawRequested;
+
+/**
+ * Binary schemas of the payloads exchanged over the saga topics. Only append fields;
+ * see {@link RecordSchema} for the evolution rules.
+ */
+public final class EventSchemas {
+
+    private EventSchemas() {
+    }
+
+    public static LocalSchemaRegistry registry() {
+        return new LocalSchemaRegistry()
+                // Transaction commands
+                .register(RecordSchema.builder(1, EventTypes.DEPOSIT_REQUESTED, DepositRequested.class,
+                                DepositRequested::new)
+                        .uuid(DepositRequested::getAccountId, DepositRequested::setAccountId)
+                        .money(DepositRequested::getAmount, DepositRequested::setAmount)
+                        .build())
+                .register(RecordSchema.builder(2, EventTypes.WITHDRAW_REQUESTED, WithdrawRequested.class,
+                                WithdrawRequested::new)
+                        .uuid(WithdrawRequested::getAccountId, WithdrawRequested::setAccountId)
+                        .money(WithdrawRequested::getAmount, WithdrawRequested::setAmount)
+                        .build())
+                .register(RecordSchema.builder(3, EventTypes.TRANSFER_REQUESTED, TransferRequested.class,
+                                TransferRequested::new)
+                        .uuid(TransferRequested::getFromAccountId, TransferRequested::setFromAccountId)
+                        .uuid(TransferRequested::getToAccountId, TransferRequested::setToAccountId)
+                        .money(TransferRequested::getAmount, TransferRequested::setAmount)
+                        .build())
+                .register(RecordSchema.builder(4, EventTypes.CREDIT_REQUESTED, CreditRequested.class,
+                                CreditRequested::new)
+                        .uuid(CreditRequested::getAccountId, CreditRequested::setAccountId)
+                        .money(CreditRequested::getAmount, CreditRequested::setAmount)
+                        .build())
+                .register(RecordSchema.builder(5, EventTypes.REFUND_REQUESTED, RefundRequested.class,
+                                RefundRequested::new)
+                        .uuid(RefundRequested::getAccountId, RefundRequested::setAccountId)
+                        .money(RefundRequested::getAmount, RefundRequested::setAmount)
+                        .build())
+                // Account events
+                .register(RecordSchema.builder(10, EventTypes.ACCOUNT_CREATED, AccountCreated.class,
+                                AccountCreated::new)
+                        .uuid(AccountCreated::getAccountId, AccountCreated::setAccountId)
+                        .uuid(AccountCreated::getCustomerId, AccountCreated::setCustomerId)
+                        .money(AccountCreated::getInitialBalance, AccountCreated::setInitialBalance)
+                        .build())
+                .register(RecordSchema.builder(11, EventTypes.MONEY_RESERVED, MoneyReserved.class,
+                                MoneyReserved::new)
+                        .uuid(MoneyReserved::getAccountId, MoneyReserved::setAccountId)
+                        .money(MoneyReserved::getAmount, MoneyReserved::setAmount)
+                        .build())
+                .register(RecordSchema.builder(12, EventTypes.MONEY_CREDITED, MoneyCredited.class,
+                                MoneyCredited::new)
+                        .uuid(MoneyCredited::getAccountId, MoneyCredited::setAccountId)
+                        .money(MoneyCredited::getAmount, MoneyCredited::setAmount)
+                        .build())
+                .register(RecordSchema.builder(13, EventTypes.MONEY_DEBITED, MoneyDebited.class,
+                                MoneyDebited::new)
+                        .uuid(MoneyDebited::getAccountId, MoneyDebited::setAccountId)
+                        .money(MoneyDebited::getAmount, MoneyDebited::setAmount)
+                        .build())
+                .register(RecordSchema.builder(14, EventTypes.RESERVATION_FAILED, ReservationFailed.class,
+                                ReservationFailed::new)
+                        .uuid(ReservationFailed::getAccountId, ReservationFailed::setAccountId)
+                        .string(ReservationFailed::getReason, ReservationFailed::setReason)
+                        .build())
+                .register(RecordSchema.builder(15, EventTypes.REFUND_COMPLETED, RefundCompleted.class,
+                                RefundCompleted::new)
+                        .uuid(RefundCompleted::getAccountId, RefundCompleted::setAccountId)
+                        .money(RefundCompleted::getAmount, RefundCompleted::setAmount)
+                        .build())
+                // Transaction outcomes
+                .register(RecordSchema.builder(20, EventTypes.TRANSACTION_COMPLETED, TransactionCompleted.class,
+                                TransactionCompleted::new)
+                        .uuid(TransactionCompleted::getTransactionId, TransactionCompleted::setTransactionId)
+                        .string(TransactionCompleted::getStatus, TransactionCompleted::setStatus)
+                        .string(TransactionCompleted::getType, TransactionCompleted::setType)
+                        .uuid(TransactionCompleted::getAccountId, TransactionCompleted::setAccountId)
+                        .uuid(TransactionCompleted::getFromAccountId, TransactionCompleted::setFromAccountId)
+                        .uuid(TransactionCompleted::getToAccountId, TransactionCompleted::setToAccountId)
+                        .money(TransactionCompleted::getAmount, TransactionCompleted::setAmount)
+                        .build())
+                .register(RecordSchema.builder(21, EventTypes.TRANSACTION_FAILED, TransactionFailed.class,
+                                TransactionFailed::new)
+                        .uuid(TransactionFailed::getTransactionId, TransactionFailed::setTransactionId)
+                        .string(TransactionFailed::getReason, TransactionFailed::setReason)
+                        .string(TransactionFailed::getType, TransactionFailed::setType)
+                        .uuid(TransactionFailed::getAccountId, TransactionFailed::setAccountId)
+                        .uuid(TransactionFailed::getFromAccountId, TransactionFailed::setFromAccountId)
+                        .uuid(TransactionFailed::getToAccountId, TransactionFailed::setToAccountId)
+                        .money(TransactionFailed::getAmount, TransactionFailed::setAmount)
+                        .build());
+    }
+}
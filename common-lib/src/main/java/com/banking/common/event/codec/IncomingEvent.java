@@ -0,0 +1,57 @@
+package com.banking.common.event.codec;
+
+import com.banking.common.event.BaseEvent;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * A consumed record whose event id and type are known but whose value is not decoded yet.
+ * Handlers decode it once they have decided to act on it, with the payload bound to the
+ * class they expect. Not thread-safe; meant to live for one listener invocation.
+ */
+public final class IncomingEvent {
+
+    private final EventCodec codec;
+    private final byte[] value;
+    @Getter
+    private final WireFormat format;
+    @Getter
+    private final UUID eventId;
+    @Getter
+    private final String eventType;
+    private BaseEvent<?> envelope;
+
+    IncomingEvent(EventCodec codec, byte[] value, WireFormat format, UUID eventId, String eventType) {
+        this.codec = codec;
+        this.value = value;
+        this.format = format;
+        this.eventId = eventId;
+        this.eventType = eventType;
+    }
+
+    /**
+     * The envelope without its payload, for handlers that only need ids and timestamps.
+     */
+    public BaseEvent<?> envelope() throws IOException {
+        if (envelope == null) {
+            envelope = codec.decodeEnvelope(value, format);
+        }
+        return envelope;
+    }
+
+    /**
+     * The whole event, with the payload bound to {@code payloadType}.
+     */
+    public <T> BaseEvent<T> as(Class<T> payloadType) throws IOException {
+        BaseEvent<T> event = codec.decode(value, format, payloadType);
+        envelope = event;
+        return event;
+    }
+
+    @Override
+    public String toString() {
+        return eventType + " " + eventId + " (" + format + ", " + value.length + " bytes)";
+    }
+}
@@ -0,0 +1,41 @@
+package com.banking.common.event.codec;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process stand-in for a schema registry. Binary frames carry only a schema id, so every
+ * producer and consumer must resolve ids the same way. The shared set lives in
+ * {@link EventSchemas} in common-lib, which plays the part of the central registry. Ids are
+ * never reused.
+ */
+public class LocalSchemaRegistry {
+
+    private final Map<Integer, RecordSchema<?>> byId = new ConcurrentHashMap<>();
+    private final Map<Class<?>, RecordSchema<?>> byType = new ConcurrentHashMap<>();
+
+    public LocalSchemaRegistry register(RecordSchema<?> schema) {
+        RecordSchema<?> existing = byId.putIfAbsent(schema.getId(), schema);
+        if (existing != null && existing != schema) {
+            throw new IllegalStateException("Schema id " + schema.getId() + " already registered for "
+                    + existing.getType().getName());
+        }
+        byType.put(schema.getType(), schema);
+        return this;
+    }
+
+    public RecordSchema<?> byId(int id) {
+        RecordSchema<?> schema = byId.get(id);
+        if (schema == null) {
+            throw new IllegalArgumentException("Unknown event schema id: " + id);
+        }
+        return schema;
+    }
+
+    /**
+     * @return the schema for a payload class, or {@code null} if it has none
+     */
+    public RecordSchema<?> forType(Class<?> type) {
+        return byType.get(type);
+    }
+}
@@ -0,0 +1,137 @@
+package com.banking.common.event.codec;
+
+import com.banking.common.money.Money;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Binary layout of one event payload type: its fields, written in declaration order with no
+ * names or tags.
+ * <p>
+ * The payload is always the last part of a frame, which gives schemas Avro-style evolution
+ * as long as fields are only ever appended. A reader with fewer fields ignores the trailing
+ * bytes. A reader with more fields leaves the missing ones {@code null}. Removing, reordering
+ * or retyping a field requires a new schema id.
+ */
+public final class RecordSchema<T> {
+
+    private final int id;
+    private final String eventType;
+    private final Class<T> type;
+    private final Supplier<T> factory;
+    private final List<Field<T>> fields;
+
+    private RecordSchema(Builder<T> builder) {
+        this.id = builder.id;
+        this.eventType = builder.eventType;
+        this.type = builder.type;
+        this.factory = builder.factory;
+        this.fields = List.copyOf(builder.fields);
+    }
+
+    public static <T> Builder<T> builder(int id, String eventType, Class<T> type, Supplier<T> factory) {
+        return new Builder<>(id, eventType, type, factory);
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    void write(Object payload, BinaryWriter out) {
+        T value = type.cast(payload);
+        for (Field<T> field : fields) {
+            field.write(value, out);
+        }
+    }
+
+    T read(BinaryReader in) {
+        T value = factory.get();
+        for (Field<T> field : fields) {
+            if (!in.hasRemaining()) {
+                break;
+            }
+            field.read(value, in);
+        }
+        return value;
+    }
+
+    private interface Field<T> {
+        void write(T value, BinaryWriter out);
+
+        void read(T value, BinaryReader in);
+    }
+
+    public static final class Builder<T> {
+        private final int id;
+        private final String eventType;
+        private final Class<T> type;
+        private final Supplier<T> factory;
+        private final List<Field<T>> fields = new ArrayList<>();
+
+        private Builder(int id, String eventType, Class<T> type, Supplier<T> factory) {
+            if (id <= 0) {
+                throw new IllegalArgumentException("Schema ids start at 1, 0 marks an event without payload");
+            }
+            this.id = id;
+            this.eventType = eventType;
+            this.type = type;
+            this.factory = factory;
+        }
+
+        public Builder<T> uuid(Function<T, UUID> getter, BiConsumer<T, UUID> setter) {
+            fields.add(new Field<>() {
+                public void write(T value, BinaryWriter out) {
+                    out.writeUuid(getter.apply(value));
+                }
+
+                public void read(T value, BinaryReader in) {
+                    setter.accept(value, in.readUuid());
+                }
+            });
+            return this;
+        }
+
+        public Builder<T> string(Function<T, String> getter, BiConsumer<T, String> setter) {
+            fields.add(new Field<>() {
+                public void write(T value, BinaryWriter out) {
+                    out.writeString(getter.apply(value));
+                }
+
+                public void read(T value, BinaryReader in) {
+                    setter.accept(value, in.readString());
+                }
+            });
+            return this;
+        }
+
+        public Builder<T> money(Function<T, Money> getter, BiConsumer<T, Money> setter) {
+            fields.add(new Field<>() {
+                public void write(T value, BinaryWriter out) {
+                    out.writeMoney(getter.apply(value));
+                }
+
+                public void read(T value, BinaryReader in) {
+                    setter.accept(value, in.readMoney());
+                }
+            });
+            return this;
+        }
+
+        public RecordSchema<T> build() {
+            return new RecordSchema<>(this);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.banking.common.event.codec;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encoding of a record value, announced in the {@value #HEADER} header. Records without
+ * the header are JSON, so consumers keep reading topics whose producers were not migrated.
+ */
+public enum WireFormat {
+    JSON,
+    BINARY;
+
+    public static final String HEADER = "x-event-format";
+
+    private final byte[] headerValue = name().getBytes(StandardCharsets.US_ASCII);
+
+    public byte[] headerValue() {
+        return headerValue.clone();
+    }
+
+    public static WireFormat fromHeader(byte[] value) {
+        if (value == null) {
+            return JSON;
+        }
+        String name = new String(value, StandardCharsets.US_ASCII);
+        for (WireFormat format : values()) {
+            if (format.name().equalsIgnoreCase(name)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unknown event wire format: " + name);
+    }
+}
@@ -0,0 +1,12 @@
+package com.banking.common.exception;
+
+/**
+ * A request that contradicts state the service already holds, answered with {@code 409}
+ * instead of the {@code 400} used for other business errors.
+ */
+public class ConflictException extends BusinessException {
+
+    public ConflictException(String initialMsg, String errorCode) {
+        super(initialMsg, errorCode);
+    }
+}
@@ -0,0 +1,38 @@
+package com.banking.common.kafka;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Named Kafka client tunings, selected with {@code banking.kafka.profile}. All of them keep the
+ * producer idempotent with {@code acks=all} and at most five requests in flight, so relay
+ * retries neither duplicate nor reorder records within a partition; they differ in how long
+ * and how much the clients wait to batch.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum KafkaThroughputProfile {
+
+    // Send and hand over each record as soon as possible
+    LOW_LATENCY(DataSize.ofKilobytes(16), Duration.ZERO, "none",
+            DataSize.ofBytes(1), Duration.ofMillis(10), 100, DataSize.ofMegabytes(1)),
+
+    // A few milliseconds of linger buys compressed multi-record batches
+    BALANCED(DataSize.ofKilobytes(64), Duration.ofMillis(5), "lz4",
+            DataSize.ofBytes(1), Duration.ofMillis(100), 500, DataSize.ofMegabytes(1)),
+
+    // Replays, backfills and other bulk traffic where latency is secondary
+    HIGH_THROUGHPUT(DataSize.ofKilobytes(256), Duration.ofMillis(20), "zstd",
+            DataSize.ofKilobytes(64), Duration.ofMillis(500), 1000, DataSize.ofMegabytes(4));
+
+    private final DataSize batchSize;
+    private final Duration linger;
+    private final String compression;
+    private final DataSize fetchMinSize;
+    private final Duration fetchMaxWait;
+    private final int maxPollRecords;
+    private final DataSize maxPartitionFetchSize;
+}
@@ -0,0 +1,100 @@
+package com.banking.common.kafka;
+
+import lombok.Data;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Kafka client tuning: a {@link KafkaThroughputProfile} plus optional overrides of its single
+ * settings, e.g.
+ * <pre>
+ * banking:
+ *   kafka:
+ *     profile: high-throughput
+ *     producer:
+ *       linger: 10ms
+ * </pre>
+ * Client properties set explicitly under {@code spring.kafka} take precedence over both.
+ */
+@Data
+@ConfigurationProperties(prefix = "banking.kafka")
+public class KafkaThroughputProperties {
+
+    private KafkaThroughputProfile profile = KafkaThroughputProfile.BALANCED;
+
+    private final Producer producer = new Producer();
+
+    private final Consumer consumer = new Consumer();
+
+    @Data
+    public static class Producer {
+
+        private DataSize batchSize;
+
+        private Duration linger;
+
+        // none, gzip, snappy, lz4 or zstd
+        private String compression;
+
+        private Boolean idempotence;
+
+        private Integer maxInFlight;
+    }
+
+    @Data
+    public static class Consumer {
+
+        private DataSize fetchMinSize;
+
+        private Duration fetchMaxWait;
+
+        private Integer maxPollRecords;
+
+        private DataSize maxPartitionFetchSize;
+    }
+
+    /**
+     * Producer client properties of the profile with the overrides applied.
+     */
+    public Map<String, Object> producerConfigs() {
+        boolean idempotent = producer.idempotence == null || producer.idempotence;
+        Map<String, Object> configs = new LinkedHashMap<>();
+        configs.put(ProducerConfig.BATCH_SIZE_CONFIG,
+                (int) orDefault(producer.batchSize, profile.getBatchSize()).toBytes());
+        configs.put(ProducerConfig.LINGER_MS_CONFIG, (int) orDefault(producer.linger, profile.getLinger()).toMillis());
+        configs.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, orDefault(producer.compression, profile.getCompression()));
+        configs.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, idempotent);
+        // Idempotence is rejected by the client without acks=all and at most 5 in flight
+        if (idempotent) {
+            configs.put(ProducerConfig.ACKS_CONFIG, "all");
+        }
+        configs.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, orDefault(producer.maxInFlight, 5));
+        return configs;
+    }
+
+    /**
+     * Consumer client properties of the profile with the overrides applied.
+     */
+    public Map<String, Object> consumerConfigs() {
+        Map<String, Object> configs = new LinkedHashMap<>();
+        configs.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG,
+                (int) orDefault(consumer.fetchMinSize, profile.getFetchMinSize()).toBytes());
+        configs.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG,
+                (int) orDefault(consumer.fetchMaxWait, profile.getFetchMaxWait()).toMillis());
+        configs.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG,
+                orDefault(consumer.maxPollRecords, profile.getMaxPollRecords()));
+        configs.put(ConsumerConfig.MAX_PARTITION_FETCH_BYTES_CONFIG,
+                (int) orDefault(consumer.maxPartitionFetchSize, profile.getMaxPartitionFetchSize()).toBytes());
+        return configs;
+    }
+
+    private static <T> T orDefault(T value, T fallback) {
+        return value != null ? value : fallback;
+    }
+}
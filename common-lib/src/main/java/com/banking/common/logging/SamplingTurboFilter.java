@@ -0,0 +1,108 @@
+package com.banking.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caps INFO and below on hot-path loggers at {@code maxPerSecond} events per logger, dropping
+ * the rest before their message is formatted or queued. WARN and ERROR always pass, as do
+ * loggers outside the configured prefixes; calls below the logger's level are not counted.
+ * <p>
+ * Configured from {@code logback-spring.xml}:
+ * <pre>{@code
+ * <turboFilter class="com.banking.common.logging.SamplingTurboFilter">
+ *     <loggers>com.banking.account.event,com.banking.transaction.event</loggers>
+ *     <maxPerSecond>100</maxPerSecond>
+ * </turboFilter>
+ * }</pre>
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    // Remembers loggers outside the prefixes too, so each name is matched once
+    private static final Window NOT_SAMPLED = new Window();
+
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+    private List<String> prefixes = List.of();
+    private int maxPerSecond = 100;
+
+    public void setLoggers(String loggers) {
+        List<String> parsed = new ArrayList<>();
+        for (String prefix : loggers.split(",")) {
+            if (!prefix.isBlank()) {
+                parsed.add(prefix.strip());
+            }
+        }
+        this.prefixes = List.copyOf(parsed);
+    }
+
+    public void setMaxPerSecond(int maxPerSecond) {
+        this.maxPerSecond = Math.min(maxPerSecond, Window.MAX_COUNT);
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params,
+            Throwable t) {
+        // A null format is an isXxxEnabled() check (fluent API included): count real events only
+        if (!isStarted() || format == null || level.isGreaterOrEqual(Level.WARN) || maxPerSecond <= 0) {
+            return FilterReply.NEUTRAL;
+        }
+        // Turbo filters run before the level check; a disabled DEBUG call must not use up the budget
+        if (!level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        Window window = windows.computeIfAbsent(logger.getName(), name -> sampled(name) ? new Window() : NOT_SAMPLED);
+        if (window == NOT_SAMPLED) {
+            return FilterReply.NEUTRAL;
+        }
+        return window.tryAcquire(maxPerSecond) ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private boolean sampled(String loggerName) {
+        for (String prefix : prefixes) {
+            if (loggerName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Fixed one-second window: the second and the count in it packed into one long, so
+     * acquiring is a single CAS without locks.
+     */
+    static final class Window {
+
+        static final int MAX_COUNT = (1 << 20) - 1;
+        private static final int COUNT_BITS = 20;
+
+        private final AtomicLong state = new AtomicLong();
+
+        boolean tryAcquire(int limit) {
+            long second = (System.nanoTime() / 1_000_000_000L) & (-1L >>> COUNT_BITS);
+            while (true) {
+                long current = state.get();
+                long count = current & MAX_COUNT;
+                long next;
+                if (current >>> COUNT_BITS != second) {
+                    next = (second << COUNT_BITS) | 1;
+                } else if (count >= limit) {
+                    return false;
+                } else {
+                    next = current + 1;
+                }
+                if (state.compareAndSet(current, next)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
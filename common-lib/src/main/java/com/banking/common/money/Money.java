@@ -0,0 +1,128 @@
+package com.banking.common.money;
+
+import com.banking.common.constant.ErrorCodes;
+import com.banking.common.exception.BusinessException;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import lombok.EqualsAndHashCode;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+
+/**
+ * Immutable monetary amount stored as a {@code long} count of minor units (cents for USD)
+ * plus an ISO-4217 currency code.
+ * <p>
+ * Arithmetic is overflow-checked via {@link Math#addExact}/{@link Math#subtractExact} and
+ * never rounds. {@link BigDecimal} only appears at the REST boundary through
+ * {@link #of(BigDecimal, String)} and {@link #toBigDecimal()}.
+ */
+@EqualsAndHashCode
+@JsonSerialize(using = MoneyJsonSerializer.class)
+@JsonDeserialize(using = MoneyJsonDeserializer.class)
+public final class Money implements Comparable<Money> {
+
+    private final long minorUnits;
+    private final String currency;
+
+    private Money(long minorUnits, String currency) {
+        this.minorUnits = minorUnits;
+        this.currency = currency;
+    }
+
+    public static Money ofMinor(long minorUnits, String currency) {
+        if (currency == null) {
+            throw new BusinessException("Currency is required", ErrorCodes.INVALID_AMOUNT);
+        }
+        return new Money(minorUnits, currency);
+    }
+
+    public static Money zero(String currency) {
+        return ofMinor(0L, currency);
+    }
+
+    /**
+     * Converts a decimal major-unit amount (e.g. {@code 12.34} USD) into minor units.
+     * Rejects amounts with more fractional digits than the currency allows.
+     */
+    public static Money of(BigDecimal amount, String currency) {
+        if (amount == null) {
+            throw new BusinessException("Amount is required", ErrorCodes.INVALID_AMOUNT);
+        }
+        try {
+            long minorUnits = amount.setScale(fractionDigits(currency), RoundingMode.UNNECESSARY)
+                    .unscaledValue()
+                    .longValueExact();
+            return new Money(minorUnits, currency);
+        } catch (ArithmeticException e) {
+            throw new BusinessException("Amount " + amount.toPlainString() + " is not representable in "
+                    + currency, ErrorCodes.INVALID_AMOUNT);
+        }
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public Money plus(Money other) {
+        requireSameCurrency(other);
+        return new Money(Math.addExact(minorUnits, other.minorUnits), currency);
+    }
+
+    public Money minus(Money other) {
+        requireSameCurrency(other);
+        return new Money(Math.subtractExact(minorUnits, other.minorUnits), currency);
+    }
+
+    public boolean isLessThan(Money other) {
+        requireSameCurrency(other);
+        return minorUnits < other.minorUnits;
+    }
+
+    public boolean isNegative() {
+        return minorUnits < 0;
+    }
+
+    public boolean isPositive() {
+        return minorUnits > 0;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, fractionDigits(currency));
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        requireSameCurrency(other);
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString() + " " + currency;
+    }
+
+    private void requireSameCurrency(Money other) {
+        if (!currency.equals(other.currency)) {
+            throw new BusinessException("Currency mismatch: " + currency + " vs " + other.currency,
+                    ErrorCodes.CURRENCY_MISMATCH);
+        }
+    }
+
+    static int fractionDigits(String currency) {
+        if (currency == null) {
+            throw new BusinessException("Currency is required", ErrorCodes.INVALID_AMOUNT);
+        }
+        try {
+            // Pseudo-currencies such as XXX report -1; treat them as whole units
+            return Math.max(Currency.getInstance(currency).getDefaultFractionDigits(), 0);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Unsupported currency: " + currency, ErrorCodes.INVALID_AMOUNT);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.banking.common.money;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+
+/**
+ * Reads the object form written by {@link MoneyJsonSerializer} straight off the token
+ * stream, without building an intermediate tree.
+ */
+public class MoneyJsonDeserializer extends StdDeserializer<Money> {
+
+    public MoneyJsonDeserializer() {
+        super(Money.class);
+    }
+
+    @Override
+    public Money deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (!p.isExpectedStartObjectToken()) {
+            return (Money) ctxt.handleUnexpectedToken(Money.class, p);
+        }
+
+        long minorUnits = 0L;
+        boolean hasMinorUnits = false;
+        String currency = null;
+
+        for (JsonToken token = p.nextToken(); token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            String field = p.currentName();
+            p.nextToken();
+            switch (field) {
+                case MoneyJsonSerializer.MINOR_UNITS -> {
+                    minorUnits = p.getLongValue();
+                    hasMinorUnits = true;
+                }
+                case MoneyJsonSerializer.CURRENCY -> currency = p.getValueAsString();
+                default -> p.skipChildren();
+            }
+        }
+
+        if (!hasMinorUnits || currency == null) {
+            return (Money) ctxt.reportInputMismatch(Money.class,
+                    "Money requires both '%s' and '%s'", MoneyJsonSerializer.MINOR_UNITS, MoneyJsonSerializer.CURRENCY);
+        }
+        return Money.ofMinor(minorUnits, currency);
+    }
+}
@@ -0,0 +1,29 @@
+package com.banking.common.money;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Writes {@link Money} as {@code {"minor_units":1234,"currency":"USD"}} so amounts travel as
+ * exact integers instead of arbitrary-precision decimals.
+ */
+public class MoneyJsonSerializer extends StdSerializer<Money> {
+
+    static final String MINOR_UNITS = "minor_units";
+    static final String CURRENCY = "currency";
+
+    public MoneyJsonSerializer() {
+        super(Money.class);
+    }
+
+    @Override
+    public void serialize(Money value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject();
+        gen.writeNumberField(MINOR_UNITS, value.getMinorUnits());
+        gen.writeStringField(CURRENCY, value.getCurrency());
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,181 @@
+package com.banking.common.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Health of an outbox relay:
+ * <ul>
+ * <li>{@value #BACKLOG} - PENDING and FAILED rows per aggregate type</li>
+ * <li>{@value #OLDEST_PENDING_AGE} - age of the oldest PENDING row per aggregate type</li>
+ * <li>{@value #PUBLISHED} - records handed to Kafka per topic and outcome; its rate is the
+ * publish throughput</li>
+ * <li>{@value #BATCH_DURATION} - time per relay run that found rows</li>
+ * <li>{@value #SEND_LATENCY} - time until Kafka acknowledged a record, with percentiles</li>
+ * </ul>
+ * The backlog is counted in the background every {@code refresh-interval}, over unsent rows
+ * only (see the partial index {@code idx_outbox_events_unsent}), so a scrape never touches
+ * the table. Ages are computed at scrape time from the last known oldest row.
+ */
+@Slf4j
+public class OutboxMetrics implements AutoCloseable {
+
+    static final String BACKLOG = "banking.outbox.backlog";
+    static final String OLDEST_PENDING_AGE = "banking.outbox.oldest.pending.age";
+    static final String PUBLISHED = "banking.outbox.published";
+    static final String BATCH_DURATION = "banking.outbox.batch.duration";
+    static final String SEND_LATENCY = "banking.outbox.send.latency";
+
+    private static final String PENDING = "PENDING";
+
+    private final MeterRegistry registry;
+    private final DataSource dataSource;
+    private final String backlogQuery;
+    private final ScheduledExecutorService scheduler;
+    private final Timer batchTimer;
+    private final Map<String, AtomicLong> backlog = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> oldestPendingMillis = new ConcurrentHashMap<>();
+    private final Map<String, Timer> sendTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> publishedCounters = new ConcurrentHashMap<>();
+    private volatile boolean sampleFailing;
+
+    public OutboxMetrics(MeterRegistry registry, DataSource dataSource, OutboxMetricsProperties properties) {
+        this.registry = registry;
+        this.dataSource = dataSource;
+        this.backlogQuery = """
+                SELECT aggregate_type, status, count(*), min(created_at)
+                  FROM %s
+                 WHERE status IN ('PENDING', 'FAILED')
+                 GROUP BY aggregate_type, status
+                """.formatted(properties.getTable());
+        this.batchTimer = Timer.builder(BATCH_DURATION)
+                .description("Duration of outbox relay runs that found rows to publish")
+                .register(registry);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("outbox-metrics").daemon().factory());
+        long interval = properties.getRefreshInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::sample, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Records a relay run that published {@code size} rows, started at {@code startNanos}
+     * ({@link System#nanoTime()}). Empty runs are not recorded.
+     */
+    public void recordBatch(long startNanos, int size) {
+        if (size > 0) {
+            batchTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Records the outcome of one send, from the send call ({@code startNanos}) to the
+     * broker's answer. {@code error} is {@code null} when the record was acknowledged.
+     */
+    public void recordSend(String topic, long startNanos, Throwable error) {
+        String outcome = error == null ? "success" : "failure";
+        String key = topic + '|' + outcome;
+        sendTimers.computeIfAbsent(key, k -> Timer.builder(SEND_LATENCY)
+                        .description("Time from handing an outbox record to Kafka until it was acknowledged")
+                        .tag("topic", topic)
+                        .tag("outcome", outcome)
+                        .publishPercentiles(0.5, 0.95, 0.99)
+                        .publishPercentileHistogram()
+                        .register(registry))
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        publishedCounters.computeIfAbsent(key, k -> Counter.builder(PUBLISHED)
+                        .description("Outbox records handed to Kafka")
+                        .tag("topic", topic)
+                        .tag("outcome", outcome)
+                        .register(registry))
+                .increment();
+    }
+
+    void sample() {
+        List<BacklogRow> rows = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(backlogQuery)) {
+            while (result.next()) {
+                Timestamp oldest = result.getTimestamp(4);
+                rows.add(new BacklogRow(result.getString(1), result.getString(2), result.getLong(3),
+                        oldest == null ? 0L : oldest.getTime()));
+            }
+        } catch (SQLException | RuntimeException e) {
+            // Keep the last values; a stale gauge beats a gap during a database blip
+            if (!sampleFailing) {
+                log.warn("Counting the outbox backlog failed, metrics keep their last values", e);
+            }
+            sampleFailing = true;
+            return;
+        }
+        sampleFailing = false;
+        apply(rows);
+    }
+
+    void apply(List<BacklogRow> rows) {
+        // Groups missing from this sample drained since the last one
+        backlog.values().forEach(count -> count.set(0L));
+        oldestPendingMillis.values().forEach(oldest -> oldest.set(0L));
+        for (BacklogRow row : rows) {
+            backlogGauge(row.aggregateType(), row.status()).set(row.count());
+            if (PENDING.equals(row.status())) {
+                oldestPendingGauge(row.aggregateType()).set(row.oldestMillis());
+            }
+        }
+    }
+
+    private AtomicLong backlogGauge(String aggregateType, String status) {
+        return backlog.computeIfAbsent(aggregateType + '|' + status, key -> {
+            AtomicLong count = new AtomicLong();
+            Gauge.builder(BACKLOG, count, AtomicLong::get)
+                    .description("Outbox rows not published yet (PENDING) or given up on (FAILED)")
+                    .tag("aggregate_type", aggregateType)
+                    .tag("status", status)
+                    .register(registry);
+            return count;
+        });
+    }
+
+    private AtomicLong oldestPendingGauge(String aggregateType) {
+        return oldestPendingMillis.computeIfAbsent(aggregateType, key -> {
+            AtomicLong oldest = new AtomicLong();
+            TimeGauge.builder(OLDEST_PENDING_AGE, oldest, TimeUnit.MILLISECONDS, OutboxMetrics::ageMillis)
+                    .description("Age of the oldest PENDING outbox row, 0 when there is none")
+                    .tag("aggregate_type", aggregateType)
+                    .register(registry);
+            return oldest;
+        });
+    }
+
+    private static double ageMillis(AtomicLong oldest) {
+        long created = oldest.get();
+        return created == 0L ? 0 : Math.max(System.currentTimeMillis() - created, 0L);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    record BacklogRow(String aggregateType, String status, long count, long oldestMillis) {
+    }
+}
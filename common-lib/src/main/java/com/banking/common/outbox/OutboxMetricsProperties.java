@@ -0,0 +1,22 @@
+package com.banking.common.outbox;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Outbox relay metrics, see {@link OutboxMetrics}. Off unless {@code enabled}, since only
+ * services with an outbox table have anything to report.
+ */
+@Data
+@ConfigurationProperties(prefix = "banking.outbox.metrics")
+public class OutboxMetricsProperties {
+
+    private boolean enabled;
+
+    private String table = "outbox_events";
+
+    // How often the backlog is counted; scrapes read the last result
+    private Duration refreshInterval = Duration.ofSeconds(15);
+}
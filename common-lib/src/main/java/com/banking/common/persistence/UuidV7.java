@@ -0,0 +1,21 @@
+package com.banking.common.persistence;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Marks an {@code @Id} field to be populated with a time-ordered UUIDv7 from
+ * {@link com.banking.common.util.IdGenerator}. Use instead of
+ * {@code @GeneratedValue(strategy = GenerationType.UUID)}.
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RUNTIME)
+@Target({ FIELD, METHOD })
+public @interface UuidV7 {
+}
@@ -0,0 +1,67 @@
+package com.banking.common.persistence.routing;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.function.Supplier;
+
+/**
+ * Per-request and per-thread inputs to replica routing.
+ * <p>
+ * Responses to requests that wrote carry an {@value #WRITE_TOKEN_HEADER} header (epoch
+ * millis after the write committed). A client that echoes it back on a later request is
+ * served from the primary until the replica has caught up past that point.
+ */
+public final class ReadRouting {
+
+    public static final String WRITE_TOKEN_HEADER = "X-Write-Token";
+    static final String WROTE_ATTRIBUTE = ReadRouting.class.getName() + ".wrote";
+
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+
+    private ReadRouting() {
+    }
+
+    /**
+     * Runs {@code action} with read-only transactions pinned to the primary, for reads that
+     * must observe a write made moments ago (possibly by another instance).
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        Boolean previous = PRIMARY_FORCED.get();
+        PRIMARY_FORCED.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_FORCED.remove();
+            }
+        }
+    }
+
+    static boolean isPrimaryForced() {
+        return PRIMARY_FORCED.get() != null;
+    }
+
+    static Long currentWriteToken() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return null;
+        }
+        String token = attributes.getRequest().getHeader(WRITE_TOKEN_HEADER);
+        if (token == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(token.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    static void markWrite() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(WROTE_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+}
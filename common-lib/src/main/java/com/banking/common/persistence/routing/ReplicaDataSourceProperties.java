@@ -0,0 +1,28 @@
+package com.banking.common.persistence.routing;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Read replica used for {@code @Transactional(readOnly = true)} work. Routing is enabled
+ * only when {@code url} is set; the primary keeps using {@code spring.datasource.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "banking.datasource.replica")
+public class ReplicaDataSourceProperties {
+
+    private String url;
+    private String username;
+    private String password;
+    private int maximumPoolSize = 10;
+
+    // Reads go to the primary while measured replay lag is above this
+    private Duration maxLag = Duration.ofSeconds(2);
+
+    private Duration lagCheckInterval = Duration.ofSeconds(1);
+
+    // Extra margin on write tokens for clock skew between instances
+    private Duration writeTokenGrace = Duration.ofSeconds(1);
+}
@@ -0,0 +1,67 @@
+package com.banking.common.persistence.routing;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples the replica's replay lag in the background so routing decisions are a volatile
+ * read. Until the first successful sample, and whenever sampling fails, the lag is treated
+ * as unbounded and reads stay on the primary.
+ */
+@Slf4j
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    static final long UNKNOWN = Long.MAX_VALUE;
+
+    // A replica that has replayed everything it received is not lagging, even if the
+    // primary has been idle and the last replayed commit is old
+    private static final String LAG_QUERY = """
+            SELECT CASE
+                     WHEN pg_last_wal_receive_lsn() IS NULL THEN 0
+                     WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                     ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+                   END::bigint
+            """;
+
+    private final DataSource replica;
+    private final ScheduledExecutorService scheduler;
+    private volatile long lagMillis = UNKNOWN;
+
+    public ReplicaLagMonitor(DataSource replica, Duration interval) {
+        this.replica = replica;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("replica-lag-monitor").daemon().factory());
+        scheduler.scheduleWithFixedDelay(this::sample, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public long lagMillis() {
+        return lagMillis;
+    }
+
+    void sample() {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(LAG_QUERY)) {
+            lagMillis = result.next() ? Math.max(result.getLong(1), 0L) : UNKNOWN;
+        } catch (SQLException | RuntimeException e) {
+            if (lagMillis != UNKNOWN) {
+                log.warn("Replica lag check failed, routing reads to primary", e);
+            }
+            lagMillis = UNKNOWN;
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,88 @@
+package com.banking.common.persistence.routing;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Sends read-only transactions to a replica pool and everything else to the primary.
+ * <p>
+ * Connections are fetched lazily, on the first statement, so the transaction's read-only
+ * flag is known by then. A read still goes to the primary when:
+ * <ul>
+ *   <li>the replica's replay lag is unknown or above {@code maxLag};</li>
+ *   <li>the request carries a write token younger than the current lag (read-your-writes);</li>
+ *   <li>the caller pinned it with {@link ReadRouting#onPrimary}.</li>
+ * </ul>
+ */
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLagMonitor lagMonitor;
+    private final long maxLagMillis;
+    private final long tokenWindowMillis;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor,
+            ReplicaDataSourceProperties properties) {
+        this.primary = primary;
+        this.replica = replica;
+        this.lagMonitor = lagMonitor;
+        this.maxLagMillis = properties.getMaxLag().toMillis();
+        // A sample can be up to one interval old; the grace absorbs clock skew between instances
+        this.tokenWindowMillis = properties.getLagCheckInterval().plus(properties.getWriteTokenGrace()).toMillis();
+
+        setTargetDataSource(new DelegatingDataSource(primary) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                ReadRouting.markWrite();
+                return super.getConnection();
+            }
+        });
+        setReadOnlyDataSource(new AbstractDataSource() {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return routeRead().getConnection();
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                return routeRead().getConnection(username, password);
+            }
+        });
+        afterPropertiesSet();
+    }
+
+    DataSource routeRead() {
+        if (ReadRouting.isPrimaryForced()) {
+            return primary;
+        }
+        long lag = lagMonitor.lagMillis();
+        if (lag > maxLagMillis) {
+            return primary;
+        }
+        Long writeToken = ReadRouting.currentWriteToken();
+        if (writeToken != null && System.currentTimeMillis() - writeToken <= lag + tokenWindowMillis) {
+            return primary;
+        }
+        return replica;
+    }
+
+    public long replicaLagMillis() {
+        return lagMonitor.lagMillis();
+    }
+
+    @Override
+    public void close() throws Exception {
+        lagMonitor.close();
+        for (DataSource pool : new DataSource[] { replica, primary }) {
+            if (pool instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.banking.common.persistence.routing;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Stamps {@value ReadRouting#WRITE_TOKEN_HEADER} on responses to requests that used a
+ * primary connection. Runs before the body is written, which is after service-layer
+ * transactions have committed, so the token is never earlier than the write.
+ */
+@ControllerAdvice
+public class WriteTokenResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request, ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && servletRequest.getServletRequest().getAttribute(ReadRouting.WROTE_ATTRIBUTE) != null) {
+            response.getHeaders().set(ReadRouting.WRITE_TOKEN_HEADER, String.valueOf(System.currentTimeMillis()));
+        }
+        return body;
+    }
+}
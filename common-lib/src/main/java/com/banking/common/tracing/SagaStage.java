@@ -0,0 +1,13 @@
+package com.banking.common.tracing;
+
+/**
+ * Hops a transaction crosses between its creation and the handling of account-service's
+ * answer, in the order they happen.
+ */
+public enum SagaStage {
+    CREATED,
+    COMMAND_PUBLISHED,
+    COMMAND_CONSUMED,
+    EVENT_PUBLISHED,
+    COMPLETED
+}
@@ -0,0 +1,124 @@
+package com.banking.common.tracing;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * Wall-clock stamps a transaction collects at each {@link SagaStage}, carried between
+ * services in the {@value #HEADER} Kafka header as {@code STAGE=epochMillis} pairs.
+ * <p>
+ * Instances are immutable; each hop adds its own stamp with {@link #with}. Stamps come from
+ * different hosts, so durations between stages taken on different services include their
+ * clock skew.
+ */
+public final class StageTimeline {
+
+    public static final String HEADER = "x-saga-stages";
+
+    private static final SagaStage[] STAGES = SagaStage.values();
+    private static final ThreadLocal<StageTimeline> CURRENT = new ThreadLocal<>();
+
+    // Epoch millis indexed by stage ordinal, 0 when the stage was not stamped
+    private final long[] stamps;
+
+    private StageTimeline(long[] stamps) {
+        this.stamps = stamps;
+    }
+
+    public static StageTimeline startedAt(Instant created) {
+        return new StageTimeline(new long[STAGES.length]).with(SagaStage.CREATED, created);
+    }
+
+    public StageTimeline with(SagaStage stage, Instant at) {
+        long[] copy = Arrays.copyOf(stamps, stamps.length);
+        copy[stage.ordinal()] = at.toEpochMilli();
+        return new StageTimeline(copy);
+    }
+
+    public Instant at(SagaStage stage) {
+        long millis = stamps[stage.ordinal()];
+        return millis == 0 ? null : Instant.ofEpochMilli(millis);
+    }
+
+    /**
+     * @return the time between two stamps, or {@code null} if either stage is missing
+     */
+    public Duration between(SagaStage from, SagaStage to) {
+        long start = stamps[from.ordinal()];
+        long end = stamps[to.ordinal()];
+        return start == 0 || end == 0 ? null : Duration.ofMillis(end - start);
+    }
+
+    public String encode() {
+        StringBuilder sb = new StringBuilder(128);
+        for (SagaStage stage : STAGES) {
+            long millis = stamps[stage.ordinal()];
+            if (millis != 0) {
+                if (!sb.isEmpty()) {
+                    sb.append(',');
+                }
+                sb.append(stage.name()).append('=').append(millis);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Lenient inverse of {@link #encode()}: unknown stages and malformed pairs are skipped,
+     * so a newer producer never breaks an older consumer.
+     *
+     * @return {@code null} if nothing usable was found
+     */
+    public static StageTimeline decode(String encoded) {
+        if (encoded == null || encoded.isEmpty()) {
+            return null;
+        }
+        long[] stamps = new long[STAGES.length];
+        boolean found = false;
+        for (String pair : encoded.split(",")) {
+            int eq = pair.indexOf('=');
+            if (eq <= 0) {
+                continue;
+            }
+            try {
+                SagaStage stage = SagaStage.valueOf(pair.substring(0, eq));
+                stamps[stage.ordinal()] = Long.parseLong(pair.substring(eq + 1));
+                found = true;
+            } catch (IllegalArgumentException e) {
+                // Unknown stage or bad number
+            }
+        }
+        return found ? new StageTimeline(stamps) : null;
+    }
+
+    public byte[] toHeader() {
+        return encode().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    public static StageTimeline fromHeader(byte[] value) {
+        return value == null ? null : decode(new String(value, StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Makes a timeline visible to outbox writes on the current thread, so an event produced
+     * while handling a command carries the command's stamps forward.
+     */
+    public static void bind(StageTimeline timeline) {
+        CURRENT.set(timeline);
+    }
+
+    public static StageTimeline current() {
+        return CURRENT.get();
+    }
+
+    public static void unbind() {
+        CURRENT.remove();
+    }
+
+    @Override
+    public String toString() {
+        return encode();
+    }
+}
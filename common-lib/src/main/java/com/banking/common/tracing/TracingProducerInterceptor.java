@@ -1,63 +1,59 @@
 package com.banking.common.tracing;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.producer.ProducerInterceptor;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
 
+import java.util.Iterator;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Makes sure the trace context an outbox relay attached wins over the relay's own.
+ * <p>
+ * The relay adds the {@code traceparent} captured when the outbox row was written; the
+ * template's observation then adds one for the relay's scheduled span. Consumers read the
+ * last header, so when there are several this moves the first one to the end. Only headers
+ * are looked at, never the value. Time spent here is recorded per send in
+ * {@value #METRIC} when a {@link MeterRegistry} is passed under {@value #METER_REGISTRY_CONFIG}.
+ */
 @Slf4j
 public class TracingProducerInterceptor implements ProducerInterceptor<Object, Object> {
 
-    private static final Pattern TRACE_ID_PATTERN = Pattern.compile("\"trace_id\"\\s*:\\s*\"([^\"]+)\"");
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    public static final String METER_REGISTRY_CONFIG = "banking.tracing.meter-registry";
+    static final String METRIC = "banking.kafka.trace.propagation";
+
+    private Timer restoredTimer;
+    private Timer passThroughTimer;
 
     @Override
     public ProducerRecord<Object, Object> onSend(ProducerRecord<Object, Object> producerRecord) {
-        Object value = producerRecord.value();
-        String traceId = extractTraceId(value);
-
-        if (traceId != null) {
-            log.info("Kafka Interceptor: Found traceId {} in payload. Injecting into headers.", traceId);
-            // We inject the traceId directly into the headers so the consumer's
-            // observation logic (which looks at headers) picks it up automatically!
-            // Format: traceparent (W3C standard)
-            String traceparent = String.format("00-%s-%s-01", traceId, "0000000000000001");
-            producerRecord.headers().add("traceparent", traceparent.getBytes());
+        long start = System.nanoTime();
+        boolean restored = restoreOriginalContext(producerRecord.headers());
+        Timer timer = restored ? restoredTimer : passThroughTimer;
+        if (timer != null) {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         }
-
         return producerRecord;
     }
 
-    private String extractTraceId(Object value) {
-        if (value == null)
-            return null;
-
-        String json = null;
-        if (value instanceof String jsonStr) {
-            json = jsonStr;
-        } else {
-            try {
-                // If it's an object, we serialize it to check for trace_id.
-                // Outbox pattern usually stores payload as a JSON String already.
-                json = objectMapper.writeValueAsString(value);
-            } catch (Exception e) {
-                log.debug("Failed to serialize Kafka record value for trace extraction", e);
-            }
+    static boolean restoreOriginalContext(Headers headers) {
+        Iterator<Header> traceparents = headers.headers(TracingService.TRACEPARENT_HEADER).iterator();
+        if (!traceparents.hasNext()) {
+            return false;
         }
-
-        if (json != null) {
-            Matcher matcher = TRACE_ID_PATTERN.matcher(json);
-            if (matcher.find()) {
-                return matcher.group(1);
-            }
+        Header original = traceparents.next();
+        if (!traceparents.hasNext()) {
+            return false;
         }
-        return null;
+        headers.remove(TracingService.TRACEPARENT_HEADER);
+        headers.add(original);
+        return true;
     }
 
     @Override
@@ -67,11 +63,23 @@ public class TracingProducerInterceptor implements ProducerInterceptor<Object, O
 
     @Override
     public void close() {
-        // No-op: no resources to release
+        // No-op: meters belong to the registry
     }
 
     @Override
     public void configure(Map<String, ?> configs) {
-        // No-op: no custom configuration needed
+        if (configs.get(METER_REGISTRY_CONFIG) instanceof MeterRegistry registry) {
+            restoredTimer = timer(registry, "restored");
+            passThroughTimer = timer(registry, "pass_through");
+        } else {
+            log.debug("No MeterRegistry configured, trace propagation overhead is not recorded");
+        }
+    }
+
+    private static Timer timer(MeterRegistry registry, String outcome) {
+        return Timer.builder(METRIC)
+                .description("Time the producer interceptor spends on trace headers per send")
+                .tag("outcome", outcome)
+                .register(registry);
     }
 }
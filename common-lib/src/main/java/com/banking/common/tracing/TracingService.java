@@ -7,12 +7,16 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class TracingService {
+    public static final String TRACEPARENT_HEADER = "traceparent";
+
     private final Tracer tracer;
     private final Propagator propagator;
 
@@ -24,6 +28,20 @@ public class TracingService {
         return null;
     }
 
+    /**
+     * W3C {@code traceparent} of the current span, with its real span id, for storing next to
+     * an outbox row so the relay can hand the context on as a Kafka header.
+     */
+    public String getCurrentTraceparent() {
+        Span currentSpan = tracer.currentSpan();
+        if (currentSpan == null || currentSpan.context() == null) {
+            return null;
+        }
+        Map<String, String> carrier = new HashMap<>(4);
+        propagator.inject(currentSpan.context(), carrier, Map::put);
+        return carrier.get(TRACEPARENT_HEADER);
+    }
+
     public void runWithSpan(String spanName, String traceId, Runnable action) {
         if (tracer.currentSpan() != null) {
             // Already in a span, just join or create child
@@ -1,10 +1,40 @@
 package com.banking.common.util;
 
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Generates time-ordered UUIDv7 identifiers (RFC 9562).
+ * <p>
+ * Layout: 48-bit Unix epoch milliseconds, version nibble, a 12-bit per-millisecond
+ * counter, variant bits and 62 random bits. The counter keeps ids strictly increasing
+ * within one JVM, so new rows always land on the right-most B-tree page instead of
+ * scattering inserts across the whole index like random v4 keys do.
+ */
 public class IdGenerator {
 
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_RFC_4122 = 0x8000000000000000L;
+
+    // (unixMillis << 12) | counter of the last id handed out. If more than 4096 ids are
+    // requested within one millisecond the counter carries into the timestamp, which keeps
+    // ordering intact at the cost of running slightly ahead of the wall clock.
+    private static final AtomicLong lastTimestampAndCounter = new AtomicLong();
+
     public static UUID nextId() {
-        return UUID.randomUUID();
+        long candidate = System.currentTimeMillis() << COUNTER_BITS;
+        long state = lastTimestampAndCounter.updateAndGet(previous -> Math.max(candidate, previous + 1));
+
+        long mostSigBits = ((state >>> COUNTER_BITS) << 16) | VERSION_7 | (state & COUNTER_MASK);
+        // ThreadLocalRandom never blocks on the entropy pool, unlike UUID.randomUUID()
+        long leastSigBits = VARIANT_RFC_4122 | (ThreadLocalRandom.current().nextLong() >>> 2);
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    public static long timestampOf(UUID id) {
+        return id.getMostSignificantBits() >>> 16;
     }
 }
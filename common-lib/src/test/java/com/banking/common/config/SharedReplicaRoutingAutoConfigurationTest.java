@@ -0,0 +1,100 @@
+package com.banking.common.config;
+
+import com.banking.common.persistence.routing.ReplicaDataSourceProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverPropertyInfo;
+import java.util.Map;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SharedReplicaRoutingAutoConfigurationTest {
+
+    private DataSourceProperties primaryProperties;
+    private ReplicaDataSourceProperties replicaProperties;
+
+    @BeforeEach
+    void setUp() {
+        primaryProperties = new DataSourceProperties();
+        primaryProperties.setUrl("jdbc:stub://primary/banking");
+        primaryProperties.setUsername("user");
+        primaryProperties.setDriverClassName(StubDriver.class.getName());
+        replicaProperties = new ReplicaDataSourceProperties();
+        replicaProperties.setUrl("jdbc:stub://replica/banking");
+        replicaProperties.setUsername("reader");
+        replicaProperties.setMaximumPoolSize(4);
+    }
+
+    @Test
+    void pools_BindSharedHikariSettings_ReplicaOverridesItsOwn() {
+        // Arrange
+        Binder binder = new Binder(new MapConfigurationPropertySource(Map.of(
+                "spring.datasource.hikari.connection-timeout", "1500",
+                "spring.datasource.hikari.minimum-idle", "2",
+                "banking.datasource.replica.hikari.minimum-idle", "1")));
+
+        // Act
+        try (HikariDataSource primary = SharedReplicaRoutingAutoConfiguration.primaryPool(binder, primaryProperties);
+             HikariDataSource replica = SharedReplicaRoutingAutoConfiguration.replicaPool(binder, primaryProperties,
+                     replicaProperties)) {
+
+            // Assert
+            assertThat(primary.getConnectionTimeout()).isEqualTo(1500);
+            assertThat(primary.getMinimumIdle()).isEqualTo(2);
+            assertThat(primary.getPoolName()).isEqualTo("primary");
+            assertThat(replica.getConnectionTimeout()).isEqualTo(1500);
+            assertThat(replica.getMinimumIdle()).isEqualTo(1);
+            assertThat(replica.getMaximumPoolSize()).isEqualTo(4);
+            assertThat(replica.getJdbcUrl()).isEqualTo("jdbc:stub://replica/banking");
+            assertThat(replica.isReadOnly()).isTrue();
+        }
+    }
+
+    // Pools are never started here; Hikari only needs a loadable driver class
+    public static class StubDriver implements Driver {
+
+        @Override
+        public Connection connect(String url, Properties info) {
+            return null;
+        }
+
+        @Override
+        public boolean acceptsURL(String url) {
+            return url.startsWith("jdbc:stub:");
+        }
+
+        @Override
+        public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) {
+            return new DriverPropertyInfo[0];
+        }
+
+        @Override
+        public int getMajorVersion() {
+            return 1;
+        }
+
+        @Override
+        public int getMinorVersion() {
+            return 0;
+        }
+
+        @Override
+        public boolean jdbcCompliant() {
+            return false;
+        }
+
+        @Override
+        public Logger getParentLogger() {
+            return Logger.getGlobal();
+        }
+    }
+}
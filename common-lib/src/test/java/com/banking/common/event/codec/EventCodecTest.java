@@ -0,0 +1,125 @@
+package com.banking.common.event.codec;
+
+import com.banking.common.constant.EventTypes;
+import com.banking.common.event.BaseEvent;
+import com.banking.common.event.ReservationFailed;
+import com.banking.common.event.TransferRequested;
+import com.banking.common.money.Money;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EventCodecTest {
+
+    private final EventCodec codec = new EventCodec(new ObjectMapper().registerModule(new JavaTimeModule()),
+            EventSchemas.registry());
+
+    @Test
+    void shouldRoundTripEnvelopeAndTypedPayload_InBinary() throws IOException {
+        BaseEvent<TransferRequested> event = transferRequested();
+
+        BaseEvent<Object> decoded = codec.decode(codec.encode(event, WireFormat.BINARY), WireFormat.BINARY);
+
+        assertThat(decoded).usingRecursiveComparison().ignoringFields("payload").isEqualTo(event);
+        TransferRequested payload = codec.payloadAs(decoded, TransferRequested.class);
+        assertThat(payload).isSameAs(decoded.getPayload());
+        assertThat(payload.getFromAccountId()).isEqualTo(event.getPayload().getFromAccountId());
+        assertThat(payload.getToAccountId()).isEqualTo(event.getPayload().getToAccountId());
+        assertThat(payload.getAmount().getMinorUnits()).isEqualTo(12_345L);
+        assertThat(payload.getAmount().getCurrency()).isEqualTo("USD");
+    }
+
+    @Test
+    void shouldConvertMapPayload_WhenDecodedFromJson() throws IOException {
+        BaseEvent<ReservationFailed> event = BaseEvent.<ReservationFailed>builder()
+                .eventId(UUID.randomUUID())
+                .eventType(EventTypes.RESERVATION_FAILED)
+                .payload(ReservationFailed.builder().accountId(UUID.randomUUID()).reason("Insufficient funds").build())
+                .build();
+
+        BaseEvent<Object> decoded = codec.decode(codec.encode(event, WireFormat.JSON), WireFormat.JSON);
+
+        assertThat(codec.payloadAs(decoded, ReservationFailed.class).getReason()).isEqualTo("Insufficient funds");
+    }
+
+    @Test
+    void shouldScanIdAndType_WithoutHeaders() throws IOException {
+        BaseEvent<TransferRequested> event = transferRequested();
+        // Payload ahead of the envelope fields: the scan has to skip over it
+        byte[] json = String.format("{\"payload\":{\"nested\":[1,{\"event_id\":\"x\"}]},\"event_type\":\"%s\","
+                + "\"event_id\":\"%s\"}", event.getEventType(), event.getEventId()).getBytes(StandardCharsets.UTF_8);
+
+        IncomingEvent fromJson = codec.open(json, null, null, null);
+        IncomingEvent fromBinary = codec.open(codec.encode(event, WireFormat.BINARY),
+                WireFormat.BINARY.headerValue(), null, null);
+
+        assertThat(fromJson.getEventId()).isEqualTo(event.getEventId());
+        assertThat(fromJson.getEventType()).isEqualTo(EventTypes.TRANSFER_REQUESTED);
+        assertThat(fromBinary.getEventId()).isEqualTo(event.getEventId());
+        assertThat(fromBinary.getEventType()).isEqualTo(EventTypes.TRANSFER_REQUESTED);
+    }
+
+    @Test
+    void shouldBindPayloadOnlyWhenAsked() throws IOException {
+        BaseEvent<TransferRequested> event = transferRequested();
+        byte[] json = codec.encode(event, WireFormat.JSON);
+
+        IncomingEvent incoming = codec.open(json, null, EventHeaders.eventId(event.getEventId()),
+                EventHeaders.eventType(event.getEventType()));
+
+        assertThat(incoming.envelope().getTransactionId()).isEqualTo(event.getTransactionId());
+        assertThat(incoming.envelope().getPayload()).isNull();
+        assertThat(incoming.as(TransferRequested.class).getPayload().getAmount())
+                .isEqualTo(Money.ofMinor(12_345L, "USD"));
+    }
+
+    @Test
+    void shouldEncodeSmallerThanJson() throws IOException {
+        BaseEvent<TransferRequested> event = transferRequested();
+
+        assertThat(codec.encode(event, WireFormat.BINARY).length)
+                .isLessThan(codec.encode(event, WireFormat.JSON).length / 2);
+    }
+
+    @Test
+    void shouldFail_WhenFrameIsTruncatedOrSchemaUnknown() throws IOException {
+        byte[] frame = codec.encode(transferRequested(), WireFormat.BINARY);
+        byte[] unknownSchema = frame.clone();
+        unknownSchema[2] = 99;
+
+        assertThatThrownBy(() -> codec.decode(Arrays.copyOf(frame, 20), WireFormat.BINARY))
+                .isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> codec.decode(unknownSchema, WireFormat.BINARY))
+                .isInstanceOf(IOException.class);
+        assertThat(codec.toDisplayString(unknownSchema, WireFormat.BINARY.headerValue())).contains("unreadable");
+    }
+
+    private static BaseEvent<TransferRequested> transferRequested() {
+        UUID transactionId = UUID.randomUUID();
+        return BaseEvent.<TransferRequested>builder()
+                .eventId(UUID.randomUUID())
+                .eventType(EventTypes.TRANSFER_REQUESTED)
+                .eventVersion(1)
+                .aggregateType("TRANSACTION")
+                .aggregateId(transactionId)
+                .transactionId(transactionId)
+                .correlationId(transactionId)
+                .traceId("4bf92f3577b34da6a3ce929d0e0e4736")
+                .timestamp(LocalDateTime.of(2026, 10, 19, 8, 0, 0))
+                .payload(TransferRequested.builder()
+                        .fromAccountId(UUID.randomUUID())
+                        .toAccountId(UUID.randomUUID())
+                        .amount(Money.ofMinor(12_345L, "USD"))
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,42 @@
+package com.banking.common.kafka;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KafkaThroughputPropertiesTest {
+
+    @Test
+    void shouldApplyProfile_WithOverrides() {
+        KafkaThroughputProperties properties = new KafkaThroughputProperties();
+        properties.setProfile(KafkaThroughputProfile.HIGH_THROUGHPUT);
+        properties.getProducer().setLinger(Duration.ofMillis(10));
+        properties.getConsumer().setMaxPollRecords(250);
+
+        Map<String, Object> producer = properties.producerConfigs();
+        Map<String, Object> consumer = properties.consumerConfigs();
+
+        assertThat(producer).containsEntry(ProducerConfig.BATCH_SIZE_CONFIG, 256 * 1024)
+                .containsEntry(ProducerConfig.LINGER_MS_CONFIG, 10)
+                .containsEntry(ProducerConfig.COMPRESSION_TYPE_CONFIG, "zstd")
+                .containsEntry(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true)
+                .containsEntry(ProducerConfig.ACKS_CONFIG, "all");
+        assertThat(consumer).containsEntry(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, 64 * 1024)
+                .containsEntry(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 250);
+    }
+
+    @Test
+    void shouldLeaveAcksAlone_WhenIdempotenceIsOff() {
+        KafkaThroughputProperties properties = new KafkaThroughputProperties();
+        properties.getProducer().setIdempotence(false);
+
+        assertThat(properties.producerConfigs())
+                .containsEntry(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, false)
+                .doesNotContainKey(ProducerConfig.ACKS_CONFIG);
+    }
+}
@@ -0,0 +1,91 @@
+package com.banking.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SamplingTurboFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final SamplingTurboFilter filter = new SamplingTurboFilter();
+
+    @BeforeEach
+    void setUp() {
+        filter.setLoggers("com.banking.account.event, com.banking.transaction.event");
+        filter.setMaxPerSecond(3);
+        filter.start();
+    }
+
+    @Test
+    void shouldDenyInfoBeyondLimit_ForSampledLogger() {
+        Logger logger = context.getLogger("com.banking.account.event.AccountEventListener");
+        logger.setLevel(Level.INFO);
+
+        assertThat(decide(logger, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(logger, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+        // Disabled, so discarded by the logger anyway: not counted against the budget
+        for (int i = 0; i < 10; i++) {
+            assertThat(decide(logger, Level.DEBUG)).isEqualTo(FilterReply.NEUTRAL);
+        }
+        assertThat(decide(logger, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(logger, Level.INFO)).isEqualTo(FilterReply.DENY);
+    }
+
+    @Test
+    void shouldPassWarnAndOtherLoggers_Unsampled() {
+        Logger sampled = context.getLogger("com.banking.transaction.event.TransactionEventListener");
+        Logger other = context.getLogger("com.banking.transaction.controller.TransactionController");
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(decide(other, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+            assertThat(decide(sampled, Level.WARN)).isEqualTo(FilterReply.NEUTRAL);
+        }
+    }
+
+    @Test
+    void shouldNotCountEnabledChecks() {
+        Logger logger = context.getLogger("com.banking.account.event.AccountEventListener");
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(filter.decide(null, logger, Level.INFO, null, null, null)).isEqualTo(FilterReply.NEUTRAL);
+        }
+        assertThat(decide(logger, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    void shouldDropExcessFluentEvents_ThroughLoggerContext() {
+        // Arrange: the filter installed as in logback-spring.xml, events captured after it
+        filter.setContext(context);
+        context.addTurboFilter(filter);
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.setContext(context);
+        appender.start();
+        context.getLogger(Logger.ROOT_LOGGER_NAME).addAppender(appender);
+        org.slf4j.Logger log = context.getLogger("com.banking.account.event.AccountEventListener");
+
+        // Act
+        for (int i = 0; i < 50; i++) {
+            log.atInfo().setMessage("Processing command").addKeyValue("attempt", i).log();
+        }
+        log.atWarn().setMessage("Command declined").log();
+
+        // Assert: 3 per second; a window boundary during the loop may let one more batch through
+        List<ILoggingEvent> info = appender.list.stream().filter(e -> e.getLevel() == Level.INFO).toList();
+        assertThat(info).hasSizeBetween(3, 6);
+        assertThat(info.getFirst().getKeyValuePairs()).extracting(pair -> pair.key).containsExactly("attempt");
+        assertThat(appender.list).filteredOn(e -> e.getLevel() == Level.WARN).hasSize(1);
+    }
+
+    private FilterReply decide(Logger logger, Level level) {
+        return filter.decide(null, logger, level, "message", null, null);
+    }
+}
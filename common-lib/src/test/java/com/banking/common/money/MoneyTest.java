@@ -0,0 +1,64 @@
+package com.banking.common.money;
+
+import com.banking.common.constant.ErrorCodes;
+import com.banking.common.exception.BusinessException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyTest {
+
+    @Test
+    void shouldConvertDecimalAmountToMinorUnits() {
+        Money money = Money.of(new BigDecimal("12.34"), "USD");
+
+        assertThat(money.getMinorUnits()).isEqualTo(1234L);
+        assertThat(money.toBigDecimal()).isEqualByComparingTo("12.34");
+    }
+
+    @Test
+    void shouldRespectCurrencyFractionDigits() {
+        assertThat(Money.of(new BigDecimal("500"), "JPY").getMinorUnits()).isEqualTo(500L);
+        assertThat(Money.of(new BigDecimal("1.234"), "BHD").getMinorUnits()).isEqualTo(1234L);
+    }
+
+    @Test
+    void shouldRejectAmountsWithTooManyDecimals() {
+        assertThatThrownBy(() -> Money.of(new BigDecimal("0.001"), "USD"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCodes.INVALID_AMOUNT);
+    }
+
+    @Test
+    void shouldRejectMixedCurrencyArithmetic() {
+        Money usd = Money.ofMinor(100L, "USD");
+        Money eur = Money.ofMinor(100L, "EUR");
+
+        assertThatThrownBy(() -> usd.plus(eur))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCodes.CURRENCY_MISMATCH);
+    }
+
+    @Test
+    void shouldFailOnOverflow() {
+        Money max = Money.ofMinor(Long.MAX_VALUE, "USD");
+
+        assertThatThrownBy(() -> max.plus(Money.ofMinor(1L, "USD")))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void shouldRoundTripThroughJson() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        Money money = Money.ofMinor(5000L, "USD");
+
+        String json = objectMapper.writeValueAsString(money);
+
+        assertThat(json).isEqualTo("{\"minor_units\":5000,\"currency\":\"USD\"}");
+        assertThat(objectMapper.readValue(json, Money.class)).isEqualTo(money);
+    }
+}
@@ -0,0 +1,77 @@
+package com.banking.common.outbox;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OutboxMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private OutboxMetrics metrics;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenThrow(new SQLException("no database in unit tests"));
+        OutboxMetricsProperties properties = new OutboxMetricsProperties();
+        properties.setRefreshInterval(Duration.ofHours(1));
+        metrics = new OutboxMetrics(registry, dataSource, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        metrics.close();
+    }
+
+    @Test
+    void shouldExposeBacklogAndResetDrainedGroups() {
+        long tenSecondsAgo = System.currentTimeMillis() - 10_000;
+        metrics.apply(List.of(
+                new OutboxMetrics.BacklogRow("ACCOUNT", "PENDING", 42, tenSecondsAgo),
+                new OutboxMetrics.BacklogRow("ACCOUNT", "FAILED", 3, tenSecondsAgo)));
+
+        assertThat(backlog("ACCOUNT", "PENDING")).isEqualTo(42);
+        assertThat(backlog("ACCOUNT", "FAILED")).isEqualTo(3);
+        assertThat(registry.get(OutboxMetrics.OLDEST_PENDING_AGE).tag("aggregate_type", "ACCOUNT").timeGauge()
+                .value(TimeUnit.SECONDS)).isGreaterThanOrEqualTo(10);
+
+        metrics.apply(List.of());
+
+        assertThat(backlog("ACCOUNT", "PENDING")).isZero();
+        assertThat(registry.get(OutboxMetrics.OLDEST_PENDING_AGE).tag("aggregate_type", "ACCOUNT").timeGauge()
+                .value(TimeUnit.SECONDS)).isZero();
+    }
+
+    @Test
+    void shouldRecordSendsPerTopicAndOutcome() {
+        long start = System.nanoTime();
+
+        metrics.recordSend("accounts.events", start, null);
+        metrics.recordSend("accounts.events", start, null);
+        metrics.recordSend("accounts.events", start, new IllegalStateException("broker down"));
+        metrics.recordBatch(start, 0);
+
+        Timer success = registry.get(OutboxMetrics.SEND_LATENCY).tag("outcome", "success").timer();
+        assertThat(success.count()).isEqualTo(2);
+        assertThat(registry.get(OutboxMetrics.PUBLISHED).tag("outcome", "failure").counter().count()).isEqualTo(1);
+        // Empty relay runs would drag the batch duration towards zero
+        assertThat(registry.get(OutboxMetrics.BATCH_DURATION).timer().count()).isZero();
+    }
+
+    private double backlog(String aggregateType, String status) {
+        return registry.get(OutboxMetrics.BACKLOG).tag("aggregate_type", aggregateType).tag("status", status)
+                .gauge().value();
+    }
+}
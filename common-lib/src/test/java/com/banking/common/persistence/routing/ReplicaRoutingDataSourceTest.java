@@ -0,0 +1,80 @@
+package com.banking.common.persistence.routing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replica = mock(DataSource.class);
+    private final ReplicaLagMonitor lagMonitor = mock(ReplicaLagMonitor.class);
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        ReplicaDataSourceProperties properties = new ReplicaDataSourceProperties();
+        properties.setMaxLag(Duration.ofSeconds(2));
+        properties.setLagCheckInterval(Duration.ofSeconds(1));
+        properties.setWriteTokenGrace(Duration.ofSeconds(1));
+        routing = new ReplicaRoutingDataSource(primary, replica, lagMonitor, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void routeRead_UsesReplica_WhenLagIsWithinThreshold() {
+        when(lagMonitor.lagMillis()).thenReturn(100L);
+
+        assertThat(routing.routeRead()).isSameAs(replica);
+    }
+
+    @Test
+    void routeRead_FallsBackToPrimary_WhenLagExceedsThresholdOrIsUnknown() {
+        when(lagMonitor.lagMillis()).thenReturn(5_000L, ReplicaLagMonitor.UNKNOWN);
+
+        assertThat(routing.routeRead()).isSameAs(primary);
+        assertThat(routing.routeRead()).isSameAs(primary);
+    }
+
+    @Test
+    void routeRead_UsesPrimary_ForRecentWriteToken() {
+        when(lagMonitor.lagMillis()).thenReturn(100L);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(ReadRouting.WRITE_TOKEN_HEADER, String.valueOf(System.currentTimeMillis()));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        assertThat(routing.routeRead()).isSameAs(primary);
+    }
+
+    @Test
+    void routeRead_UsesReplica_ForWriteTokenOlderThanLag() {
+        when(lagMonitor.lagMillis()).thenReturn(100L);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(ReadRouting.WRITE_TOKEN_HEADER, String.valueOf(System.currentTimeMillis() - 60_000));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        assertThat(routing.routeRead()).isSameAs(replica);
+    }
+
+    @Test
+    void routeRead_UsesPrimary_WhenPinned() {
+        when(lagMonitor.lagMillis()).thenReturn(0L);
+
+        assertThat(ReadRouting.onPrimary(routing::routeRead)).isSameAs(primary);
+        assertThat(routing.routeRead()).isSameAs(replica);
+    }
+}
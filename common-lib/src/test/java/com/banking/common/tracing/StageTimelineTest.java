@@ -0,0 +1,44 @@
+package com.banking.common.tracing;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StageTimelineTest {
+
+    private static final Instant CREATED = Instant.parse("2026-10-19T08:00:00Z");
+
+    @Test
+    void shouldRoundTripThroughHeader() {
+        StageTimeline timeline = StageTimeline.startedAt(CREATED)
+                .with(SagaStage.COMMAND_PUBLISHED, CREATED.plusMillis(120));
+
+        StageTimeline decoded = StageTimeline.fromHeader(timeline.toHeader());
+
+        assertThat(decoded.at(SagaStage.CREATED)).isEqualTo(CREATED);
+        assertThat(decoded.between(SagaStage.CREATED, SagaStage.COMMAND_PUBLISHED))
+                .isEqualTo(Duration.ofMillis(120));
+        assertThat(decoded.at(SagaStage.COMMAND_CONSUMED)).isNull();
+    }
+
+    @Test
+    void shouldNotModifyOriginal_WhenStageAdded() {
+        StageTimeline original = StageTimeline.startedAt(CREATED);
+
+        original.with(SagaStage.COMPLETED, CREATED.plusSeconds(1));
+
+        assertThat(original.at(SagaStage.COMPLETED)).isNull();
+    }
+
+    @Test
+    void shouldSkipUnknownStages_WhenDecoding() {
+        StageTimeline decoded = StageTimeline.decode("CREATED=1000,SOMETHING_NEW=2000,COMPLETED=oops");
+
+        assertThat(decoded.at(SagaStage.CREATED)).isEqualTo(Instant.ofEpochMilli(1000));
+        assertThat(decoded.at(SagaStage.COMPLETED)).isNull();
+        assertThat(StageTimeline.decode("garbage")).isNull();
+    }
+}
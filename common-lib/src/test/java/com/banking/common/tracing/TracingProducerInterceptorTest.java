@@ -0,0 +1,49 @@
+package com.banking.common.tracing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TracingProducerInterceptorTest {
+
+    private static final String OUTBOX_CONTEXT = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+    private static final String RELAY_CONTEXT = "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01";
+
+    @Test
+    void shouldMoveOutboxContextLast_WhenRelayContextAdded() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        TracingProducerInterceptor interceptor = new TracingProducerInterceptor();
+        interceptor.configure(Map.of(TracingProducerInterceptor.METER_REGISTRY_CONFIG, registry));
+        ProducerRecord<Object, Object> record = new ProducerRecord<>("topic", "key", "{\"trace_id\":\"ignored\"}");
+        record.headers().add(TracingService.TRACEPARENT_HEADER, OUTBOX_CONTEXT.getBytes(StandardCharsets.US_ASCII));
+        record.headers().add(TracingService.TRACEPARENT_HEADER, RELAY_CONTEXT.getBytes(StandardCharsets.US_ASCII));
+
+        ProducerRecord<Object, Object> sent = interceptor.onSend(record);
+
+        assertThat(sent.headers().headers(TracingService.TRACEPARENT_HEADER)).hasSize(1);
+        assertThat(new String(sent.headers().lastHeader(TracingService.TRACEPARENT_HEADER).value(),
+                StandardCharsets.US_ASCII)).isEqualTo(OUTBOX_CONTEXT);
+        assertThat(registry.get(TracingProducerInterceptor.METRIC).tag("outcome", "restored").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldLeaveRecordUntouched_WhenSingleOrNoContext() {
+        TracingProducerInterceptor interceptor = new TracingProducerInterceptor();
+        interceptor.configure(Map.of());
+        Object value = new Object();
+        ProducerRecord<Object, Object> record = new ProducerRecord<>("topic", "key", value);
+        record.headers().add(TracingService.TRACEPARENT_HEADER, RELAY_CONTEXT.getBytes(StandardCharsets.US_ASCII));
+
+        ProducerRecord<Object, Object> sent = interceptor.onSend(record);
+
+        assertThat(sent).isSameAs(record);
+        assertThat(sent.value()).isSameAs(value);
+        assertThat(sent.headers().headers(TracingService.TRACEPARENT_HEADER)).hasSize(1);
+    }
+}
@@ -0,0 +1,42 @@
+package com.banking.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdGeneratorTest {
+
+    @Test
+    void shouldGenerateVersion7Ids() {
+        UUID id = IdGenerator.nextId();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldEmbedCurrentTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID id = IdGenerator.nextId();
+
+        assertThat(IdGenerator.timestampOf(id)).isGreaterThanOrEqualTo(before);
+    }
+
+    @Test
+    void shouldBeStrictlyIncreasing_WhenGeneratedInBurst() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(IdGenerator.nextId());
+        }
+
+        for (int i = 1; i < ids.size(); i++) {
+            // Compare as unsigned byte strings, the way Postgres orders uuid columns
+            assertThat(Long.compareUnsigned(ids.get(i).getMostSignificantBits(),
+                    ids.get(i - 1).getMostSignificantBits())).isPositive();
+        }
+    }
+}
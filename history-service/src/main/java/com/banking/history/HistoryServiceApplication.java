@@ -0,0 +1,11 @@
+package com.banking.history;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class HistoryServiceApplication {
+    public static void main(String[] args) {
+        SpringApplication.run(HistoryServiceApplication.class, args);
+    }
+}
@@ -0,0 +1,47 @@
+package com.banking.history.controller;
+
+import com.banking.history.dto.AccountHistoryResponse;
+import com.banking.history.dto.DailyTotalsResponse;
+import com.banking.history.projection.ProjectionRebuilder;
+import com.banking.history.service.AccountHistoryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/history")
+@RequiredArgsConstructor
+@Tag(name = "History Read Model", description = "Account history and dashboard queries served from MongoDB")
+public class AccountHistoryController {
+
+    private final AccountHistoryService accountHistoryService;
+    private final ProjectionRebuilder projectionRebuilder;
+
+    @GetMapping("/accounts/{accountId}")
+    @Operation(summary = "Get an account's projected balance and recent transactions")
+    public ResponseEntity<AccountHistoryResponse> getAccountHistory(@PathVariable UUID accountId) {
+        return ResponseEntity.ok(accountHistoryService.getAccountHistory(accountId));
+    }
+
+    @GetMapping("/accounts/{accountId}/daily")
+    @Operation(summary = "Get an account's credited and debited totals per UTC day (default: last 30 days)")
+    public ResponseEntity<List<DailyTotalsResponse>> getDailyTotals(@PathVariable UUID accountId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(accountHistoryService.getDailyTotals(accountId, from, to));
+    }
+
+    @PostMapping("/rebuild")
+    @Operation(summary = "Clear the read model and replay both event topics from offset zero")
+    public ResponseEntity<Void> rebuild() {
+        projectionRebuilder.rebuild();
+        return ResponseEntity.accepted().build();
+    }
+}
@@ -0,0 +1,41 @@
+package com.banking.history.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountHistoryResponse {
+    private UUID accountId;
+    private UUID customerId;
+    private BigDecimal balance;
+    private String currency;
+    private List<Entry> recentTransactions;
+    // Time of the newest event projected; the view is eventually consistent
+    private Instant asOf;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+        private UUID transactionId;
+        private String type;
+        private String status;
+        private String direction;
+        private BigDecimal amount;
+        private String currency;
+        private UUID counterpartyAccountId;
+        private String reason;
+        private Instant occurredAt;
+    }
+}
@@ -0,0 +1,21 @@
+package com.banking.history.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyTotalsResponse {
+    private LocalDate day;
+    private BigDecimal credited;
+    private BigDecimal debited;
+    private long movements;
+    private String currency;
+}
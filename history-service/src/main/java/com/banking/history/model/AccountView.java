@@ -0,0 +1,42 @@
+package com.banking.history.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Read-side view of one account, materialized from {@code accounts.events} (balance) and
+ * {@code transactions.events} (recent transactions). Only ever written by the projection.
+ */
+@Document(collection = "account_views")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountView {
+
+    @Id
+    private UUID id;
+
+    private UUID customerId;
+
+    private String currency;
+
+    private long balanceMinor;
+
+    // Newest first, capped at banking.history.recent-limit
+    private List<RecentTransaction> recentTransactions;
+
+    private Instant lastEventAt;
+
+    // Highest applied offset per source partition ("accounts_events-0" -> 41)
+    private Map<String, Long> checkpoints;
+}
@@ -0,0 +1,48 @@
+package com.banking.history.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Money moved in and out of one account on one UTC day, materialized from
+ * {@code accounts.events}.
+ */
+@Document(collection = "account_daily_totals")
+@CompoundIndex(name = "account_day_idx", def = "{'accountId': 1, 'day': 1}")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyTotals {
+
+    // "<accountId>:<yyyy-MM-dd>"
+    @Id
+    private String id;
+
+    private UUID accountId;
+
+    // ISO yyyy-MM-dd, so string order is date order
+    private String day;
+
+    private String currency;
+
+    private long creditedMinor;
+
+    private long debitedMinor;
+
+    private long movements;
+
+    private Map<String, Long> checkpoints;
+
+    public static String idOf(UUID accountId, String day) {
+        return accountId + ":" + day;
+    }
+}
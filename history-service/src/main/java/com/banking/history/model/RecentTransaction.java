@@ -0,0 +1,38 @@
+package com.banking.history.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecentTransaction {
+
+    private UUID transactionId;
+
+    private String type;
+
+    private String status;
+
+    private Direction direction;
+
+    private long amountMinor;
+
+    private String currency;
+
+    private UUID counterpartyAccountId; // For TRANSFER
+
+    private String reason; // For FAILED
+
+    private Instant occurredAt;
+
+    public enum Direction {
+        IN, OUT
+    }
+}
@@ -0,0 +1,276 @@
+package com.banking.history.projection;
+
+import com.banking.history.model.AccountView;
+import com.banking.history.model.DailyTotals;
+import com.banking.history.model.RecentTransaction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Writes {@link ProjectionChange}s into {@code account_views} and
+ * {@code account_daily_totals} as one unordered bulk upsert per collection.
+ * <p>
+ * Changes are folded per document first ({@code $inc} sums, one {@code $push $each}), so a
+ * batch costs one write per touched document. Every document keeps the highest offset it
+ * has applied from each source partition; that offset is advanced in the same update as
+ * the data, so a redelivered record is recognized and skipped per document even if the
+ * previous attempt died halfway through the bulk write.
+ * <p>
+ * Recent transactions are also deduplicated by {@code transactionId}: an outcome published
+ * twice arrives at a new offset, which the checkpoints cannot recognize.
+ */
+@Component
+@Slf4j
+public class AccountHistoryProjector {
+
+    static final String CHECKPOINTS = "checkpoints";
+    static final String RECENT_TRANSACTION_IDS = "recentTransactions.transactionId";
+
+    private final MongoTemplate mongoTemplate;
+    private final int recentLimit;
+
+    public AccountHistoryProjector(MongoTemplate mongoTemplate,
+            @Value("${banking.history.recent-limit:50}") int recentLimit) {
+        this.mongoTemplate = mongoTemplate;
+        this.recentLimit = recentLimit;
+    }
+
+    public void apply(List<ProjectionChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        Map<UUID, AccountDelta> accounts = new LinkedHashMap<>();
+        Map<String, DailyDelta> days = new LinkedHashMap<>();
+        for (ProjectionChange change : changes) {
+            accounts.computeIfAbsent(change.accountId(), id -> new AccountDelta());
+            if (change.isMovement()) {
+                String day = dayOf(change.occurredAt());
+                days.computeIfAbsent(DailyTotals.idOf(change.accountId(), day),
+                        id -> new DailyDelta(change.accountId(), day));
+            }
+        }
+
+        Map<Object, Map<String, Long>> accountCheckpoints = accountCheckpoints(accounts);
+        Map<Object, Map<String, Long>> dayCheckpoints = dayCheckpoints(days.keySet());
+        int skipped = 0;
+        for (ProjectionChange change : changes) {
+            if (isApplied(accountCheckpoints.get(change.accountId()), change)) {
+                skipped++;
+            } else {
+                accounts.get(change.accountId()).add(change);
+            }
+            if (change.isMovement()) {
+                String dayId = DailyTotals.idOf(change.accountId(), dayOf(change.occurredAt()));
+                if (!isApplied(dayCheckpoints.get(dayId), change)) {
+                    days.get(dayId).add(change);
+                }
+            }
+        }
+        if (skipped > 0) {
+            log.info("Skipped {} already projected changes", skipped);
+        }
+
+        upsert(AccountView.class, accounts);
+        upsert(DailyTotals.class, days);
+    }
+
+    /**
+     * Empties the read model ahead of a replay. Documents are removed rather than the
+     * collections dropped so their indexes survive.
+     */
+    public void clear() {
+        mongoTemplate.remove(new Query(), AccountView.class);
+        mongoTemplate.remove(new Query(), DailyTotals.class);
+    }
+
+    private void upsert(Class<?> type, Map<?, ? extends Delta> deltas) {
+        BulkOperations bulk = null;
+        for (Map.Entry<?, ? extends Delta> entry : deltas.entrySet()) {
+            if (entry.getValue().isEmpty()) {
+                continue;
+            }
+            if (bulk == null) {
+                bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, type);
+            }
+            bulk.upsert(Query.query(Criteria.where("_id").is(entry.getKey())), entry.getValue().toUpdate());
+        }
+        if (bulk != null) {
+            bulk.execute();
+        }
+    }
+
+    // Also hands each delta the transaction ids its document already lists
+    private Map<Object, Map<String, Long>> accountCheckpoints(Map<UUID, AccountDelta> accounts) {
+        Map<Object, Map<String, Long>> checkpoints = new HashMap<>();
+        Query query = checkpointQuery(accounts.keySet());
+        query.fields().include(RECENT_TRANSACTION_IDS);
+        for (AccountView view : mongoTemplate.find(query, AccountView.class)) {
+            checkpoints.put(view.getId(), view.getCheckpoints());
+            if (view.getRecentTransactions() != null) {
+                AccountDelta delta = accounts.get(view.getId());
+                view.getRecentTransactions().forEach(entry -> delta.listed.add(entry.getTransactionId()));
+            }
+        }
+        return checkpoints;
+    }
+
+    private Map<Object, Map<String, Long>> dayCheckpoints(Collection<String> ids) {
+        Map<Object, Map<String, Long>> checkpoints = new HashMap<>();
+        if (ids.isEmpty()) {
+            return checkpoints;
+        }
+        for (DailyTotals totals : mongoTemplate.find(checkpointQuery(ids), DailyTotals.class)) {
+            checkpoints.put(totals.getId(), totals.getCheckpoints());
+        }
+        return checkpoints;
+    }
+
+    private static Query checkpointQuery(Collection<?> ids) {
+        Query query = Query.query(Criteria.where("_id").in(ids));
+        query.fields().include(CHECKPOINTS);
+        return query;
+    }
+
+    private static boolean isApplied(Map<String, Long> checkpoints, ProjectionChange change) {
+        if (checkpoints == null) {
+            return false;
+        }
+        Long applied = checkpoints.get(change.checkpoint());
+        return applied != null && applied >= change.offset();
+    }
+
+    private static String dayOf(Instant instant) {
+        return instant.atZone(ZoneOffset.UTC).toLocalDate().toString();
+    }
+
+    private interface Delta {
+        boolean isEmpty();
+
+        Update toUpdate();
+    }
+
+    private final class AccountDelta implements Delta {
+        private final List<RecentTransaction> recent = new ArrayList<>();
+        // Transaction ids already in recentTransactions or in this batch
+        private final Set<UUID> listed = new HashSet<>();
+        private final Map<String, Long> checkpoints = new HashMap<>();
+        private long balanceDelta;
+        private UUID customerId;
+        private String currency;
+        private Instant lastEventAt;
+
+        void add(ProjectionChange change) {
+            switch (change.kind()) {
+                case OPENED -> {
+                    balanceDelta += change.amountMinor();
+                    customerId = change.customerId();
+                }
+                case CREDIT -> balanceDelta += change.amountMinor();
+                case DEBIT -> balanceDelta -= change.amountMinor();
+                case TRANSACTION -> {
+                    if (listed.add(change.transaction().getTransactionId())) {
+                        recent.add(change.transaction());
+                    }
+                }
+            }
+            if (change.kind() != ProjectionChange.Kind.TRANSACTION && change.currency() != null) {
+                currency = change.currency();
+            }
+            if (lastEventAt == null || change.occurredAt().isAfter(lastEventAt)) {
+                lastEventAt = change.occurredAt();
+            }
+            checkpoints.merge(change.checkpoint(), change.offset(), Math::max);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return checkpoints.isEmpty();
+        }
+
+        @Override
+        public Update toUpdate() {
+            Update update = new Update().inc("balanceMinor", balanceDelta);
+            if (customerId != null) {
+                update.set("customerId", customerId);
+            }
+            if (currency != null) {
+                update.set("currency", currency);
+            }
+            if (!recent.isEmpty()) {
+                update.push("recentTransactions")
+                        .sort(Sort.by(Sort.Direction.DESC, "occurredAt"))
+                        .slice(recentLimit)
+                        .each(recent.toArray());
+            }
+            update.max("lastEventAt", lastEventAt);
+            checkpoints.forEach((partition, offset) -> update.max(CHECKPOINTS + "." + partition, offset));
+            return update;
+        }
+    }
+
+    private static final class DailyDelta implements Delta {
+        private final UUID accountId;
+        private final String day;
+        private final Map<String, Long> checkpoints = new HashMap<>();
+        private long creditedMinor;
+        private long debitedMinor;
+        private long movements;
+        private String currency;
+
+        private DailyDelta(UUID accountId, String day) {
+            this.accountId = accountId;
+            this.day = day;
+        }
+
+        void add(ProjectionChange change) {
+            if (change.kind() == ProjectionChange.Kind.CREDIT) {
+                creditedMinor += change.amountMinor();
+            } else {
+                debitedMinor += change.amountMinor();
+            }
+            movements++;
+            currency = change.currency();
+            checkpoints.merge(change.checkpoint(), change.offset(), Math::max);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return checkpoints.isEmpty();
+        }
+
+        @Override
+        public Update toUpdate() {
+            Update update = new Update()
+                    .setOnInsert("accountId", accountId)
+                    .setOnInsert("day", day)
+                    .inc("creditedMinor", creditedMinor)
+                    .inc("debitedMinor", debitedMinor)
+                    .inc("movements", movements);
+            if (currency != null) {
+                update.set("currency", currency);
+            }
+            checkpoints.forEach((partition, offset) -> update.max(CHECKPOINTS + "." + partition, offset));
+            return update;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.banking.history.projection;
+
+import com.banking.common.constant.EventTypes;
+import com.banking.common.constant.Topics;
+import com.banking.common.event.AccountCreated;
+import com.banking.common.event.BaseEvent;
+import com.banking.common.event.MoneyCredited;
+import com.banking.common.event.MoneyDebited;
+import com.banking.common.event.MoneyReserved;
+import com.banking.common.event.RefundCompleted;
+import com.banking.common.event.TransactionCompleted;
+import com.banking.common.event.TransactionFailed;
+import com.banking.common.event.codec.EventCodec;
+import com.banking.common.event.codec.IncomingEvent;
+import com.banking.common.money.Money;
+import com.banking.history.model.RecentTransaction;
+import com.banking.history.model.RecentTransaction.Direction;
+import com.banking.history.projection.ProjectionChange.Kind;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Turns {@code accounts.events} and {@code transactions.events} records into
+ * {@link ProjectionChange}s. Account events move the balance and daily totals; transaction
+ * outcomes land in the recent-transactions list of every account they touched.
+ */
+@Component
+@RequiredArgsConstructor
+class HistoryEventMapper {
+
+    private static final String TRANSFER = "TRANSFER";
+    private static final String DEPOSIT = "DEPOSIT";
+    private static final String FAILED = "FAILED";
+
+    // Payload class per projected event type; other types (e.g. ReservationFailed) are
+    // skipped before their value is decoded
+    private static final Map<String, Class<?>> PAYLOAD_TYPES = Map.of(
+            EventTypes.ACCOUNT_CREATED, AccountCreated.class,
+            EventTypes.MONEY_CREDITED, MoneyCredited.class,
+            EventTypes.REFUND_COMPLETED, RefundCompleted.class,
+            EventTypes.MONEY_DEBITED, MoneyDebited.class,
+            EventTypes.MONEY_RESERVED, MoneyReserved.class,
+            EventTypes.TRANSACTION_COMPLETED, TransactionCompleted.class,
+            EventTypes.TRANSACTION_FAILED, TransactionFailed.class);
+
+    private final EventCodec eventCodec;
+
+    void map(ConsumerRecord<String, byte[]> record, List<ProjectionChange> into) throws IOException {
+        IncomingEvent incoming = eventCodec.open(record.value(), record.headers());
+        Class<?> payloadType = incoming.getEventType() == null ? null : PAYLOAD_TYPES.get(incoming.getEventType());
+        if (payloadType == null) {
+            return;
+        }
+        BaseEvent<?> event = incoming.as(payloadType);
+        if (event.getPayload() == null) {
+            return;
+        }
+        String checkpoint = checkpointOf(record.topic(), record.partition());
+        Instant occurredAt = event.getTimestamp() != null
+                ? event.getTimestamp().toInstant(ZoneOffset.UTC)
+                : Instant.ofEpochMilli(record.timestamp());
+
+        if (Topics.ACCOUNTS_EVENTS.equals(record.topic())) {
+            mapAccountEvent(event, checkpoint, record.offset(), occurredAt, into);
+        } else {
+            mapTransactionEvent(event, checkpoint, record.offset(), occurredAt, into);
+        }
+    }
+
+    static String checkpointOf(String topic, int partition) {
+        // Mongo field names cannot contain dots
+        return topic.replace('.', '_') + "-" + partition;
+    }
+
+    private void mapAccountEvent(BaseEvent<?> event, String checkpoint, long offset, Instant occurredAt,
+            List<ProjectionChange> into) {
+        UUID accountId = event.getAggregateId();
+        switch (event.getEventType()) {
+            case EventTypes.ACCOUNT_CREATED -> {
+                AccountCreated created = eventCodec.payloadAs(event, AccountCreated.class);
+                Money opening = created.getInitialBalance();
+                into.add(ProjectionChange.balance(checkpoint, offset, accountId, occurredAt, Kind.OPENED,
+                        opening == null ? 0L : opening.getMinorUnits(),
+                        opening == null ? null : opening.getCurrency(), created.getCustomerId()));
+            }
+            case EventTypes.MONEY_CREDITED -> addMovement(checkpoint, offset, accountId, occurredAt, Kind.CREDIT,
+                    eventCodec.payloadAs(event, MoneyCredited.class).getAmount(), into);
+            case EventTypes.REFUND_COMPLETED -> addMovement(checkpoint, offset, accountId, occurredAt, Kind.CREDIT,
+                    eventCodec.payloadAs(event, RefundCompleted.class).getAmount(), into);
+            case EventTypes.MONEY_DEBITED -> addMovement(checkpoint, offset, accountId, occurredAt, Kind.DEBIT,
+                    eventCodec.payloadAs(event, MoneyDebited.class).getAmount(), into);
+            case EventTypes.MONEY_RESERVED -> addMovement(checkpoint, offset, accountId, occurredAt, Kind.DEBIT,
+                    eventCodec.payloadAs(event, MoneyReserved.class).getAmount(), into);
+            default -> {
+                // ReservationFailed moves no money
+            }
+        }
+    }
+
+    private static void addMovement(String checkpoint, long offset, UUID accountId, Instant occurredAt, Kind kind,
+            Money amount, List<ProjectionChange> into) {
+        if (amount != null) {
+            into.add(ProjectionChange.balance(checkpoint, offset, accountId, occurredAt, kind,
+                    amount.getMinorUnits(), amount.getCurrency(), null));
+        }
+    }
+
+    private void mapTransactionEvent(BaseEvent<?> event, String checkpoint, long offset, Instant occurredAt,
+            List<ProjectionChange> into) {
+        switch (event.getEventType()) {
+            case EventTypes.TRANSACTION_COMPLETED -> {
+                TransactionCompleted completed = eventCodec.payloadAs(event, TransactionCompleted.class);
+                addOutcome(checkpoint, offset, occurredAt, into, RecentTransaction.builder()
+                        .transactionId(completed.getTransactionId())
+                        .type(completed.getType())
+                        .status(completed.getStatus()),
+                        completed.getAccountId(), completed.getFromAccountId(), completed.getToAccountId(),
+                        completed.getAmount());
+            }
+            case EventTypes.TRANSACTION_FAILED -> {
+                TransactionFailed failed = eventCodec.payloadAs(event, TransactionFailed.class);
+                addOutcome(checkpoint, offset, occurredAt, into, RecentTransaction.builder()
+                        .transactionId(failed.getTransactionId())
+                        .type(failed.getType())
+                        .status(FAILED)
+                        .reason(failed.getReason()),
+                        failed.getAccountId(), failed.getFromAccountId(), failed.getToAccountId(),
+                        failed.getAmount());
+            }
+            default -> {
+            }
+        }
+    }
+
+    private void addOutcome(String checkpoint, long offset, Instant occurredAt, List<ProjectionChange> into,
+            RecentTransaction.RecentTransactionBuilder entry, UUID accountId, UUID fromAccountId,
+            UUID toAccountId, Money amount) {
+        if (amount == null) {
+            // Outcome published before events carried their accounts; nothing to attach it to
+            return;
+        }
+        entry.amountMinor(amount.getMinorUnits())
+                .currency(amount.getCurrency())
+                .occurredAt(occurredAt);
+        RecentTransaction probe = entry.build();
+
+        if (TRANSFER.equals(probe.getType())) {
+            into.add(ProjectionChange.transaction(checkpoint, offset, fromAccountId,
+                    entry.direction(Direction.OUT).counterpartyAccountId(toAccountId).build()));
+            // A failed transfer never reached the recipient
+            if (!FAILED.equals(probe.getStatus())) {
+                into.add(ProjectionChange.transaction(checkpoint, offset, toAccountId,
+                        entry.direction(Direction.IN).counterpartyAccountId(fromAccountId).build()));
+            }
+        } else if (accountId != null) {
+            Direction direction = DEPOSIT.equals(probe.getType()) ? Direction.IN : Direction.OUT;
+            into.add(ProjectionChange.transaction(checkpoint, offset, accountId,
+                    entry.direction(direction).build()));
+        }
+    }
+}
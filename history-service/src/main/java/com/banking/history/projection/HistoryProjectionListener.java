@@ -0,0 +1,68 @@
+package com.banking.history.projection;
+
+import com.banking.common.constant.ServiceGroups;
+import com.banking.common.constant.Topics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Feeds the history read model. Records arrive in batches (one poll) and are written with
+ * one bulk upsert per collection; Kafka offsets are committed after the batch, and the
+ * per-document checkpoints make any redelivery a no-op.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HistoryProjectionListener implements ConsumerSeekAware {
+
+    public static final String LISTENER_ID = "history-projection";
+
+    private final HistoryEventMapper eventMapper;
+    private final AccountHistoryProjector projector;
+    private final AtomicBoolean replayRequested = new AtomicBoolean();
+
+    @KafkaListener(id = LISTENER_ID, topics = { Topics.ACCOUNTS_EVENTS, Topics.TRANSACTIONS_EVENTS },
+            groupId = ServiceGroups.HISTORY_PROJECTION_GROUP, batch = "true",
+            properties = "value.deserializer=org.apache.kafka.common.serialization.ByteArrayDeserializer")
+    public void handleEvents(List<ConsumerRecord<String, byte[]>> records) {
+        List<ProjectionChange> changes = new ArrayList<>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            try {
+                eventMapper.map(records.get(i), changes);
+            } catch (Exception e) {
+                // Project everything before the bad record so the error handler can commit
+                // up to it and send only that record to the DLT
+                projector.apply(changes);
+                throw new BatchListenerFailedException("Unreadable history event", e, i);
+            }
+        }
+        projector.apply(changes);
+        log.debug("Projected {} records into {} changes", records.size(), changes.size());
+    }
+
+    /**
+     * Makes the next partition assignment start from the beginning of every topic.
+     */
+    void replayFromStart() {
+        replayRequested.set(true);
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        if (replayRequested.getAndSet(false)) {
+            callback.seekToBeginning(assignments.keySet());
+            log.info("Replaying {} partitions from offset zero", assignments.size());
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.banking.history.projection;
+
+import com.banking.history.model.RecentTransaction;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One read-model effect of one Kafka record. Carries the record's partition and offset so
+ * the projector can tell whether the target document has already seen it.
+ */
+record ProjectionChange(String checkpoint, long offset, UUID accountId, Instant occurredAt, Kind kind,
+        long amountMinor, String currency, UUID customerId, RecentTransaction transaction) {
+
+    enum Kind {
+        OPENED, CREDIT, DEBIT, TRANSACTION
+    }
+
+    boolean isMovement() {
+        return kind == Kind.CREDIT || kind == Kind.DEBIT;
+    }
+
+    static ProjectionChange balance(String checkpoint, long offset, UUID accountId, Instant occurredAt, Kind kind,
+            long amountMinor, String currency, UUID customerId) {
+        return new ProjectionChange(checkpoint, offset, accountId, occurredAt, kind, amountMinor, currency,
+                customerId, null);
+    }
+
+    static ProjectionChange transaction(String checkpoint, long offset, UUID accountId,
+            RecentTransaction transaction) {
+        return new ProjectionChange(checkpoint, offset, accountId, transaction.getOccurredAt(), Kind.TRANSACTION,
+                0L, transaction.getCurrency(), null, transaction);
+    }
+}
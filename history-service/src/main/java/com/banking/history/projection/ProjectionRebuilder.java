@@ -0,0 +1,39 @@
+package com.banking.history.projection;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * Rebuilds the read model from scratch: stops the projection, empties it and restarts the
+ * listener seeked to offset zero of {@code accounts.events} and {@code transactions.events}.
+ * <p>
+ * Only partitions assigned to this instance are replayed, so run it with a single
+ * history-service instance (or scale down first).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectionRebuilder {
+
+    private final KafkaListenerEndpointRegistry registry;
+    private final HistoryProjectionListener listener;
+    private final AccountHistoryProjector projector;
+
+    public synchronized void rebuild() {
+        MessageListenerContainer container = Objects.requireNonNull(
+                registry.getListenerContainer(HistoryProjectionListener.LISTENER_ID),
+                "History projection listener is not registered");
+
+        // stop() waits for the in-flight batch, so nothing is written after the clear
+        container.stop();
+        projector.clear();
+        listener.replayFromStart();
+        container.start();
+        log.info("History read model cleared, replaying from offset zero");
+    }
+}
@@ -0,0 +1,9 @@
+package com.banking.history.repository;
+
+import com.banking.history.model.AccountView;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.UUID;
+
+public interface AccountViewRepository extends MongoRepository<AccountView, UUID> {
+}
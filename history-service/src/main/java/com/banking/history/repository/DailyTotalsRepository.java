@@ -0,0 +1,15 @@
+package com.banking.history.repository;
+
+import com.banking.history.model.DailyTotals;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface DailyTotalsRepository extends MongoRepository<DailyTotals, String> {
+
+    // Derived "Between" is exclusive on both ends in Spring Data MongoDB
+    @Query(value = "{ 'accountId': ?0, 'day': { $gte: ?1, $lte: ?2 } }", sort = "{ 'day': 1 }")
+    List<DailyTotals> findDays(UUID accountId, String from, String to);
+}
@@ -0,0 +1,88 @@
+package com.banking.history.service;
+
+import com.banking.common.constant.ErrorCodes;
+import com.banking.common.exception.BusinessException;
+import com.banking.common.money.Money;
+import com.banking.history.dto.AccountHistoryResponse;
+import com.banking.history.dto.DailyTotalsResponse;
+import com.banking.history.model.AccountView;
+import com.banking.history.model.DailyTotals;
+import com.banking.history.model.RecentTransaction;
+import com.banking.history.repository.AccountViewRepository;
+import com.banking.history.repository.DailyTotalsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Answers history and dashboard queries from the MongoDB read model only, never from the
+ * transactional stores.
+ */
+@Service
+@RequiredArgsConstructor
+public class AccountHistoryService {
+
+    static final int DEFAULT_DAYS = 30;
+    static final int MAX_DAYS = 366;
+
+    private final AccountViewRepository accountViewRepository;
+    private final DailyTotalsRepository dailyTotalsRepository;
+
+    public AccountHistoryResponse getAccountHistory(UUID accountId) {
+        AccountView view = accountViewRepository.findById(accountId)
+                .orElseThrow(() -> new BusinessException("Account not found", ErrorCodes.ACCOUNT_NOT_FOUND));
+
+        List<RecentTransaction> recent = view.getRecentTransactions() == null ? List.of()
+                : view.getRecentTransactions();
+        return AccountHistoryResponse.builder()
+                .accountId(view.getId())
+                .customerId(view.getCustomerId())
+                .balance(view.getCurrency() == null ? null
+                        : Money.ofMinor(view.getBalanceMinor(), view.getCurrency()).toBigDecimal())
+                .currency(view.getCurrency())
+                .recentTransactions(recent.stream().map(this::mapToEntry).toList())
+                .asOf(view.getLastEventAt())
+                .build();
+    }
+
+    public List<DailyTotalsResponse> getDailyTotals(UUID accountId, LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now(ZoneOffset.UTC);
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_DAYS - 1L);
+        if (start.isAfter(end) || ChronoUnit.DAYS.between(start, end) >= MAX_DAYS) {
+            throw new BusinessException("Date range must be 1-" + MAX_DAYS + " days", ErrorCodes.INVALID_DATE_RANGE);
+        }
+
+        return dailyTotalsRepository.findDays(accountId, start.toString(), end.toString()).stream()
+                .map(this::mapToResponse)
+                .toList();
+    }
+
+    private AccountHistoryResponse.Entry mapToEntry(RecentTransaction transaction) {
+        return AccountHistoryResponse.Entry.builder()
+                .transactionId(transaction.getTransactionId())
+                .type(transaction.getType())
+                .status(transaction.getStatus())
+                .direction(transaction.getDirection() == null ? null : transaction.getDirection().name())
+                .amount(Money.ofMinor(transaction.getAmountMinor(), transaction.getCurrency()).toBigDecimal())
+                .currency(transaction.getCurrency())
+                .counterpartyAccountId(transaction.getCounterpartyAccountId())
+                .reason(transaction.getReason())
+                .occurredAt(transaction.getOccurredAt())
+                .build();
+    }
+
+    private DailyTotalsResponse mapToResponse(DailyTotals totals) {
+        return DailyTotalsResponse.builder()
+                .day(LocalDate.parse(totals.getDay()))
+                .credited(Money.ofMinor(totals.getCreditedMinor(), totals.getCurrency()).toBigDecimal())
+                .debited(Money.ofMinor(totals.getDebitedMinor(), totals.getCurrency()).toBigDecimal())
+                .movements(totals.getMovements())
+                .currency(totals.getCurrency())
+                .build();
+    }
+}
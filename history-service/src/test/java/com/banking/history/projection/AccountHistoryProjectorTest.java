@@ -0,0 +1,173 @@
+package com.banking.history.projection;
+
+import com.banking.history.model.AccountView;
+import com.banking.history.model.DailyTotals;
+import com.banking.history.model.RecentTransaction;
+import com.banking.history.projection.ProjectionChange.Kind;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountHistoryProjectorTest {
+
+    private static final String PARTITION = "accounts_events-0";
+    private static final Instant NOW = Instant.parse("2026-10-19T10:15:30Z");
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkOperations accountBulk;
+
+    @Mock
+    private BulkOperations dailyBulk;
+
+    private AccountHistoryProjector projector;
+
+    @BeforeEach
+    void setUp() {
+        projector = new AccountHistoryProjector(mongoTemplate, 50);
+    }
+
+    @Test
+    void shouldFoldChangesIntoOneUpsertPerDocument() {
+        // Arrange
+        UUID accountId = UUID.randomUUID();
+        stubBulkOps();
+        when(mongoTemplate.find(any(Query.class), eq(AccountView.class))).thenReturn(List.of());
+        when(mongoTemplate.find(any(Query.class), eq(DailyTotals.class))).thenReturn(List.of());
+
+        // Act
+        projector.apply(List.of(
+                movement(accountId, 5, Kind.CREDIT, 10_000L),
+                movement(accountId, 6, Kind.DEBIT, 2_500L)));
+
+        // Assert
+        Document account = capturedUpdate(accountBulk);
+        assertThat(account.get("$inc", Document.class).get("balanceMinor")).isEqualTo(7_500L);
+        assertThat(account.get("$max", Document.class).get("checkpoints." + PARTITION)).isEqualTo(6L);
+
+        Document daily = capturedUpdate(dailyBulk);
+        assertThat(daily.get("$inc", Document.class))
+                .containsEntry("creditedMinor", 10_000L)
+                .containsEntry("debitedMinor", 2_500L)
+                .containsEntry("movements", 2L);
+        assertThat(daily.get("$setOnInsert", Document.class)).containsEntry("day", "2026-10-19");
+    }
+
+    @Test
+    void shouldSkipChangesAlreadyCoveredByCheckpoint() {
+        // Arrange
+        UUID accountId = UUID.randomUUID();
+        stubBulkOps();
+        when(mongoTemplate.find(any(Query.class), eq(AccountView.class))).thenReturn(List.of(AccountView.builder()
+                .id(accountId)
+                .checkpoints(Map.of(PARTITION, 5L))
+                .build()));
+        when(mongoTemplate.find(any(Query.class), eq(DailyTotals.class))).thenReturn(List.of(DailyTotals.builder()
+                .id(DailyTotals.idOf(accountId, "2026-10-19"))
+                .checkpoints(Map.of(PARTITION, 5L))
+                .build()));
+
+        // Act
+        projector.apply(List.of(
+                movement(accountId, 5, Kind.CREDIT, 10_000L),
+                movement(accountId, 6, Kind.DEBIT, 2_500L)));
+
+        // Assert
+        Document account = capturedUpdate(accountBulk);
+        assertThat(account.get("$inc", Document.class).get("balanceMinor")).isEqualTo(-2_500L);
+        Document daily = capturedUpdate(dailyBulk);
+        assertThat(daily.get("$inc", Document.class)).containsEntry("creditedMinor", 0L);
+    }
+
+    @Test
+    void shouldNotWriteWhenWholeBatchWasAlreadyProjected() {
+        // Arrange
+        UUID accountId = UUID.randomUUID();
+        when(mongoTemplate.find(any(Query.class), eq(AccountView.class))).thenReturn(List.of(AccountView.builder()
+                .id(accountId)
+                .checkpoints(Map.of("transactions_events-1", 9L))
+                .build()));
+        RecentTransaction entry = RecentTransaction.builder()
+                .transactionId(UUID.randomUUID())
+                .amountMinor(100L)
+                .currency("USD")
+                .occurredAt(NOW)
+                .build();
+
+        // Act
+        projector.apply(List.of(ProjectionChange.transaction("transactions_events-1", 9, accountId, entry)));
+
+        // Assert
+        verify(mongoTemplate, never()).bulkOps(any(), any(Class.class));
+    }
+
+    @Test
+    void shouldNotListTheSameTransactionTwice() {
+        // Arrange
+        UUID accountId = UUID.randomUUID();
+        UUID transactionId = UUID.randomUUID();
+        when(mongoTemplate.bulkOps(any(), eq(AccountView.class))).thenReturn(accountBulk);
+        when(mongoTemplate.find(any(Query.class), eq(AccountView.class))).thenReturn(List.of(AccountView.builder()
+                .id(accountId)
+                .recentTransactions(List.of(outcome(transactionId)))
+                .checkpoints(Map.of("transactions_events-1", 9L))
+                .build()));
+
+        // Act: the same outcome published again, at later offsets the checkpoint has not seen
+        projector.apply(List.of(
+                ProjectionChange.transaction("transactions_events-1", 10, accountId, outcome(transactionId)),
+                ProjectionChange.transaction("transactions_events-1", 11, accountId, outcome(transactionId))));
+
+        // Assert
+        Document account = capturedUpdate(accountBulk);
+        assertThat(account).doesNotContainKey("$push");
+        assertThat(account.get("$max", Document.class).get("checkpoints.transactions_events-1")).isEqualTo(11L);
+    }
+
+    private void stubBulkOps() {
+        when(mongoTemplate.bulkOps(any(), eq(AccountView.class))).thenReturn(accountBulk);
+        when(mongoTemplate.bulkOps(any(), eq(DailyTotals.class))).thenReturn(dailyBulk);
+    }
+
+    private static ProjectionChange movement(UUID accountId, long offset, Kind kind, long amountMinor) {
+        return ProjectionChange.balance(PARTITION, offset, accountId, NOW, kind, amountMinor, "USD", null);
+    }
+
+    private static RecentTransaction outcome(UUID transactionId) {
+        return RecentTransaction.builder()
+                .transactionId(transactionId)
+                .status("COMPLETED")
+                .amountMinor(100L)
+                .currency("USD")
+                .occurredAt(NOW)
+                .build();
+    }
+
+    private static Document capturedUpdate(BulkOperations bulk) {
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(bulk).upsert(any(Query.class), update.capture());
+        verify(bulk).execute();
+        return update.getValue().getUpdateObject();
+    }
+}
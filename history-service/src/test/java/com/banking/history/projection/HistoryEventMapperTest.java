@@ -0,0 +1,161 @@
+package com.banking.history.projection;
+
+import com.banking.common.constant.AggregateTypes;
+import com.banking.common.constant.EventTypes;
+import com.banking.common.constant.Topics;
+import com.banking.common.event.BaseEvent;
+import com.banking.common.event.MoneyReserved;
+import com.banking.common.event.TransactionCompleted;
+import com.banking.common.event.TransactionFailed;
+import com.banking.common.event.codec.EventCodec;
+import com.banking.common.event.codec.EventSchemas;
+import com.banking.common.event.codec.WireFormat;
+import com.banking.common.money.Money;
+import com.banking.history.model.RecentTransaction.Direction;
+import com.banking.history.projection.ProjectionChange.Kind;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HistoryEventMapperTest {
+
+    private ObjectMapper objectMapper;
+    private EventCodec codec;
+    private HistoryEventMapper mapper;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        codec = new EventCodec(objectMapper, EventSchemas.registry());
+        mapper = new HistoryEventMapper(codec);
+    }
+
+    @Test
+    void shouldMapReservationToDebitOfTheAccount() throws Exception {
+        // Arrange
+        UUID accountId = UUID.randomUUID();
+        byte[] message = objectMapper.writeValueAsBytes(BaseEvent.builder()
+                .eventType(EventTypes.MONEY_RESERVED)
+                .aggregateType(AggregateTypes.ACCOUNT)
+                .aggregateId(accountId)
+                .timestamp(LocalDateTime.of(2026, 10, 19, 10, 0))
+                .payload(MoneyReserved.builder().accountId(accountId).amount(Money.ofMinor(4_200L, "USD")).build())
+                .build());
+        List<ProjectionChange> changes = new ArrayList<>();
+
+        // Act
+        mapper.map(new ConsumerRecord<>(Topics.ACCOUNTS_EVENTS, 2, 17L, accountId.toString(), message), changes);
+
+        // Assert
+        assertThat(changes).singleElement().satisfies(change -> {
+            assertThat(change.accountId()).isEqualTo(accountId);
+            assertThat(change.kind()).isEqualTo(Kind.DEBIT);
+            assertThat(change.amountMinor()).isEqualTo(4_200L);
+            assertThat(change.checkpoint()).isEqualTo("accounts_events-2");
+            assertThat(change.offset()).isEqualTo(17L);
+        });
+    }
+
+    @Test
+    void shouldMapBinaryEvents_WhenFormatHeaderSaysSo() throws Exception {
+        // Arrange
+        UUID accountId = UUID.randomUUID();
+        byte[] message = codec.encode(BaseEvent.builder()
+                .eventType(EventTypes.MONEY_RESERVED)
+                .aggregateType(AggregateTypes.ACCOUNT)
+                .aggregateId(accountId)
+                .payload(MoneyReserved.builder().accountId(accountId).amount(Money.ofMinor(900L, "EUR")).build())
+                .build(), WireFormat.BINARY);
+        ConsumerRecord<String, byte[]> record =
+                new ConsumerRecord<>(Topics.ACCOUNTS_EVENTS, 0, 5L, accountId.toString(), message);
+        record.headers().add(WireFormat.HEADER, WireFormat.BINARY.headerValue());
+        List<ProjectionChange> changes = new ArrayList<>();
+
+        // Act
+        mapper.map(record, changes);
+
+        // Assert
+        assertThat(changes).singleElement().satisfies(change -> {
+            assertThat(change.kind()).isEqualTo(Kind.DEBIT);
+            assertThat(change.amountMinor()).isEqualTo(900L);
+            assertThat(change.currency()).isEqualTo("EUR");
+        });
+    }
+
+    @Test
+    void shouldAttachCompletedTransferToBothAccounts() throws Exception {
+        // Arrange
+        UUID transactionId = UUID.randomUUID();
+        UUID from = UUID.randomUUID();
+        UUID to = UUID.randomUUID();
+        byte[] message = objectMapper.writeValueAsBytes(BaseEvent.builder()
+                .eventType(EventTypes.TRANSACTION_COMPLETED)
+                .aggregateId(transactionId)
+                .timestamp(LocalDateTime.of(2026, 10, 19, 10, 0))
+                .payload(TransactionCompleted.builder()
+                        .transactionId(transactionId)
+                        .status("COMPLETED")
+                        .type("TRANSFER")
+                        .accountId(from)
+                        .fromAccountId(from)
+                        .toAccountId(to)
+                        .amount(Money.ofMinor(1_000L, "USD"))
+                        .build())
+                .build());
+        List<ProjectionChange> changes = new ArrayList<>();
+
+        // Act
+        mapper.map(new ConsumerRecord<>(Topics.TRANSACTIONS_EVENTS, 0, 3L, transactionId.toString(), message),
+                changes);
+
+        // Assert
+        assertThat(changes).hasSize(2);
+        assertThat(changes.get(0).accountId()).isEqualTo(from);
+        assertThat(changes.get(0).transaction().getDirection()).isEqualTo(Direction.OUT);
+        assertThat(changes.get(0).transaction().getCounterpartyAccountId()).isEqualTo(to);
+        assertThat(changes.get(1).accountId()).isEqualTo(to);
+        assertThat(changes.get(1).transaction().getDirection()).isEqualTo(Direction.IN);
+    }
+
+    @Test
+    void shouldAttachFailedTransferToSenderOnly() throws Exception {
+        // Arrange
+        UUID transactionId = UUID.randomUUID();
+        UUID from = UUID.randomUUID();
+        byte[] message = objectMapper.writeValueAsBytes(BaseEvent.builder()
+                .eventType(EventTypes.TRANSACTION_FAILED)
+                .aggregateId(transactionId)
+                .payload(TransactionFailed.builder()
+                        .transactionId(transactionId)
+                        .reason("Reservation failed")
+                        .type("TRANSFER")
+                        .accountId(from)
+                        .fromAccountId(from)
+                        .toAccountId(UUID.randomUUID())
+                        .amount(Money.ofMinor(1_000L, "USD"))
+                        .build())
+                .build());
+        List<ProjectionChange> changes = new ArrayList<>();
+
+        // Act
+        mapper.map(new ConsumerRecord<>(Topics.TRANSACTIONS_EVENTS, 0, 4L, transactionId.toString(), message),
+                changes);
+
+        // Assert
+        assertThat(changes).singleElement().satisfies(change -> {
+            assertThat(change.accountId()).isEqualTo(from);
+            assertThat(change.transaction().getStatus()).isEqualTo("FAILED");
+            assertThat(change.transaction().getReason()).isEqualTo("Reservation failed");
+        });
+    }
+}
@@ -31,6 +31,7 @@ TOPICS=(
   "transactions.events.DLT"
   "notifications.events"
   "notifications.events.DLT"
+  "transactions.outcomes"
   "customers.events.created"
 )
 
@@ -0,0 +1,33 @@
+#!/bin/bash
+
+# API gateway overhead benchmark
+# Drives the same GET at a fixed rate straight at account-service and through the gateway,
+# and prints the latency percentiles of both runs. The gap at p99 is what the gateway adds.
+#
+# Usage: ./scripts/bench/gateway-overhead.sh <account-id> [rate] [duration]
+# Requires wrk2 (the `wrk` binary with -R), account-service on 8082 and api-gateway on 8080.
+
+set -e
+
+ACCOUNT_ID=${1:?Usage: $0 <account-id> [rate] [duration]}
+RATE=${2:-10000}
+DURATION=${3:-60s}
+THREADS=${THREADS:-8}
+CONNECTIONS=${CONNECTIONS:-200}
+
+run() {
+  local label=$1
+  local url=$2
+  echo "--- $label: $url ---"
+  # Warm up connection pools and the JIT before the measured run
+  wrk -t"$THREADS" -c"$CONNECTIONS" -d15s -R"$RATE" "$url" > /dev/null
+  wrk -t"$THREADS" -c"$CONNECTIONS" -d"$DURATION" -R"$RATE" --latency "$url" \
+    | grep -E '^ +(50\.000|90\.000|99\.000|99\.900)%|Requests/sec|Non-2xx'
+}
+
+echo "=========================================="
+echo "Gateway overhead at $RATE rps for $DURATION"
+echo "=========================================="
+
+run "direct" "http://localhost:8082/accounts/$ACCOUNT_ID"
+run "gateway" "http://localhost:8080/accounts/$ACCOUNT_ID"
@@ -0,0 +1,73 @@
+#!/bin/bash
+
+# UUID v4 vs v7 primary-key benchmark
+# Inserts the same number of rows keyed by random (v4) and time-ordered (v7) UUIDs
+# and reports insert time and primary-key index size for each.
+#
+# Usage: ./scripts/bench/uuid-index-benchmark.sh [rows] [batches]
+# Requires the infra stack (./infra/start.sh) to be running.
+
+set -e
+
+ROWS=${1:-1000000}
+BATCHES=${2:-100}
+BATCH_SIZE=$((ROWS / BATCHES))
+
+echo "=========================================="
+echo "UUID v4 vs v7 insert benchmark"
+echo "Rows: $ROWS in $BATCHES batches of $BATCH_SIZE"
+echo "=========================================="
+
+docker exec -i postgres psql -U user -d banking -v ON_ERROR_STOP=1 <<SQL
+CREATE SCHEMA IF NOT EXISTS bench;
+DROP TABLE IF EXISTS bench.keys_v4;
+DROP TABLE IF EXISTS bench.keys_v7;
+
+-- Same layout as IdGenerator: 48-bit unix millis, version 7, random tail
+CREATE OR REPLACE FUNCTION bench.uuid_v7() RETURNS uuid AS \$\$
+  SELECT encode(
+           set_bit(set_bit(
+             overlay(uuid_send(gen_random_uuid())
+                     PLACING substring(int8send(floor(extract(epoch FROM clock_timestamp()) * 1000)::bigint) FROM 3)
+                     FROM 1 FOR 6),
+             52, 1), 53, 1),
+           'hex')::uuid;
+\$\$ LANGUAGE sql VOLATILE;
+
+CREATE TABLE bench.keys_v4 (id uuid PRIMARY KEY, created_at timestamptz NOT NULL DEFAULT now(), payload text);
+CREATE TABLE bench.keys_v7 (id uuid PRIMARY KEY, created_at timestamptz NOT NULL DEFAULT now(), payload text);
+
+\timing on
+\echo '--- v4 (gen_random_uuid) ---'
+DO \$\$
+BEGIN
+  FOR i IN 1..$BATCHES LOOP
+    INSERT INTO bench.keys_v4 (id, payload)
+    SELECT gen_random_uuid(), md5(g::text) FROM generate_series(1, $BATCH_SIZE) g;
+    COMMIT;
+  END LOOP;
+END
+\$\$;
+
+\echo '--- v7 (time-ordered) ---'
+DO \$\$
+BEGIN
+  FOR i IN 1..$BATCHES LOOP
+    INSERT INTO bench.keys_v7 (id, payload)
+    SELECT bench.uuid_v7(), md5(g::text) FROM generate_series(1, $BATCH_SIZE) g;
+    COMMIT;
+  END LOOP;
+END
+\$\$;
+\timing off
+
+SELECT 'v4' AS key_type,
+       pg_size_pretty(pg_relation_size('bench.keys_v4_pkey')) AS pk_index_size,
+       pg_size_pretty(pg_relation_size('bench.keys_v4')) AS heap_size
+UNION ALL
+SELECT 'v7',
+       pg_size_pretty(pg_relation_size('bench.keys_v7_pkey')),
+       pg_size_pretty(pg_relation_size('bench.keys_v7'));
+
+DROP SCHEMA bench CASCADE;
+SQL
@@ -0,0 +1,28 @@
+package com.banking.transaction.controller;
+
+import com.banking.transaction.dto.TransactionHistoryResponse;
+import com.banking.transaction.service.TransactionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/accounts/{accountId}/transactions")
+@RequiredArgsConstructor
+@Tag(name = "Account History", description = "APIs for browsing an account's transactions")
+public class AccountTransactionController {
+
+    private final TransactionService transactionService;
+
+    @GetMapping
+    @Operation(summary = "List an account's transactions, newest first, using keyset pagination")
+    public ResponseEntity<TransactionHistoryResponse> getAccountHistory(@PathVariable UUID accountId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(transactionService.getAccountHistory(accountId, cursor, limit));
+    }
+}
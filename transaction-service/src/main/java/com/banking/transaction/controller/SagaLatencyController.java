@@ -0,0 +1,26 @@
+package com.banking.transaction.controller;
+
+import com.banking.transaction.dto.SagaLatencyResponse;
+import com.banking.transaction.service.SagaLatencyTracker;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/admin/saga-latency")
+@RequiredArgsConstructor
+@Tag(name = "Saga Latency", description = "Admin APIs for inspecting where transactions spend their time")
+public class SagaLatencyController {
+
+    private final SagaLatencyTracker sagaLatencyTracker;
+
+    @GetMapping("/slowest")
+    @Operation(summary = "List the slowest recently completed transactions with their per-stage breakdown")
+    public ResponseEntity<List<SagaLatencyResponse>> getSlowest(@RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(sagaLatencyTracker.slowest(limit));
+    }
+}
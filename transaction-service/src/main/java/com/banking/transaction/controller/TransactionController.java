@@ -1,46 +1,90 @@
 package com.banking.transaction.controller;
 
+import com.banking.common.persistence.routing.ReadRouting;
+import com.banking.transaction.dto.BatchTransactionRequest;
+import com.banking.transaction.dto.BatchTransactionResponse;
 import com.banking.transaction.dto.TransactionRequest;
 import com.banking.transaction.dto.TransactionResponse;
 import com.banking.transaction.dto.TransferRequest;
+import com.banking.transaction.service.IdempotencyCache;
+import com.banking.transaction.service.IdempotencyKey;
+import com.banking.transaction.service.TransactionBatchService;
+import com.banking.transaction.service.TransactionCompletionRegistry;
 import com.banking.transaction.service.TransactionService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
 
 @RestController
 @RequestMapping("/transactions")
 @RequiredArgsConstructor
+@Slf4j
 @Tag(name = "Transaction Management", description = "APIs for creating and managing transactions")
 public class TransactionController {
 
+    private static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final String STATUS_EVENT = "status";
+    private static final List<String> CALLER_HEADERS = List.of(HttpHeaders.AUTHORIZATION, "X-API-Key");
+    // Outcomes complete on Kafka consumer and timer threads; SSE writes are handed off from there
+    private static final ExecutorService SSE_WRITER = Executors.newVirtualThreadPerTaskExecutor();
+
     private final TransactionService transactionService;
+    private final IdempotencyCache idempotencyCache;
+    private final TransactionBatchService transactionBatchService;
+    private final TransactionCompletionRegistry completionRegistry;
+    private final ObjectMapper objectMapper;
 
     @PostMapping("/deposit")
     @Operation(summary = "Create a deposit transaction")
-    public ResponseEntity<TransactionResponse> createDeposit(@Valid @RequestBody TransactionRequest request) {
-        return ResponseEntity.status(HttpStatus.CREATED)
-                .body(transactionService.createDeposit(request));
+    public CompletableFuture<ResponseEntity<TransactionResponse>> createDeposit(
+            @Valid @RequestBody TransactionRequest request,
+            @RequestHeader(value = IdempotencyCache.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            HttpServletRequest httpRequest) {
+        return submit(httpRequest, idempotencyKey, request, key -> transactionService.createDeposit(request, key));
     }
 
     @PostMapping("/withdraw")
     @Operation(summary = "Create a withdrawal transaction")
-    public ResponseEntity<TransactionResponse> createWithdrawal(@Valid @RequestBody TransactionRequest request) {
-        return ResponseEntity.status(HttpStatus.CREATED)
-                .body(transactionService.createWithdrawal(request));
+    public CompletableFuture<ResponseEntity<TransactionResponse>> createWithdrawal(
+            @Valid @RequestBody TransactionRequest request,
+            @RequestHeader(value = IdempotencyCache.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            HttpServletRequest httpRequest) {
+        return submit(httpRequest, idempotencyKey, request, key -> transactionService.createWithdrawal(request, key));
     }
 
     @PostMapping("/transfer")
     @Operation(summary = "Create a transfer transaction")
-    public ResponseEntity<TransactionResponse> createTransfer(@Valid @RequestBody TransferRequest request) {
-        return ResponseEntity.status(HttpStatus.CREATED)
-                .body(transactionService.createTransfer(request));
+    public CompletableFuture<ResponseEntity<TransactionResponse>> createTransfer(
+            @Valid @RequestBody TransferRequest request,
+            @RequestHeader(value = IdempotencyCache.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            HttpServletRequest httpRequest) {
+        return submit(httpRequest, idempotencyKey, request, key -> transactionService.createTransfer(request, key));
+    }
+
+    @PostMapping("/batch")
+    @Operation(summary = "Submit a batch of deposit, withdrawal and transfer transactions")
+    public ResponseEntity<BatchTransactionResponse> createBatch(@Valid @RequestBody BatchTransactionRequest request) {
+        return ResponseEntity.ok(transactionBatchService.submit(request));
     }
 
     @GetMapping("/{id}")
@@ -48,4 +92,74 @@ public class TransactionController {
     public ResponseEntity<TransactionResponse> getTransaction(@PathVariable UUID id) {
         return ResponseEntity.ok(transactionService.getTransaction(id));
     }
+
+    @GetMapping("/{id}/await")
+    @Operation(summary = "Wait until the transaction leaves PENDING or the timeout (seconds) elapses")
+    public CompletableFuture<ResponseEntity<TransactionResponse>> awaitTransaction(@PathVariable UUID id,
+            @RequestParam(defaultValue = "30") long timeout) {
+        return completionRegistry.await(id, Duration.ofSeconds(timeout))
+                .thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream the transaction status until it leaves PENDING or the timeout (seconds) elapses")
+    public SseEmitter streamTransaction(@PathVariable UUID id, @RequestParam(defaultValue = "30") long timeout) {
+        Duration wait = Duration.ofSeconds(timeout);
+        // Give the registry's own timeout room to deliver the last pending state
+        SseEmitter emitter = new SseEmitter(wait.plusSeconds(5).toMillis());
+        completionRegistry.await(id, wait).whenCompleteAsync((response, e) -> {
+            try {
+                if (e != null) {
+                    emitter.completeWithError(e);
+                    return;
+                }
+                emitter.send(SseEmitter.event().name(STATUS_EVENT).data(response));
+                emitter.complete();
+            } catch (IOException ex) {
+                log.debug("Client stopped streaming transaction: {}", id);
+                emitter.completeWithError(ex);
+            }
+        }, SSE_WRITER);
+        return emitter;
+    }
+
+    private CompletableFuture<ResponseEntity<TransactionResponse>> submit(HttpServletRequest httpRequest,
+            String idempotencyKey, Object body, Function<IdempotencyKey, TransactionResponse> create) {
+        if (idempotencyKey == null) {
+            return CompletableFuture.completedFuture(created(create.apply(null), false));
+        }
+
+        IdempotencyKey key = IdempotencyKey.of(caller(httpRequest), httpRequest.getRequestURI(), idempotencyKey,
+                fingerprintOf(body));
+        // Duplicates still in flight complete asynchronously, without parking a servlet thread.
+        // Stored responses are read from the primary: another instance may have just written them.
+        return idempotencyCache.submit(key, () -> create.apply(key),
+                        k -> ReadRouting.onPrimary(() -> transactionService.findByRequestId(k)))
+                .thenApply(submission -> created(submission.response(), submission.replayed()));
+    }
+
+    // Keys are scoped to whoever presented the credentials; callers without any share one scope
+    private static String caller(HttpServletRequest httpRequest) {
+        StringBuilder caller = new StringBuilder();
+        for (String header : CALLER_HEADERS) {
+            String value = httpRequest.getHeader(header);
+            caller.append(value != null ? value : "").append('\n');
+        }
+        return caller.toString();
+    }
+
+    // The validated body re-serialized, so whitespace or field order alone do not count as a different request
+    private byte[] fingerprintOf(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Request body cannot be serialized", e);
+        }
+    }
+
+    private static ResponseEntity<TransactionResponse> created(TransactionResponse response, boolean replayed) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(replayed))
+                .body(response);
+    }
 }
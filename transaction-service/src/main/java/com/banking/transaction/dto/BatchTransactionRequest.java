@@ -0,0 +1,35 @@
+package com.banking.transaction.dto;
+
+import com.banking.transaction.model.Transaction;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchTransactionRequest {
+    // Items are checked one by one in TransactionBatchService, so one bad item only rejects itself
+    @NotEmpty
+    private List<Item> items;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private Transaction.TransactionType type;
+        private UUID accountId; // For DEPOSIT/WITHDRAWAL
+        private UUID fromAccountId; // For TRANSFER
+        private UUID toAccountId; // For TRANSFER
+        private BigDecimal amount;
+        private String currency;
+    }
+}
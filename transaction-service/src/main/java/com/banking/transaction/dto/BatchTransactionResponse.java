@@ -0,0 +1,32 @@
+package com.banking.transaction.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchTransactionResponse {
+    private int accepted;
+    private int rejected;
+    private List<ItemResult> items;
+    private String traceId;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemResult {
+        private int index;
+        private UUID id;
+        private String status;
+        private String errorCode;
+        private String message;
+    }
+}
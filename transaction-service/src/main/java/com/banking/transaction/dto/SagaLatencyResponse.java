@@ -0,0 +1,24 @@
+package com.banking.transaction.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SagaLatencyResponse {
+    private UUID transactionId;
+    // Account event that closed the measured leg
+    private String eventType;
+    private Instant completedAt;
+    private long totalMillis;
+    // Stage name -> millis, in saga order; stages missing a stamp are left out
+    private Map<String, Long> stages;
+}
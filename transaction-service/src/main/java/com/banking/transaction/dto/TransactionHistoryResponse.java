@@ -0,0 +1,18 @@
+package com.banking.transaction.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionHistoryResponse {
+    private List<TransactionResponse> items;
+    // Null on the last page
+    private String nextCursor;
+}
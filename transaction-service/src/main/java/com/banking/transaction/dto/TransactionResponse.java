@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.UUID;
 
 @Data
@@ -18,5 +19,6 @@ public class TransactionResponse {
     private BigDecimal amount;
     private String type;
     private String status;
+    private Instant createdAt;
     private String traceId;
 }
@@ -2,6 +2,9 @@ package com.banking.transaction.event;
 
 import com.banking.common.constant.ServiceGroups;
 import com.banking.common.constant.Topics;
+import com.banking.common.event.codec.EventCodec;
+import com.banking.common.event.codec.WireFormat;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.KafkaHeaders;
@@ -9,14 +12,20 @@ import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class TransactionDltListener {
 
-    @KafkaListener(topics = Topics.ACCOUNTS_EVENTS + ".DLT", groupId = ServiceGroups.TRANSACTION_DLT_GROUP)
-    public void handleDlt(String message,
+    private final EventCodec eventCodec;
+
+    @KafkaListener(topics = Topics.ACCOUNTS_EVENTS + ".DLT", groupId = ServiceGroups.TRANSACTION_DLT_GROUP,
+            properties = "value.deserializer=org.apache.kafka.common.serialization.ByteArrayDeserializer")
+    public void handleDlt(byte[] value,
             @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
+            @Header(name = WireFormat.HEADER, required = false) byte[] format,
             @Header(value = "x-exception-message", required = false) byte[] exceptionMessage) {
 
+        String message = eventCodec.toDisplayString(value, format);
         String error = exceptionMessage != null ? new String(exceptionMessage) : "Unknown error";
 
         log.error("🛑 TRANSACTION SERVICE DLT: Failed message in Topic: {} | Original Message: {}", topic, message);
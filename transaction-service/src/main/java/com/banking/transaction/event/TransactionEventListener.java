@@ -4,16 +4,24 @@ import com.banking.common.constant.EventTypes;
 import com.banking.common.constant.ServiceGroups;
 import com.banking.common.constant.Topics;
 import com.banking.common.event.BaseEvent;
+import com.banking.common.event.ReservationFailed;
+import com.banking.common.event.codec.EventCodec;
+import com.banking.common.event.codec.EventHeaders;
+import com.banking.common.event.codec.IncomingEvent;
+import com.banking.common.event.codec.WireFormat;
+import com.banking.common.tracing.StageTimeline;
 import com.banking.transaction.model.Transaction;
-import com.banking.transaction.repository.TransactionRepository;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.banking.transaction.saga.TransferSagaOrchestrator;
+import com.banking.transaction.service.SagaLatencyTracker;
+import com.banking.transaction.service.TransactionFinalizer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Set;
 import java.util.UUID;
 
 @Component
@@ -21,69 +29,98 @@ import java.util.UUID;
 @Slf4j
 public class TransactionEventListener {
 
-    private final TransactionRepository transactionRepository;
-    private final ObjectMapper objectMapper;
+    // AccountCreated also flows through accounts.events and is dropped before it is decoded
+    private static final Set<String> HANDLED_TYPES = Set.of(EventTypes.MONEY_RESERVED, EventTypes.MONEY_CREDITED,
+            EventTypes.MONEY_DEBITED, EventTypes.RESERVATION_FAILED, EventTypes.REFUND_COMPLETED);
 
-    @KafkaListener(topics = Topics.ACCOUNTS_EVENTS, groupId = ServiceGroups.TRANSACTION_SERVICE_GROUP)
+    private final EventCodec eventCodec;
+    private final TransferSagaOrchestrator transferSagaOrchestrator;
+    private final TransactionFinalizer transactionFinalizer;
+    private final SagaLatencyTracker sagaLatencyTracker;
+
+    // Raw bytes: the x-event-format header says whether the value is JSON or binary
+    @KafkaListener(topics = Topics.ACCOUNTS_EVENTS, groupId = ServiceGroups.TRANSACTION_SERVICE_GROUP,
+            properties = "value.deserializer=org.apache.kafka.common.serialization.ByteArrayDeserializer")
     @Transactional
-    public void handleAccountEvents(String message) throws Exception {
-        log.info("Received account event message: {}", message);
-
-        TypeReference<BaseEvent<Object>> typeRef = new TypeReference<>() {
-        };
-        BaseEvent<Object> event = objectMapper.readValue(message, typeRef);
-
-        log.info("Processing event type: {} for transaction: {}",
-                event.getEventType(), event.getTransactionId());
-
-        switch (event.getEventType()) {
-            case EventTypes.MONEY_RESERVED -> handleMoneyReserved(event);
-            case EventTypes.MONEY_CREDITED -> handleMoneyCredited(event);
-            case EventTypes.MONEY_DEBITED -> handleMoneyDebited(event);
-            case EventTypes.RESERVATION_FAILED -> handleReservationFailed(event);
-            case EventTypes.REFUND_COMPLETED -> handleRefundCompleted(event);
-            default -> log.warn("Unknown event type: {}", event.getEventType());
+    public void handleAccountEvents(byte[] message,
+            @Header(name = WireFormat.HEADER, required = false) byte[] format,
+            @Header(name = EventHeaders.EVENT_ID, required = false) byte[] eventIdHeader,
+            @Header(name = EventHeaders.EVENT_TYPE, required = false) byte[] eventTypeHeader,
+            @Header(name = StageTimeline.HEADER, required = false) byte[] stages) throws Exception {
+        IncomingEvent incoming = eventCodec.open(message, format, eventIdHeader, eventTypeHeader);
+        log.atDebug().setMessage("Received account event")
+                .addKeyValue("eventId", incoming::getEventId)
+                .addKeyValue("eventType", incoming::getEventType)
+                .log();
+
+        if (!HANDLED_TYPES.contains(incoming.getEventType())) {
+            log.debug("Ignoring account event type: {}", incoming.getEventType());
+            return;
+        }
+        // Only a failed reservation's reason is read from the payload
+        BaseEvent<?> event = EventTypes.RESERVATION_FAILED.equals(incoming.getEventType())
+                ? incoming.as(ReservationFailed.class)
+                : incoming.envelope();
+
+        log.atInfo().setMessage("Processing account event")
+                .addKeyValue("eventType", event.getEventType())
+                .addKeyValue("transactionId", event.getTransactionId())
+                .log();
+
+        if (!transferSagaOrchestrator.onAccountEvent(event)) {
+            switch (event.getEventType()) {
+                case EventTypes.MONEY_RESERVED -> handleMoneyReserved(event);
+                case EventTypes.MONEY_CREDITED -> handleMoneyCredited(event);
+                case EventTypes.MONEY_DEBITED -> handleMoneyDebited(event);
+                case EventTypes.RESERVATION_FAILED -> handleReservationFailed(event);
+                case EventTypes.REFUND_COMPLETED -> handleRefundCompleted(event);
+                default -> log.warn("Unknown event type: {}", event.getEventType());
+            }
+        }
+
+        // A reservation only hands a transfer over to its credit leg
+        if (!EventTypes.MONEY_RESERVED.equals(event.getEventType())) {
+            sagaLatencyTracker.record(event.getTransactionId(), event.getEventType(),
+                    StageTimeline.fromHeader(stages));
         }
     }
 
     private void handleMoneyReserved(BaseEvent<?> event) {
         UUID transactionId = event.getTransactionId();
-        log.info("Money reserved for transaction: {}", transactionId);
+        log.atDebug().setMessage("Money reserved").addKeyValue("transactionId", transactionId).log();
     }
 
     private void handleMoneyCredited(BaseEvent<?> event) {
         UUID transactionId = event.getTransactionId();
-        log.info("Money credited for transaction: {}", transactionId);
+        log.atDebug().setMessage("Money credited").addKeyValue("transactionId", transactionId).log();
 
-        updateTransactionStatus(transactionId, Transaction.TransactionStatus.COMPLETED);
+        transactionFinalizer.finish(transactionId, Transaction.TransactionStatus.COMPLETED, null);
     }
 
     private void handleMoneyDebited(BaseEvent<?> event) {
         UUID transactionId = event.getTransactionId();
-        log.info("Money debited for transaction: {}", transactionId);
+        log.atDebug().setMessage("Money debited").addKeyValue("transactionId", transactionId).log();
 
-        updateTransactionStatus(transactionId, Transaction.TransactionStatus.COMPLETED);
+        transactionFinalizer.finish(transactionId, Transaction.TransactionStatus.COMPLETED, null);
     }
 
     private void handleReservationFailed(BaseEvent<?> event) {
         UUID transactionId = event.getTransactionId();
-        log.error("Reservation failed for transaction: {}", transactionId);
+        log.atWarn().setMessage("Reservation failed").addKeyValue("transactionId", transactionId).log();
 
-        updateTransactionStatus(transactionId, Transaction.TransactionStatus.FAILED);
+        transactionFinalizer.finish(transactionId, Transaction.TransactionStatus.FAILED, reasonOf(event));
     }
 
     private void handleRefundCompleted(BaseEvent<?> event) {
         UUID transactionId = event.getTransactionId();
-        log.info("Refund completed for transaction: {}", transactionId);
+        log.atInfo().setMessage("Refund completed").addKeyValue("transactionId", transactionId).log();
 
-        updateTransactionStatus(transactionId, Transaction.TransactionStatus.FAILED);
+        transactionFinalizer.finish(transactionId, Transaction.TransactionStatus.FAILED, "Refunded");
     }
 
-    private void updateTransactionStatus(UUID transactionId, Transaction.TransactionStatus status) {
-        transactionRepository.findById(transactionId).ifPresent(transaction -> {
-            transaction.setStatus(status);
-            transactionRepository.save(transaction);
-            log.info("Transaction {} marked as {}", transactionId, status);
-        });
+    private static String reasonOf(BaseEvent<?> event) {
+        return event.getPayload() instanceof ReservationFailed failed && failed.getReason() != null
+                ? failed.getReason()
+                : "Reservation failed";
     }
 }
@@ -0,0 +1,27 @@
+package com.banking.transaction.event;
+
+import com.banking.common.event.CreditRequested;
+import com.banking.common.event.DepositRequested;
+import com.banking.common.event.RefundRequested;
+import com.banking.common.event.TransactionCompleted;
+import com.banking.common.event.TransactionFailed;
+import com.banking.common.event.TransferRequested;
+import com.banking.common.event.WithdrawRequested;
+
+import java.util.UUID;
+
+public interface TransactionEventProducer {
+    void sendDepositRequested(DepositRequested event, UUID transactionId);
+
+    void sendWithdrawRequested(WithdrawRequested event, UUID transactionId);
+
+    void sendTransferRequested(TransferRequested event, UUID transactionId);
+
+    void sendCreditRequested(CreditRequested event, UUID transactionId);
+
+    void sendRefundRequested(RefundRequested event, UUID transactionId);
+
+    void sendTransactionCompleted(TransactionCompleted event, UUID transactionId);
+
+    void sendTransactionFailed(TransactionFailed event, UUID transactionId);
+}
@@ -0,0 +1,116 @@
+package com.banking.transaction.event;
+
+import com.banking.common.constant.AggregateTypes;
+import com.banking.common.constant.ErrorCodes;
+import com.banking.common.constant.EventTypes;
+import com.banking.common.event.BaseEvent;
+import com.banking.common.event.CreditRequested;
+import com.banking.common.event.DepositRequested;
+import com.banking.common.event.RefundRequested;
+import com.banking.common.event.TransactionCompleted;
+import com.banking.common.event.TransactionFailed;
+import com.banking.common.event.TransferRequested;
+import com.banking.common.event.WithdrawRequested;
+import com.banking.common.event.codec.EventCodec;
+import com.banking.common.event.codec.EventFormatProperties;
+import com.banking.common.event.codec.WireFormat;
+import com.banking.common.exception.BusinessException;
+import com.banking.common.tracing.TracingService;
+import com.banking.common.util.IdGenerator;
+import com.banking.transaction.model.OutboxEvent;
+import com.banking.transaction.repository.OutboxRepository;
+import com.banking.transaction.service.OutboxProcessor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class TransactionEventProducerImpl implements TransactionEventProducer {
+
+    private final OutboxRepository outboxRepository;
+    private final EventCodec eventCodec;
+    private final EventFormatProperties eventFormats;
+    private final TracingService tracingService;
+
+    @Override
+    public void sendDepositRequested(DepositRequested payload, UUID transactionId) {
+        saveEvent(EventTypes.DEPOSIT_REQUESTED, transactionId, payload.getAccountId(), payload);
+    }
+
+    @Override
+    public void sendWithdrawRequested(WithdrawRequested payload, UUID transactionId) {
+        saveEvent(EventTypes.WITHDRAW_REQUESTED, transactionId, payload.getAccountId(), payload);
+    }
+
+    @Override
+    public void sendTransferRequested(TransferRequested payload, UUID transactionId) {
+        // The reservation debits the source account
+        saveEvent(EventTypes.TRANSFER_REQUESTED, transactionId, payload.getFromAccountId(), payload);
+    }
+
+    @Override
+    public void sendCreditRequested(CreditRequested payload, UUID transactionId) {
+        saveEvent(EventTypes.CREDIT_REQUESTED, transactionId, payload.getAccountId(), payload);
+    }
+
+    @Override
+    public void sendRefundRequested(RefundRequested payload, UUID transactionId) {
+        saveEvent(EventTypes.REFUND_REQUESTED, transactionId, payload.getAccountId(), payload);
+    }
+
+    @Override
+    public void sendTransactionCompleted(TransactionCompleted payload, UUID transactionId) {
+        saveEvent(EventTypes.TRANSACTION_COMPLETED, transactionId, transactionId, payload);
+    }
+
+    @Override
+    public void sendTransactionFailed(TransactionFailed payload, UUID transactionId) {
+        saveEvent(EventTypes.TRANSACTION_FAILED, transactionId, transactionId, payload);
+    }
+
+    /**
+     * @param partitionKey record key on the topic: the account a command touches, so that
+     *                     commands for one account are consumed in order by one consumer
+     */
+    private void saveEvent(String eventType, UUID transactionId, UUID partitionKey, Object payload) {
+        try {
+            BaseEvent<?> event = BaseEvent.builder()
+                    .eventId(IdGenerator.nextId())
+                    .eventType(eventType)
+                    .eventVersion(1)
+                    .aggregateType(AggregateTypes.TRANSACTION)
+                    .aggregateId(transactionId)
+                    .transactionId(transactionId)
+                    .requestId(IdGenerator.nextId())
+                    .correlationId(IdGenerator.nextId())
+                    .traceId(tracingService.getCurrentTraceId())
+                    .timestamp(LocalDateTime.now())
+                    .payload(payload)
+                    .build();
+
+            WireFormat format = eventFormats.formatFor(OutboxProcessor.topicFor(eventType));
+            OutboxEvent outboxEvent = OutboxEvent.builder()
+                    .aggregateType(AggregateTypes.TRANSACTION)
+                    .aggregateId(transactionId)
+                    .partitionKey(partitionKey.toString())
+                    .eventType(eventType)
+                    .eventId(event.getEventId())
+                    .payload(eventCodec.encode(event, format))
+                    .format(format)
+                    .traceparent(tracingService.getCurrentTraceparent())
+                    .status(OutboxEvent.OutboxStatus.PENDING)
+                    .build();
+
+            outboxRepository.save(outboxEvent);
+        } catch (IOException e) {
+            log.error("Error serializing outbox event for transaction: {}", transactionId, e);
+            throw new BusinessException("Error serializing outbox event", ErrorCodes.SERIALIZATION_ERROR);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.banking.transaction.event;
+
+import com.banking.common.constant.ServiceGroups;
+import com.banking.common.constant.Topics;
+import com.banking.transaction.service.TransactionCompletionRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionOutcomeListener {
+
+    private final TransactionCompletionRegistry completionRegistry;
+
+    // Each instance joins its own group and starts at the tail: only outcomes for requests
+    // currently parked on this instance matter
+    @KafkaListener(topics = Topics.TRANSACTIONS_OUTCOMES,
+            groupId = "#{'" + ServiceGroups.TRANSACTION_OUTCOMES_GROUP_PREFIX + "' + T(java.util.UUID).randomUUID()}",
+            properties = "auto.offset.reset=latest")
+    public void handleOutcome(@Header(KafkaHeaders.RECEIVED_KEY) String transactionId, @Payload String status) {
+        log.debug("Transaction {} reached {}", transactionId, status);
+        completionRegistry.complete(UUID.fromString(transactionId));
+    }
+}
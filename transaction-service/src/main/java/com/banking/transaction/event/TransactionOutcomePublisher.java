@@ -0,0 +1,51 @@
+package com.banking.transaction.event;
+
+import com.banking.common.constant.Topics;
+import com.banking.transaction.model.Transaction;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+/**
+ * Broadcasts that a transaction left {@code PENDING} so that every instance can wake the
+ * clients awaiting it. This is a best-effort notification rather than an outbox event: a
+ * lost message only means waiters fall back to their timeout, never a lost state change.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionOutcomePublisher {
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+
+    /**
+     * Publishes once the surrounding transaction commits, so waiters reading the row see
+     * the final status.
+     */
+    public void publish(UUID transactionId, Transaction.TransactionStatus status) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send(transactionId, status);
+                }
+            });
+        } else {
+            send(transactionId, status);
+        }
+    }
+
+    private void send(UUID transactionId, Transaction.TransactionStatus status) {
+        kafkaTemplate.send(Topics.TRANSACTIONS_OUTCOMES, transactionId.toString(), status.name())
+                .whenComplete((result, e) -> {
+                    if (e != null) {
+                        log.warn("Failed to publish outcome of transaction: {}", transactionId, e);
+                    }
+                });
+    }
+}
@@ -0,0 +1,45 @@
+package com.banking.transaction.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.util.UUID;
+
+/**
+ * Maps an {@code Idempotency-Key} to the transaction it created. Lives outside the
+ * partitioned {@code transactions} table, whose unique indexes must include the partition
+ * key and so cannot enforce a globally unique {@code request_id}.
+ */
+@Entity
+@Table(name = "idempotency_records")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyRecord implements Persistable<UUID> {
+
+    @Id
+    private UUID requestId;
+
+    @Column(nullable = false)
+    private UUID transactionId;
+
+    // SHA-256 of the request body; null for records written before it was stored
+    @Column(length = 64)
+    private String requestHash;
+
+    @Override
+    public UUID getId() {
+        return requestId;
+    }
+
+    // Records are only ever inserted; a duplicate key must fail the insert, not merge
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
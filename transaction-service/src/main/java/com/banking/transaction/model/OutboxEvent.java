@@ -1,5 +1,7 @@
 package com.banking.transaction.model;
 
+import com.banking.common.event.codec.WireFormat;
+import com.banking.common.persistence.UuidV7;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -21,7 +23,7 @@ import java.util.UUID;
 public class OutboxEvent {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @Column(nullable = false)
@@ -33,13 +35,30 @@ public class OutboxEvent {
     @Column(nullable = false)
     private String eventType;
 
-    @Column(nullable = false, columnDefinition = "text")
-    private String payload;
+    // Kafka record key: the affected account for commands, so account-service sees one
+    // ordered stream per account. Rows without one are keyed by aggregateId.
+    @Column(length = 64)
+    private String partitionKey;
+
+    // Envelope event id, sent by the relay as the x-event-id header for consumer dedupe
+    private UUID eventId;
+
+    // Encoded record value, sent to Kafka as is
+    @Column(nullable = false, columnDefinition = "bytea")
+    private byte[] payload;
+
+    @Column(nullable = false, length = 16)
+    @Enumerated(EnumType.STRING)
+    private WireFormat format;
 
     @Column(nullable = false)
     @Enumerated(EnumType.STRING)
     private OutboxStatus status;
 
+    // W3C trace context of the writer, sent by the relay as the traceparent header
+    @Column(length = 55)
+    private String traceparent;
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private Instant createdAt;
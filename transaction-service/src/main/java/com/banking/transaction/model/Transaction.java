@@ -1,5 +1,7 @@
 package com.banking.transaction.model;
 
+import com.banking.common.money.Money;
+import com.banking.common.persistence.UuidV7;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -9,10 +11,15 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
-import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.UUID;
 
+/**
+ * Partitioned by month on {@code created_at}; the schema and indexes are owned by the
+ * Flyway migrations in {@code db/migration}. Look rows up through
+ * {@link com.banking.transaction.repository.TransactionRepository#findByIdPruned} so
+ * queries stay within one partition.
+ */
 @Entity
 @Table(name = "transactions")
 @Data
@@ -23,10 +30,11 @@ import java.util.UUID;
 public class Transaction {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
-    @Column(unique = true)
+    // Uniqueness is enforced by idempotency_records; a partitioned table cannot hold a
+    // unique index without the partition key
     private UUID requestId;
 
     @Column(nullable = false)
@@ -35,8 +43,9 @@ public class Transaction {
     private UUID fromAccountId; // For TRANSFER
     private UUID toAccountId; // For TRANSFER
 
+    // Minor units (cents) of currency
     @Column(nullable = false)
-    private BigDecimal amount;
+    private long amountMinor;
 
     @Column(nullable = false)
     private String currency;
@@ -57,6 +66,10 @@ public class Transaction {
     @Column(nullable = false)
     private Instant updatedAt;
 
+    public Money getAmount() {
+        return Money.ofMinor(amountMinor, currency);
+    }
+
     public enum TransactionType {
         DEPOSIT, WITHDRAWAL, TRANSFER
     }
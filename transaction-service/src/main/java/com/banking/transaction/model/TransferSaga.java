@@ -0,0 +1,96 @@
+package com.banking.transaction.model;
+
+import com.banking.common.money.Money;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Persisted state of a transfer saga. Keyed by the transfer's transaction id so each
+ * account event can be correlated with a single primary-key lookup.
+ */
+@Entity
+@Table(name = "transfer_sagas", indexes = @Index(name = "idx_transfer_sagas_state", columnList = "state"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class TransferSaga {
+
+    @Id
+    private UUID transactionId;
+
+    @Column(nullable = false)
+    private UUID fromAccountId;
+
+    @Column(nullable = false)
+    private UUID toAccountId;
+
+    @Column(nullable = false)
+    private long amountMinor;
+
+    @Column(nullable = false)
+    private String currency;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private SagaState state;
+
+    // Deadline of the current step; null when the step has no timeout
+    private Instant stepDeadline;
+
+    private String failureReason;
+
+    // Credit commands re-sent after their deadline
+    @Column(nullable = false)
+    private int creditAttempts;
+
+    @Version
+    private Long version;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @LastModifiedDate
+    @Column(nullable = false)
+    private Instant updatedAt;
+
+    public Money getAmount() {
+        return Money.ofMinor(amountMinor, currency);
+    }
+
+    public boolean isTerminal() {
+        return state == SagaState.COMPLETED || state == SagaState.FAILED || state == SagaState.COMPENSATED
+                || state == SagaState.REFUND_FAILED;
+    }
+
+    public enum SagaState {
+        // TransferRequested sent, waiting for the debit leg to be reserved
+        RESERVING,
+        // Funds reserved on the source account, CreditRequested sent for the target
+        CREDITING,
+        // Credit rejected, RefundRequested sent for the source account
+        COMPENSATING,
+        COMPLETED,
+        // Reservation was rejected, nothing to undo
+        FAILED,
+        // Refund confirmed after a rejected credit
+        COMPENSATED,
+        // No answer to the credit after every retry; the transfer stays PENDING for manual
+        // review, and a late MoneyCredited or ReservationFailed still settles it
+        CREDIT_UNCONFIRMED,
+        // The refund was rejected, e.g. the source account was frozen meanwhile; the funds
+        // stay reserved and need manual review
+        REFUND_FAILED
+    }
+}
@@ -0,0 +1,32 @@
+package com.banking.transaction.repository;
+
+import com.banking.common.util.IdGenerator;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * {@code created_at} range a transaction row must fall in, derived from its UUIDv7 id.
+ * <p>
+ * {@code transactions} is partitioned by month on {@code created_at}, and a lookup by id
+ * alone has to probe every partition. The id's embedded timestamp is taken within
+ * milliseconds of {@code created_at}, so bounding the query by it lets the planner prune
+ * down to one (or, at a month boundary, two) partitions.
+ */
+public record CreatedAtWindow(Instant from, Instant to) {
+
+    // Generous: covers clock skew between instances and ids running ahead under bursts
+    private static final Duration SKEW = Duration.ofHours(1);
+    private static final CreatedAtWindow UNBOUNDED = new CreatedAtWindow(
+            Instant.parse("1970-01-01T00:00:00Z"), Instant.parse("9999-12-31T00:00:00Z"));
+
+    public static CreatedAtWindow around(UUID transactionId) {
+        // Rows created before UUIDv7 ids carry no usable timestamp
+        if (transactionId.version() != 7) {
+            return UNBOUNDED;
+        }
+        Instant minted = Instant.ofEpochMilli(IdGenerator.timestampOf(transactionId));
+        return new CreatedAtWindow(minted.minus(SKEW), minted.plus(SKEW));
+    }
+}
@@ -2,6 +2,9 @@ package com.banking.transaction.repository;
 
 import com.banking.transaction.model.OutboxEvent;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,4 +13,15 @@ import java.util.UUID;
 @Repository
 public interface OutboxRepository extends JpaRepository<OutboxEvent, UUID> {
     List<OutboxEvent> findByStatusOrderByCreatedAtAsc(OutboxEvent.OutboxStatus status);
+
+    /**
+     * Queues an already sent event again. The relay resends it with its original
+     * {@code event_id}, so the consumer treats it as a duplicate if it was applied.
+     *
+     * @return the number of rows queued
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent o SET o.status = com.banking.transaction.model.OutboxEvent.OutboxStatus.PENDING, "
+            + "o.processedAt = null WHERE o.aggregateId = :aggregateId AND o.eventType = :eventType")
+    int requeue(@Param("aggregateId") UUID aggregateId, @Param("eventType") String eventType);
 }
@@ -2,10 +2,95 @@ package com.banking.transaction.repository;
 
 import com.banking.transaction.model.Transaction;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * {@code transactions} is partitioned by month on {@code created_at}. Every query here
+ * bounds {@code created_at} so the planner prunes partitions; prefer
+ * {@link #findByIdPruned} and {@link #updateStatus} over {@code findById} and {@code save}
+ * for existing rows.
+ */
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, UUID> {
+
+    @Query("SELECT t FROM Transaction t WHERE t.id = :id AND t.createdAt >= :from AND t.createdAt < :to")
+    Optional<Transaction> findByIdCreatedBetween(@Param("id") UUID id,
+            @Param("from") Instant from,
+            @Param("to") Instant to);
+
+    // Bulk update, so the row is not loaded first and Hibernate's id-only WHERE is avoided.
+    // Only PENDING rows move: a late or redelivered reply must not overwrite a final status.
+    @Modifying
+    @Query("UPDATE Transaction t SET t.status = :status, t.updatedAt = :now "
+            + "WHERE t.id = :id AND t.createdAt >= :from AND t.createdAt < :to "
+            + "AND t.status = com.banking.transaction.model.Transaction.TransactionStatus.PENDING")
+    int updateStatusCreatedBetween(@Param("id") UUID id,
+            @Param("status") Transaction.TransactionStatus status,
+            @Param("now") Instant now,
+            @Param("from") Instant from,
+            @Param("to") Instant to);
+
+    default Optional<Transaction> findByIdPruned(UUID id) {
+        CreatedAtWindow window = CreatedAtWindow.around(id);
+        return findByIdCreatedBetween(id, window.from(), window.to());
+    }
+
+    /**
+     * Moves a {@code PENDING} transaction to {@code status}.
+     *
+     * @return {@code false} if no transaction with this id exists or it already left {@code PENDING}
+     */
+    default boolean updateStatus(UUID id, Transaction.TransactionStatus status) {
+        CreatedAtWindow window = CreatedAtWindow.around(id);
+        return updateStatusCreatedBetween(id, status, Instant.now(), window.from(), window.to()) > 0;
+    }
+
+    // Each branch is an ordered, limited scan of its own index; an OR across account_id and
+    // to_account_id would force a bitmap scan plus a sort of every matching row
+    @Query(value = """
+            (SELECT * FROM transactions t
+              WHERE t.account_id = :accountId
+              ORDER BY t.created_at DESC, t.id DESC
+              LIMIT :limit)
+            UNION ALL
+            (SELECT * FROM transactions t
+              WHERE t.to_account_id = :accountId AND t.account_id <> :accountId
+              ORDER BY t.created_at DESC, t.id DESC
+              LIMIT :limit)
+            ORDER BY created_at DESC, id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Transaction> findAccountHistory(@Param("accountId") UUID accountId, @Param("limit") int limit);
+
+    // The plain created_at bound is redundant with the row comparison but, unlike it,
+    // lets the planner skip partitions newer than the cursor
+    @Query(value = """
+            (SELECT * FROM transactions t
+              WHERE t.account_id = :accountId
+                AND t.created_at <= :createdAt
+                AND (t.created_at, t.id) < (:createdAt, :id)
+              ORDER BY t.created_at DESC, t.id DESC
+              LIMIT :limit)
+            UNION ALL
+            (SELECT * FROM transactions t
+              WHERE t.to_account_id = :accountId AND t.account_id <> :accountId
+                AND t.created_at <= :createdAt
+                AND (t.created_at, t.id) < (:createdAt, :id)
+              ORDER BY t.created_at DESC, t.id DESC
+              LIMIT :limit)
+            ORDER BY created_at DESC, id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Transaction> findAccountHistoryBefore(@Param("accountId") UUID accountId,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            @Param("limit") int limit);
 }
@@ -0,0 +1,29 @@
+package com.banking.transaction.repository;
+
+import com.banking.transaction.model.TransferSaga;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TransferSagaRepository extends JpaRepository<TransferSaga, UUID> {
+
+    /**
+     * Claims CREDITING sagas whose deadline has passed. {@code SKIP LOCKED} lets instances
+     * sweeping at the same time split the rows instead of handling them twice.
+     */
+    @Query(value = """
+            SELECT * FROM transfer_sagas
+             WHERE state = 'CREDITING'
+               AND step_deadline <= :now
+             ORDER BY step_deadline
+             LIMIT :limit
+               FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<TransferSaga> lockOverdueCredits(@Param("now") Instant now, @Param("limit") int limit);
+}
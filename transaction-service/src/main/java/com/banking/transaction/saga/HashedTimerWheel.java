@@ -0,0 +1,171 @@
+package com.banking.transaction.saga;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hashed timing wheel (Varghese &amp; Lauck) for large numbers of coarse-grained timeouts.
+ * <p>
+ * {@link #schedule} and {@link Timeout#cancel()} are O(1) and lock-free: new timeouts go
+ * through an MPSC queue and are only placed into buckets by the single worker thread, and
+ * cancelled timeouts are dropped lazily when their bucket comes around. Tasks run on the
+ * worker thread and must hand real work off to another executor.
+ */
+@Slf4j
+public class HashedTimerWheel implements AutoCloseable {
+
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final long startNanos;
+    private final Thread worker;
+
+    private volatile boolean running = true;
+    private long tick;
+
+    public HashedTimerWheel(String name, Duration tickDuration, int ticksPerWheel) {
+        if (ticksPerWheel <= 0 || Integer.bitCount(ticksPerWheel) != 1) {
+            throw new IllegalArgumentException("ticksPerWheel must be a power of two: " + ticksPerWheel);
+        }
+        this.tickNanos = tickDuration.toNanos();
+        this.wheel = new Bucket[ticksPerWheel];
+        for (int i = 0; i < ticksPerWheel; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = ticksPerWheel - 1;
+        this.startNanos = System.nanoTime();
+        this.worker = Thread.ofPlatform().name(name).daemon().start(this::run);
+    }
+
+    public Timeout schedule(Runnable task, Duration delay) {
+        long deadline = System.nanoTime() - startNanos + Math.max(delay.toNanos(), 0L);
+        Timeout timeout = new Timeout(task, deadline);
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        worker.interrupt();
+    }
+
+    private void run() {
+        while (running) {
+            long tickDeadline = tickNanos * (tick + 1);
+            long sleepNanos = tickDeadline - (System.nanoTime() - startNanos);
+            if (sleepNanos > 0) {
+                // close() interrupts the park; the loop condition then ends the worker
+                LockSupport.parkNanos(this, sleepNanos);
+                continue;
+            }
+
+            transferPendingTimeouts();
+            wheel[(int) (tick & mask)].expire(tickDeadline);
+            tick++;
+        }
+    }
+
+    private void transferPendingTimeouts() {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            Timeout timeout = pendingTimeouts.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            long calculatedTick = timeout.deadlineNanos / tickNanos;
+            timeout.remainingRounds = (calculatedTick - tick) / wheel.length;
+            // Deadlines already in the past go into the current bucket
+            long targetTick = Math.max(calculatedTick, tick);
+            wheel[(int) (targetTick & mask)].add(timeout);
+        }
+    }
+
+    private static final class Bucket {
+        private Timeout head;
+
+        void add(Timeout timeout) {
+            timeout.next = head;
+            head = timeout;
+        }
+
+        void expire(long tickDeadline) {
+            Timeout previous = null;
+            Timeout current = head;
+            while (current != null) {
+                Timeout next = current.next;
+                boolean remove = false;
+                if (current.isCancelled()) {
+                    remove = true;
+                } else if (current.remainingRounds <= 0 && current.deadlineNanos <= tickDeadline) {
+                    remove = true;
+                    current.expire();
+                } else if (current.remainingRounds > 0) {
+                    current.remainingRounds--;
+                }
+
+                if (remove) {
+                    if (previous == null) {
+                        head = next;
+                    } else {
+                        previous.next = next;
+                    }
+                    current.next = null;
+                } else {
+                    previous = current;
+                }
+                current = next;
+            }
+        }
+    }
+
+    public static final class Timeout {
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+        private static final AtomicIntegerFieldUpdater<Timeout> STATE =
+                AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+        private final Runnable task;
+        private final long deadlineNanos;
+        private volatile int state = PENDING;
+
+        // Owned by the worker thread
+        private long remainingRounds;
+        private Timeout next;
+
+        private Timeout(Runnable task, long deadlineNanos) {
+            this.task = task;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        public boolean cancel() {
+            return STATE.compareAndSet(this, PENDING, CANCELLED);
+        }
+
+        public boolean isCancelled() {
+            return state == CANCELLED;
+        }
+
+        private void expire() {
+            if (!STATE.compareAndSet(this, PENDING, EXPIRED)) {
+                return;
+            }
+            try {
+                task.run();
+            } catch (Throwable t) {
+                log.error("Timer task threw an exception", t);
+            }
+        }
+    }
+}
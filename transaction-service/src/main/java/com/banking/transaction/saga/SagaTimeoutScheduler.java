@@ -0,0 +1,104 @@
+package com.banking.transaction.saga;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Arms in-memory step deadlines for sagas on a {@link HashedTimerWheel}.
+ * <p>
+ * Deadlines are also persisted on the saga row, so a timer lost to a restart is re-armed
+ * on startup and a timer firing on an instance that no longer owns the step is a no-op:
+ * the handler always re-checks the persisted state before acting.
+ */
+@Component
+@Slf4j
+public class SagaTimeoutScheduler {
+
+    private final HashedTimerWheel wheel;
+    private final ExecutorService timeoutExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<UUID, HashedTimerWheel.Timeout> timeouts = new ConcurrentHashMap<>();
+
+    private volatile Consumer<UUID> timeoutHandler = id -> {
+    };
+
+    public SagaTimeoutScheduler(@Value("${banking.saga.timer.tick:100ms}") Duration tick,
+            @Value("${banking.saga.timer.ticks-per-wheel:1024}") int ticksPerWheel) {
+        this.wheel = new HashedTimerWheel("saga-timer-wheel", tick, ticksPerWheel);
+    }
+
+    public void onTimeout(Consumer<UUID> handler) {
+        this.timeoutHandler = handler;
+    }
+
+    /**
+     * Arms a deadline once the surrounding transaction commits, so a rolled-back
+     * transition never leaves a timer behind.
+     */
+    public void schedule(UUID sagaId, Instant deadline) {
+        afterCommit(() -> {
+            Duration delay = Duration.between(Instant.now(), deadline);
+            HashedTimerWheel.Timeout timeout = wheel.schedule(() -> fire(sagaId), delay);
+            HashedTimerWheel.Timeout previous = timeouts.put(sagaId, timeout);
+            if (previous != null) {
+                previous.cancel();
+            }
+        });
+    }
+
+    public void cancel(UUID sagaId) {
+        afterCommit(() -> {
+            HashedTimerWheel.Timeout timeout = timeouts.remove(sagaId);
+            if (timeout != null) {
+                timeout.cancel();
+            }
+        });
+    }
+
+    public int armedTimers() {
+        return timeouts.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        wheel.close();
+        timeoutExecutor.shutdown();
+    }
+
+    private void fire(UUID sagaId) {
+        timeouts.remove(sagaId);
+        // Keep the wheel thread free: the handler opens a DB transaction
+        timeoutExecutor.execute(() -> {
+            try {
+                timeoutHandler.accept(sagaId);
+            } catch (Exception e) {
+                log.error("Saga {} timeout handling failed", sagaId, e);
+            }
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package com.banking.transaction.saga;
+
+import com.banking.common.constant.EventTypes;
+import com.banking.common.event.BaseEvent;
+import com.banking.common.event.CreditRequested;
+import com.banking.common.event.RefundRequested;
+import com.banking.common.event.ReservationFailed;
+import com.banking.common.event.TransactionCompleted;
+import com.banking.common.event.TransactionFailed;
+import com.banking.transaction.event.TransactionEventProducer;
+import com.banking.transaction.event.TransactionOutcomePublisher;
+import com.banking.transaction.model.Transaction;
+import com.banking.transaction.model.TransferSaga;
+import com.banking.transaction.model.TransferSaga.SagaState;
+import com.banking.transaction.repository.OutboxRepository;
+import com.banking.transaction.repository.TransactionRepository;
+import com.banking.transaction.repository.TransferSagaRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Drives transfers through reserve → credit → (compensate) using persisted
+ * {@link TransferSaga} state. Every transition writes the next command to the outbox in the
+ * same DB transaction as the state change.
+ * <p>
+ * The credit step is guarded by a deadline, fired by the in-memory timer of the instance that
+ * armed it or, if that instance stopped, by the periodic sweep. A missed deadline says nothing about whether
+ * the credit was applied, so it never triggers a refund: the same {@code CreditRequested}
+ * (same {@code event_id}) is sent again, and account-service either applies it or, for a
+ * duplicate, repeats its stored reply. Only a rejected credit is compensated. When the
+ * retries run out the saga parks in {@code CREDIT_UNCONFIRMED} for manual review, and a
+ * rejected refund ends in {@code REFUND_FAILED}.
+ */
+@Component
+@Slf4j
+public class TransferSagaOrchestrator {
+
+    private static final String CREDIT_UNCONFIRMED = "Credit unconfirmed after retries";
+    private static final int SWEEP_BATCH_SIZE = 200;
+    private static final int MAX_SWEEP_BATCHES = 50;
+
+    private final TransferSagaRepository sagaRepository;
+    private final TransactionRepository transactionRepository;
+    private final OutboxRepository outboxRepository;
+    private final TransactionEventProducer eventProducer;
+    private final TransactionOutcomePublisher outcomePublisher;
+    private final SagaTimeoutScheduler timeoutScheduler;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration creditTimeout;
+    private final int creditRetries;
+
+    public TransferSagaOrchestrator(TransferSagaRepository sagaRepository,
+            TransactionRepository transactionRepository,
+            OutboxRepository outboxRepository,
+            TransactionEventProducer eventProducer,
+            TransactionOutcomePublisher outcomePublisher,
+            SagaTimeoutScheduler timeoutScheduler,
+            TransactionTemplate transactionTemplate,
+            @Value("${banking.saga.credit-timeout:30s}") Duration creditTimeout,
+            @Value("${banking.saga.credit-retries:3}") int creditRetries) {
+        this.sagaRepository = sagaRepository;
+        this.transactionRepository = transactionRepository;
+        this.outboxRepository = outboxRepository;
+        this.eventProducer = eventProducer;
+        this.outcomePublisher = outcomePublisher;
+        this.timeoutScheduler = timeoutScheduler;
+        this.transactionTemplate = transactionTemplate;
+        this.creditTimeout = creditTimeout;
+        this.creditRetries = creditRetries;
+    }
+
+    @PostConstruct
+    void registerTimeoutHandler() {
+        timeoutScheduler.onTimeout(this::handleStepTimeout);
+    }
+
+    /**
+     * Handles credit deadlines that no local timer will fire: those armed by an instance that
+     * has since stopped, or by this instance before a restart. Runs on every instance; the
+     * rows are claimed with {@code FOR UPDATE SKIP LOCKED}, so each is handled once.
+     */
+    @Scheduled(fixedDelayString = "${banking.saga.deadline-sweep-interval:PT30S}",
+            initialDelayString = "${banking.saga.deadline-sweep-interval:PT30S}")
+    public void sweepOverdueDeadlines() {
+        int swept = 0;
+        for (int i = 0; i < MAX_SWEEP_BATCHES; i++) {
+            Integer batch = transactionTemplate.execute(status -> {
+                List<TransferSaga> overdue = sagaRepository.lockOverdueCredits(Instant.now(), SWEEP_BATCH_SIZE);
+                overdue.forEach(this::onCreditDeadline);
+                return overdue.size();
+            });
+            swept += batch == null ? 0 : batch;
+            if (batch == null || batch < SWEEP_BATCH_SIZE) {
+                break;
+            }
+        }
+        if (swept > 0) {
+            log.info("Handled {} overdue transfer saga deadlines", swept);
+        }
+    }
+
+    /**
+     * Records a new transfer saga. Must run inside the transaction that creates the transfer.
+     */
+    public void begin(Transaction transfer) {
+        sagaRepository.save(TransferSaga.builder()
+                .transactionId(transfer.getId())
+                .fromAccountId(transfer.getFromAccountId())
+                .toAccountId(transfer.getToAccountId())
+                .amountMinor(transfer.getAmountMinor())
+                .currency(transfer.getCurrency())
+                .state(SagaState.RESERVING)
+                .build());
+    }
+
+    /**
+     * Applies an account event to its transfer saga. Must run inside the listener transaction.
+     *
+     * @return {@code false} if the event does not belong to a transfer saga
+     */
+    public boolean onAccountEvent(BaseEvent<?> event) {
+        UUID transactionId = event.getTransactionId();
+        if (transactionId == null) {
+            return false;
+        }
+        TransferSaga saga = sagaRepository.findById(transactionId).orElse(null);
+        if (saga == null) {
+            return false;
+        }
+
+        switch (event.getEventType()) {
+            case EventTypes.MONEY_RESERVED -> onMoneyReserved(saga);
+            case EventTypes.MONEY_CREDITED -> onMoneyCredited(saga);
+            case EventTypes.RESERVATION_FAILED -> onReservationFailed(saga, event);
+            case EventTypes.REFUND_COMPLETED -> onRefundCompleted(saga);
+            default -> log.warn("Transfer saga {} ignoring event type: {}", transactionId, event.getEventType());
+        }
+        return true;
+    }
+
+    /**
+     * Fails a transfer whose reservation never got an answer. Must run inside the caller's
+     * transaction.
+     *
+     * @return {@code false} if the saga is past reservation, where the credit deadline or
+     *         the pending refund owns the outcome
+     */
+    public boolean abandonReservation(UUID transactionId, String reason) {
+        TransferSaga saga = sagaRepository.findById(transactionId).orElse(null);
+        if (saga == null || saga.getState() != SagaState.RESERVING) {
+            return false;
+        }
+        saga.setFailureReason(reason);
+        finish(saga, SagaState.FAILED, Transaction.TransactionStatus.FAILED);
+        return true;
+    }
+
+    void handleStepTimeout(UUID transactionId) {
+        transactionTemplate.executeWithoutResult(status -> sagaRepository.findById(transactionId)
+                .filter(saga -> saga.getState() == SagaState.CREDITING)
+                .filter(saga -> saga.getStepDeadline() != null && !saga.getStepDeadline().isAfter(Instant.now()))
+                .ifPresent(this::onCreditDeadline));
+    }
+
+    private void onCreditDeadline(TransferSaga saga) {
+        if (saga.getCreditAttempts() < creditRetries) {
+            retryCredit(saga);
+        } else {
+            parkUnconfirmed(saga);
+        }
+    }
+
+    private void onMoneyReserved(TransferSaga saga) {
+        if (saga.getState() != SagaState.RESERVING) {
+            log.info("Transfer saga {} already past reservation ({}), skipping", saga.getTransactionId(),
+                    saga.getState());
+            return;
+        }
+
+        saga.setState(SagaState.CREDITING);
+        armCreditDeadline(saga);
+
+        eventProducer.sendCreditRequested(CreditRequested.builder()
+                .accountId(saga.getToAccountId())
+                .amount(saga.getAmount())
+                .build(), saga.getTransactionId());
+    }
+
+    private void retryCredit(TransferSaga saga) {
+        saga.setCreditAttempts(saga.getCreditAttempts() + 1);
+        armCreditDeadline(saga);
+        if (outboxRepository.requeue(saga.getTransactionId(), EventTypes.CREDIT_REQUESTED) == 0) {
+            log.error("Transfer saga {} has no credit command to resend", saga.getTransactionId());
+        }
+        log.warn("Transfer saga {} credit step timed out, resending credit (attempt {})", saga.getTransactionId(),
+                saga.getCreditAttempts());
+    }
+
+    private void armCreditDeadline(TransferSaga saga) {
+        Instant deadline = Instant.now().plus(creditTimeout);
+        saga.setStepDeadline(deadline);
+        sagaRepository.save(saga);
+        timeoutScheduler.schedule(saga.getTransactionId(), deadline);
+    }
+
+    private void parkUnconfirmed(TransferSaga saga) {
+        saga.setState(SagaState.CREDIT_UNCONFIRMED);
+        saga.setStepDeadline(null);
+        saga.setFailureReason(CREDIT_UNCONFIRMED);
+        sagaRepository.save(saga);
+        log.error("Transfer saga {} got no answer to {} credit attempts; funds are reserved on {} and the "
+                + "transfer needs manual review", saga.getTransactionId(), saga.getCreditAttempts() + 1,
+                saga.getFromAccountId());
+    }
+
+    private void onMoneyCredited(TransferSaga saga) {
+        switch (saga.getState()) {
+            // A credit confirmed after its retries ran out still completes the transfer
+            case CREDITING, CREDIT_UNCONFIRMED -> finish(saga, SagaState.COMPLETED,
+                    Transaction.TransactionStatus.COMPLETED);
+            // Compensation only starts after the credit was rejected, so this is not a duplicate
+            case COMPENSATING, COMPENSATED, REFUND_FAILED -> log.error(
+                    "Transfer saga {} received a credit while {}, requires reconciliation",
+                    saga.getTransactionId(), saga.getState());
+            default -> log.info("Transfer saga {} ignoring credit in state {}", saga.getTransactionId(),
+                    saga.getState());
+        }
+    }
+
+    private void onReservationFailed(TransferSaga saga, BaseEvent<?> event) {
+        switch (saga.getState()) {
+            case RESERVING -> {
+                saga.setFailureReason("Reservation failed");
+                finish(saga, SagaState.FAILED, Transaction.TransactionStatus.FAILED);
+            }
+            case CREDITING, CREDIT_UNCONFIRMED -> compensate(saga, "Credit rejected");
+            case COMPENSATING -> {
+                // The refund itself was declined; nothing left to send, a person has to act
+                saga.setFailureReason("Refund rejected: " + reasonOf(event));
+                log.error("Transfer saga {} refund to {} was rejected ({}), funds need manual review",
+                        saga.getTransactionId(), saga.getFromAccountId(), reasonOf(event));
+                finish(saga, SagaState.REFUND_FAILED, Transaction.TransactionStatus.FAILED);
+            }
+            default -> log.info("Transfer saga {} ignoring {} in state {}", saga.getTransactionId(),
+                    event.getEventType(), saga.getState());
+        }
+    }
+
+    private static String reasonOf(BaseEvent<?> event) {
+        return event.getPayload() instanceof ReservationFailed failed ? failed.getReason() : "unknown";
+    }
+
+    private void onRefundCompleted(TransferSaga saga) {
+        if (saga.getState() != SagaState.COMPENSATING) {
+            log.info("Transfer saga {} ignoring refund in state {}", saga.getTransactionId(), saga.getState());
+            return;
+        }
+        finish(saga, SagaState.COMPENSATED, Transaction.TransactionStatus.FAILED);
+    }
+
+    private void compensate(TransferSaga saga, String reason) {
+        saga.setState(SagaState.COMPENSATING);
+        saga.setStepDeadline(null);
+        saga.setFailureReason(reason);
+        sagaRepository.save(saga);
+        timeoutScheduler.cancel(saga.getTransactionId());
+
+        eventProducer.sendRefundRequested(RefundRequested.builder()
+                .accountId(saga.getFromAccountId())
+                .amount(saga.getAmount())
+                .build(), saga.getTransactionId());
+    }
+
+    private void finish(TransferSaga saga, SagaState sagaState, Transaction.TransactionStatus status) {
+        saga.setState(sagaState);
+        saga.setStepDeadline(null);
+        sagaRepository.save(saga);
+        timeoutScheduler.cancel(saga.getTransactionId());
+
+        if (transactionRepository.updateStatus(saga.getTransactionId(), status)) {
+            sendOutcomeEvent(saga, status);
+            outcomePublisher.publish(saga.getTransactionId(), status);
+            log.info("Transaction {} marked as {}", saga.getTransactionId(), status);
+        }
+    }
+
+    private void sendOutcomeEvent(TransferSaga saga, Transaction.TransactionStatus status) {
+        if (status == Transaction.TransactionStatus.COMPLETED) {
+            eventProducer.sendTransactionCompleted(TransactionCompleted.builder()
+                    .transactionId(saga.getTransactionId())
+                    .status(status.name())
+                    .type(Transaction.TransactionType.TRANSFER.name())
+                    .accountId(saga.getFromAccountId())
+                    .fromAccountId(saga.getFromAccountId())
+                    .toAccountId(saga.getToAccountId())
+                    .amount(saga.getAmount())
+                    .build(), saga.getTransactionId());
+        } else {
+            eventProducer.sendTransactionFailed(TransactionFailed.builder()
+                    .transactionId(saga.getTransactionId())
+                    .reason(saga.getFailureReason())
+                    .type(Transaction.TransactionType.TRANSFER.name())
+                    .accountId(saga.getFromAccountId())
+                    .fromAccountId(saga.getFromAccountId())
+                    .toAccountId(saga.getToAccountId())
+                    .amount(saga.getAmount())
+                    .build(), saga.getTransactionId());
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.banking.transaction.service;
+
+import com.banking.common.constant.ErrorCodes;
+import com.banking.common.exception.BusinessException;
+import com.banking.transaction.model.Transaction;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque keyset position in an account's history: the {@code (createdAt, id)} of the last
+ * row returned. Clients echo it back unchanged to fetch the next page.
+ */
+record HistoryCursor(Instant createdAt, UUID id) {
+
+    private static final char SEPARATOR = '|';
+
+    static HistoryCursor after(Transaction last) {
+        return new HistoryCursor(last.getCreatedAt(), last.getId());
+    }
+
+    static HistoryCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new HistoryCursor(Instant.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new BusinessException("Invalid cursor", ErrorCodes.INVALID_CURSOR);
+        }
+    }
+
+    String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,131 @@
+package com.banking.transaction.service;
+
+import com.banking.transaction.dto.TransactionResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of recent {@code Idempotency-Key}s and the responses they produced.
+ * <p>
+ * A retry that hits the cache is answered without touching the database, and concurrent
+ * requests with the same key share the first caller's in-flight future instead of racing
+ * to insert. The primary key of {@code idempotency_records} remains the source of
+ * truth for keys that were evicted or first seen by another instance.
+ */
+@Component
+@Slf4j
+public class IdempotencyCache {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private final ConcurrentHashMap<UUID, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final int maxEntries;
+    private final long ttlNanos;
+
+    public IdempotencyCache(@Value("${banking.idempotency.max-entries:100000}") int maxEntries,
+            @Value("${banking.idempotency.ttl:10m}") Duration ttl) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * Runs {@code create} once per request id. A duplicate whose body differs from the
+     * first request fails with {@code IDEMPOTENCY_KEY_REUSED} instead of being replayed.
+     *
+     * @param create   performs the money movement; must persist the key and its hash
+     * @param existing looks up a response already stored under the key, verifying its hash
+     */
+    public CompletableFuture<Submission> submit(IdempotencyKey key, Supplier<TransactionResponse> create,
+            Function<IdempotencyKey, Optional<TransactionResponse>> existing) {
+        UUID requestId = key.requestId();
+        Entry owned = new Entry(requestId, key.requestHash(), System.nanoTime());
+        while (true) {
+            Entry current = entries.putIfAbsent(requestId, owned);
+            if (current == null) {
+                break;
+            }
+            if (!current.isExpired(System.nanoTime(), ttlNanos)) {
+                key.verifySameRequest(current.requestHash);
+                return current.future.thenApply(response -> new Submission(response, true));
+            }
+            if (entries.replace(requestId, current, owned)) {
+                break;
+            }
+        }
+
+        insertionOrder.add(owned);
+        evictOverflow();
+
+        try {
+            Submission submission = createOrReplay(key, create, existing);
+            owned.future.complete(submission.response());
+            return CompletableFuture.completedFuture(submission);
+        } catch (RuntimeException e) {
+            // Do not cache failures: the next retry should get a fresh attempt
+            entries.remove(requestId, owned);
+            owned.future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private Submission createOrReplay(IdempotencyKey key, Supplier<TransactionResponse> create,
+            Function<IdempotencyKey, Optional<TransactionResponse>> existing) {
+        try {
+            return new Submission(create.get(), false);
+        } catch (DataIntegrityViolationException e) {
+            // Key evicted from this cache or first used on another instance
+            TransactionResponse stored = existing.apply(key).orElseThrow(() -> e);
+            log.info("Replaying stored response for request: {}", key.requestId());
+            return new Submission(stored, true);
+        }
+    }
+
+    private void evictOverflow() {
+        while (entries.size() > maxEntries) {
+            Entry eldest = insertionOrder.poll();
+            if (eldest == null) {
+                return;
+            }
+            if (eldest.future.isDone()) {
+                entries.remove(eldest.requestId, eldest);
+            } else {
+                // Never evict in-flight requests, otherwise duplicates would no longer collapse
+                insertionOrder.add(eldest);
+                return;
+            }
+        }
+    }
+
+    public record Submission(TransactionResponse response, boolean replayed) {
+    }
+
+    private static final class Entry {
+        private final UUID requestId;
+        private final String requestHash;
+        private final long createdAtNanos;
+        private final CompletableFuture<TransactionResponse> future = new CompletableFuture<>();
+
+        private Entry(UUID requestId, String requestHash, long createdAtNanos) {
+            this.requestId = requestId;
+            this.requestHash = requestHash;
+            this.createdAtNanos = createdAtNanos;
+        }
+
+        private boolean isExpired(long nowNanos, long ttlNanos) {
+            return future.isDone() && nowNanos - createdAtNanos > ttlNanos;
+        }
+    }
+}
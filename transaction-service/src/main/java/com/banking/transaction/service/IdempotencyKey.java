@@ -0,0 +1,54 @@
+package com.banking.transaction.service;
+
+import com.banking.common.constant.ErrorCodes;
+import com.banking.common.exception.BusinessException;
+import com.banking.common.exception.ConflictException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * A client's {@code Idempotency-Key} resolved to the {@code request_id} it is stored under,
+ * together with a fingerprint of the request body it was sent with.
+ *
+ * @param requestId   name-based UUID of caller, endpoint and key, so two callers (or one
+ *                    caller on two endpoints) using the same key never share a response
+ * @param requestHash SHA-256 of the request body, hex encoded
+ */
+public record IdempotencyKey(UUID requestId, String requestHash) {
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    public static IdempotencyKey of(String caller, String endpoint, String idempotencyKey, byte[] body) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new BusinessException("Idempotency-Key must be 1-" + MAX_KEY_LENGTH + " characters",
+                    ErrorCodes.INVALID_IDEMPOTENCY_KEY);
+        }
+        // Newlines cannot occur in header values, so the parts cannot run into each other
+        String scoped = caller + "\n" + endpoint + "\n" + idempotencyKey;
+        return new IdempotencyKey(UUID.nameUUIDFromBytes(scoped.getBytes(StandardCharsets.UTF_8)),
+                HexFormat.of().formatHex(sha256(body)));
+    }
+
+    /**
+     * Fails with {@code 409} when the key was first used with a different body. A missing
+     * stored hash predates fingerprinting and is accepted.
+     */
+    public void verifySameRequest(String storedHash) {
+        if (storedHash != null && !storedHash.equals(requestHash)) {
+            throw new ConflictException("Idempotency-Key was already used with a different request",
+                    ErrorCodes.IDEMPOTENCY_KEY_REUSED);
+        }
+    }
+
+    private static byte[] sha256(byte[] body) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(body);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
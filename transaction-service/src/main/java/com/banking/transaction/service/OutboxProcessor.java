@@ -3,59 +3,126 @@ package com.banking.transaction.service;
 import com.banking.transaction.model.OutboxEvent;
 import com.banking.common.constant.EventTypes;
 import com.banking.common.constant.Topics;
+import com.banking.common.event.codec.EventHeaders;
+import com.banking.common.event.codec.WireFormat;
+import com.banking.common.outbox.OutboxMetrics;
+import com.banking.common.tracing.SagaStage;
+import com.banking.common.tracing.StageTimeline;
+import com.banking.common.tracing.TracingService;
+import com.banking.common.util.IdGenerator;
 import com.banking.transaction.repository.OutboxRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.UUID;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class OutboxProcessor {
 
     private final OutboxRepository outboxRepository;
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final KafkaTemplate<String, byte[]> eventKafkaTemplate;
+    // Null when banking.outbox.metrics.enabled is false
+    private final OutboxMetrics outboxMetrics;
+
+    public OutboxProcessor(OutboxRepository outboxRepository, KafkaTemplate<String, byte[]> eventKafkaTemplate,
+            ObjectProvider<OutboxMetrics> outboxMetrics) {
+        this.outboxRepository = outboxRepository;
+        this.eventKafkaTemplate = eventKafkaTemplate;
+        this.outboxMetrics = outboxMetrics.getIfAvailable();
+    }
 
     @Scheduled(fixedDelay = 5000)
     @Transactional
     public void processOutboxEvents() {
+        long batchStart = System.nanoTime();
         List<OutboxEvent> events = outboxRepository.findByStatusOrderByCreatedAtAsc(OutboxEvent.OutboxStatus.PENDING);
 
         if (events.isEmpty()) {
             return;
         }
 
-        log.info("Processing {} outbox events", events.size());
+        log.atDebug().setMessage("Processing outbox batch").addKeyValue("size", events.size()).log();
 
         for (OutboxEvent event : events) {
             try {
-                String topic = determineTopic(event.getEventType());
-                // The Aspect in common-lib will automatically catch this send,
-                // see the trace_id in the JSON, and restore the Jaeger chain!
-                kafkaTemplate.send(topic, event.getAggregateId().toString(), event.getPayload());
+                String topic = topicFor(event.getEventType());
+                ProducerRecord<String, byte[]> record =
+                        new ProducerRecord<>(topic, keyOf(event), event.getPayload());
+                record.headers().add(WireFormat.HEADER, event.getFormat().headerValue());
+                record.headers().add(EventHeaders.EVENT_TYPE, EventHeaders.eventType(event.getEventType()));
+                if (event.getEventId() != null) {
+                    record.headers().add(EventHeaders.EVENT_ID, EventHeaders.eventId(event.getEventId()));
+                }
+                // Continues the trace of the request that wrote the row, see TracingProducerInterceptor
+                if (event.getTraceparent() != null) {
+                    record.headers().add(TracingService.TRACEPARENT_HEADER,
+                            event.getTraceparent().getBytes(StandardCharsets.US_ASCII));
+                }
+                if (Topics.TRANSACTIONS_COMMANDS.equals(topic)) {
+                    record.headers().add(StageTimeline.HEADER, stageTimeline(event).toHeader());
+                }
+                long sendStart = System.nanoTime();
+                CompletableFuture<?> sent = eventKafkaTemplate.send(record);
+                if (outboxMetrics != null) {
+                    sent.whenComplete((result, error) -> outboxMetrics.recordSend(topic, sendStart, error));
+                }
 
                 event.setStatus(OutboxEvent.OutboxStatus.PROCESSED);
                 event.setProcessedAt(Instant.now());
                 outboxRepository.save(event);
 
-                log.info("Successfully processed outbox event: {} to topic: {}", event.getId(), topic);
+                log.atDebug().setMessage("Relayed outbox event")
+                        .addKeyValue("outboxId", event.getId())
+                        .addKeyValue("topic", topic)
+                        .log();
             } catch (Exception e) {
-                log.error("Error processing outbox event: {}", event.getId(), e);
+                log.atError().setMessage("Error processing outbox event")
+                        .addKeyValue("outboxId", event.getId())
+                        .addKeyValue("eventType", event.getEventType())
+                        .setCause(e)
+                        .log();
                 event.setStatus(OutboxEvent.OutboxStatus.FAILED);
                 outboxRepository.save(event);
             }
         }
+        if (outboxMetrics != null) {
+            outboxMetrics.recordBatch(batchStart, events.size());
+        }
+    }
+
+    /**
+     * Starts the saga latency timeline of a command. A command's aggregate is its transaction,
+     * whose UUIDv7 id carries its creation time; a republished command keeps that start, so
+     * the outbox stage also covers any time spent stuck.
+     */
+    private static StageTimeline stageTimeline(OutboxEvent event) {
+        UUID transactionId = event.getAggregateId();
+        Instant created = transactionId.version() == 7
+                ? Instant.ofEpochMilli(IdGenerator.timestampOf(transactionId))
+                : event.getCreatedAt();
+        return StageTimeline.startedAt(created != null ? created : Instant.now())
+                .with(SagaStage.COMMAND_PUBLISHED, Instant.now());
+    }
+
+    // Rows written before partition_key existed keep their old transaction key
+    private static String keyOf(OutboxEvent event) {
+        return event.getPartitionKey() != null ? event.getPartitionKey() : event.getAggregateId().toString();
     }
 
-    private String determineTopic(String eventType) {
+    public static String topicFor(String eventType) {
         return switch (eventType) {
-            case EventTypes.DEPOSIT_REQUESTED, EventTypes.WITHDRAW_REQUESTED, EventTypes.TRANSFER_REQUESTED ->
+            case EventTypes.DEPOSIT_REQUESTED, EventTypes.WITHDRAW_REQUESTED, EventTypes.TRANSFER_REQUESTED,
+                    EventTypes.CREDIT_REQUESTED, EventTypes.REFUND_REQUESTED ->
                 Topics.TRANSACTIONS_COMMANDS;
             case EventTypes.TRANSACTION_COMPLETED, EventTypes.TRANSACTION_FAILED ->
                 Topics.TRANSACTIONS_EVENTS;
@@ -0,0 +1,112 @@
+package com.banking.transaction.service;
+
+import com.banking.common.tracing.SagaStage;
+import com.banking.common.tracing.StageTimeline;
+import com.banking.transaction.dto.SagaLatencyResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Turns the {@link StageTimeline} of each handled account event into per-stage durations.
+ * Every stage feeds a {@code banking.saga.stage.duration} histogram tagged with its name,
+ * and the most recent breakdowns are kept in a fixed-size ring for
+ * {@link #slowest(int)}.
+ * <p>
+ * For transfers the timeline belongs to the leg being answered, so the {@code outbox}
+ * stage of a credit or refund also covers the earlier legs.
+ */
+@Component
+public class SagaLatencyTracker {
+
+    static final String METRIC = "banking.saga.stage.duration";
+
+    private static final List<Stage> STAGES = List.of(
+            new Stage("outbox", SagaStage.CREATED, SagaStage.COMMAND_PUBLISHED),
+            new Stage("command_transit", SagaStage.COMMAND_PUBLISHED, SagaStage.COMMAND_CONSUMED),
+            new Stage("account", SagaStage.COMMAND_CONSUMED, SagaStage.EVENT_PUBLISHED),
+            new Stage("event_transit", SagaStage.EVENT_PUBLISHED, SagaStage.COMPLETED),
+            new Stage("total", SagaStage.CREATED, SagaStage.COMPLETED));
+
+    private final Map<String, Timer> timers = new LinkedHashMap<>();
+    private final AtomicReferenceArray<SagaLatencyResponse> recent;
+    private final AtomicLong cursor = new AtomicLong();
+
+    public SagaLatencyTracker(MeterRegistry meterRegistry,
+            @Value("${banking.saga.latency.recent-size:1024}") int recentSize) {
+        for (Stage stage : STAGES) {
+            timers.put(stage.name(), Timer.builder(METRIC)
+                    .description("Time a transaction spends in each saga stage")
+                    .tag("stage", stage.name())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+        this.recent = new AtomicReferenceArray<>(recentSize);
+    }
+
+    /**
+     * Stamps {@link SagaStage#COMPLETED} and records the stages. Does nothing without a
+     * timeline, e.g. for events relayed before stamping was rolled out.
+     */
+    public void record(UUID transactionId, String eventType, StageTimeline timeline) {
+        if (timeline == null) {
+            return;
+        }
+        Instant completedAt = Instant.now();
+        StageTimeline completed = timeline.with(SagaStage.COMPLETED, completedAt);
+
+        Map<String, Long> stages = new LinkedHashMap<>();
+        for (Stage stage : STAGES) {
+            Duration duration = completed.between(stage.from(), stage.to());
+            if (duration != null) {
+                // Stamps from different hosts can be skewed backwards
+                Duration clamped = duration.isNegative() ? Duration.ZERO : duration;
+                timers.get(stage.name()).record(clamped);
+                stages.put(stage.name(), clamped.toMillis());
+            }
+        }
+        Long total = stages.remove("total");
+        if (total == null) {
+            return;
+        }
+
+        int slot = (int) (cursor.getAndIncrement() % recent.length());
+        recent.set(slot, SagaLatencyResponse.builder()
+                .transactionId(transactionId)
+                .eventType(eventType)
+                .completedAt(completedAt)
+                .totalMillis(total)
+                .stages(stages)
+                .build());
+    }
+
+    /**
+     * @return up to {@code limit} of the recently recorded transactions, slowest first
+     */
+    public List<SagaLatencyResponse> slowest(int limit) {
+        List<SagaLatencyResponse> snapshot = new ArrayList<>(recent.length());
+        for (int i = 0; i < recent.length(); i++) {
+            SagaLatencyResponse entry = recent.get(i);
+            if (entry != null) {
+                snapshot.add(entry);
+            }
+        }
+        snapshot.sort(Comparator.comparingLong(SagaLatencyResponse::getTotalMillis).reversed());
+        return snapshot.subList(0, Math.min(Math.max(limit, 0), snapshot.size()));
+    }
+
+    private record Stage(String name, SagaStage from, SagaStage to) {
+    }
+}
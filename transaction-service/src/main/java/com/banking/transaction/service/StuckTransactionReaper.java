@@ -0,0 +1,197 @@
+package com.banking.transaction.service;
+
+import com.banking.common.constant.EventTypes;
+import com.banking.transaction.model.Transaction;
+import com.banking.transaction.saga.TransferSagaOrchestrator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Recovers transactions stuck in {@code PENDING} because their command or its reply was
+ * lost, e.g. an outbox row that ended up {@code FAILED}.
+ * <p>
+ * Rows untouched for {@code banking.reaper.stuck-after} are scanned in keyset batches over
+ * the partial index {@code idx_transactions_pending_updated}. Each batch is claimed with
+ * {@code FOR UPDATE SKIP LOCKED} in its own DB transaction, so instances running the reaper
+ * at the same time split the work instead of repeating it, and rows being completed by a
+ * listener right now are left alone. A claimed row first gets its latest command outbox
+ * row reset to {@code PENDING}. The relay resends it with the original {@code event_id},
+ * which account-service deduplicates. After {@code banking.reaper.max-attempts}
+ * republishes the transaction is marked {@code FAILED}.
+ */
+@Component
+@Slf4j
+public class StuckTransactionReaper {
+
+    static final String GAVE_UP = "No response after republishing the command";
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+    private static final List<String> COMMAND_TYPES = List.of(EventTypes.DEPOSIT_REQUESTED,
+            EventTypes.WITHDRAW_REQUESTED, EventTypes.TRANSFER_REQUESTED, EventTypes.CREDIT_REQUESTED,
+            EventTypes.REFUND_REQUESTED);
+
+    static final String FIND_STUCK_SQL = """
+            SELECT id, type, created_at, updated_at, reap_attempts
+              FROM transactions
+             WHERE status = 'PENDING'
+               AND updated_at < ?
+               AND (updated_at, id) > (?, ?)
+             ORDER BY updated_at, id
+             LIMIT ?
+               FOR UPDATE SKIP LOCKED
+            """;
+
+    static final String REPUBLISH_SQL = """
+            UPDATE outbox_events SET status = 'PENDING', processed_at = NULL
+             WHERE id = (SELECT o.id FROM outbox_events o
+                          WHERE o.aggregate_id = ?
+                            AND o.event_type IN (?, ?, ?, ?, ?)
+                          ORDER BY o.created_at DESC
+                          LIMIT 1)
+            """;
+
+    // created_at is the partition key, so matching it exactly touches a single partition
+    static final String BUMP_SQL = """
+            UPDATE transactions SET reap_attempts = reap_attempts + 1, updated_at = ?
+             WHERE id = ? AND created_at = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionFinalizer transactionFinalizer;
+    private final TransferSagaOrchestrator transferSagaOrchestrator;
+    private final Duration stuckAfter;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final int maxAttempts;
+
+    public StuckTransactionReaper(JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            TransactionFinalizer transactionFinalizer,
+            TransferSagaOrchestrator transferSagaOrchestrator,
+            @Value("${banking.reaper.stuck-after:2m}") Duration stuckAfter,
+            @Value("${banking.reaper.batch-size:200}") int batchSize,
+            @Value("${banking.reaper.max-batches-per-run:50}") int maxBatchesPerRun,
+            @Value("${banking.reaper.max-attempts:3}") int maxAttempts) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.transactionFinalizer = transactionFinalizer;
+        this.transferSagaOrchestrator = transferSagaOrchestrator;
+        this.stuckAfter = stuckAfter;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Scheduled(fixedDelayString = "${banking.reaper.interval:PT30S}",
+            initialDelayString = "${banking.reaper.interval:PT30S}")
+    public void reap() {
+        Instant deadline = Instant.now().minus(stuckAfter);
+        Instant afterUpdatedAt = Instant.EPOCH;
+        UUID afterId = MIN_UUID;
+        int republished = 0;
+        int failed = 0;
+
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            Instant fromUpdatedAt = afterUpdatedAt;
+            UUID fromId = afterId;
+            BatchResult result = transactionTemplate.execute(status -> reapBatch(deadline, fromUpdatedAt, fromId));
+            if (result == null || result.last() == null) {
+                break;
+            }
+            republished += result.republished();
+            failed += result.failed();
+            afterUpdatedAt = result.last().updatedAt();
+            afterId = result.last().id();
+            if (result.scanned() < batchSize) {
+                break;
+            }
+        }
+
+        if (republished > 0 || failed > 0) {
+            log.warn("Reaped stuck transactions: {} commands republished, {} marked FAILED", republished, failed);
+        }
+    }
+
+    private BatchResult reapBatch(Instant deadline, Instant afterUpdatedAt, UUID afterId) {
+        List<StuckTransaction> batch = jdbcTemplate.query(FIND_STUCK_SQL, StuckTransactionReaper::mapRow,
+                utc(deadline), utc(afterUpdatedAt), afterId, batchSize);
+
+        int republished = 0;
+        int failed = 0;
+        Instant now = Instant.now();
+        for (StuckTransaction stuck : batch) {
+            if (stuck.reapAttempts() < maxAttempts && republish(stuck, now)) {
+                republished++;
+            } else if (giveUp(stuck, now)) {
+                failed++;
+            }
+        }
+        return new BatchResult(batch.size(), republished, failed, batch.isEmpty() ? null : batch.getLast());
+    }
+
+    private boolean republish(StuckTransaction stuck, Instant now) {
+        Object[] args = new Object[1 + COMMAND_TYPES.size()];
+        args[0] = stuck.id();
+        for (int i = 0; i < COMMAND_TYPES.size(); i++) {
+            args[i + 1] = COMMAND_TYPES.get(i);
+        }
+        if (jdbcTemplate.update(REPUBLISH_SQL, args) == 0) {
+            log.warn("No command found to republish for stuck transaction {}", stuck.id());
+            return false;
+        }
+        bump(stuck, now);
+        log.info("Republished command of stuck transaction {} (attempt {})", stuck.id(), stuck.reapAttempts() + 1);
+        return true;
+    }
+
+    private boolean giveUp(StuckTransaction stuck, Instant now) {
+        boolean finished = stuck.type() == Transaction.TransactionType.TRANSFER
+                ? transferSagaOrchestrator.abandonReservation(stuck.id(), GAVE_UP)
+                : transactionFinalizer.finish(stuck.id(), Transaction.TransactionStatus.FAILED, GAVE_UP);
+        if (!finished) {
+            // A transfer past reservation; its saga deadline or refund decides the outcome
+            bump(stuck, now);
+            return false;
+        }
+        log.error("Gave up on stuck transaction {} after {} republishes, marked FAILED; the ledger may "
+                + "need reconciliation", stuck.id(), stuck.reapAttempts());
+        return true;
+    }
+
+    private void bump(StuckTransaction stuck, Instant now) {
+        jdbcTemplate.update(BUMP_SQL, utc(now), stuck.id(), utc(stuck.createdAt()));
+    }
+
+    private static OffsetDateTime utc(Instant instant) {
+        return instant.atOffset(ZoneOffset.UTC);
+    }
+
+    private static StuckTransaction mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new StuckTransaction(
+                rs.getObject("id", UUID.class),
+                Transaction.TransactionType.valueOf(rs.getString("type")),
+                rs.getObject("created_at", OffsetDateTime.class).toInstant(),
+                rs.getObject("updated_at", OffsetDateTime.class).toInstant(),
+                rs.getInt("reap_attempts"));
+    }
+
+    record StuckTransaction(UUID id, Transaction.TransactionType type, Instant createdAt, Instant updatedAt,
+            int reapAttempts) {
+    }
+
+    private record BatchResult(int scanned, int republished, int failed, StuckTransaction last) {
+    }
+}
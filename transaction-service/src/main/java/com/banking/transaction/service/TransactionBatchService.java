@@ -0,0 +1,189 @@
+package com.banking.transaction.service;
+
+import com.banking.common.constant.ErrorCodes;
+import com.banking.common.event.DepositRequested;
+import com.banking.common.event.TransferRequested;
+import com.banking.common.event.WithdrawRequested;
+import com.banking.common.exception.BusinessException;
+import com.banking.common.money.Money;
+import com.banking.common.tracing.TracingService;
+import com.banking.transaction.dto.BatchTransactionRequest;
+import com.banking.transaction.dto.BatchTransactionResponse;
+import com.banking.transaction.event.TransactionEventProducer;
+import com.banking.transaction.model.Transaction;
+import com.banking.transaction.repository.TransactionRepository;
+import com.banking.transaction.saga.TransferSagaOrchestrator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Accepts many deposits, withdrawals and transfers in one request.
+ * <p>
+ * Items are committed in chunks of {@code banking.batch.chunk-size}: each chunk is one DB
+ * transaction whose {@code transactions}, {@code outbox_events} and {@code transfer_sagas}
+ * rows are flushed as JDBC batches ({@code hibernate.jdbc.batch_size}). The persistence
+ * context is dropped at every chunk commit, so memory stays bounded by the chunk size
+ * rather than the batch size. A failed chunk does not roll back chunks already committed.
+ */
+@Service
+@Slf4j
+public class TransactionBatchService {
+
+    static final String REJECTED = "REJECTED";
+
+    private final TransactionRepository transactionRepository;
+    private final TransactionEventProducer eventProducer;
+    private final TransferSagaOrchestrator transferSagaOrchestrator;
+    private final TransactionTemplate transactionTemplate;
+    private final TracingService tracingService;
+    private final int maxItems;
+    private final int chunkSize;
+
+    public TransactionBatchService(TransactionRepository transactionRepository,
+            TransactionEventProducer eventProducer,
+            TransferSagaOrchestrator transferSagaOrchestrator,
+            TransactionTemplate transactionTemplate,
+            TracingService tracingService,
+            @Value("${banking.batch.max-items:50000}") int maxItems,
+            @Value("${banking.batch.chunk-size:500}") int chunkSize) {
+        this.transactionRepository = transactionRepository;
+        this.eventProducer = eventProducer;
+        this.transferSagaOrchestrator = transferSagaOrchestrator;
+        this.transactionTemplate = transactionTemplate;
+        this.tracingService = tracingService;
+        this.maxItems = maxItems;
+        this.chunkSize = chunkSize;
+    }
+
+    public BatchTransactionResponse submit(BatchTransactionRequest request) {
+        List<BatchTransactionRequest.Item> items = request.getItems() == null ? List.of() : request.getItems();
+        if (items.isEmpty() || items.size() > maxItems) {
+            throw new BusinessException("Batch must contain 1-" + maxItems + " items", ErrorCodes.BATCH_TOO_LARGE);
+        }
+
+        List<BatchTransactionResponse.ItemResult> results = new ArrayList<>(items.size());
+        for (int from = 0; from < items.size(); from += chunkSize) {
+            int to = Math.min(from + chunkSize, items.size());
+            results.addAll(submitChunk(items, from, to));
+        }
+
+        int accepted = (int) results.stream().filter(r -> !REJECTED.equals(r.getStatus())).count();
+        log.info("Batch of {} items: {} accepted, {} rejected", items.size(), accepted, items.size() - accepted);
+
+        return BatchTransactionResponse.builder()
+                .accepted(accepted)
+                .rejected(items.size() - accepted)
+                .items(results)
+                .traceId(tracingService.getCurrentTraceId())
+                .build();
+    }
+
+    private List<BatchTransactionResponse.ItemResult> submitChunk(List<BatchTransactionRequest.Item> items,
+            int from, int to) {
+        BatchTransactionResponse.ItemResult[] results = new BatchTransactionResponse.ItemResult[to - from];
+        List<Transaction> transactions = new ArrayList<>(to - from);
+        int[] indexes = new int[to - from];
+
+        for (int i = from; i < to; i++) {
+            try {
+                indexes[transactions.size()] = i;
+                transactions.add(toTransaction(items.get(i)));
+            } catch (BusinessException e) {
+                results[i - from] = rejected(i, e.getErrorCode(), e.getMessage());
+            }
+        }
+
+        if (!transactions.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    transactionRepository.saveAll(transactions);
+                    transactions.forEach(this::publish);
+                });
+                for (int t = 0; t < transactions.size(); t++) {
+                    Transaction transaction = transactions.get(t);
+                    results[indexes[t] - from] = BatchTransactionResponse.ItemResult.builder()
+                            .index(indexes[t])
+                            .id(transaction.getId())
+                            .status(transaction.getStatus().name())
+                            .build();
+                }
+            } catch (RuntimeException e) {
+                log.error("Batch chunk [{}, {}) failed, {} items rejected", from, to, transactions.size(), e);
+                for (int t = 0; t < transactions.size(); t++) {
+                    results[indexes[t] - from] = rejected(indexes[t], ErrorCodes.BATCH_CHUNK_FAILED,
+                            "Chunk could not be committed");
+                }
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    private Transaction toTransaction(BatchTransactionRequest.Item item) {
+        if (item == null || item.getType() == null) {
+            throw new BusinessException("Item type is required", ErrorCodes.INVALID_BATCH_ITEM);
+        }
+        Money amount = Money.of(item.getAmount(), item.getCurrency());
+        if (!amount.isPositive()) {
+            throw new BusinessException("Amount must be positive", ErrorCodes.INVALID_AMOUNT);
+        }
+
+        Transaction.TransactionBuilder builder = Transaction.builder()
+                .amountMinor(amount.getMinorUnits())
+                .currency(amount.getCurrency())
+                .type(item.getType())
+                .status(Transaction.TransactionStatus.PENDING);
+
+        if (item.getType() == Transaction.TransactionType.TRANSFER) {
+            if (item.getFromAccountId() == null || item.getToAccountId() == null
+                    || item.getFromAccountId().equals(item.getToAccountId())) {
+                throw new BusinessException("Transfer needs two distinct accounts", ErrorCodes.INVALID_BATCH_ITEM);
+            }
+            // accountId is the debited leg, as for single transfers
+            return builder.accountId(item.getFromAccountId())
+                    .fromAccountId(item.getFromAccountId())
+                    .toAccountId(item.getToAccountId())
+                    .build();
+        }
+
+        if (item.getAccountId() == null) {
+            throw new BusinessException("Account id is required", ErrorCodes.INVALID_BATCH_ITEM);
+        }
+        return builder.accountId(item.getAccountId()).build();
+    }
+
+    private void publish(Transaction transaction) {
+        switch (transaction.getType()) {
+            case DEPOSIT -> eventProducer.sendDepositRequested(DepositRequested.builder()
+                    .accountId(transaction.getAccountId())
+                    .amount(transaction.getAmount())
+                    .build(), transaction.getId());
+            case WITHDRAWAL -> eventProducer.sendWithdrawRequested(WithdrawRequested.builder()
+                    .accountId(transaction.getAccountId())
+                    .amount(transaction.getAmount())
+                    .build(), transaction.getId());
+            case TRANSFER -> {
+                transferSagaOrchestrator.begin(transaction);
+                eventProducer.sendTransferRequested(TransferRequested.builder()
+                        .fromAccountId(transaction.getFromAccountId())
+                        .toAccountId(transaction.getToAccountId())
+                        .amount(transaction.getAmount())
+                        .build(), transaction.getId());
+            }
+        }
+    }
+
+    private static BatchTransactionResponse.ItemResult rejected(int index, String errorCode, String message) {
+        return BatchTransactionResponse.ItemResult.builder()
+                .index(index)
+                .status(REJECTED)
+                .errorCode(errorCode)
+                .message(message)
+                .build();
+    }
+}
@@ -0,0 +1,122 @@
+package com.banking.transaction.service;
+
+import com.banking.common.persistence.routing.ReadRouting;
+import com.banking.transaction.dto.TransactionResponse;
+import com.banking.transaction.model.Transaction;
+import com.banking.transaction.saga.HashedTimerWheel;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Parks clients waiting for a transaction to leave {@code PENDING}.
+ * <p>
+ * Waiters are plain futures, so no request thread is held while parked. All waiters on the
+ * same transaction share one entry, completed by {@link #complete} when an outcome
+ * notification reaches this instance; timeouts run on a {@link HashedTimerWheel} and answer
+ * with the last known (pending) state.
+ */
+@Component
+@Slf4j
+public class TransactionCompletionRegistry {
+
+    private final TransactionService transactionService;
+    private final HashedTimerWheel wheel;
+    private final Duration maxTimeout;
+    private final Map<UUID, Entry> pending = new ConcurrentHashMap<>();
+
+    public TransactionCompletionRegistry(TransactionService transactionService,
+            @Value("${banking.await.max-timeout:30s}") Duration maxTimeout,
+            @Value("${banking.await.timer.tick:100ms}") Duration tick) {
+        this.transactionService = transactionService;
+        this.maxTimeout = maxTimeout;
+        this.wheel = new HashedTimerWheel("await-timer-wheel", tick, 512);
+    }
+
+    /**
+     * Completes with the transaction once it is no longer pending, or with its pending state
+     * after {@code timeout} (capped at {@code banking.await.max-timeout}).
+     */
+    public CompletableFuture<TransactionResponse> await(UUID transactionId, Duration timeout) {
+        // Register before reading so an outcome landing in between is not missed
+        Entry entry = pending.compute(transactionId, (id, existing) -> {
+            Entry e = existing != null ? existing : new Entry();
+            e.waiters++;
+            return e;
+        });
+
+        TransactionResponse current;
+        try {
+            // From the primary: a lagging replica would report PENDING after the outcome was
+            // already published, and that outcome would never wake this waiter
+            current = ReadRouting.onPrimary(() -> transactionService.getTransaction(transactionId));
+        } catch (RuntimeException e) {
+            release(transactionId, entry);
+            throw e;
+        }
+        if (!isPending(current)) {
+            complete(transactionId, current);
+            return CompletableFuture.completedFuture(current);
+        }
+
+        CompletableFuture<TransactionResponse> waiter = new CompletableFuture<>();
+        entry.future.thenAccept(waiter::complete);
+        Duration effective = timeout.compareTo(maxTimeout) > 0 ? maxTimeout : timeout;
+        HashedTimerWheel.Timeout expiry = wheel.schedule(() -> {
+            if (!waiter.isDone()) {
+                release(transactionId, entry);
+                waiter.complete(current);
+            }
+        }, effective);
+        waiter.whenComplete((response, e) -> expiry.cancel());
+        return waiter;
+    }
+
+    /**
+     * Wakes every waiter on this instance. Reads the transaction only if someone is waiting,
+     * and from the primary, since a replica may not have replayed the outcome yet.
+     */
+    public void complete(UUID transactionId) {
+        if (!pending.containsKey(transactionId)) {
+            return;
+        }
+        complete(transactionId, ReadRouting.onPrimary(() -> transactionService.getTransaction(transactionId)));
+    }
+
+    public int waitingTransactions() {
+        return pending.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        wheel.close();
+    }
+
+    private void complete(UUID transactionId, TransactionResponse response) {
+        Entry entry = pending.remove(transactionId);
+        if (entry != null) {
+            entry.future.complete(response);
+        }
+    }
+
+    private void release(UUID transactionId, Entry entry) {
+        pending.computeIfPresent(transactionId, (id, e) -> e == entry && --e.waiters == 0 ? null : e);
+    }
+
+    private static boolean isPending(TransactionResponse response) {
+        return Transaction.TransactionStatus.PENDING.name().equals(response.getStatus());
+    }
+
+    private static final class Entry {
+        private final CompletableFuture<TransactionResponse> future = new CompletableFuture<>();
+        // Guarded by the map's compute lock
+        private int waiters;
+    }
+}
@@ -0,0 +1,67 @@
+package com.banking.transaction.service;
+
+import com.banking.common.event.TransactionCompleted;
+import com.banking.common.event.TransactionFailed;
+import com.banking.transaction.event.TransactionEventProducer;
+import com.banking.transaction.event.TransactionOutcomePublisher;
+import com.banking.transaction.model.Transaction;
+import com.banking.transaction.repository.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Moves a deposit or withdrawal out of {@code PENDING}: updates the row, writes the
+ * {@code TransactionCompleted}/{@code TransactionFailed} outbox event and wakes awaiting
+ * clients. Transfers finish through
+ * {@link com.banking.transaction.saga.TransferSagaOrchestrator} instead. Must run inside
+ * the caller's DB transaction.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionFinalizer {
+
+    private final TransactionRepository transactionRepository;
+    private final TransactionEventProducer eventProducer;
+    private final TransactionOutcomePublisher outcomePublisher;
+
+    /**
+     * Writes the outcome event and wakes waiters only if this call moved the row out of
+     * {@code PENDING}, so a redelivered reply does not publish the outcome a second time.
+     *
+     * @return {@code false} if no transaction with this id exists or it already left {@code PENDING}
+     */
+    public boolean finish(UUID transactionId, Transaction.TransactionStatus status, String reason) {
+        if (!transactionRepository.updateStatus(transactionId, status)) {
+            return false;
+        }
+        transactionRepository.findByIdPruned(transactionId)
+                .ifPresent(transaction -> sendOutcomeEvent(transaction, status, reason));
+        outcomePublisher.publish(transactionId, status);
+        log.info("Transaction {} marked as {}", transactionId, status);
+        return true;
+    }
+
+    private void sendOutcomeEvent(Transaction transaction, Transaction.TransactionStatus status, String reason) {
+        if (status == Transaction.TransactionStatus.COMPLETED) {
+            eventProducer.sendTransactionCompleted(TransactionCompleted.builder()
+                    .transactionId(transaction.getId())
+                    .status(status.name())
+                    .type(transaction.getType().name())
+                    .accountId(transaction.getAccountId())
+                    .amount(transaction.getAmount())
+                    .build(), transaction.getId());
+        } else {
+            eventProducer.sendTransactionFailed(TransactionFailed.builder()
+                    .transactionId(transaction.getId())
+                    .reason(reason)
+                    .type(transaction.getType().name())
+                    .accountId(transaction.getAccountId())
+                    .amount(transaction.getAmount())
+                    .build(), transaction.getId());
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.banking.transaction.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the monthly partitions of {@code transactions} in shape: creates the current and
+ * upcoming months ahead of time and, when {@code banking.partitions.archive-after-months} is
+ * set, detaches months older than that and moves them to the {@code transaction_archive}
+ * schema, where they can be dumped or dropped without touching the live table.
+ * <p>
+ * Runs on every instance but serializes through a PostgreSQL advisory lock, so only one
+ * instance does the work at a time.
+ */
+@Component
+@Slf4j
+public class TransactionPartitionMaintenance {
+
+    static final String PARTITION_PREFIX = "transactions_p";
+    static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final String ARCHIVE_SCHEMA = "transaction_archive";
+    private static final long ADVISORY_LOCK_KEY = 0x7472616e73L; // "trans"
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int monthsAhead;
+    private final int archiveAfterMonths;
+
+    public TransactionPartitionMaintenance(JdbcTemplate jdbcTemplate,
+            @Value("${banking.partitions.months-ahead:3}") int monthsAhead,
+            @Value("${banking.partitions.archive-after-months:0}") int archiveAfterMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.monthsAhead = monthsAhead;
+        this.archiveAfterMonths = archiveAfterMonths;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${banking.partitions.maintenance-cron:0 15 3 * * *}", zone = "UTC")
+    public void maintain() {
+        // DETACH ... CONCURRENTLY cannot run inside a transaction block, so this works on a
+        // single auto-commit connection that also holds the session-level advisory lock
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            if (!tryLock(connection)) {
+                log.debug("Partition maintenance already running on another instance");
+                return null;
+            }
+            try {
+                YearMonth current = YearMonth.now(ZoneOffset.UTC);
+                createAhead(connection, current);
+                if (archiveAfterMonths > 0) {
+                    archiveBefore(connection, current.minusMonths(archiveAfterMonths));
+                }
+            } finally {
+                unlock(connection);
+            }
+            return null;
+        });
+    }
+
+    private void createAhead(Connection connection, YearMonth current) throws SQLException {
+        try (PreparedStatement ensure = connection.prepareStatement("SELECT transactions_ensure_partition(?)")) {
+            for (int i = 0; i <= monthsAhead; i++) {
+                ensure.setObject(1, current.plusMonths(i).atDay(1));
+                ensure.execute();
+            }
+        }
+    }
+
+    private void archiveBefore(Connection connection, YearMonth cutoff) throws SQLException {
+        for (String partition : attachedPartitions(connection)) {
+            YearMonth month = monthOf(partition);
+            if (month == null || !month.isBefore(cutoff)) {
+                continue;
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ALTER TABLE transactions DETACH PARTITION " + partition + " CONCURRENTLY");
+                statement.execute("ALTER TABLE " + partition + " SET SCHEMA " + ARCHIVE_SCHEMA);
+            }
+            log.info("Archived transactions partition {} to schema {}", partition, ARCHIVE_SCHEMA);
+        }
+    }
+
+    private List<String> attachedPartitions(Connection connection) throws SQLException {
+        List<String> partitions = new ArrayList<>();
+        try (PreparedStatement query = connection.prepareStatement("""
+                SELECT c.relname FROM pg_inherits i
+                  JOIN pg_class c ON c.oid = i.inhrelid
+                 WHERE i.inhparent = 'transactions'::regclass
+                 ORDER BY c.relname
+                """);
+             ResultSet rows = query.executeQuery()) {
+            while (rows.next()) {
+                partitions.add(rows.getString(1));
+            }
+        }
+        return partitions;
+    }
+
+    static YearMonth monthOf(String partition) {
+        if (!partition.startsWith(PARTITION_PREFIX)) {
+            return null;
+        }
+        try {
+            return YearMonth.parse(partition.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static boolean tryLock(Connection connection) throws SQLException {
+        try (PreparedStatement lock = connection.prepareStatement("SELECT pg_try_advisory_lock(?)")) {
+            lock.setLong(1, ADVISORY_LOCK_KEY);
+            try (ResultSet result = lock.executeQuery()) {
+                return result.next() && result.getBoolean(1);
+            }
+        }
+    }
+
+    private static void unlock(Connection connection) throws SQLException {
+        try (PreparedStatement unlock = connection.prepareStatement("SELECT pg_advisory_unlock(?)")) {
+            unlock.setLong(1, ADVISORY_LOCK_KEY);
+            unlock.execute();
+        }
+    }
+}
@@ -1,17 +1,23 @@
 package com.banking.transaction.service;
 
+import com.banking.transaction.dto.TransactionHistoryResponse;
 import com.banking.transaction.dto.TransactionRequest;
 import com.banking.transaction.dto.TransactionResponse;
 import com.banking.transaction.dto.TransferRequest;
 
+import java.util.Optional;
 import java.util.UUID;
 
 public interface TransactionService {
-    TransactionResponse createDeposit(TransactionRequest request);
+    TransactionResponse createDeposit(TransactionRequest request, IdempotencyKey idempotencyKey);
 
-    TransactionResponse createWithdrawal(TransactionRequest request);
+    TransactionResponse createWithdrawal(TransactionRequest request, IdempotencyKey idempotencyKey);
 
-    TransactionResponse createTransfer(TransferRequest request);
+    TransactionResponse createTransfer(TransferRequest request, IdempotencyKey idempotencyKey);
 
     TransactionResponse getTransaction(UUID id);
+
+    Optional<TransactionResponse> findByRequestId(IdempotencyKey idempotencyKey);
+
+    TransactionHistoryResponse getAccountHistory(UUID accountId, String cursor, int limit);
 }
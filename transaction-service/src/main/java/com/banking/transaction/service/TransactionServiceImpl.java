@@ -1,29 +1,28 @@
 package com.banking.transaction.service;
 
-import com.banking.common.event.BaseEvent;
 import com.banking.common.event.DepositRequested;
 import com.banking.common.event.TransferRequested;
 import com.banking.common.event.WithdrawRequested;
-import com.banking.common.constant.AggregateTypes;
-import com.banking.common.constant.EventTypes;
-import com.banking.common.constant.ErrorCodes;
 import com.banking.common.exception.BusinessException;
+import com.banking.common.money.Money;
 import com.banking.common.tracing.TracingService;
+import com.banking.transaction.dto.TransactionHistoryResponse;
 import com.banking.transaction.dto.TransactionRequest;
 import com.banking.transaction.dto.TransactionResponse;
 import com.banking.transaction.dto.TransferRequest;
-import com.banking.transaction.model.OutboxEvent;
+import com.banking.transaction.event.TransactionEventProducer;
+import com.banking.transaction.model.IdempotencyRecord;
 import com.banking.transaction.model.Transaction;
-import com.banking.transaction.repository.OutboxRepository;
+import com.banking.transaction.repository.IdempotencyRecordRepository;
 import com.banking.transaction.repository.TransactionRepository;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.banking.transaction.saga.TransferSagaOrchestrator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -31,78 +30,91 @@ import java.util.UUID;
 @Slf4j
 public class TransactionServiceImpl implements TransactionService {
 
+        private static final int MAX_HISTORY_PAGE_SIZE = 200;
+
         private final TransactionRepository transactionRepository;
-        private final OutboxRepository outboxRepository;
-        private final ObjectMapper objectMapper;
+        private final IdempotencyRecordRepository idempotencyRecordRepository;
+        private final TransactionEventProducer eventProducer;
+        private final TransferSagaOrchestrator transferSagaOrchestrator;
         private final TracingService tracingService;
 
         @Override
         @Transactional
-        public TransactionResponse createDeposit(TransactionRequest request) {
+        public TransactionResponse createDeposit(TransactionRequest request, IdempotencyKey idempotencyKey) {
+                Money amount = Money.of(request.getAmount(), request.getCurrency());
+
                 Transaction transaction = Transaction.builder()
+                                .requestId(idempotencyKey != null ? idempotencyKey.requestId() : null)
                                 .accountId(request.getAccountId())
-                                .amount(request.getAmount())
-                                .currency(request.getCurrency())
+                                .amountMinor(amount.getMinorUnits())
+                                .currency(amount.getCurrency())
                                 .type(Transaction.TransactionType.DEPOSIT)
                                 .status(Transaction.TransactionStatus.PENDING)
                                 .build();
 
                 Transaction savedTransaction = transactionRepository.save(transaction);
+                recordRequest(idempotencyKey, savedTransaction);
 
-                saveOutboxEvent(savedTransaction, EventTypes.DEPOSIT_REQUESTED,
-                                DepositRequested.builder()
-                                                .accountId(savedTransaction.getAccountId())
-                                                .amount(savedTransaction.getAmount())
-                                                .currency(savedTransaction.getCurrency())
-                                                .build());
+                eventProducer.sendDepositRequested(DepositRequested.builder()
+                                .accountId(savedTransaction.getAccountId())
+                                .amount(savedTransaction.getAmount())
+                                .build(), savedTransaction.getId());
 
                 return mapToResponse(savedTransaction);
         }
 
         @Override
         @Transactional
-        public TransactionResponse createWithdrawal(TransactionRequest request) {
+        public TransactionResponse createWithdrawal(TransactionRequest request, IdempotencyKey idempotencyKey) {
+                Money amount = Money.of(request.getAmount(), request.getCurrency());
+
                 Transaction transaction = Transaction.builder()
+                                .requestId(idempotencyKey != null ? idempotencyKey.requestId() : null)
                                 .accountId(request.getAccountId())
-                                .amount(request.getAmount())
-                                .currency(request.getCurrency())
+                                .amountMinor(amount.getMinorUnits())
+                                .currency(amount.getCurrency())
                                 .type(Transaction.TransactionType.WITHDRAWAL)
                                 .status(Transaction.TransactionStatus.PENDING)
                                 .build();
 
                 Transaction savedTransaction = transactionRepository.save(transaction);
+                recordRequest(idempotencyKey, savedTransaction);
 
-                saveOutboxEvent(savedTransaction, EventTypes.WITHDRAW_REQUESTED,
-                                WithdrawRequested.builder()
-                                                .accountId(savedTransaction.getAccountId())
-                                                .amount(savedTransaction.getAmount())
-                                                .currency(savedTransaction.getCurrency())
-                                                .build());
+                eventProducer.sendWithdrawRequested(WithdrawRequested.builder()
+                                .accountId(savedTransaction.getAccountId())
+                                .amount(savedTransaction.getAmount())
+                                .build(), savedTransaction.getId());
 
                 return mapToResponse(savedTransaction);
         }
 
         @Override
         @Transactional
-        public TransactionResponse createTransfer(TransferRequest request) {
+        public TransactionResponse createTransfer(TransferRequest request, IdempotencyKey idempotencyKey) {
+                Money amount = Money.of(request.getAmount(), request.getCurrency());
+
+                // accountId is the debited leg so every transaction row has an owning account
                 Transaction transaction = Transaction.builder()
+                                .requestId(idempotencyKey != null ? idempotencyKey.requestId() : null)
+                                .accountId(request.getFromAccountId())
                                 .fromAccountId(request.getFromAccountId())
                                 .toAccountId(request.getToAccountId())
-                                .amount(request.getAmount())
-                                .currency(request.getCurrency())
+                                .amountMinor(amount.getMinorUnits())
+                                .currency(amount.getCurrency())
                                 .type(Transaction.TransactionType.TRANSFER)
                                 .status(Transaction.TransactionStatus.PENDING)
                                 .build();
 
                 Transaction savedTransaction = transactionRepository.save(transaction);
+                recordRequest(idempotencyKey, savedTransaction);
 
-                saveOutboxEvent(savedTransaction, EventTypes.TRANSFER_REQUESTED,
-                                TransferRequested.builder()
-                                                .fromAccountId(savedTransaction.getFromAccountId())
-                                                .toAccountId(savedTransaction.getToAccountId())
-                                                .amount(savedTransaction.getAmount())
-                                                .currency(savedTransaction.getCurrency())
-                                                .build());
+                transferSagaOrchestrator.begin(savedTransaction);
+
+                eventProducer.sendTransferRequested(TransferRequested.builder()
+                                .fromAccountId(savedTransaction.getFromAccountId())
+                                .toAccountId(savedTransaction.getToAccountId())
+                                .amount(savedTransaction.getAmount())
+                                .build(), savedTransaction.getId());
 
                 return mapToResponse(savedTransaction);
         }
@@ -110,40 +122,53 @@ public class TransactionServiceImpl implements TransactionService {
         @Override
         @Transactional(readOnly = true)
         public TransactionResponse getTransaction(UUID id) {
-                return transactionRepository.findById(id)
+                return transactionRepository.findByIdPruned(id)
                                 .map(this::mapToResponse)
                                 .orElseThrow(() -> new BusinessException("Transaction not found",
                                                 "TRANSACTION_NOT_FOUND"));
         }
 
-        private void saveOutboxEvent(Transaction transaction, String eventType, Object payload) {
-                try {
-                        BaseEvent<?> event = BaseEvent.builder()
-                                        .eventId(UUID.randomUUID())
-                                        .eventType(eventType)
-                                        .eventVersion(1)
-                                        .aggregateType(AggregateTypes.TRANSACTION)
-                                        .aggregateId(transaction.getId())
+        @Override
+        @Transactional(readOnly = true)
+        public Optional<TransactionResponse> findByRequestId(IdempotencyKey idempotencyKey) {
+                return idempotencyRecordRepository.findById(idempotencyKey.requestId())
+                                .flatMap(record -> {
+                                        idempotencyKey.verifySameRequest(record.getRequestHash());
+                                        return transactionRepository.findByIdPruned(record.getTransactionId());
+                                })
+                                .map(this::mapToResponse);
+        }
+
+        @Override
+        @Transactional(readOnly = true)
+        public TransactionHistoryResponse getAccountHistory(UUID accountId, String cursor, int limit) {
+                int pageSize = Math.clamp(limit, 1, MAX_HISTORY_PAGE_SIZE);
+                // One extra row tells whether another page exists without a count query
+                List<Transaction> rows;
+                if (cursor == null) {
+                        rows = transactionRepository.findAccountHistory(accountId, pageSize + 1);
+                } else {
+                        HistoryCursor after = HistoryCursor.decode(cursor);
+                        rows = transactionRepository.findAccountHistoryBefore(accountId, after.createdAt(),
+                                        after.id(), pageSize + 1);
+                }
+
+                boolean hasNext = rows.size() > pageSize;
+                List<Transaction> page = hasNext ? rows.subList(0, pageSize) : rows;
+                return TransactionHistoryResponse.builder()
+                                .items(page.stream().map(this::mapToResponse).toList())
+                                .nextCursor(hasNext ? HistoryCursor.after(page.get(pageSize - 1)).encode() : null)
+                                .build();
+        }
+
+        // A duplicate key fails this insert at flush, rolling back the duplicate transaction
+        private void recordRequest(IdempotencyKey idempotencyKey, Transaction transaction) {
+                if (idempotencyKey != null) {
+                        idempotencyRecordRepository.save(IdempotencyRecord.builder()
+                                        .requestId(idempotencyKey.requestId())
+                                        .requestHash(idempotencyKey.requestHash())
                                         .transactionId(transaction.getId())
-                                        .requestId(UUID.randomUUID())
-                                        .correlationId(UUID.randomUUID())
-                                        .traceId(tracingService.getCurrentTraceId())
-                                        .timestamp(LocalDateTime.now())
-                                        .payload(payload)
-                                        .build();
-
-                        OutboxEvent outboxEvent = OutboxEvent.builder()
-                                        .aggregateType(AggregateTypes.TRANSACTION)
-                                        .aggregateId(transaction.getId())
-                                        .eventType(eventType)
-                                        .payload(objectMapper.writeValueAsString(event))
-                                        .status(OutboxEvent.OutboxStatus.PENDING)
-                                        .build();
-
-                        outboxRepository.save(outboxEvent);
-                } catch (JsonProcessingException e) {
-                        log.error("Error serializing outbox event", e);
-                        throw new BusinessException("Error serializing outbox event", ErrorCodes.SERIALIZATION_ERROR);
+                                        .build());
                 }
         }
 
@@ -151,9 +176,10 @@ public class TransactionServiceImpl implements TransactionService {
                 return TransactionResponse.builder()
                                 .id(transaction.getId())
                                 .accountId(transaction.getAccountId())
-                                .amount(transaction.getAmount())
+                                .amount(transaction.getAmount().toBigDecimal())
                                 .type(transaction.getType().name())
                                 .status(transaction.getStatus().name())
+                                .createdAt(transaction.getCreatedAt())
                                 .traceId(tracingService.getCurrentTraceId())
                                 .build();
         }
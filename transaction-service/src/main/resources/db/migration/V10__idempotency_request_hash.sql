@@ -0,0 +1,4 @@
+-- Fingerprint of the request body an Idempotency-Key was first used with, so reusing the
+-- key for a different request is refused instead of replaying an unrelated response.
+-- Rows written before this migration have no hash and are replayed as before.
+ALTER TABLE idempotency_records ADD COLUMN request_hash varchar(64);
@@ -0,0 +1,4 @@
+-- Serves TransferSagaOrchestrator's sweep of overdue credit deadlines. Partial, so it only
+-- holds sagas waiting for a credit however many finished sagas the table keeps.
+CREATE INDEX idx_transfer_sagas_crediting_deadline ON transfer_sagas (step_deadline)
+    WHERE state = 'CREDITING';
@@ -0,0 +1,17 @@
+-- Databases adopted from ddl-auto still store transactions.amount as a decimal. Converts it
+-- to minor units before V2 copies the table; a no-op where V1 created the table.
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1
+                 FROM information_schema.columns
+                WHERE table_schema = current_schema()
+                  AND table_name = 'transactions'
+                  AND column_name = 'amount') THEN
+        ALTER TABLE transactions ADD COLUMN IF NOT EXISTS amount_minor bigint;
+        -- Amounts were only ever taken in two-decimal currencies, as for account balances
+        UPDATE transactions SET amount_minor = round(amount * 100)::bigint WHERE amount_minor IS NULL;
+        ALTER TABLE transactions ALTER COLUMN amount_minor SET NOT NULL;
+        ALTER TABLE transactions DROP COLUMN amount;
+    END IF;
+END
+$$;
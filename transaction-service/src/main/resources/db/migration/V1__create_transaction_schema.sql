@@ -0,0 +1,44 @@
+-- Baseline of the schema previously created by ddl-auto. IF NOT EXISTS lets databases
+-- created that way adopt Flyway (baseline-version 0); their transactions table still has
+-- the decimal amount column, which V1_1 converts.
+
+CREATE TABLE IF NOT EXISTS transactions (
+    id              uuid                        NOT NULL PRIMARY KEY,
+    request_id      uuid UNIQUE,
+    account_id      uuid                        NOT NULL,
+    from_account_id uuid,
+    to_account_id   uuid,
+    amount_minor    bigint                      NOT NULL,
+    currency        varchar(255)                NOT NULL,
+    type            varchar(255)                NOT NULL,
+    status          varchar(255)                NOT NULL,
+    created_at      timestamp(6) with time zone NOT NULL,
+    updated_at      timestamp(6) with time zone NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id             uuid                        NOT NULL PRIMARY KEY,
+    aggregate_type varchar(255)                NOT NULL,
+    aggregate_id   uuid                        NOT NULL,
+    event_type     varchar(255)                NOT NULL,
+    payload        text                        NOT NULL,
+    status         varchar(255)                NOT NULL,
+    created_at     timestamp(6) with time zone NOT NULL,
+    processed_at   timestamp(6) with time zone
+);
+
+CREATE TABLE IF NOT EXISTS transfer_sagas (
+    transaction_id  uuid                        NOT NULL PRIMARY KEY,
+    from_account_id uuid                        NOT NULL,
+    to_account_id   uuid                        NOT NULL,
+    amount_minor    bigint                      NOT NULL,
+    currency        varchar(255)                NOT NULL,
+    state           varchar(255)                NOT NULL,
+    step_deadline   timestamp(6) with time zone,
+    failure_reason  varchar(255),
+    version         bigint,
+    created_at      timestamp(6) with time zone NOT NULL,
+    updated_at      timestamp(6) with time zone NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_transfer_sagas_state ON transfer_sagas (state);
@@ -0,0 +1,77 @@
+-- Converts transactions into a table range-partitioned by month on created_at (UTC months).
+-- Existing rows are copied into monthly partitions; future partitions are created ahead of
+-- time by TransactionPartitionMaintenance through transactions_ensure_partition().
+
+CREATE SCHEMA IF NOT EXISTS transaction_archive;
+
+-- Idempotency keys move out: unique indexes on a partitioned table must include created_at
+CREATE TABLE idempotency_records (
+    request_id     uuid NOT NULL PRIMARY KEY,
+    transaction_id uuid NOT NULL
+);
+
+ALTER TABLE transactions RENAME TO transactions_legacy;
+ALTER TABLE transactions_legacy RENAME CONSTRAINT transactions_pkey TO transactions_legacy_pkey;
+
+CREATE TABLE transactions (
+    id              uuid                        NOT NULL,
+    request_id      uuid,
+    account_id      uuid                        NOT NULL,
+    from_account_id uuid,
+    to_account_id   uuid,
+    amount_minor    bigint                      NOT NULL,
+    currency        varchar(255)                NOT NULL,
+    type            varchar(255)                NOT NULL,
+    status          varchar(255)                NOT NULL,
+    created_at      timestamp(6) with time zone NOT NULL,
+    updated_at      timestamp(6) with time zone NOT NULL,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- No DEFAULT partition: it would block DETACH ... CONCURRENTLY when archiving, and a
+-- missing month is prevented by creating partitions months ahead.
+CREATE OR REPLACE FUNCTION transactions_ensure_partition(p_month date) RETURNS text AS $$
+DECLARE
+    v_from timestamptz := date_trunc('month', p_month::timestamp) AT TIME ZONE 'UTC';
+    v_to   timestamptz := (date_trunc('month', p_month::timestamp) + interval '1 month') AT TIME ZONE 'UTC';
+    v_name text        := 'transactions_p' || to_char(p_month, 'YYYY_MM');
+BEGIN
+    IF to_regclass(quote_ident(v_name)) IS NULL THEN
+        EXECUTE format('CREATE TABLE %I PARTITION OF transactions FOR VALUES FROM (%L) TO (%L)',
+                       v_name, v_from, v_to);
+    END IF;
+    RETURN v_name;
+END;
+$$ LANGUAGE plpgsql;
+
+DO $$
+DECLARE
+    v_month date := date_trunc('month', coalesce(
+            (SELECT min(created_at) AT TIME ZONE 'UTC' FROM transactions_legacy), now() AT TIME ZONE 'UTC'))::date;
+    v_last  date := date_trunc('month', now() AT TIME ZONE 'UTC' + interval '3 months')::date;
+BEGIN
+    WHILE v_month <= v_last LOOP
+        PERFORM transactions_ensure_partition(v_month);
+        v_month := (v_month + interval '1 month')::date;
+    END LOOP;
+END;
+$$;
+
+INSERT INTO transactions (id, request_id, account_id, from_account_id, to_account_id, amount_minor, currency,
+                          type, status, created_at, updated_at)
+SELECT id, request_id, account_id, from_account_id, to_account_id, amount_minor, currency,
+       type, status, created_at, updated_at
+FROM transactions_legacy;
+
+INSERT INTO idempotency_records (request_id, transaction_id)
+SELECT request_id, id
+FROM transactions_legacy
+WHERE request_id IS NOT NULL;
+
+DROP TABLE transactions_legacy;
+
+-- Keyset history indexes (created on every partition). from_account_id needs none because
+-- it always equals account_id.
+CREATE INDEX idx_transactions_account_created ON transactions (account_id, created_at DESC, id DESC);
+CREATE INDEX idx_transactions_to_account_created ON transactions (to_account_id, created_at DESC, id DESC)
+    WHERE to_account_id IS NOT NULL;
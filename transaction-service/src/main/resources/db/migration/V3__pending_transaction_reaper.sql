@@ -0,0 +1,13 @@
+-- Support for StuckTransactionReaper.
+
+-- How many times the reaper has republished this transaction's last command
+ALTER TABLE transactions ADD COLUMN reap_attempts integer NOT NULL DEFAULT 0;
+
+-- Partial index: only in-flight rows are indexed, so it stays as small as the PENDING set
+-- however large the table grows. updated_at is bumped on every republish, which moves a
+-- row back behind the deadline.
+CREATE INDEX idx_transactions_pending_updated ON transactions (updated_at, id)
+    WHERE status = 'PENDING';
+
+-- Finds the last command written for a transaction
+CREATE INDEX idx_outbox_events_aggregate_created ON outbox_events (aggregate_id, created_at DESC);
@@ -0,0 +1,3 @@
+-- W3C traceparent of the span that wrote the row; the relay sends it as a Kafka header
+-- instead of the producer interceptor digging the trace id out of the JSON payload.
+ALTER TABLE outbox_events ADD COLUMN traceparent varchar(55);
@@ -0,0 +1,4 @@
+-- Outbox rows hold the record value exactly as it goes to Kafka, JSON or binary, and the
+-- format the relay announces in the x-event-format header.
+ALTER TABLE outbox_events ALTER COLUMN payload TYPE bytea USING convert_to(payload, 'UTF8');
+ALTER TABLE outbox_events ADD COLUMN format varchar(16) NOT NULL DEFAULT 'JSON';
@@ -0,0 +1,3 @@
+-- Envelope event id of the row, sent as the x-event-id header so consumers can deduplicate
+-- without decoding the value. Rows written before this have none and are scanned instead.
+ALTER TABLE outbox_events ADD COLUMN event_id uuid;
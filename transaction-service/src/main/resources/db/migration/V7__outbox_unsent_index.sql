@@ -0,0 +1,3 @@
+-- Unsent rows only: serves the relay's PENDING poll and the backlog metrics without
+-- scanning the ever-growing PROCESSED history.
+CREATE INDEX idx_outbox_events_unsent ON outbox_events (status, created_at) WHERE status <> 'PROCESSED';
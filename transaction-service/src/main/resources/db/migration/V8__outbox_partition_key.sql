@@ -0,0 +1,5 @@
+-- Kafka record key of the row. Commands carry the account they touch, so every command for
+-- an account lands on one partition of transactions.commands and account-service applies
+-- them in order instead of racing on accounts.version. Existing rows stay NULL and are keyed
+-- by aggregate_id as before.
+ALTER TABLE outbox_events ADD COLUMN partition_key varchar(64);
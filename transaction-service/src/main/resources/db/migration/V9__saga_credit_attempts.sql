@@ -0,0 +1,3 @@
+-- Times the credit command was re-sent after its deadline. A timed-out credit is retried
+-- with the same event_id instead of refunded, because it may still land.
+ALTER TABLE transfer_sagas ADD COLUMN credit_attempts integer NOT NULL DEFAULT 0;
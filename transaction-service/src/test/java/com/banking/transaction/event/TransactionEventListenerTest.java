@@ -2,8 +2,13 @@ package com.banking.transaction.event;
 
 import com.banking.common.constant.EventTypes;
 import com.banking.common.event.BaseEvent;
+import com.banking.common.event.codec.EventCodec;
+import com.banking.common.event.codec.EventHeaders;
+import com.banking.common.event.codec.EventSchemas;
 import com.banking.transaction.model.Transaction;
-import com.banking.transaction.repository.TransactionRepository;
+import com.banking.transaction.saga.TransferSagaOrchestrator;
+import com.banking.transaction.service.SagaLatencyTracker;
+import com.banking.transaction.service.TransactionFinalizer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,7 +18,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Optional;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -23,7 +29,13 @@ import static org.mockito.Mockito.*;
 class TransactionEventListenerTest {
 
     @Mock
-    private TransactionRepository transactionRepository;
+    private TransferSagaOrchestrator transferSagaOrchestrator;
+
+    @Mock
+    private TransactionFinalizer transactionFinalizer;
+
+    @Mock
+    private SagaLatencyTracker sagaLatencyTracker;
 
     private ObjectMapper objectMapper;
 
@@ -34,98 +46,96 @@ class TransactionEventListenerTest {
     void setUp() {
         objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
-        transactionEventListener = new TransactionEventListener(transactionRepository, objectMapper);
+        transactionEventListener = new TransactionEventListener(new EventCodec(objectMapper, EventSchemas.registry()),
+                transferSagaOrchestrator, transactionFinalizer, sagaLatencyTracker);
     }
 
     @Test
     void shouldUpdateTransactionToCompleted_WhenMoneyCreditedReceived() throws Exception {
         // Arrange
         UUID transactionId = UUID.randomUUID();
-        Transaction transaction = Transaction.builder()
-                .id(transactionId)
-                .status(Transaction.TransactionStatus.PENDING)
-                .build();
-
         BaseEvent<Object> event = BaseEvent.builder()
                 .transactionId(transactionId)
                 .eventType(EventTypes.MONEY_CREDITED)
                 .build();
 
-        String message = objectMapper.writeValueAsString(event);
-        when(transactionRepository.findById(transactionId)).thenReturn(Optional.of(transaction));
+        byte[] message = objectMapper.writeValueAsBytes(event);
 
         // Act
-        transactionEventListener.handleAccountEvents(message);
+        transactionEventListener.handleAccountEvents(message, null, null, null, null);
 
         // Assert
-        verify(transactionRepository).save(argThat(t -> t.getStatus() == Transaction.TransactionStatus.COMPLETED));
+        verify(transactionFinalizer).finish(transactionId, Transaction.TransactionStatus.COMPLETED, null);
     }
 
     @Test
     void shouldUpdateTransactionToFailed_WhenReservationFailedReceived() throws Exception {
         // Arrange
         UUID transactionId = UUID.randomUUID();
-        Transaction transaction = Transaction.builder()
-                .id(transactionId)
-                .status(Transaction.TransactionStatus.PENDING)
-                .build();
-
         BaseEvent<Object> event = BaseEvent.builder()
                 .transactionId(transactionId)
                 .eventType(EventTypes.RESERVATION_FAILED)
+                .payload(Map.of("reason", "Insufficient funds"))
                 .build();
 
-        String message = objectMapper.writeValueAsString(event);
-        when(transactionRepository.findById(transactionId)).thenReturn(Optional.of(transaction));
+        byte[] message = objectMapper.writeValueAsBytes(event);
 
         // Act
-        transactionEventListener.handleAccountEvents(message);
+        transactionEventListener.handleAccountEvents(message, null, null, null, null);
 
         // Assert
-        verify(transactionRepository).save(argThat(t -> t.getStatus() == Transaction.TransactionStatus.FAILED));
+        verify(transactionFinalizer).finish(transactionId, Transaction.TransactionStatus.FAILED,
+                "Insufficient funds");
     }
 
     @Test
     void shouldUpdateTransactionToFailed_WhenRefundCompletedReceived() throws Exception {
         // Arrange
         UUID transactionId = UUID.randomUUID();
-        Transaction transaction = Transaction.builder()
-                .id(transactionId)
-                .status(Transaction.TransactionStatus.PENDING)
-                .build();
-
         BaseEvent<Object> event = BaseEvent.builder()
                 .transactionId(transactionId)
                 .eventType(EventTypes.REFUND_COMPLETED)
                 .build();
 
-        String message = objectMapper.writeValueAsString(event);
-        when(transactionRepository.findById(transactionId)).thenReturn(Optional.of(transaction));
+        byte[] message = objectMapper.writeValueAsBytes(event);
 
         // Act
-        transactionEventListener.handleAccountEvents(message);
+        transactionEventListener.handleAccountEvents(message, null, null, null, null);
 
         // Assert
-        verify(transactionRepository).save(argThat(t -> t.getStatus() == Transaction.TransactionStatus.FAILED));
+        verify(transactionFinalizer).finish(eq(transactionId), eq(Transaction.TransactionStatus.FAILED), any());
     }
 
     @Test
-    void shouldHandleTransactionNotFound_Gracefully() throws Exception {
+    void shouldLeaveTransfersToTheSaga() throws Exception {
         // Arrange
         UUID transactionId = UUID.randomUUID();
-
         BaseEvent<Object> event = BaseEvent.builder()
                 .transactionId(transactionId)
                 .eventType(EventTypes.MONEY_CREDITED)
                 .build();
 
-        String message = objectMapper.writeValueAsString(event);
-        when(transactionRepository.findById(transactionId)).thenReturn(Optional.empty());
+        byte[] message = objectMapper.writeValueAsBytes(event);
+        when(transferSagaOrchestrator.onAccountEvent(any())).thenReturn(true);
+
+        // Act
+        transactionEventListener.handleAccountEvents(message, null, null, null, null);
+
+        // Assert
+        verifyNoInteractions(transactionFinalizer);
+    }
+
+    @Test
+    void shouldIgnoreAccountCreated_WithoutDecodingPayload() throws Exception {
+        // Arrange
+        // Routed on the headers alone, so a value that would not even parse is never touched
+        byte[] message = "{\"payload\":".getBytes(StandardCharsets.UTF_8);
 
         // Act
-        transactionEventListener.handleAccountEvents(message);
+        transactionEventListener.handleAccountEvents(message, null, EventHeaders.eventId(UUID.randomUUID()),
+                EventHeaders.eventType(EventTypes.ACCOUNT_CREATED), null);
 
         // Assert
-        verify(transactionRepository, never()).save(any());
+        verifyNoInteractions(transferSagaOrchestrator, transactionFinalizer, sagaLatencyTracker);
     }
 }
@@ -0,0 +1,32 @@
+package com.banking.transaction.repository;
+
+import com.banking.common.util.IdGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CreatedAtWindowTest {
+
+    @Test
+    void around_BracketsTheTimestampOfUuidV7() {
+        Instant before = Instant.now();
+        UUID id = IdGenerator.nextId();
+
+        CreatedAtWindow window = CreatedAtWindow.around(id);
+
+        assertThat(window.from()).isBefore(before);
+        assertThat(window.to()).isAfter(Instant.now());
+        assertThat(window.to().getEpochSecond() - window.from().getEpochSecond()).isEqualTo(2 * 3600);
+    }
+
+    @Test
+    void around_IsUnbounded_ForLegacyRandomIds() {
+        CreatedAtWindow window = CreatedAtWindow.around(UUID.randomUUID());
+
+        assertThat(window.from()).isEqualTo(Instant.EPOCH);
+        assertThat(window.to()).isAfter(Instant.parse("9000-01-01T00:00:00Z"));
+    }
+}
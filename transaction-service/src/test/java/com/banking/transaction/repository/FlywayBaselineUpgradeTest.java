@@ -0,0 +1,88 @@
+package com.banking.transaction.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Migrates a database laid out the way ddl-auto created it before Flyway, rows included,
+ * with the same Flyway settings as application.yml.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class FlywayBaselineUpgradeTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Test
+    void shouldAdoptDdlAutoSchema_AndKeepItsRows() throws SQLException {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        UUID requestId = UUID.randomUUID();
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE transactions (
+                        id uuid NOT NULL, request_id uuid UNIQUE, account_id uuid NOT NULL,
+                        from_account_id uuid, to_account_id uuid, amount numeric(38,2) NOT NULL,
+                        currency varchar(255) NOT NULL,
+                        type varchar(255) NOT NULL CHECK (type IN ('DEPOSIT','WITHDRAWAL','TRANSFER')),
+                        status varchar(255) NOT NULL CHECK (status IN ('PENDING','COMPLETED','FAILED')),
+                        created_at timestamp(6) with time zone NOT NULL,
+                        updated_at timestamp(6) with time zone NOT NULL,
+                        PRIMARY KEY (id))""");
+            statement.execute("""
+                    CREATE TABLE outbox_events (
+                        id uuid NOT NULL, aggregate_type varchar(255) NOT NULL, aggregate_id uuid NOT NULL,
+                        event_type varchar(255) NOT NULL, payload text NOT NULL,
+                        status varchar(255) NOT NULL CHECK (status IN ('PENDING','PROCESSED','FAILED')),
+                        created_at timestamp(6) with time zone NOT NULL,
+                        processed_at timestamp(6) with time zone,
+                        PRIMARY KEY (id))""");
+            statement.execute("INSERT INTO transactions VALUES ('" + id + "', '" + requestId + "', '"
+                    + UUID.randomUUID() + "', NULL, NULL, 10.50, 'USD', 'DEPOSIT', 'COMPLETED', now(), now())");
+            statement.execute("INSERT INTO outbox_events VALUES ('" + UUID.randomUUID() + "', 'Transaction', '" + id
+                    + "', 'DepositRequested', '{\"amount\":1050}', 'PROCESSED', now(), now())");
+        }
+
+        // Act
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .baselineOnMigrate(true)
+                .baselineVersion("0")
+                .load()
+                .migrate();
+
+        // Assert
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            ResultSet transaction = statement.executeQuery(
+                    "SELECT amount_minor, currency FROM transactions WHERE id = '" + id + "'");
+            assertThat(transaction.next()).isTrue();
+            assertThat(transaction.getLong("amount_minor")).isEqualTo(1_050L);
+            assertThat(transaction.getString("currency")).isEqualTo("USD");
+
+            ResultSet idempotency = statement.executeQuery(
+                    "SELECT transaction_id FROM idempotency_records WHERE request_id = '" + requestId + "'");
+            assertThat(idempotency.next()).isTrue();
+            assertThat(idempotency.getObject("transaction_id", UUID.class)).isEqualTo(id);
+
+            ResultSet outbox = statement.executeQuery("SELECT convert_from(payload, 'UTF8') FROM outbox_events");
+            assertThat(outbox.next()).isTrue();
+            assertThat(outbox.getString(1)).isEqualTo("{\"amount\":1050}");
+        }
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    }
+}
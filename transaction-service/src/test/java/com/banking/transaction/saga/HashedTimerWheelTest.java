@@ -0,0 +1,69 @@
+package com.banking.transaction.saga;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HashedTimerWheelTest {
+
+    private final HashedTimerWheel wheel = new HashedTimerWheel("test-wheel", Duration.ofMillis(10), 8);
+
+    @AfterEach
+    void tearDown() {
+        wheel.close();
+    }
+
+    @Test
+    void shouldFireTimeoutAfterDelay() throws Exception {
+        CountDownLatch fired = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        wheel.schedule(fired::countDown, Duration.ofMillis(50));
+
+        assertThat(fired.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(Duration.ofMillis(50).toNanos());
+    }
+
+    @Test
+    void shouldFireTimeoutsLongerThanOneRotation() throws Exception {
+        // 8 ticks of 10ms per rotation, so 250ms needs several rounds
+        CountDownLatch fired = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        wheel.schedule(fired::countDown, Duration.ofMillis(250));
+
+        assertThat(fired.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(Duration.ofMillis(250).toNanos());
+    }
+
+    @Test
+    void shouldNotFireCancelledTimeout() throws Exception {
+        AtomicInteger fired = new AtomicInteger();
+        CountDownLatch sentinel = new CountDownLatch(1);
+
+        HashedTimerWheel.Timeout timeout = wheel.schedule(fired::incrementAndGet, Duration.ofMillis(30));
+        wheel.schedule(sentinel::countDown, Duration.ofMillis(100));
+
+        assertThat(timeout.cancel()).isTrue();
+        assertThat(sentinel.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(fired.get()).isZero();
+    }
+
+    @Test
+    void shouldFireManyTimeouts() throws Exception {
+        int count = 10_000;
+        CountDownLatch fired = new CountDownLatch(count);
+
+        for (int i = 0; i < count; i++) {
+            wheel.schedule(fired::countDown, Duration.ofMillis(i % 200));
+        }
+
+        assertThat(fired.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+}
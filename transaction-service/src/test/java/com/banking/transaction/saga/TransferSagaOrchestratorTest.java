@@ -0,0 +1,317 @@
+package com.banking.transaction.saga;
+
+import com.banking.common.constant.EventTypes;
+import com.banking.common.event.BaseEvent;
+import com.banking.common.event.CreditRequested;
+import com.banking.common.event.RefundRequested;
+import com.banking.common.event.ReservationFailed;
+import com.banking.common.event.TransactionFailed;
+import com.banking.transaction.event.TransactionEventProducer;
+import com.banking.transaction.event.TransactionOutcomePublisher;
+import com.banking.transaction.model.Transaction;
+import com.banking.transaction.model.TransferSaga;
+import com.banking.transaction.model.TransferSaga.SagaState;
+import com.banking.transaction.repository.OutboxRepository;
+import com.banking.transaction.repository.TransactionRepository;
+import com.banking.transaction.repository.TransferSagaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransferSagaOrchestratorTest {
+
+    @Mock
+    private TransferSagaRepository sagaRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    @Mock
+    private TransactionEventProducer eventProducer;
+
+    @Mock
+    private TransactionOutcomePublisher outcomePublisher;
+
+    @Mock
+    private SagaTimeoutScheduler timeoutScheduler;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private TransferSagaOrchestrator orchestrator;
+
+    private UUID transactionId;
+    private UUID fromAccountId;
+    private UUID toAccountId;
+
+    @BeforeEach
+    void setUp() {
+        orchestrator = new TransferSagaOrchestrator(sagaRepository, transactionRepository, outboxRepository,
+                eventProducer, outcomePublisher, timeoutScheduler, transactionTemplate, Duration.ofSeconds(30), 2);
+        transactionId = UUID.randomUUID();
+        fromAccountId = UUID.randomUUID();
+        toAccountId = UUID.randomUUID();
+    }
+
+    @Test
+    void shouldRequestCredit_AndArmDeadline_WhenMoneyReserved() {
+        // Arrange
+        TransferSaga saga = saga(SagaState.RESERVING);
+        when(sagaRepository.findById(transactionId)).thenReturn(Optional.of(saga));
+
+        // Act
+        boolean handled = orchestrator.onAccountEvent(event(EventTypes.MONEY_RESERVED));
+
+        // Assert
+        assertThat(handled).isTrue();
+        assertThat(saga.getState()).isEqualTo(SagaState.CREDITING);
+        assertThat(saga.getStepDeadline()).isAfter(Instant.now());
+        verify(eventProducer).sendCreditRequested(argThat((CreditRequested c) -> c.getAccountId().equals(toAccountId)),
+                eq(transactionId));
+        verify(timeoutScheduler).schedule(transactionId, saga.getStepDeadline());
+    }
+
+    @Test
+    void shouldCompleteTransaction_WhenMoneyCreditedWhileCrediting() {
+        // Arrange
+        TransferSaga saga = saga(SagaState.CREDITING);
+        when(sagaRepository.findById(transactionId)).thenReturn(Optional.of(saga));
+        when(transactionRepository.updateStatus(transactionId, Transaction.TransactionStatus.COMPLETED))
+                .thenReturn(true);
+
+        // Act
+        orchestrator.onAccountEvent(event(EventTypes.MONEY_CREDITED));
+
+        // Assert
+        assertThat(saga.getState()).isEqualTo(SagaState.COMPLETED);
+        verify(transactionRepository).updateStatus(transactionId, Transaction.TransactionStatus.COMPLETED);
+        verify(outcomePublisher).publish(transactionId, Transaction.TransactionStatus.COMPLETED);
+        verify(timeoutScheduler).cancel(transactionId);
+    }
+
+    @Test
+    void shouldResendCredit_NotRefund_WhenCreditDeadlineExpires() {
+        // Arrange
+        TransferSaga saga = saga(SagaState.CREDITING);
+        saga.setStepDeadline(Instant.now().minusSeconds(1));
+        when(sagaRepository.findById(transactionId)).thenReturn(Optional.of(saga));
+        when(outboxRepository.requeue(transactionId, EventTypes.CREDIT_REQUESTED)).thenReturn(1);
+        runTransactionCallbacks();
+
+        // Act
+        orchestrator.handleStepTimeout(transactionId);
+
+        // Assert
+        assertThat(saga.getState()).isEqualTo(SagaState.CREDITING);
+        assertThat(saga.getCreditAttempts()).isEqualTo(1);
+        assertThat(saga.getStepDeadline()).isAfter(Instant.now());
+        verify(outboxRepository).requeue(transactionId, EventTypes.CREDIT_REQUESTED);
+        verify(timeoutScheduler).schedule(transactionId, saga.getStepDeadline());
+        verify(eventProducer, never()).sendRefundRequested(any(), any());
+    }
+
+    @Test
+    void shouldParkForReview_WhenCreditRetriesRunOut() {
+        // Arrange
+        TransferSaga saga = saga(SagaState.CREDITING);
+        saga.setCreditAttempts(2);
+        saga.setStepDeadline(Instant.now().minusSeconds(1));
+        when(sagaRepository.findById(transactionId)).thenReturn(Optional.of(saga));
+        runTransactionCallbacks();
+
+        // Act
+        orchestrator.handleStepTimeout(transactionId);
+
+        // Assert
+        assertThat(saga.getState()).isEqualTo(SagaState.CREDIT_UNCONFIRMED);
+        verify(eventProducer, never()).sendRefundRequested(any(), any());
+        verify(transactionRepository, never()).updateStatus(any(), any());
+    }
+
+    @Test
+    void shouldComplete_WhenCreditConfirmedAfterRetriesRanOut() {
+        // Arrange
+        TransferSaga saga = saga(SagaState.CREDIT_UNCONFIRMED);
+        when(sagaRepository.findById(transactionId)).thenReturn(Optional.of(saga));
+        when(transactionRepository.updateStatus(transactionId, Transaction.TransactionStatus.COMPLETED))
+                .thenReturn(true);
+
+        // Act
+        orchestrator.onAccountEvent(event(EventTypes.MONEY_CREDITED));
+
+        // Assert
+        assertThat(saga.getState()).isEqualTo(SagaState.COMPLETED);
+        verify(outcomePublisher).publish(transactionId, Transaction.TransactionStatus.COMPLETED);
+    }
+
+    @Test
+    void shouldRequestRefund_WhenCreditRejected() {
+        // Arrange
+        TransferSaga saga = saga(SagaState.CREDITING);
+        when(sagaRepository.findById(transactionId)).thenReturn(Optional.of(saga));
+
+        // Act
+        orchestrator.onAccountEvent(rejection("Account is frozen"));
+
+        // Assert
+        assertThat(saga.getState()).isEqualTo(SagaState.COMPENSATING);
+        verify(eventProducer).sendRefundRequested(argThat((RefundRequested r) -> r.getAccountId().equals(fromAccountId)),
+                eq(transactionId));
+    }
+
+    @Test
+    void shouldEndInRefundFailed_WhenRefundRejected() {
+        // Arrange
+        TransferSaga saga = saga(SagaState.COMPENSATING);
+        when(sagaRepository.findById(transactionId)).thenReturn(Optional.of(saga));
+        when(transactionRepository.updateStatus(transactionId, Transaction.TransactionStatus.FAILED))
+                .thenReturn(true);
+
+        // Act
+        orchestrator.onAccountEvent(rejection("Account is frozen"));
+
+        // Assert
+        assertThat(saga.getState()).isEqualTo(SagaState.REFUND_FAILED);
+        assertThat(saga.isTerminal()).isTrue();
+        verify(eventProducer).sendTransactionFailed(
+                argThat((TransactionFailed f) -> f.getReason().contains("Account is frozen")), eq(transactionId));
+    }
+
+    @Test
+    void shouldIgnoreTimeout_WhenSagaAlreadyCompleted() {
+        // Arrange
+        TransferSaga saga = saga(SagaState.COMPLETED);
+        when(sagaRepository.findById(transactionId)).thenReturn(Optional.of(saga));
+        runTransactionCallbacks();
+
+        // Act
+        orchestrator.handleStepTimeout(transactionId);
+
+        // Assert
+        verify(eventProducer, never()).sendRefundRequested(any(), any());
+        verify(outboxRepository, never()).requeue(any(), any());
+    }
+
+    @Test
+    void shouldHandleOverdueCredits_ClaimedBySweep() {
+        // Arrange: deadlines armed by an instance that stopped, so no local timer fires them
+        TransferSaga retried = saga(SagaState.CREDITING);
+        retried.setStepDeadline(Instant.now().minusSeconds(60));
+        TransferSaga exhausted = saga(SagaState.CREDITING);
+        exhausted.setTransactionId(UUID.randomUUID());
+        exhausted.setCreditAttempts(2);
+        exhausted.setStepDeadline(Instant.now().minusSeconds(60));
+        when(sagaRepository.lockOverdueCredits(any(Instant.class), anyInt())).thenReturn(List.of(retried, exhausted));
+        when(outboxRepository.requeue(transactionId, EventTypes.CREDIT_REQUESTED)).thenReturn(1);
+        doAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null))
+                .when(transactionTemplate).execute(any());
+
+        // Act
+        orchestrator.sweepOverdueDeadlines();
+
+        // Assert
+        assertThat(retried.getCreditAttempts()).isEqualTo(1);
+        assertThat(retried.getStepDeadline()).isAfter(Instant.now());
+        verify(timeoutScheduler).schedule(transactionId, retried.getStepDeadline());
+        assertThat(exhausted.getState()).isEqualTo(SagaState.CREDIT_UNCONFIRMED);
+        verify(sagaRepository, times(1)).lockOverdueCredits(any(Instant.class), anyInt());
+        verify(eventProducer, never()).sendRefundRequested(any(), any());
+    }
+
+    @Test
+    void shouldNotHandleEvent_WhenNoSagaExists() {
+        // Arrange
+        when(sagaRepository.findById(transactionId)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThat(orchestrator.onAccountEvent(event(EventTypes.MONEY_CREDITED))).isFalse();
+    }
+
+    @Test
+    void shouldFailTransfer_WhenReservationAbandoned() {
+        // Arrange
+        TransferSaga saga = saga(SagaState.RESERVING);
+        when(sagaRepository.findById(transactionId)).thenReturn(Optional.of(saga));
+        when(transactionRepository.updateStatus(transactionId, Transaction.TransactionStatus.FAILED))
+                .thenReturn(true);
+
+        // Act
+        boolean abandoned = orchestrator.abandonReservation(transactionId, "Timed out");
+
+        // Assert
+        assertThat(abandoned).isTrue();
+        assertThat(saga.getState()).isEqualTo(SagaState.FAILED);
+        verify(eventProducer).sendTransactionFailed(argThat((TransactionFailed f) -> "Timed out".equals(f.getReason())),
+                eq(transactionId));
+    }
+
+    @Test
+    void shouldNotAbandon_WhenSagaPastReservation() {
+        // Arrange
+        TransferSaga saga = saga(SagaState.COMPENSATING);
+        when(sagaRepository.findById(transactionId)).thenReturn(Optional.of(saga));
+
+        // Act
+        boolean abandoned = orchestrator.abandonReservation(transactionId, "Timed out");
+
+        // Assert
+        assertThat(abandoned).isFalse();
+        assertThat(saga.getState()).isEqualTo(SagaState.COMPENSATING);
+        verify(transactionRepository, never()).updateStatus(any(), any());
+    }
+
+    private TransferSaga saga(SagaState state) {
+        return TransferSaga.builder()
+                .transactionId(transactionId)
+                .fromAccountId(fromAccountId)
+                .toAccountId(toAccountId)
+                .amountMinor(10_000L)
+                .currency("USD")
+                .state(state)
+                .build();
+    }
+
+    private void runTransactionCallbacks() {
+        doAnswer(invocation -> {
+            Consumer<TransactionStatus> callback = invocation.getArgument(0);
+            callback.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    private BaseEvent<ReservationFailed> rejection(String reason) {
+        return BaseEvent.<ReservationFailed>builder()
+                .transactionId(transactionId)
+                .eventType(EventTypes.RESERVATION_FAILED)
+                .payload(ReservationFailed.builder().accountId(toAccountId).reason(reason).build())
+                .build();
+    }
+
+    private BaseEvent<Object> event(String eventType) {
+        return BaseEvent.builder()
+                .transactionId(transactionId)
+                .eventType(eventType)
+                .build();
+    }
+}
@@ -0,0 +1,164 @@
+package com.banking.transaction.service;
+
+import com.banking.common.exception.BusinessException;
+import com.banking.common.exception.ConflictException;
+import com.banking.transaction.dto.TransactionResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdempotencyCacheTest {
+
+    private IdempotencyCache cache;
+    private TransactionResponse response;
+
+    @BeforeEach
+    void setUp() {
+        cache = new IdempotencyCache(100, Duration.ofMinutes(10));
+        response = TransactionResponse.builder().id(UUID.randomUUID()).status("PENDING").build();
+    }
+
+    @Test
+    void submit_RetryIsReplayedWithoutCreatingAgain() {
+        // Arrange
+        IdempotencyKey key = key("order-42", "{}");
+        AtomicInteger creates = new AtomicInteger();
+
+        // Act
+        IdempotencyCache.Submission first = cache.submit(key, () -> {
+            creates.incrementAndGet();
+            return response;
+        }, id -> Optional.empty()).join();
+        IdempotencyCache.Submission retry = cache.submit(key, () -> {
+            creates.incrementAndGet();
+            return response;
+        }, id -> Optional.empty()).join();
+
+        // Assert
+        assertThat(creates).hasValue(1);
+        assertThat(first.replayed()).isFalse();
+        assertThat(retry.replayed()).isTrue();
+        assertThat(retry.response()).isSameAs(response);
+    }
+
+    @Test
+    void submit_ConcurrentDuplicatesShareInFlightResult() throws Exception {
+        // Arrange
+        IdempotencyKey key = key("order-42", "{}");
+        CountDownLatch creating = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger creates = new AtomicInteger();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            CompletableFuture<IdempotencyCache.Submission> first = CompletableFuture.supplyAsync(
+                    () -> cache.submit(key, () -> {
+                        creates.incrementAndGet();
+                        creating.countDown();
+                        await(release);
+                        return response;
+                    }, id -> Optional.empty()).join(), executor);
+            assertThat(creating.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // Act
+            CompletableFuture<IdempotencyCache.Submission> duplicate = cache.submit(key, () -> {
+                creates.incrementAndGet();
+                return response;
+            }, id -> Optional.empty());
+            release.countDown();
+
+            // Assert
+            assertThat(duplicate.get(5, TimeUnit.SECONDS).response()).isSameAs(response);
+            assertThat(duplicate.get().replayed()).isTrue();
+            assertThat(first.get(5, TimeUnit.SECONDS).replayed()).isFalse();
+            assertThat(creates).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void submit_UniqueViolationFallsBackToStoredResponse() {
+        // Arrange
+        IdempotencyKey key = key("order-42", "{}");
+
+        // Act
+        IdempotencyCache.Submission submission = cache.submit(key, () -> {
+            throw new DataIntegrityViolationException("duplicate key value violates unique constraint");
+        }, id -> Optional.of(response)).join();
+
+        // Assert
+        assertThat(submission.replayed()).isTrue();
+        assertThat(submission.response()).isSameAs(response);
+    }
+
+    @Test
+    void submit_FailureIsNotCached() {
+        // Arrange
+        IdempotencyKey key = key("order-42", "{}");
+
+        // Act
+        assertThatThrownBy(() -> cache.submit(key, () -> {
+            throw new IllegalStateException("boom");
+        }, id -> Optional.empty())).isInstanceOf(IllegalStateException.class);
+        IdempotencyCache.Submission retry = cache.submit(key, () -> response, id -> Optional.empty()).join();
+
+        // Assert
+        assertThat(retry.replayed()).isFalse();
+        assertThat(retry.response()).isSameAs(response);
+    }
+
+    @Test
+    void submit_KeyReusedWithDifferentBodyIsRefused() {
+        // Arrange
+        IdempotencyKey first = key("order-42", "{\"amount\":10.00}");
+        IdempotencyKey reused = key("order-42", "{\"amount\":99.00}");
+        cache.submit(first, () -> response, id -> Optional.empty()).join();
+
+        // Act & Assert
+        assertThatThrownBy(() -> cache.submit(reused, () -> response, id -> Optional.empty()))
+                .isInstanceOf(ConflictException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "IDEMPOTENCY_KEY_REUSED");
+    }
+
+    @Test
+    void key_IsScopedByCallerAndEndpoint() {
+        byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+        IdempotencyKey key = IdempotencyKey.of("key-a", "/transactions/deposit", "order-42", body);
+
+        assertThat(IdempotencyKey.of("key-a", "/transactions/deposit", "order-42", body)).isEqualTo(key);
+        assertThat(IdempotencyKey.of("key-b", "/transactions/deposit", "order-42", body).requestId())
+                .isNotEqualTo(key.requestId());
+        assertThat(IdempotencyKey.of("key-a", "/transactions/withdraw", "order-42", body).requestId())
+                .isNotEqualTo(key.requestId());
+        assertThatThrownBy(() -> IdempotencyKey.of("key-a", "/transactions/deposit", " ", body))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    private static IdempotencyKey key(String idempotencyKey, String body) {
+        return IdempotencyKey.of("caller", "/transactions/deposit", idempotencyKey,
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,77 +1,153 @@
 package com.banking.transaction.service;
 
 import com.banking.common.constant.EventTypes;
+import com.banking.common.constant.Topics;
+import com.banking.common.event.codec.WireFormat;
+import com.banking.common.outbox.OutboxMetrics;
+import com.banking.common.tracing.SagaStage;
+import com.banking.common.tracing.StageTimeline;
+import com.banking.common.tracing.TracingService;
+import com.banking.common.util.IdGenerator;
 import com.banking.transaction.model.OutboxEvent;
 import com.banking.transaction.repository.OutboxRepository;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.kafka.core.KafkaTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class OutboxProcessorTest {
 
+    private static final byte[] PAYLOAD = "{\"test\":\"data\"}".getBytes(StandardCharsets.UTF_8);
+
     @Mock
     private OutboxRepository outboxRepository;
 
     @Mock
-    private KafkaTemplate<String, String> kafkaTemplate;
+    private KafkaTemplate<String, byte[]> eventKafkaTemplate;
+
+    @Mock
+    private OutboxMetrics outboxMetrics;
+
+    @Mock
+    private ObjectProvider<OutboxMetrics> outboxMetricsProvider;
 
-    @InjectMocks
     private OutboxProcessor outboxProcessor;
 
+    @BeforeEach
+    void setUp() {
+        when(outboxMetricsProvider.getIfAvailable()).thenReturn(outboxMetrics);
+        outboxProcessor = new OutboxProcessor(outboxRepository, eventKafkaTemplate, outboxMetricsProvider);
+    }
+
     @Test
     void shouldProcessPendingEvents_AndSendToKafka() {
         // Arrange
-        UUID aggregateId = UUID.randomUUID();
+        UUID aggregateId = IdGenerator.nextId();
+        UUID accountId = UUID.randomUUID();
         OutboxEvent event = OutboxEvent.builder()
                 .id(UUID.randomUUID())
                 .aggregateId(aggregateId)
+                .partitionKey(accountId.toString())
                 .eventType(EventTypes.DEPOSIT_REQUESTED)
-                .payload("{\"test\":\"data\"}")
+                .payload(PAYLOAD)
+                .format(WireFormat.JSON)
                 .status(OutboxEvent.OutboxStatus.PENDING)
                 .build();
 
         when(outboxRepository.findByStatusOrderByCreatedAtAsc(OutboxEvent.OutboxStatus.PENDING))
                 .thenReturn(List.of(event));
 
-        when(kafkaTemplate.send(anyString(), anyString(), anyString()))
-                .thenReturn(new CompletableFuture<>());
+        when(eventKafkaTemplate.send(any(ProducerRecord.class))).thenReturn(new CompletableFuture<>());
 
         // Act
         outboxProcessor.processOutboxEvents();
 
         // Assert
-        verify(kafkaTemplate).send(anyString(), eq(aggregateId.toString()), eq("{\"test\":\"data\"}"));
+        ArgumentCaptor<ProducerRecord<String, byte[]>> record = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(eventKafkaTemplate).send(record.capture());
+        assertThat(record.getValue().topic()).isEqualTo(Topics.TRANSACTIONS_COMMANDS);
+        // Keyed by account, so commands for one account stay on one partition
+        assertThat(record.getValue().key()).isEqualTo(accountId.toString());
+        assertThat(record.getValue().value()).isEqualTo(PAYLOAD);
+        assertThat(WireFormat.fromHeader(record.getValue().headers().lastHeader(WireFormat.HEADER).value()))
+                .isEqualTo(WireFormat.JSON);
+        StageTimeline timeline = StageTimeline.fromHeader(
+                record.getValue().headers().lastHeader(StageTimeline.HEADER).value());
+        assertThat(timeline.at(SagaStage.CREATED))
+                .isEqualTo(Instant.ofEpochMilli(IdGenerator.timestampOf(aggregateId)));
+        assertThat(timeline.at(SagaStage.COMMAND_PUBLISHED)).isNotNull();
         verify(outboxRepository).save(argThat(e -> e.getStatus() == OutboxEvent.OutboxStatus.PROCESSED));
+        verify(outboxMetrics).recordBatch(anyLong(), eq(1));
+    }
+
+    @Test
+    void shouldAttachStoredTraceContext_AsHeader() {
+        // Arrange
+        String traceparent = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+        UUID aggregateId = IdGenerator.nextId();
+        OutboxEvent event = OutboxEvent.builder()
+                .id(UUID.randomUUID())
+                .aggregateId(aggregateId)
+                .eventType(EventTypes.TRANSACTION_COMPLETED)
+                .payload("{}".getBytes(StandardCharsets.UTF_8))
+                .format(WireFormat.JSON)
+                .traceparent(traceparent)
+                .status(OutboxEvent.OutboxStatus.PENDING)
+                .build();
+
+        when(outboxRepository.findByStatusOrderByCreatedAtAsc(OutboxEvent.OutboxStatus.PENDING))
+                .thenReturn(List.of(event));
+        when(eventKafkaTemplate.send(any(ProducerRecord.class))).thenReturn(new CompletableFuture<>());
+
+        // Act
+        outboxProcessor.processOutboxEvents();
+
+        // Assert
+        ArgumentCaptor<ProducerRecord<String, byte[]>> record = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(eventKafkaTemplate).send(record.capture());
+        assertThat(new String(record.getValue().headers().lastHeader(TracingService.TRACEPARENT_HEADER).value(),
+                StandardCharsets.US_ASCII)).isEqualTo(traceparent);
+        // Only commands start a saga latency timeline
+        assertThat(record.getValue().headers().lastHeader(StageTimeline.HEADER)).isNull();
+        // A row without a partition key falls back to its aggregate
+        assertThat(record.getValue().key()).isEqualTo(aggregateId.toString());
     }
 
     @Test
     void shouldMarkEventAsFailed_WhenKafkaSendFails() {
         // Arrange
-        UUID aggregateId = UUID.randomUUID();
+        UUID aggregateId = IdGenerator.nextId();
         OutboxEvent event = OutboxEvent.builder()
                 .id(UUID.randomUUID())
                 .aggregateId(aggregateId)
                 .eventType(EventTypes.DEPOSIT_REQUESTED)
-                .payload("{\"test\":\"data\"}")
+                .payload(PAYLOAD)
+                .format(WireFormat.JSON)
                 .status(OutboxEvent.OutboxStatus.PENDING)
                 .build();
 
         when(outboxRepository.findByStatusOrderByCreatedAtAsc(OutboxEvent.OutboxStatus.PENDING))
                 .thenReturn(List.of(event));
 
-        when(kafkaTemplate.send(anyString(), anyString(), anyString()))
-                .thenThrow(new RuntimeException("Kafka down"));
+        when(eventKafkaTemplate.send(any(ProducerRecord.class))).thenThrow(new RuntimeException("Kafka down"));
 
         // Act
         outboxProcessor.processOutboxEvents();
@@ -79,4 +155,31 @@ class OutboxProcessorTest {
         // Assert
         verify(outboxRepository).save(argThat(e -> e.getStatus() == OutboxEvent.OutboxStatus.FAILED));
     }
+
+    @Test
+    void shouldRelayEvents_WhenMetricsAreDisabled() {
+        // Arrange
+        when(outboxMetricsProvider.getIfAvailable()).thenReturn(null);
+        OutboxProcessor withoutMetrics = new OutboxProcessor(outboxRepository, eventKafkaTemplate,
+                outboxMetricsProvider);
+        OutboxEvent event = OutboxEvent.builder()
+                .id(UUID.randomUUID())
+                .aggregateId(IdGenerator.nextId())
+                .eventType(EventTypes.DEPOSIT_REQUESTED)
+                .payload(PAYLOAD)
+                .format(WireFormat.JSON)
+                .status(OutboxEvent.OutboxStatus.PENDING)
+                .build();
+
+        when(outboxRepository.findByStatusOrderByCreatedAtAsc(OutboxEvent.OutboxStatus.PENDING))
+                .thenReturn(List.of(event));
+        when(eventKafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        // Act
+        withoutMetrics.processOutboxEvents();
+
+        // Assert
+        verify(outboxRepository).save(argThat(e -> e.getStatus() == OutboxEvent.OutboxStatus.PROCESSED));
+        verifyNoInteractions(outboxMetrics);
+    }
 }
@@ -0,0 +1,75 @@
+package com.banking.transaction.service;
+
+import com.banking.common.constant.EventTypes;
+import com.banking.common.tracing.SagaStage;
+import com.banking.common.tracing.StageTimeline;
+import com.banking.transaction.dto.SagaLatencyResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SagaLatencyTrackerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SagaLatencyTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tracker = new SagaLatencyTracker(meterRegistry, 2);
+    }
+
+    @Test
+    void shouldRecordEveryStage_WhenTimelineComplete() {
+        // Arrange
+        Instant created = Instant.now().minusMillis(1000);
+        StageTimeline timeline = StageTimeline.startedAt(created)
+                .with(SagaStage.COMMAND_PUBLISHED, created.plusMillis(300))
+                .with(SagaStage.COMMAND_CONSUMED, created.plusMillis(350))
+                .with(SagaStage.EVENT_PUBLISHED, created.plusMillis(900));
+
+        // Act
+        tracker.record(UUID.randomUUID(), EventTypes.MONEY_CREDITED, timeline);
+
+        // Assert
+        SagaLatencyResponse recorded = tracker.slowest(10).get(0);
+        assertThat(recorded.getStages()).containsOnlyKeys("outbox", "command_transit", "account", "event_transit");
+        assertThat(recorded.getStages().get("outbox")).isEqualTo(300L);
+        assertThat(recorded.getTotalMillis()).isGreaterThanOrEqualTo(1000L);
+        assertThat(meterRegistry.get(SagaLatencyTracker.METRIC).tag("stage", "account").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeepOnlyMostRecent_AndReturnSlowestFirst() {
+        // Arrange
+        Instant now = Instant.now();
+        UUID evicted = UUID.randomUUID();
+        UUID fast = UUID.randomUUID();
+        UUID slow = UUID.randomUUID();
+
+        // Act
+        tracker.record(evicted, EventTypes.MONEY_DEBITED, StageTimeline.startedAt(now.minusSeconds(60)));
+        tracker.record(fast, EventTypes.MONEY_DEBITED, StageTimeline.startedAt(now.minusMillis(10)));
+        tracker.record(slow, EventTypes.MONEY_DEBITED, StageTimeline.startedAt(now.minusSeconds(5)));
+
+        // Assert
+        List<SagaLatencyResponse> slowest = tracker.slowest(10);
+        assertThat(slowest).extracting(SagaLatencyResponse::getTransactionId).containsExactly(slow, fast);
+    }
+
+    @Test
+    void shouldIgnoreEvents_WithoutTimeline() {
+        // Act
+        tracker.record(UUID.randomUUID(), EventTypes.MONEY_CREDITED, null);
+
+        // Assert
+        assertThat(tracker.slowest(10)).isEmpty();
+    }
+}
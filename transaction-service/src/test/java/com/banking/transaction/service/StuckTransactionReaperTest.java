@@ -0,0 +1,130 @@
+package com.banking.transaction.service;
+
+import com.banking.transaction.model.Transaction;
+import com.banking.transaction.saga.TransferSagaOrchestrator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StuckTransactionReaperTest {
+
+    private static final Instant CREATED = Instant.parse("2026-10-19T08:00:00Z");
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private TransactionFinalizer transactionFinalizer;
+
+    @Mock
+    private TransferSagaOrchestrator transferSagaOrchestrator;
+
+    private StuckTransactionReaper reaper;
+
+    @BeforeEach
+    void setUp() {
+        reaper = new StuckTransactionReaper(jdbcTemplate, transactionTemplate, transactionFinalizer,
+                transferSagaOrchestrator, Duration.ofMinutes(2), 2, 10, 3);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    void shouldRepublishCommand_WhenAttemptsRemain() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        stubBatches(List.of(stuck(id, Transaction.TransactionType.DEPOSIT, 0)));
+        when(jdbcTemplate.update(eq(StuckTransactionReaper.REPUBLISH_SQL), any(Object[].class))).thenReturn(1);
+
+        // Act
+        reaper.reap();
+
+        // Assert
+        verify(jdbcTemplate).update(eq(StuckTransactionReaper.BUMP_SQL), any(Object[].class));
+        verifyNoInteractions(transactionFinalizer);
+    }
+
+    @Test
+    void shouldMarkFailed_WhenAttemptsExhausted() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        stubBatches(List.of(stuck(id, Transaction.TransactionType.WITHDRAWAL, 3)));
+        when(transactionFinalizer.finish(id, Transaction.TransactionStatus.FAILED, StuckTransactionReaper.GAVE_UP))
+                .thenReturn(true);
+
+        // Act
+        reaper.reap();
+
+        // Assert
+        verify(transactionFinalizer).finish(id, Transaction.TransactionStatus.FAILED, StuckTransactionReaper.GAVE_UP);
+        verify(jdbcTemplate, never()).update(eq(StuckTransactionReaper.REPUBLISH_SQL), any(Object[].class));
+    }
+
+    @Test
+    void shouldLeaveTransferToSaga_WhenPastReservation() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        stubBatches(List.of(stuck(id, Transaction.TransactionType.TRANSFER, 3)));
+        when(transferSagaOrchestrator.abandonReservation(id, StuckTransactionReaper.GAVE_UP)).thenReturn(false);
+
+        // Act
+        reaper.reap();
+
+        // Assert
+        verifyNoInteractions(transactionFinalizer);
+        // Pushed behind the deadline again rather than rescanned every run
+        verify(jdbcTemplate).update(eq(StuckTransactionReaper.BUMP_SQL), any(Object[].class));
+    }
+
+    @Test
+    void shouldContinueFromLastKey_WhenBatchIsFull() {
+        // Arrange
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        stubBatches(List.of(stuck(first, Transaction.TransactionType.DEPOSIT, 3),
+                        stuck(second, Transaction.TransactionType.DEPOSIT, 3)),
+                List.of());
+
+        // Act
+        reaper.reap();
+
+        // Assert
+        verify(jdbcTemplate, times(2)).query(eq(StuckTransactionReaper.FIND_STUCK_SQL), any(RowMapper.class),
+                any(Object[].class));
+        verify(jdbcTemplate).query(eq(StuckTransactionReaper.FIND_STUCK_SQL), any(RowMapper.class), any(),
+                any(), eq(second), eq(2));
+    }
+
+    @SafeVarargs
+    private void stubBatches(List<StuckTransactionReaper.StuckTransaction>... batches) {
+        var stubbing = when(jdbcTemplate.query(eq(StuckTransactionReaper.FIND_STUCK_SQL), any(RowMapper.class),
+                any(Object[].class)));
+        for (List<StuckTransactionReaper.StuckTransaction> batch : batches) {
+            stubbing = stubbing.thenReturn(batch);
+        }
+    }
+
+    private static StuckTransactionReaper.StuckTransaction stuck(UUID id, Transaction.TransactionType type,
+            int attempts) {
+        return new StuckTransactionReaper.StuckTransaction(id, type, CREATED, CREATED.plusSeconds(1), attempts);
+    }
+}
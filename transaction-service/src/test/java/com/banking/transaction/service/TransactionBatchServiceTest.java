@@ -0,0 +1,182 @@
+package com.banking.transaction.service;
+
+import com.banking.common.constant.ErrorCodes;
+import com.banking.common.exception.BusinessException;
+import com.banking.common.tracing.TracingService;
+import com.banking.transaction.dto.BatchTransactionRequest;
+import com.banking.transaction.dto.BatchTransactionResponse;
+import com.banking.transaction.event.TransactionEventProducer;
+import com.banking.transaction.model.Transaction;
+import com.banking.transaction.repository.TransactionRepository;
+import com.banking.transaction.saga.TransferSagaOrchestrator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionBatchServiceTest {
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private TransactionEventProducer eventProducer;
+
+    @Mock
+    private TransferSagaOrchestrator transferSagaOrchestrator;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private TracingService tracingService;
+
+    private TransactionBatchService batchService;
+
+    @BeforeEach
+    void setUp() {
+        batchService = new TransactionBatchService(transactionRepository, eventProducer, transferSagaOrchestrator,
+                transactionTemplate, tracingService, 10, 2);
+    }
+
+    @Test
+    void submit_CommitsInChunksAndReportsPerItemResults() {
+        // Arrange
+        runTransactionCallbacks();
+        when(transactionRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Transaction> transactions = invocation.getArgument(0);
+            transactions.forEach(t -> t.setId(UUID.randomUUID()));
+            return transactions;
+        });
+        UUID from = UUID.randomUUID();
+        UUID to = UUID.randomUUID();
+        BatchTransactionRequest request = BatchTransactionRequest.builder()
+                .items(List.of(
+                        item(Transaction.TransactionType.DEPOSIT, "10.00"),
+                        item(Transaction.TransactionType.WITHDRAWAL, "5.00"),
+                        BatchTransactionRequest.Item.builder()
+                                .type(Transaction.TransactionType.TRANSFER)
+                                .fromAccountId(from)
+                                .toAccountId(to)
+                                .amount(new BigDecimal("20.00"))
+                                .currency("USD")
+                                .build()))
+                .build();
+
+        // Act
+        BatchTransactionResponse response = batchService.submit(request);
+
+        // Assert
+        assertThat(response.getAccepted()).isEqualTo(3);
+        assertThat(response.getRejected()).isZero();
+        assertThat(response.getItems()).extracting(BatchTransactionResponse.ItemResult::getIndex)
+                .containsExactly(0, 1, 2);
+        assertThat(response.getItems()).allSatisfy(result -> {
+            assertThat(result.getId()).isNotNull();
+            assertThat(result.getStatus()).isEqualTo("PENDING");
+        });
+
+        verify(transactionTemplate, times(2)).executeWithoutResult(any());
+        verify(eventProducer).sendDepositRequested(any(), any());
+        verify(eventProducer).sendWithdrawRequested(any(), any());
+        verify(eventProducer).sendTransferRequested(any(), any());
+        verify(transferSagaOrchestrator).begin(any(Transaction.class));
+    }
+
+    @Test
+    void submit_InvalidItemsAreRejectedWithoutFailingTheBatch() {
+        // Arrange
+        runTransactionCallbacks();
+        when(transactionRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        BatchTransactionRequest request = BatchTransactionRequest.builder()
+                .items(List.of(
+                        item(Transaction.TransactionType.DEPOSIT, "10.001"),
+                        item(Transaction.TransactionType.DEPOSIT, "10.00"),
+                        BatchTransactionRequest.Item.builder().amount(BigDecimal.ONE).currency("USD").build()))
+                .build();
+
+        // Act
+        BatchTransactionResponse response = batchService.submit(request);
+
+        // Assert
+        assertThat(response.getAccepted()).isEqualTo(1);
+        assertThat(response.getRejected()).isEqualTo(2);
+        assertThat(response.getItems()).extracting(BatchTransactionResponse.ItemResult::getErrorCode)
+                .containsExactly(ErrorCodes.INVALID_AMOUNT, null, ErrorCodes.INVALID_BATCH_ITEM);
+        verify(eventProducer).sendDepositRequested(any(), any());
+    }
+
+    @Test
+    void submit_FailedChunkRejectsOnlyItsItems() {
+        // Arrange
+        doAnswer(invocation -> {
+            throw new DataAccessResourceFailureException("connection lost");
+        }).doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(transactionRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        BatchTransactionRequest request = BatchTransactionRequest.builder()
+                .items(List.of(
+                        item(Transaction.TransactionType.DEPOSIT, "1.00"),
+                        item(Transaction.TransactionType.DEPOSIT, "2.00"),
+                        item(Transaction.TransactionType.DEPOSIT, "3.00")))
+                .build();
+
+        // Act
+        BatchTransactionResponse response = batchService.submit(request);
+
+        // Assert
+        assertThat(response.getItems()).extracting(BatchTransactionResponse.ItemResult::getErrorCode)
+                .containsExactly(ErrorCodes.BATCH_CHUNK_FAILED, ErrorCodes.BATCH_CHUNK_FAILED, null);
+        verify(eventProducer, times(1)).sendDepositRequested(any(), eq(null));
+    }
+
+    @Test
+    void submit_RejectsOversizedBatch() {
+        BatchTransactionRequest request = BatchTransactionRequest.builder()
+                .items(Collections.nCopies(11, item(Transaction.TransactionType.DEPOSIT, "1.00")))
+                .build();
+
+        assertThatThrownBy(() -> batchService.submit(request))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCodes.BATCH_TOO_LARGE);
+    }
+
+    private void runTransactionCallbacks() {
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    private static BatchTransactionRequest.Item item(Transaction.TransactionType type, String amount) {
+        return BatchTransactionRequest.Item.builder()
+                .type(type)
+                .accountId(UUID.randomUUID())
+                .amount(new BigDecimal(amount))
+                .currency("USD")
+                .build();
+    }
+}
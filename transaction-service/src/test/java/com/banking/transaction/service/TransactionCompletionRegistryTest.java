@@ -0,0 +1,96 @@
+package com.banking.transaction.service;
+
+import com.banking.transaction.dto.TransactionResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionCompletionRegistryTest {
+
+    @Mock
+    private TransactionService transactionService;
+
+    private TransactionCompletionRegistry registry;
+    private UUID transactionId;
+
+    @BeforeEach
+    void setUp() {
+        registry = new TransactionCompletionRegistry(transactionService, Duration.ofSeconds(30), Duration.ofMillis(10));
+        transactionId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.shutdown();
+    }
+
+    @Test
+    void await_ReturnsImmediately_WhenAlreadySettled() {
+        // Arrange
+        when(transactionService.getTransaction(transactionId)).thenReturn(response("COMPLETED"));
+
+        // Act
+        CompletableFuture<TransactionResponse> result = registry.await(transactionId, Duration.ofSeconds(5));
+
+        // Assert
+        assertThat(result).isCompletedWithValueMatching(r -> r.getStatus().equals("COMPLETED"));
+        assertThat(registry.waitingTransactions()).isZero();
+    }
+
+    @Test
+    void complete_WakesAllWaitersWithOneRead() throws Exception {
+        // Arrange
+        when(transactionService.getTransaction(transactionId))
+                .thenReturn(response("PENDING"), response("PENDING"), response("FAILED"));
+        CompletableFuture<TransactionResponse> first = registry.await(transactionId, Duration.ofSeconds(5));
+        CompletableFuture<TransactionResponse> second = registry.await(transactionId, Duration.ofSeconds(5));
+
+        // Act
+        registry.complete(transactionId);
+
+        // Assert
+        assertThat(first.get(1, TimeUnit.SECONDS).getStatus()).isEqualTo("FAILED");
+        assertThat(second.get(1, TimeUnit.SECONDS).getStatus()).isEqualTo("FAILED");
+        assertThat(registry.waitingTransactions()).isZero();
+        verify(transactionService, times(3)).getTransaction(transactionId);
+    }
+
+    @Test
+    void await_AnswersWithPendingState_OnTimeout() throws Exception {
+        // Arrange
+        when(transactionService.getTransaction(transactionId)).thenReturn(response("PENDING"));
+
+        // Act
+        CompletableFuture<TransactionResponse> result = registry.await(transactionId, Duration.ofMillis(50));
+
+        // Assert
+        assertThat(result.get(2, TimeUnit.SECONDS).getStatus()).isEqualTo("PENDING");
+        assertThat(registry.waitingTransactions()).isZero();
+    }
+
+    @Test
+    void complete_SkipsRead_WhenNobodyIsWaiting() {
+        registry.complete(transactionId);
+
+        verify(transactionService, never()).getTransaction(transactionId);
+    }
+
+    private TransactionResponse response(String status) {
+        return TransactionResponse.builder().id(transactionId).status(status).build();
+    }
+}
@@ -0,0 +1,106 @@
+package com.banking.transaction.service;
+
+import com.banking.common.event.TransactionCompleted;
+import com.banking.common.event.TransactionFailed;
+import com.banking.common.money.Money;
+import com.banking.transaction.event.TransactionEventProducer;
+import com.banking.transaction.event.TransactionOutcomePublisher;
+import com.banking.transaction.model.Transaction;
+import com.banking.transaction.repository.TransactionRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionFinalizerTest {
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private TransactionEventProducer eventProducer;
+
+    @Mock
+    private TransactionOutcomePublisher outcomePublisher;
+
+    @InjectMocks
+    private TransactionFinalizer transactionFinalizer;
+
+    @Test
+    void shouldEmitTransactionCompleted_WhenStatusChanges() {
+        // Arrange
+        UUID transactionId = UUID.randomUUID();
+        UUID accountId = UUID.randomUUID();
+        when(transactionRepository.updateStatus(transactionId, Transaction.TransactionStatus.COMPLETED))
+                .thenReturn(true);
+        when(transactionRepository.findByIdPruned(transactionId)).thenReturn(Optional.of(transaction(transactionId,
+                accountId, Transaction.TransactionType.WITHDRAWAL)));
+
+        // Act
+        boolean finished = transactionFinalizer.finish(transactionId, Transaction.TransactionStatus.COMPLETED, null);
+
+        // Assert
+        assertThat(finished).isTrue();
+        ArgumentCaptor<TransactionCompleted> captor = ArgumentCaptor.forClass(TransactionCompleted.class);
+        verify(eventProducer).sendTransactionCompleted(captor.capture(), eq(transactionId));
+        assertThat(captor.getValue().getAccountId()).isEqualTo(accountId);
+        assertThat(captor.getValue().getType()).isEqualTo("WITHDRAWAL");
+        assertThat(captor.getValue().getAmount()).isEqualTo(Money.ofMinor(2500L, "USD"));
+        verify(outcomePublisher).publish(transactionId, Transaction.TransactionStatus.COMPLETED);
+    }
+
+    @Test
+    void shouldEmitTransactionFailedWithReason() {
+        // Arrange
+        UUID transactionId = UUID.randomUUID();
+        when(transactionRepository.updateStatus(transactionId, Transaction.TransactionStatus.FAILED))
+                .thenReturn(true);
+        when(transactionRepository.findByIdPruned(transactionId)).thenReturn(Optional.of(transaction(transactionId,
+                UUID.randomUUID(), Transaction.TransactionType.DEPOSIT)));
+
+        // Act
+        transactionFinalizer.finish(transactionId, Transaction.TransactionStatus.FAILED, "Account is frozen");
+
+        // Assert
+        ArgumentCaptor<TransactionFailed> captor = ArgumentCaptor.forClass(TransactionFailed.class);
+        verify(eventProducer).sendTransactionFailed(captor.capture(), eq(transactionId));
+        assertThat(captor.getValue().getReason()).isEqualTo("Account is frozen");
+    }
+
+    @Test
+    void shouldNotEmitOutcome_WhenTransactionIsMissingOrAlreadyFinished() {
+        // Arrange
+        UUID transactionId = UUID.randomUUID();
+        when(transactionRepository.updateStatus(eq(transactionId), any())).thenReturn(false);
+
+        // Act
+        boolean finished = transactionFinalizer.finish(transactionId, Transaction.TransactionStatus.COMPLETED, null);
+
+        // Assert
+        assertThat(finished).isFalse();
+        verify(outcomePublisher, never()).publish(any(), any());
+        verifyNoInteractions(eventProducer);
+    }
+
+    private static Transaction transaction(UUID id, UUID accountId, Transaction.TransactionType type) {
+        return Transaction.builder()
+                .id(id)
+                .accountId(accountId)
+                .amountMinor(2500L)
+                .currency("USD")
+                .type(type)
+                .status(Transaction.TransactionStatus.PENDING)
+                .build();
+    }
+}
@@ -0,0 +1,21 @@
+package com.banking.transaction.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransactionPartitionMaintenanceTest {
+
+    @Test
+    void monthOf_ParsesPartitionNamesCreatedByTheMigration() {
+        assertThat(TransactionPartitionMaintenance.monthOf("transactions_p2026_03")).isEqualTo(YearMonth.of(2026, 3));
+    }
+
+    @Test
+    void monthOf_IgnoresUnrelatedTables() {
+        assertThat(TransactionPartitionMaintenance.monthOf("transactions_legacy")).isNull();
+        assertThat(TransactionPartitionMaintenance.monthOf("outbox_events")).isNull();
+    }
+}
@@ -1,12 +1,20 @@
 package com.banking.transaction.service;
 
+import com.banking.common.event.codec.EventCodec;
+import com.banking.common.event.codec.EventFormatProperties;
+import com.banking.common.event.codec.EventSchemas;
+import com.banking.common.exception.BusinessException;
 import com.banking.common.tracing.TracingService;
+import com.banking.transaction.dto.TransactionHistoryResponse;
 import com.banking.transaction.dto.TransactionRequest;
 import com.banking.transaction.dto.TransactionResponse;
+import com.banking.transaction.event.TransactionEventProducerImpl;
 import com.banking.transaction.model.OutboxEvent;
 import com.banking.transaction.model.Transaction;
+import com.banking.transaction.repository.IdempotencyRecordRepository;
 import com.banking.transaction.repository.OutboxRepository;
 import com.banking.transaction.repository.TransactionRepository;
+import com.banking.transaction.saga.TransferSagaOrchestrator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,10 +25,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -31,12 +43,18 @@ class TransactionServiceImplTest {
     @Mock
     private TransactionRepository transactionRepository;
 
+    @Mock
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
     @Mock
     private OutboxRepository outboxRepository;
 
     @Mock
     private TracingService tracingService;
 
+    @Mock
+    private TransferSagaOrchestrator transferSagaOrchestrator;
+
     // We don't use @Spy here because we need to configure the module
     private ObjectMapper objectMapper;
 
@@ -57,8 +75,11 @@ class TransactionServiceImplTest {
         // the constructor
         transactionService = new TransactionServiceImpl(
                 transactionRepository,
-                outboxRepository,
-                objectMapper,
+                idempotencyRecordRepository,
+                new TransactionEventProducerImpl(outboxRepository,
+                        new EventCodec(objectMapper, EventSchemas.registry()), new EventFormatProperties(),
+                        tracingService),
+                transferSagaOrchestrator,
                 tracingService);
 
         accountId = UUID.randomUUID();
@@ -76,7 +97,7 @@ class TransactionServiceImplTest {
         Transaction savedTransaction = Transaction.builder()
                 .id(transactionId)
                 .accountId(accountId)
-                .amount(BigDecimal.valueOf(100.00))
+                .amountMinor(10_000L)
                 .currency("USD")
                 .type(Transaction.TransactionType.DEPOSIT)
                 .status(Transaction.TransactionStatus.PENDING)
@@ -86,7 +107,7 @@ class TransactionServiceImplTest {
         when(tracingService.getCurrentTraceId()).thenReturn("test-trace-id");
 
         // Act
-        TransactionResponse response = transactionService.createDeposit(depositRequest);
+        TransactionResponse response = transactionService.createDeposit(depositRequest, null);
 
         // Assert
         assertThat(response.getAccountId()).isEqualTo(accountId);
@@ -105,7 +126,7 @@ class TransactionServiceImplTest {
         Transaction savedTransaction = Transaction.builder()
                 .id(transactionId)
                 .accountId(accountId)
-                .amount(BigDecimal.valueOf(50.00))
+                .amountMinor(5_000L)
                 .currency("USD")
                 .type(Transaction.TransactionType.WITHDRAWAL)
                 .status(Transaction.TransactionStatus.PENDING)
@@ -121,7 +142,7 @@ class TransactionServiceImplTest {
                 .build();
 
         // Act
-        TransactionResponse response = transactionService.createWithdrawal(withdrawRequest);
+        TransactionResponse response = transactionService.createWithdrawal(withdrawRequest, null);
 
         // Assert
         assertThat(response.getAccountId()).isEqualTo(accountId);
@@ -141,7 +162,7 @@ class TransactionServiceImplTest {
                 .id(transactionId)
                 .fromAccountId(accountId)
                 .toAccountId(toAccountId)
-                .amount(BigDecimal.valueOf(200.00))
+                .amountMinor(20_000L)
                 .currency("USD")
                 .type(Transaction.TransactionType.TRANSFER)
                 .status(Transaction.TransactionStatus.PENDING)
@@ -159,7 +180,7 @@ class TransactionServiceImplTest {
                 .build();
 
         // Act
-        TransactionResponse response = transactionService.createTransfer(transferRequest);
+        TransactionResponse response = transactionService.createTransfer(transferRequest, null);
 
         // Assert
         assertThat(response.getId()).isEqualTo(transactionId);
@@ -167,6 +188,56 @@ class TransactionServiceImplTest {
         assertThat(response.getStatus()).isEqualTo("PENDING");
 
         verify(transactionRepository).save(any(Transaction.class));
-        verify(outboxRepository).save(any(OutboxEvent.class));
+        verify(transferSagaOrchestrator).begin(savedTransaction);
+        // Keyed by the debited account, not the transaction
+        verify(outboxRepository).save(argThat((OutboxEvent e) -> accountId.toString().equals(e.getPartitionKey())));
+    }
+
+    @Test
+    void shouldReturnHistoryPage_WithCursorForNextPage() {
+        // Arrange
+        Instant now = Instant.parse("2026-01-01T10:00:00Z");
+        List<Transaction> rows = List.of(
+                historyRow(now),
+                historyRow(now.minusSeconds(1)),
+                historyRow(now.minusSeconds(2)));
+        when(transactionRepository.findAccountHistory(accountId, 3)).thenReturn(rows);
+
+        // Act
+        TransactionHistoryResponse firstPage = transactionService.getAccountHistory(accountId, null, 2);
+
+        // Assert
+        assertThat(firstPage.getItems()).hasSize(2);
+        assertThat(firstPage.getNextCursor()).isNotNull();
+
+        // Arrange
+        when(transactionRepository.findAccountHistoryBefore(accountId, rows.get(1).getCreatedAt(),
+                rows.get(1).getId(), 3)).thenReturn(List.of(rows.get(2)));
+
+        // Act
+        TransactionHistoryResponse secondPage = transactionService.getAccountHistory(accountId,
+                firstPage.getNextCursor(), 2);
+
+        // Assert
+        assertThat(secondPage.getItems()).extracting(TransactionResponse::getId).containsExactly(rows.get(2).getId());
+        assertThat(secondPage.getNextCursor()).isNull();
+    }
+
+    @Test
+    void shouldRejectMalformedHistoryCursor() {
+        assertThatThrownBy(() -> transactionService.getAccountHistory(accountId, "not-a-cursor", 10))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    private Transaction historyRow(Instant createdAt) {
+        return Transaction.builder()
+                .id(UUID.randomUUID())
+                .accountId(accountId)
+                .amountMinor(1_000L)
+                .currency("USD")
+                .type(Transaction.TransactionType.DEPOSIT)
+                .status(Transaction.TransactionStatus.COMPLETED)
+                .createdAt(createdAt)
+                .build();
     }
 }